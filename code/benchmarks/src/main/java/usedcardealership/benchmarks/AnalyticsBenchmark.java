@@ -0,0 +1,95 @@
+/**
+ * Benchmarks analytics over the inventory: the inventory's value, the
+ * average price by make and a kilometrage histogram, computed by walking
+ * the List of Vehicles and from the VehicleColumns snapshot. Building the
+ * snapshot is measured on its own.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.business.analytics.VehicleColumns;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AnalyticsBenchmark {
+    private static final double BUCKET_WIDTH = 10000.0;
+    private static final int BUCKETS = 30;
+
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    private List<Vehicle> vehicles;
+    private VehicleColumns columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.vehicles = Inventories.generate(this.size);
+        this.columns = VehicleColumns.of(this.vehicles);
+    }
+
+    @Benchmark
+    public VehicleColumns buildColumns() {
+        return VehicleColumns.of(this.vehicles);
+    }
+
+    @Benchmark
+    public long listInventoryValue() {
+        long total = 0;
+        for (Vehicle v : this.vehicles) {
+            total += v.getTotalPriceCents();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long columnsInventoryValue() {
+        return this.columns.sumPriceCents(null);
+    }
+
+    @Benchmark
+    public Map<String, Double> listAveragePriceByMake() {
+        Map<String, double[]> sums = new HashMap<>();
+        for (Vehicle v : this.vehicles) {
+            double[] sum = sums.computeIfAbsent(v.getMake().toLowerCase(), make -> new double[2]);
+            sum[0] += v.calculateTotalPrice();
+            sum[1]++;
+        }
+        Map<String, Double> averages = new TreeMap<>();
+        for (Map.Entry<String, double[]> entry : sums.entrySet()) {
+            averages.put(entry.getKey(), entry.getValue()[0] / entry.getValue()[1]);
+        }
+        return averages;
+    }
+
+    @Benchmark
+    public Map<String, Double> columnsAveragePriceByMake() {
+        return this.columns.averageBy("make", "price");
+    }
+
+    @Benchmark
+    public int[] listKilometerageHistogram() {
+        int[] counts = new int[BUCKETS];
+        for (Vehicle v : this.vehicles) {
+            counts[Math.max(0, Math.min(BUCKETS - 1, (int) (v.getKilometerage() / BUCKET_WIDTH)))]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] columnsKilometerageHistogram() {
+        return this.columns.histogram("kilo", BUCKET_WIDTH, BUCKETS, null);
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Entry point of the benchmarks jar.
+ * Takes the usual JMH command line, but unless told otherwise writes the
+ * results as JSON to results/jmh-<timestamp>.json so runs against different
+ * versions can be compared.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.*;
+
+public class BenchmarkRunner {
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            Path results = Paths.get("results");
+            Files.createDirectories(results);
+            String extension = commandLine.getResultFormat().orElse(ResultFormatType.JSON).toString().toLowerCase();
+            options.result(results.resolve("jmh-" + LocalDateTime.now().format(TIMESTAMP) + "." + extension)
+                    .toString());
+        }
+        new Runner(options.build()).run();
+    }
+}
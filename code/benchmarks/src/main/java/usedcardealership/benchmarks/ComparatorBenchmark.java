@@ -0,0 +1,69 @@
+/**
+ * Benchmarks sorting a copy of the inventory with each Vehicle comparator.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.business.comparators.*;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ComparatorBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    @Param({ "id", "price", "year", "kilometerage", "damage", "type" })
+    public String field;
+
+    private List<Vehicle> vehicles;
+    private Comparator<Vehicle> comparator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.vehicles = Inventories.generate(this.size);
+        // Shuffle so sorting by ID is not handed an already sorted list
+        Collections.shuffle(this.vehicles, new Random(Inventories.SEED));
+        switch (this.field) {
+            case "id":
+                this.comparator = new VehicleIdCompare();
+                break;
+            case "price":
+                this.comparator = new VehiclePriceCompare();
+                break;
+            case "year":
+                this.comparator = new VehicleYearCompare();
+                break;
+            case "kilometerage":
+                this.comparator = new VehicleKilometerageCompare();
+                break;
+            case "damage":
+                this.comparator = new VehicleDamageCompare();
+                break;
+            case "type":
+                this.comparator = new VehicleTypeCompare();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown field: " + this.field);
+        }
+    }
+
+    @Benchmark
+    public List<Vehicle> sort() {
+        List<Vehicle> copy = new ArrayList<>(this.vehicles);
+        copy.sort(this.comparator);
+        return copy;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Benchmarks inventory searches: a linear scan with searchList against the
+ * indexed searchInventory, and a planned composite query.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.business.filter.*;
+import usedcardealership.business.manager.VehicleManager;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class FilterBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    private List<Vehicle> vehicles;
+    private VehicleManager manager;
+    private IFilter<Vehicle> make;
+    private IFilter<Vehicle> years;
+    private IFilter<Vehicle> prices;
+    private IFilter<Vehicle> combined;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.vehicles = Inventories.generate(this.size);
+        this.manager = new VehicleManager(this.vehicles, new ArrayList<>());
+        this.make = new VehicleMakeFilter("Toyota");
+        this.years = new VehicleYearRangeFilter(2018, 2021);
+        this.prices = new VehiclePriceRangeFilter(15000, 25000);
+        this.combined = VehicleAndFilter.of(new VehicleNotFilter(new VehicleColorFilter("White")),
+                new VehiclePriceRangeFilter(15000, 25000), new VehicleMakeFilter("Honda"),
+                new VehicleYearRangeFilter(2018, 2021));
+    }
+
+    @Benchmark
+    public List<Vehicle> scanMake() {
+        return this.manager.searchList(this.make, this.vehicles);
+    }
+
+    @Benchmark
+    public List<Vehicle> scanYearRange() {
+        return this.manager.searchList(this.years, this.vehicles);
+    }
+
+    @Benchmark
+    public List<Vehicle> scanPriceRange() {
+        return this.manager.searchList(this.prices, this.vehicles);
+    }
+
+    @Benchmark
+    public List<Vehicle> scanComposite() {
+        return this.manager.searchList(this.combined, this.vehicles);
+    }
+
+    @Benchmark
+    public List<Vehicle> indexedMake() {
+        return this.manager.searchInventory(this.make);
+    }
+
+    @Benchmark
+    public List<Vehicle> indexedYearRange() {
+        return this.manager.searchInventory(this.years);
+    }
+
+    @Benchmark
+    public List<Vehicle> indexedPriceRange() {
+        return this.manager.searchInventory(this.prices);
+    }
+
+    @Benchmark
+    public List<Vehicle> plannedComposite() {
+        return this.manager.queryInventory(this.combined);
+    }
+}
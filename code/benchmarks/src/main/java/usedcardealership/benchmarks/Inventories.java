@@ -0,0 +1,59 @@
+/**
+ * Shared inventory setup for the benchmarks.
+ * Every benchmark generates its Vehicles from the same seed, so results for
+ * a given size are comparable between runs and between versions.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+final class Inventories {
+    static final long SEED = 42;
+
+    private Inventories() {
+    }
+
+    /**
+     * Generates the benchmark inventory.
+     *
+     * @param size the number of Vehicles
+     * @return the Vehicles with IDs 1 to size
+     */
+    static List<Vehicle> generate(int size) {
+        return new VehicleGenerator(SEED).generate(size);
+    }
+
+    /**
+     * Writes the benchmark inventory to a temporary CSV file in the format
+     * VehicleFileHandler reads, without building the Vehicles in memory.
+     *
+     * @param size the number of Vehicles
+     * @return the file, deleted when the JVM exits
+     * @throws IOException if the file cannot be written
+     */
+    static Path writeCsv(int size) throws IOException {
+        Path file = Files.createTempFile("vehicles-" + size + "-", ".csv");
+        file.toFile().deleteOnExit();
+        VehicleGenerator generator = new VehicleGenerator(SEED);
+        StringBuilder line = new StringBuilder(160);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int id = 1; id <= size; id++) {
+                line.setLength(0);
+                generator.appendCsv(line, id);
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Benchmarks loading an inventory CSV: splitting every line into Strings,
+ * streaming it through VehicleFileHandler, and the parallel memory-mapped
+ * load.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.filehandling.*;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class LoaderBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    private Path file;
+    private VehicleFileHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.file = Inventories.writeCsv(this.size);
+        this.handler = new VehicleFileHandler(this.file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public List<Vehicle> splitLines() throws IOException {
+        List<Vehicle> vehicles = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                vehicles.add(VehicleHelper.parseVehicle(line.split(",")));
+            }
+        }
+        return vehicles;
+    }
+
+    @Benchmark
+    public List<Vehicle> streamed() {
+        return this.handler.load();
+    }
+
+    @Benchmark
+    public List<Vehicle> parallel() {
+        return this.handler.loadParallel();
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Benchmarks money in long cents against the old double path: writing every
+ * price in the inventory, as the CSV writers and the HTTP API do, and adding
+ * them all up, as a checkout does.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.Money;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    private double[] dollars;
+    private long[] cents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Vehicle> vehicles = Inventories.generate(this.size);
+        this.dollars = new double[vehicles.size()];
+        this.cents = new long[vehicles.size()];
+        for (int i = 0; i < vehicles.size(); i++) {
+            this.cents[i] = vehicles.get(i).getTotalPriceCents();
+            this.dollars[i] = Money.toDollars(this.cents[i]);
+        }
+    }
+
+    @Benchmark
+    public int formatDouble() {
+        int length = 0;
+        for (double price : this.dollars) {
+            length += String.format("%.2f", price).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int formatCents() {
+        int length = 0;
+        for (long price : this.cents) {
+            length += Money.format(price).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public double sumDouble() {
+        double total = 0;
+        for (double price : this.dollars) {
+            total += price;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sumCents() {
+        long total = 0;
+        for (long price : this.cents) {
+            total += price;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Benchmarks listing the cheapest Vehicles: sorting a copy of the whole
+ * inventory against picking one page with VehiclePager's bounded heap.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.business.comparators.VehiclePriceCompare;
+import usedcardealership.business.paging.*;
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PagingBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    private List<Vehicle> vehicles;
+    private VehiclePager pager;
+    private Vehicle tenthPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.vehicles = Inventories.generate(this.size);
+        this.pager = new VehiclePager(new VehiclePriceCompare(), true);
+        List<Vehicle> first = this.pager.topK(this.vehicles, 200);
+        this.tenthPage = first.get(Math.min(first.size(), 180) - 1);
+    }
+
+    @Benchmark
+    public List<Vehicle> sortAll() {
+        List<Vehicle> sorted = new ArrayList<>(this.vehicles);
+        Collections.sort(sorted, this.pager.getOrder());
+        return sorted.subList(0, Math.min(20, sorted.size()));
+    }
+
+    @Benchmark
+    public VehiclePage firstPage() {
+        return this.pager.page(this.vehicles, null, 20);
+    }
+
+    @Benchmark
+    public VehiclePage tenthPage() {
+        return this.pager.page(this.vehicles, this.tenthPage, 20);
+    }
+}
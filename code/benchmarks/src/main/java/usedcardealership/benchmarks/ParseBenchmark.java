@@ -0,0 +1,48 @@
+/**
+ * Benchmarks parsing a single Vehicle CSV line, cycling through a fixed set
+ * of generated lines so every Vehicle type is covered.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.filehandling.VehicleHelper;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    private static final int LINES = 1024;
+
+    private final String[] lines = new String[LINES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VehicleGenerator generator = new VehicleGenerator(Inventories.SEED);
+        StringBuilder line = new StringBuilder(160);
+        for (int i = 0; i < LINES; i++) {
+            line.setLength(0);
+            generator.appendCsv(line, i + 1);
+            this.lines[i] = line.toString();
+        }
+    }
+
+    @Benchmark
+    public Vehicle parseLine() {
+        String line = this.lines[this.next];
+        this.next = (this.next + 1) & (LINES - 1);
+        return VehicleHelper.parseVehicle(line.split(","));
+    }
+}
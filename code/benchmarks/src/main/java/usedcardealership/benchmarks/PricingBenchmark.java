@@ -0,0 +1,75 @@
+/**
+ * Benchmarks pricing the whole inventory, once with every Vehicle's total
+ * price already cached and once with the pricing year changed before each
+ * pass so every price is recomputed. Runs with the system clock, which checks
+ * for a new year on every read, and with a pinned year.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.vehicle.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PricingBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    @Param({ "system", "fixed" })
+    public String clock;
+
+    private List<Vehicle> vehicles;
+    private int year;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.vehicles = Inventories.generate(this.size);
+        this.year = PricingClock.get().getYear();
+        useClock();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        PricingClock.useSystemClock();
+    }
+
+    @Benchmark
+    public double cachedTotal() {
+        return total();
+    }
+
+    @Benchmark
+    public double recomputedTotal() {
+        // A new clock bumps the pricing epoch, invalidating every cached price
+        useClock();
+        return total();
+    }
+
+    private void useClock() {
+        if ("fixed".equals(this.clock)) {
+            PricingClock.set(new PricingClock(this.year));
+        } else {
+            PricingClock.useSystemClock();
+        }
+    }
+
+    private double total() {
+        double total = 0;
+        for (Vehicle vehicle : this.vehicles) {
+            total += vehicle.calculateTotalPrice();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Benchmarks the sales dashboard: a month's revenue and a make's units sold,
+ * found by scanning the Transaction history and read from the SalesRollups
+ * kept beside it. Adding a Transaction to the rollups and rebuilding them
+ * from the history are measured on their own. The history has one Sale of
+ * each benchmark Vehicle, spread over three years.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.business.analytics.SalesRollups;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.Vehicle;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SalesBenchmark {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final YearMonth MONTH = YearMonth.of(2024, 6);
+    private static final String MAKE = "Toyota";
+
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    private List<Transaction> history;
+    private SalesRollups rollups;
+    private Transaction extra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Vehicle> vehicles = Inventories.generate(this.size);
+        Customer customer = new Customer(1, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St", 0.0,
+                new ArrayList<>());
+        Random random = new Random(Inventories.SEED);
+        this.history = new ArrayList<>(this.size);
+        for (Vehicle v : vehicles) {
+            LocalDate date = FIRST_DAY.plusDays(random.nextInt(3 * 365));
+            this.history.add(new Sale(this.history.size() + 1, date, v.calculateTotalPrice(), customer, v));
+        }
+        this.rollups = SalesRollups.of(this.history);
+        this.extra = this.history.get(0);
+    }
+
+    @Benchmark
+    public long scanMonthRevenue() {
+        long revenue = 0;
+        for (Transaction t : this.history) {
+            if (t instanceof Sale && YearMonth.from(t.getDate()).equals(MONTH)) {
+                revenue += t.getPriceCents();
+            }
+        }
+        return revenue;
+    }
+
+    @Benchmark
+    public long rollupMonthRevenue() {
+        return this.rollups.getMonth(MONTH).getRevenueCents();
+    }
+
+    @Benchmark
+    public long scanMakeUnitsSold() {
+        long units = 0;
+        for (Transaction t : this.history) {
+            if (t instanceof Sale && t.getVehicle().getMake().equalsIgnoreCase(MAKE)) {
+                units++;
+            }
+        }
+        return units;
+    }
+
+    @Benchmark
+    public long rollupMakeUnitsSold() {
+        return this.rollups.getMake(MAKE).getUnitsSold();
+    }
+
+    @Benchmark
+    public SalesRollups rollupAdd() {
+        // Adds the same Transaction again, the totals only grow
+        this.rollups.add(this.extra);
+        return this.rollups;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SalesRollups rebuild() {
+        return SalesRollups.of(this.history);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Benchmarks saving an inventory to the database: one autocommitted INSERT
+ * per row, the way Vehicles were saved before batching, against the batched
+ * single transaction save in VehicleDatabaseHandler. Runs against a file
+ * backed H2 database in PostgreSQL mode served over TCP, so every round-trip
+ * crosses a socket like it would with PostgreSQL. The row-at-a-time save
+ * only sets the columns every Vehicle type has.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.databasehandling.VehicleDatabaseHandler;
+import usedcardealership.data.vehicle.Vehicle;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SaveBenchmark {
+    private static final String INSERT_QUERY = "INSERT INTO vehicles (id, type, make, model, year, price, color,"
+            + " transmission, drive_type, horsepower, weight, kilometerage, damage, is_electric)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    @Param({ "100", "500", "2000" })
+    public int batchSize;
+
+    private Path directory;
+    private Server server;
+    private Connection connection;
+    private List<Vehicle> vehicles;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        this.directory = Files.createTempDirectory("dealership");
+        this.server = Server.createTcpServer("-tcpPort", "0", "-baseDir", this.directory.toString(),
+                "-ifNotExists").start();
+        this.connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + this.server.getPort()
+                + "/./bench;MODE=PostgreSQL;NON_KEYWORDS=YEAR", "sa", "");
+        try (Statement stmt = this.connection.createStatement()) {
+            stmt.execute("CREATE TABLE vehicles (id INT PRIMARY KEY, type VARCHAR(50), make VARCHAR(50),"
+                    + " model VARCHAR(50), year INT, price DECIMAL(10, 2), color VARCHAR(30),"
+                    + " transmission VARCHAR(30), drive_type VARCHAR(30), horsepower INT, weight DECIMAL(10, 2),"
+                    + " kilometerage DECIMAL(10, 2), damage DECIMAL(10, 2), is_electric BOOLEAN,"
+                    + " engine_cc DECIMAL(10, 2), handlebar_type VARCHAR(50), num_doors INT, num_seats INT,"
+                    + " has_sunroof BOOLEAN, sleep_capacity INT, has_bathroom BOOLEAN, is_convertible BOOLEAN,"
+                    + " cargo_capacity DECIMAL(10, 2), has_thirdrow_seating BOOLEAN, has_sliding_doors BOOLEAN,"
+                    + " bed_length DECIMAL(10, 2), towing_capacity DECIMAL(10, 2))");
+            stmt.execute("CREATE TABLE customers (id INT PRIMARY KEY, first_name VARCHAR(50),"
+                    + " last_name VARCHAR(50), birthday DATE, phone_number VARCHAR(15), address VARCHAR(100),"
+                    + " account_balance DECIMAL(10, 2))");
+            stmt.execute("CREATE TABLE customers_vehicles (customer_id INT REFERENCES customers (id)"
+                    + " ON DELETE CASCADE, vehicle_id INT REFERENCES vehicles (id) ON DELETE CASCADE,"
+                    + " PRIMARY KEY (vehicle_id, customer_id))");
+            stmt.execute("CREATE TABLE transactions (id INT PRIMARY KEY, type VARCHAR(50), date DATE,"
+                    + " price DECIMAL(10, 2), tax DECIMAL(10, 2), customer_id INT REFERENCES customers (id)"
+                    + " ON DELETE CASCADE, vehicle_id INT REFERENCES vehicles (id) ON DELETE CASCADE)");
+        }
+        this.vehicles = Inventories.generate(this.size);
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTable() throws SQLException {
+        try (Statement stmt = this.connection.createStatement()) {
+            stmt.executeUpdate("DELETE FROM vehicles");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        this.connection.close();
+        this.server.stop();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    @Benchmark
+    public int rowAtATime() throws SQLException {
+        int saved = 0;
+        try (PreparedStatement pstmt = this.connection.prepareStatement(INSERT_QUERY)) {
+            for (Vehicle v : this.vehicles) {
+                pstmt.setInt(1, v.getID());
+                pstmt.setString(2, v.getType());
+                pstmt.setString(3, v.getMake());
+                pstmt.setString(4, v.getModel());
+                pstmt.setInt(5, v.getYear());
+                pstmt.setDouble(6, v.getPrice());
+                pstmt.setString(7, v.getColor());
+                pstmt.setString(8, v.getTransmission());
+                pstmt.setString(9, v.getDriveType());
+                pstmt.setInt(10, v.getHorsepower());
+                pstmt.setDouble(11, v.getWeight());
+                pstmt.setDouble(12, v.getKilometerage());
+                pstmt.setDouble(13, v.getDamage());
+                pstmt.setBoolean(14, v.isElectric());
+                saved += pstmt.executeUpdate();
+            }
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public List<Vehicle> batched() throws SQLException {
+        new VehicleDatabaseHandler(this.connection, this.batchSize).write(this.vehicles);
+        return this.vehicles;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Benchmarks loading a whole dealership at startup: importing the five CSV
+ * files against loading the binary snapshot. The dataset has one customer
+ * per ten inventory vehicles, each owning two on average, and as many
+ * transactions as inventory vehicles.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.filehandling.SnapshotFileHandler;
+import usedcardealership.tools.DatasetGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class StartupBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int size;
+
+    private Path directory;
+    private SnapshotFileHandler snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("dealership-" + this.size + "-");
+        new DatasetGenerator(Inventories.SEED, this.size, Math.max(1, this.size / 10), 2.0, this.size, 100)
+                .writeCsv(this.directory, Runtime.getRuntime().availableProcessors());
+        this.snapshot = new SnapshotFileHandler(this.directory.resolve("dealership.snapshot").toString());
+        this.snapshot.save(SnapshotFileHandler.importCsv(this.directory, "Benchmark Dealership", 0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    @Benchmark
+    public DealershipState csv() throws IOException {
+        return SnapshotFileHandler.importCsv(this.directory, "Benchmark Dealership", 0);
+    }
+
+    @Benchmark
+    public DealershipState snapshot() throws IOException {
+        return this.snapshot.load();
+    }
+}
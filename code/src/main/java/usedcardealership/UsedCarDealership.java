@@ -1,6 +1,10 @@
 package usedcardealership;
 
 import usedcardealership.interaction.*;
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.IdAllocator;
+import usedcardealership.data.Money;
 import usedcardealership.data.filehandling.*;
 import usedcardealership.data.vehicle.*;
 import usedcardealership.data.customer.*;
@@ -9,10 +13,21 @@ import usedcardealership.data.transaction.*;
 import usedcardealership.data.coupons.*;
 import usedcardealership.business.manager.*;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.*;
 
 public class UsedCarDealership {
+    private static final String SNAPSHOT_PATH = "resources/dealership.snapshot";
+    private static final String JOURNAL_PATH = "resources/transactions.journal";
+    // Kept apart from the CSV journal, its records are replayed onto the database
+    private static final String DB_JOURNAL_PATH = "resources/database.journal";
+    // High-water mark of the transaction ids handed out, kept across restarts
+    private static final String TRANSACTION_IDS_PATH = "resources/transactions.ids";
+    // Transactions journaled before the snapshot is saved and the journal cut back
+    private static final int COMPACT_AFTER = 500;
+
     public static void main(String[] args) {
         run();
     }
@@ -44,7 +59,7 @@ public class UsedCarDealership {
                             DealershipManager dealership = initialize();
                             if (dealership != null) {
                                 inPage = false;
-                                mainMenuView(dealership);
+                                mainMenuView(dealership, false);
                                 shutdown(dealership);
                             }
                             break;
@@ -59,13 +74,13 @@ public class UsedCarDealership {
                             DealershipManager dealership = initializeFromDb();
                             if (dealership != null) {
                                 inPage = false;
-                                mainMenuView(dealership);
+                                mainMenuView(dealership, true);
                                 shutdownFromDb(dealership);
                             } else {
                                 DealershipManager fallbackDealership = initialize();
                                 if (fallbackDealership != null) {
                                     inPage = false;
-                                    mainMenuView(fallbackDealership);
+                                    mainMenuView(fallbackDealership, false);
                                     shutdown(fallbackDealership);
                                 }
                             }
@@ -85,38 +100,44 @@ public class UsedCarDealership {
 
     /**
      * Initializes the DealershipManager by loading all data from files
+     * Reads the binary snapshot saved at the last exit, or imports the CSV
+     * files when there is none yet
      * 
      * @return the DealershipManager object that was initialized
      */
     private static DealershipManager initialize() {
         try {
-            String dealershipName = "Talon & Juan's Used Car Emporium";
-            double dealershipAccountBalance = 567234.54;
-
-            // Load vehicles
-            String vehicleDatabasePath = "resources/database.csv";
-            List<Vehicle> database = VehicleManager.initializeListVehicle(vehicleDatabasePath);
-            String vehicleInventoryPath = "resources/inventory.csv";
-            List<Vehicle> inventory = VehicleManager.initializeListVehicle(vehicleInventoryPath);
-
-            // Load customers
-            String customerPath = "resources/customers.csv";
-            CustomerFileHandler customerLoader = new CustomerFileHandler(customerPath);
-            List<Customer> customers = customerLoader.load();
-
-            // Load transactions
-            String transactionPath = "resources/transactions.csv";
-            TransactionFileHandler transactionLoader = new TransactionFileHandler(transactionPath);
-            List<Transaction> transactions = transactionLoader.load();
+            SnapshotFileHandler snapshot = new SnapshotFileHandler(SNAPSHOT_PATH);
+            DealershipState state;
+            if (snapshot.exists()) {
+                state = snapshot.load();
+            } else {
+                String dealershipName = "Talon & Juan's Used Car Emporium";
+                double dealershipAccountBalance = 567234.54;
+                state = SnapshotFileHandler.importCsv(Paths.get("resources"), dealershipName,
+                        Money.ofDollars(dealershipAccountBalance));
+            }
+            List<Transaction> transactions = state.getTransactions();
+            List<Customer> customers = state.getCustomers();
+            List<Vehicle> inventory = state.getInventory();
 
-            //Load coupons
-            String couponPath = "resources/coupons.csv";
-            CouponFileHandler couponLoader = new CouponFileHandler(couponPath);
-            List<Coupon> coupons = couponLoader.load();
+            // Replay transactions made after the last save, in case the program crashed
+            TransactionJournal journal = new TransactionJournal(JOURNAL_PATH);
+            List<Transaction> replayed = journal.replay(transactions, customers, inventory);
 
             // Initialize and return the DealershipManager
-            DealershipManager dealership = new DealershipManager(
-                    dealershipName, dealershipAccountBalance, transactions, inventory, database, customers, coupons);
+            DealershipManager dealership = new DealershipManager(state.getName(),
+                    Money.toDollars(state.getBalanceCents()), transactions, inventory, state.getDatabase(),
+                    customers, state.getCoupons());
+            // Replayed transactions are saved with the next snapshot, like new ones
+            ChangeTracker changes = dealership.getChangeTracker();
+            for (Transaction transaction : replayed) {
+                changes.addTransaction(transaction);
+                changes.markCustomer(transaction.getCustomer());
+                changes.markInventoryChanged();
+            }
+            dealership.getTransactionManager().setJournal(journal);
+            openIdAllocator(dealership);
             dealership.initializeCurrentCustomer(customers, dealership);
             return dealership;
         } catch (Exception e) {
@@ -127,6 +148,19 @@ public class UsedCarDealership {
         }
     }
 
+    /**
+     * Replaces the transaction id allocator with one that saves its
+     * high-water mark, starting no lower than the ids already loaded
+     * 
+     * @param dealership the DealershipManager object
+     * @throws IOException if a mark cannot be read
+     */
+    private static void openIdAllocator(DealershipManager dealership) throws IOException {
+        TransactionManager transactions = dealership.getTransactionManager();
+        transactions.setIdAllocator(IdAllocator.open(Paths.get(TRANSACTION_IDS_PATH),
+                transactions.getIdAllocator().getHighWaterMark(), IdAllocator.DEFAULT_BLOCK_SIZE));
+    }
+
     /**
      * Initalized from the database connection
      * 
@@ -148,52 +182,55 @@ public class UsedCarDealership {
             CustomerDatabaseHandler customerHandler = new CustomerDatabaseHandler(connection);
             List<Customer> customers = customerHandler.load();
 
-            TransactionDatabaseHandler transactionHandler = new TransactionDatabaseHandler(connection);
+            // Load transactions, sharing the customers and vehicles loaded above
+            TransactionDatabaseHandler transactionHandler = new TransactionDatabaseHandler(connection,
+                    new TransactionReferences(customers, inventory, database));
             List<Transaction> transactions = transactionHandler.load();
 
             CouponDatabaseHandler couponHandler = new CouponDatabaseHandler(connection);
             List<Coupon> coupons = couponHandler.load();
 
+            // Replay transactions made after the last save, in case the program crashed
+            TransactionJournal journal = new TransactionJournal(DB_JOURNAL_PATH);
+            List<Transaction> replayed = journal.replay(transactions, customers, inventory);
+
             DealershipManager dealership = new DealershipManager(dealershipName, dealershipAccountBalance, transactions,
                     inventory, database, customers, coupons);
+            // Replayed transactions are saved with the next database save, like new ones
+            ChangeTracker changes = dealership.getChangeTracker();
+            for (Transaction transaction : replayed) {
+                changes.addTransaction(transaction);
+                changes.markCustomer(transaction.getCustomer());
+                changes.markVehicle(transaction.getVehicle());
+                changes.markInventoryChanged();
+            }
+            dealership.getTransactionManager().setJournal(journal);
+            // Shares the marks with CSV mode, they only move up, so ids stay unique in both
+            openIdAllocator(dealership);
             dealership.initializeCurrentCustomer(customers, dealership);
             return dealership;
         } catch (SQLException e) {
             PrettyUtils.printRed("\nFailed to connect to the database loading from CSV instead.");
             Prompter.promptEnter();
             return null;
+        } catch (IOException e) {
+            PrettyUtils.printRed("\nFailed to read the transaction journal or id marks loading from CSV instead.");
+            PrettyUtils.printRed(e.getMessage());
+            Prompter.promptEnter();
+            return null;
         }
     }
 
     /**
      * Shuts down the program, saving the dealerships database, inventory,
-     * customerlist, and transactionhistory to csv files
+     * customerlist, and transactionhistory to the snapshot
      * 
      * @param dealership the DealershipManager object
      */
     private static void shutdown(DealershipManager dealership) {
         try {
-            // Save inventory and database
-            String vehicleDatabasePath = "resources/database.csv";
-            String vehicleInventoryPath = "resources/inventory.csv";
-            List<Vehicle> database = dealership.getDatabase();
-            List<Vehicle> inventory = dealership.getInventory();
-            VehicleFileHandler vehicleDatabaseSaver = new VehicleFileHandler(vehicleDatabasePath);
-            VehicleFileHandler vehicleInventorySaver = new VehicleFileHandler(vehicleInventoryPath);
-            vehicleDatabaseSaver.save(database);
-            vehicleInventorySaver.save(inventory);
-
-            // Save customers
-            String customerPath = "resources/customers.csv";
-            List<Customer> customers = dealership.getCustomers();
-            CustomerFileHandler customerSaver = new CustomerFileHandler(customerPath);
-            customerSaver.save(customers);
-
-            // Save transactions
-            String transactionPath = "resources/transactions.csv";
-            List<Transaction> transactions = dealership.getTransactionManager().getTransactions();
-            TransactionFileHandler transactionSaver = new TransactionFileHandler(transactionPath);
-            transactionSaver.save(transactions);
+            saveSnapshot(dealership);
+            dealership.getTransactionManager().getJournal().close();
 
             PrettyUtils.printCyan("\nShutting down. Please come again! :)");
         } catch (Exception e) {
@@ -206,30 +243,62 @@ public class UsedCarDealership {
     }
 
     /**
-     * Shutdown the DealershipManager and saves all vehicles, customers,
-     * transactions
+     * Saves the dealership once the journal holds enough transactions, so it
+     * does not grow for the whole session.
      * 
      * @param dealership the DealershipManager object
+     * @param fromDb     whether the dealership was loaded from the database
+     * @throws IOException  if the files cannot be written
+     * @throws SQLException if the database cannot be written
      */
-    private static void shutdownFromDb(DealershipManager dealership) {
-        String jdbcUrl = "jdbc:postgresql://localhost:5432/usedcardealership";
-        String dbUser = "postgres";
-        String dbPassword = "postgres";
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
-            // Save inventory
-            List<Vehicle> database = dealership.getDatabase();
-            VehicleDatabaseHandler vehicleInventorySaver = new VehicleDatabaseHandler(connection);
-            vehicleInventorySaver.save(database);
+    private static void compactIfDue(DealershipManager dealership, boolean fromDb) throws IOException, SQLException {
+        TransactionJournal journal = dealership.getTransactionManager().getJournal();
+        if (journal != null && journal.getRecordCount() >= COMPACT_AFTER) {
+            if (fromDb) {
+                saveToDb(dealership);
+            } else {
+                saveSnapshot(dealership);
+            }
+        }
+    }
 
-            // Save customers
-            List<Customer> customers = dealership.getCustomers();
-            CustomerDatabaseHandler customerSaver = new CustomerDatabaseHandler(connection);
-            customerSaver.save(customers);
+    /**
+     * Saves the whole dealership as a binary snapshot, then drops the saved
+     * transactions from the journal. The snapshot replaces the old one in a
+     * single move, and replay skips the transactions it holds, so a crash
+     * at any point loses nothing.
+     * Does nothing when nothing changed since the last snapshot.
+     * 
+     * @param dealership the DealershipManager object
+     * @throws IOException if the files cannot be written
+     */
+    private static void saveSnapshot(DealershipManager dealership) throws IOException {
+        ChangeTracker changes = dealership.getChangeTracker();
+        SnapshotFileHandler snapshot = new SnapshotFileHandler(SNAPSHOT_PATH);
+        if (changes.isEmpty() && snapshot.exists()) {
+            return;
+        }
+        List<Transaction> transactions = dealership.getTransactionManager().getTransactions();
+        snapshot.save(new DealershipState(dealership.getName(), dealership.getBalanceCents(),
+                dealership.getInventory(), dealership.getDatabase(), dealership.getCustomers(), transactions,
+                dealership.getCouponManager().getCoupons()));
+        TransactionJournal journal = dealership.getTransactionManager().getJournal();
+        if (journal != null && !transactions.isEmpty()) {
+            journal.compact(transactions.get(transactions.size() - 1).getID());
+        }
+        changes.clear();
+    }
 
-            // Save transactions
-            List<Transaction> transactions = dealership.getTransactionManager().getTransactions();
-            TransactionDatabaseHandler transactionSaver = new TransactionDatabaseHandler(connection);
-            transactionSaver.save(transactions);
+    /**
+     * Shutdown the DealershipManager and saves the vehicles, customers and
+     * transactions changed during the session
+     * 
+     * @param dealership the DealershipManager object
+     */
+    private static void shutdownFromDb(DealershipManager dealership) {
+        try {
+            saveToDb(dealership);
+            dealership.getTransactionManager().getJournal().close();
 
             PrettyUtils.printCyan("\nShutting down. Please come again! :)");
         } catch (Exception e) {
@@ -241,12 +310,55 @@ public class UsedCarDealership {
         }
     }
 
+    /**
+     * Saves the vehicles, customers and transactions changed since the last
+     * save to the database, then drops the saved transactions from the
+     * journal
+     * 
+     * @param dealership the DealershipManager object
+     * @throws SQLException if the database cannot be written, after rolling
+     *                      back
+     * @throws IOException  if the journal cannot be rewritten
+     */
+    private static void saveToDb(DealershipManager dealership) throws SQLException, IOException {
+        String jdbcUrl = "jdbc:postgresql://localhost:5432/usedcardealership";
+        String dbUser = "postgres";
+        String dbPassword = "postgres";
+        ChangeTracker changes = dealership.getChangeTracker();
+        if (changes.isEmpty()) {
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            // One transaction for everything, so a failed save leaves the old data intact
+            DatabaseTransaction.run(connection, () -> {
+                // Save changed vehicles
+                VehicleDatabaseHandler vehicleSaver = new VehicleDatabaseHandler(connection);
+                vehicleSaver.saveChanges(changes.getVehicles());
+
+                // Save changed customers and who owns which vehicle
+                CustomerDatabaseHandler customerSaver = new CustomerDatabaseHandler(connection);
+                customerSaver.saveChanges(changes.getCustomers());
+
+                // Append new transactions
+                TransactionDatabaseHandler transactionSaver = new TransactionDatabaseHandler(connection);
+                transactionSaver.write(changes.getNewTransactions());
+            });
+        }
+        changes.clear();
+        List<Transaction> transactions = dealership.getTransactionManager().getTransactions();
+        TransactionJournal journal = dealership.getTransactionManager().getJournal();
+        if (journal != null && !transactions.isEmpty()) {
+            journal.compact(transactions.get(transactions.size() - 1).getID());
+        }
+    }
+
     /**
      * Main menu that allows user to choose what to do
      * 
      * @param dealership the DealershipManager object
+     * @param fromDb     whether the dealership was loaded from the database
      */
-    private static void mainMenuView(DealershipManager dealership) {
+    private static void mainMenuView(DealershipManager dealership, boolean fromDb) {
         boolean inPage = true;
         while (inPage) {
             // Print welcome message
@@ -287,6 +399,7 @@ public class UsedCarDealership {
                     default:
                         PrettyUtils.printRed("I hope you're proud of yourself, you broke\n");
                 }
+                compactIfDue(dealership, fromDb);
             } catch (Exception e) {
                 PrettyUtils.printRed("An error occuyred while processing your choice.");
                 System.out.println(e.getMessage());
@@ -306,7 +419,7 @@ public class UsedCarDealership {
             PrettyUtils.wipe();
             PrettyUtils.printYellow("Filter Types:");
             System.out.println(
-                    "- Type\n- Make\n- Color\n- Year Range\n- Drive Type\n- Price Range\n- Kilometrage Range\n- Transmission Type");
+                    "- Type\n- Make\n- Color\n- Year Range\n- Drive Type\n- Price Range\n- Kilometrage Range\n- Transmission Type\n- Combined");
             System.out.println(Prompter.getPrompt("filter"));
             try {
                 String input = Prompter.promptString();
@@ -341,6 +454,9 @@ public class UsedCarDealership {
                     case "transmission type":
                         genericFilterView(dealership, "trans");
                         break;
+                    case "combined":
+                        combinedFilterView(dealership);
+                        break;
                     default:
                         PrettyUtils.printRed("\nInvalid filter name. Please try again.");
                         Prompter.promptEnter();
@@ -377,6 +493,26 @@ public class UsedCarDealership {
         }
     }
 
+    /**
+     * View for filtering by several criteria at once
+     * 
+     * @param dealership the DealershipManager object
+     */
+    private static void combinedFilterView(DealershipManager dealership) {
+        boolean inPage = true;
+        while (inPage) {
+            PrettyUtils.wipe();
+            System.out.println(Prompter.getPrompt("combined"));
+            String query = Prompter.promptString();
+            // If query null go back
+            if (query == null) {
+                return;
+            }
+            List<Vehicle> filteredVehicles = dealership.applyQuery(query);
+            inPage = handleFilteredVehicles(dealership, filteredVehicles);
+        }
+    }
+
     /**
      * Handles logic necessary for range filtering
      * 
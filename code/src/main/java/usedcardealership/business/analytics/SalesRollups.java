@@ -0,0 +1,227 @@
+/**
+ * Sales figures kept up to date as Transactions are added, so a dashboard
+ * reads them in constant time instead of scanning the whole history.
+ * Each Transaction adds to the totals of its day, its month, its Vehicle's
+ * make and type, and the overall totals: units sold, revenue, tax and the
+ * discount off the list price for sales, count and amount paid for the
+ * dealership's purchases. Figures are in cents.
+ * The discount is the Vehicle's list price less the sale price when the
+ * Transaction is added, so rebuilding from a history uses the list prices
+ * Vehicles have at that time. Methods are synchronized, so Transactions can
+ * be added from several threads while others read.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.analytics;
+
+import java.time.*;
+import java.util.*;
+
+import usedcardealership.data.Money;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.*;
+
+public class SalesRollups {
+    private final Map<LocalDate, Counts> days = new HashMap<>();
+    private final Map<YearMonth, Counts> months = new HashMap<>();
+    private final Map<String, Counts> makes = new HashMap<>();
+    private final Map<String, Counts> types = new HashMap<>();
+    private final Counts all = new Counts();
+
+    /**
+     * Builds rollups from a Transaction history, e.g. one loaded from the
+     * snapshot and journal or from the database.
+     *
+     * @param transactions the Transactions
+     * @return the rollups
+     */
+    public static SalesRollups of(List<Transaction> transactions) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null.");
+        }
+        SalesRollups rollups = new SalesRollups();
+        for (Transaction transaction : transactions) {
+            rollups.add(transaction);
+        }
+        return rollups;
+    }
+
+    /**
+     * Adds a Transaction to every total it counts towards.
+     *
+     * @param transaction the Transaction
+     */
+    public synchronized void add(Transaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        Vehicle vehicle = transaction.getVehicle();
+        LocalDate date = transaction.getDate();
+        long priceCents = transaction.getPriceCents();
+        boolean sale = isSale(transaction);
+        long taxCents = sale ? Money.multiply(priceCents, transaction.getTax() - 1.0) : 0;
+        long discountCents = sale ? Math.max(0, vehicle.getPriceCents() - priceCents) : 0;
+
+        bucket(this.days, date).add(sale, priceCents, taxCents, discountCents);
+        bucket(this.months, YearMonth.from(date)).add(sale, priceCents, taxCents, discountCents);
+        bucket(this.makes, vehicle.getMakeKey()).add(sale, priceCents, taxCents, discountCents);
+        bucket(this.types, vehicle.getTypeKey()).add(sale, priceCents, taxCents, discountCents);
+        this.all.add(sale, priceCents, taxCents, discountCents);
+    }
+
+    /**
+     * Gets the totals of every Transaction.
+     *
+     * @return the totals
+     */
+    public synchronized Totals getTotals() {
+        return this.all.toTotals();
+    }
+
+    /**
+     * Gets the totals of one day.
+     *
+     * @param day the day
+     * @return the totals, zero if nothing happened that day
+     */
+    public synchronized Totals getDay(LocalDate day) {
+        return totals(this.days, day);
+    }
+
+    /**
+     * Gets the totals of one month.
+     *
+     * @param month the month
+     * @return the totals, zero if nothing happened that month
+     */
+    public synchronized Totals getMonth(YearMonth month) {
+        return totals(this.months, month);
+    }
+
+    /**
+     * Gets the totals of one make.
+     *
+     * @param make the make, any case
+     * @return the totals, zero if no Vehicle of the make changed hands
+     */
+    public synchronized Totals getMake(String make) {
+        return totals(this.makes, Symbols.fold(make));
+    }
+
+    /**
+     * Gets the totals of one type of Vehicle.
+     *
+     * @param type the type, any case
+     * @return the totals, zero if no Vehicle of the type changed hands
+     */
+    public synchronized Totals getType(String type) {
+        return totals(this.types, Symbols.fold(type));
+    }
+
+    private static boolean isSale(Transaction transaction) {
+        return transaction.getType().toLowerCase().endsWith("sale");
+    }
+
+    private static <K> Counts bucket(Map<K, Counts> buckets, K key) {
+        Counts counts = buckets.get(key);
+        if (counts == null) {
+            counts = new Counts();
+            buckets.put(key, counts);
+        }
+        return counts;
+    }
+
+    private static <K> Totals totals(Map<K, Counts> buckets, K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+        Counts counts = buckets.get(key);
+        return counts == null ? new Counts().toTotals() : counts.toTotals();
+    }
+
+    /**
+     * The running totals of one bucket.
+     */
+    private static final class Counts {
+        private long unitsSold;
+        private long revenueCents;
+        private long taxCents;
+        private long discountCents;
+        private long purchases;
+        private long purchaseCents;
+
+        void add(boolean sale, long priceCents, long tax, long discount) {
+            if (sale) {
+                this.unitsSold++;
+                this.revenueCents += priceCents;
+                this.taxCents += tax;
+                this.discountCents += discount;
+            } else {
+                this.purchases++;
+                this.purchaseCents += priceCents;
+            }
+        }
+
+        Totals toTotals() {
+            return new Totals(this.unitsSold, this.revenueCents, this.taxCents, this.discountCents, this.purchases,
+                    this.purchaseCents);
+        }
+    }
+
+    /**
+     * The totals of a day, month, make, type or of everything, as read.
+     */
+    public static final class Totals {
+        private final long unitsSold;
+        private final long revenueCents;
+        private final long taxCents;
+        private final long discountCents;
+        private final long purchases;
+        private final long purchaseCents;
+
+        private Totals(long unitsSold, long revenueCents, long taxCents, long discountCents, long purchases,
+                long purchaseCents) {
+            this.unitsSold = unitsSold;
+            this.revenueCents = revenueCents;
+            this.taxCents = taxCents;
+            this.discountCents = discountCents;
+            this.purchases = purchases;
+            this.purchaseCents = purchaseCents;
+        }
+
+        public long getUnitsSold() {
+            return this.unitsSold;
+        }
+
+        public long getRevenueCents() {
+            return this.revenueCents;
+        }
+
+        public long getTaxCents() {
+            return this.taxCents;
+        }
+
+        public long getDiscountCents() {
+            return this.discountCents;
+        }
+
+        /**
+         * Gets the average discount per Vehicle sold.
+         *
+         * @return the average in cents, rounded down, 0 if nothing was sold
+         */
+        public long getAverageDiscountCents() {
+            return this.unitsSold == 0 ? 0 : this.discountCents / this.unitsSold;
+        }
+
+        public long getPurchases() {
+            return this.purchases;
+        }
+
+        public long getPurchaseCents() {
+            return this.purchaseCents;
+        }
+    }
+}
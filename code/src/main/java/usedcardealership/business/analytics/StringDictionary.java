@@ -0,0 +1,85 @@
+/**
+ * Dictionary encoding for one categorical column.
+ * Gives each distinct case-folded value a small int code, in order of first
+ * appearance, so a column of Strings can be stored and compared as an int
+ * array.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.analytics;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.Symbols;
+
+public class StringDictionary {
+    private final Map<String, Integer> codes;
+    private final List<String> values;
+
+    /**
+     * StringDictionary Constructor
+     * Creates an empty dictionary.
+     */
+    public StringDictionary() {
+        this.codes = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+    /**
+     * Gets the code of a value, adding the value if it is new.
+     *
+     * @param value the value (any case)
+     * @return the value's code
+     */
+    public int encode(String value) {
+        String key = fold(value);
+        Integer code = this.codes.get(key);
+        if (code == null) {
+            code = this.values.size();
+            this.codes.put(key, code);
+            // Remember the first spelling seen for display
+            this.values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Gets the code of a value without adding it.
+     *
+     * @param value the value (any case)
+     * @return the value's code, or -1 if the value is not in the dictionary
+     */
+    public int codeOf(String value) {
+        Integer code = this.codes.get(fold(value));
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Gets the value of a code.
+     *
+     * @param code the code
+     * @return the value, as first spelled
+     * @throws IllegalArgumentException if the code is not in the dictionary
+     */
+    public String decode(int code) {
+        if (code < 0 || code >= this.values.size()) {
+            throw new IllegalArgumentException("Unknown code: " + code);
+        }
+        return this.values.get(code);
+    }
+
+    /**
+     * Gets the number of distinct values.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    private static String fold(String value) {
+        return Symbols.fold(value);
+    }
+}
@@ -0,0 +1,484 @@
+/**
+ * Column store snapshot of a list of Vehicles for analytics.
+ * Each numeric field is kept in its own primitive array and each categorical
+ * field as an int array of StringDictionary codes, so a scan reads one
+ * contiguous array instead of following a pointer to every Vehicle. The scan
+ * and aggregate loops are plain counted loops over those arrays, which the
+ * JIT can unroll and vectorize.
+ * Rows are in the order of the list the snapshot was built from. Selections
+ * are sorted arrays of row numbers, null meaning every row. Prices are the
+ * Vehicles' total prices in cents when the snapshot was built, so a snapshot
+ * goes stale when the PricingClock epoch moves.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.analytics;
+
+import java.util.*;
+
+import usedcardealership.business.index.InventoryIndex;
+import usedcardealership.data.Money;
+import usedcardealership.data.vehicle.*;
+
+public class VehicleColumns {
+    public static final String[] CATEGORIES = { "type", "make", "model", "color", "trans", "drive" };
+    public static final String[] NUMERIC_FIELDS = { "year", "horsepower", "kilo", "weight", "damage", "price" };
+
+    private final int size;
+    private final long priceEpoch;
+    private final int[] ids;
+    private final int[] years;
+    private final int[] horsepower;
+    private final double[] kilometerage;
+    private final double[] weights;
+    private final double[] damage;
+    private final long[] priceCents;
+    private final Map<String, int[]> codes;
+    private final Map<String, StringDictionary> dictionaries;
+
+    private VehicleColumns(int size) {
+        this.size = size;
+        this.priceEpoch = PricingClock.currentEpoch();
+        this.ids = new int[size];
+        this.years = new int[size];
+        this.horsepower = new int[size];
+        this.kilometerage = new double[size];
+        this.weights = new double[size];
+        this.damage = new double[size];
+        this.priceCents = new long[size];
+        this.codes = new HashMap<>();
+        this.dictionaries = new HashMap<>();
+        for (String category : CATEGORIES) {
+            this.codes.put(category, new int[size]);
+            this.dictionaries.put(category, new StringDictionary());
+        }
+    }
+
+    /**
+     * Builds the columns from a list of Vehicles.
+     *
+     * @param vehicles the Vehicles, one row each
+     * @return the snapshot
+     */
+    public static VehicleColumns of(List<Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        VehicleColumns columns = new VehicleColumns(vehicles.size());
+        int[][] codeColumns = new int[CATEGORIES.length][];
+        StringDictionary[] dictionaryColumns = new StringDictionary[CATEGORIES.length];
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            codeColumns[c] = columns.codes.get(CATEGORIES[c]);
+            dictionaryColumns[c] = columns.dictionaries.get(CATEGORIES[c]);
+        }
+        int row = 0;
+        for (Vehicle v : vehicles) {
+            if (v == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null.");
+            }
+            columns.ids[row] = v.getID();
+            columns.years[row] = v.getYear();
+            columns.horsepower[row] = v.getHorsepower();
+            columns.kilometerage[row] = v.getKilometerage();
+            columns.weights[row] = v.getWeight();
+            columns.damage[row] = v.getDamage();
+            columns.priceCents[row] = v.getTotalPriceCents();
+            for (int c = 0; c < CATEGORIES.length; c++) {
+                codeColumns[c][row] = dictionaryColumns[c].encode(getCategoryValue(v, CATEGORIES[c]));
+            }
+            row++;
+        }
+        return columns;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of Vehicles in the snapshot
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the pricing epoch the prices were computed in.
+     *
+     * @return the PricingClock epoch when the snapshot was built
+     */
+    public long getPriceEpoch() {
+        return this.priceEpoch;
+    }
+
+    /**
+     * Gets the Vehicle ID of a row.
+     *
+     * @param row the row number
+     * @return the Vehicle ID
+     */
+    public int getId(int row) {
+        return this.ids[row];
+    }
+
+    /**
+     * Gets the Vehicle IDs of selected rows.
+     *
+     * @param rows the selected rows, null for every row
+     * @return the Vehicle IDs, in row order
+     */
+    public int[] getIds(int[] rows) {
+        if (rows == null) {
+            return this.ids.clone();
+        }
+        int[] result = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = this.ids[rows[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the dictionary of a categorical column.
+     *
+     * @param category one of CATEGORIES
+     * @return the column's dictionary
+     */
+    public StringDictionary getDictionary(String category) {
+        StringDictionary dictionary = this.dictionaries.get(category);
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Unknown category: " + category);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Selects the rows whose categorical value equals the given value,
+     * ignoring case.
+     *
+     * @param category one of CATEGORIES
+     * @param value    the value to match
+     * @return the matching rows
+     */
+    public int[] selectEquals(String category, String value) {
+        int code = getDictionary(category).codeOf(value);
+        if (code < 0) {
+            return new int[0];
+        }
+        int[] column = this.codes.get(category);
+        int[] rows = new int[this.size];
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            // Always write, only advance on a match, so the loop has no branch
+            rows[count] = i;
+            count += column[i] == code ? 1 : 0;
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Selects the rows whose numeric value is between min and max, inclusive.
+     * Prices are in dollars.
+     *
+     * @param field one of NUMERIC_FIELDS
+     * @param min   the lower bound
+     * @param max   the upper bound
+     * @return the matching rows
+     */
+    public int[] selectRange(String field, double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum cannot be greater than maximum.");
+        }
+        int[] rows = new int[this.size];
+        int count = 0;
+        switch (field) {
+            case "year":
+                count = selectRange(this.years, min, max, rows);
+                break;
+            case "horsepower":
+                count = selectRange(this.horsepower, min, max, rows);
+                break;
+            case "kilo":
+                count = selectRange(this.kilometerage, min, max, rows);
+                break;
+            case "weight":
+                count = selectRange(this.weights, min, max, rows);
+                break;
+            case "damage":
+                count = selectRange(this.damage, min, max, rows);
+                break;
+            case "price":
+                // Casting saturates, so infinite bounds select everything
+                long low = (long) Math.ceil(min * 100);
+                long high = (long) Math.floor(max * 100);
+                for (int i = 0; i < this.size; i++) {
+                    rows[count] = i;
+                    count += this.priceCents[i] >= low && this.priceCents[i] <= high ? 1 : 0;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Intersects two selections.
+     *
+     * @param first  the first selection, null for every row
+     * @param second the second selection, null for every row
+     * @return the rows in both
+     */
+    public static int[] and(int[] first, int[] second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        int[] rows = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                rows[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Counts selected rows.
+     *
+     * @param rows the selected rows, null for every row
+     * @return the number of rows
+     */
+    public int count(int[] rows) {
+        return rows == null ? this.size : rows.length;
+    }
+
+    /**
+     * Adds up the total prices of selected rows, e.g. the inventory's value.
+     *
+     * @param rows the selected rows, null for every row
+     * @return the sum in cents
+     */
+    public long sumPriceCents(int[] rows) {
+        long sum = 0;
+        if (rows == null) {
+            for (int i = 0; i < this.size; i++) {
+                sum += this.priceCents[i];
+            }
+        } else {
+            for (int row : rows) {
+                sum += this.priceCents[row];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Adds up a numeric field over selected rows. Prices are in dollars.
+     *
+     * @param field one of NUMERIC_FIELDS
+     * @param rows  the selected rows, null for every row
+     * @return the sum
+     */
+    public double sum(String field, int[] rows) {
+        switch (field) {
+            case "year":
+                return sum(this.years, rows);
+            case "horsepower":
+                return sum(this.horsepower, rows);
+            case "kilo":
+                return sum(this.kilometerage, rows);
+            case "weight":
+                return sum(this.weights, rows);
+            case "damage":
+                return sum(this.damage, rows);
+            case "price":
+                return Money.toDollars(sumPriceCents(rows));
+            default:
+                throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * Averages a numeric field over selected rows. Prices are in dollars.
+     *
+     * @param field one of NUMERIC_FIELDS
+     * @param rows  the selected rows, null for every row
+     * @return the average, or 0 if no rows are selected
+     */
+    public double average(String field, int[] rows) {
+        int count = count(rows);
+        return count == 0 ? 0 : sum(field, rows) / count;
+    }
+
+    /**
+     * Counts the rows for each value of a categorical column.
+     *
+     * @param category one of CATEGORIES
+     * @return the count for each value, by value
+     */
+    public Map<String, Integer> countBy(String category) {
+        StringDictionary dictionary = getDictionary(category);
+        int[] column = this.codes.get(category);
+        int[] counts = new int[dictionary.size()];
+        for (int i = 0; i < this.size; i++) {
+            counts[column[i]]++;
+        }
+        Map<String, Integer> result = new TreeMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            result.put(dictionary.decode(code), counts[code]);
+        }
+        return result;
+    }
+
+    /**
+     * Averages a numeric field for each value of a categorical column, e.g.
+     * the average price by make. Prices are in dollars.
+     *
+     * @param category one of CATEGORIES
+     * @param field    one of NUMERIC_FIELDS
+     * @return the average for each value, by value
+     */
+    public Map<String, Double> averageBy(String category, String field) {
+        StringDictionary dictionary = getDictionary(category);
+        int[] column = this.codes.get(category);
+        double[] values = toDoubles(field);
+        double[] sums = new double[dictionary.size()];
+        int[] counts = new int[dictionary.size()];
+        for (int i = 0; i < this.size; i++) {
+            sums[column[i]] += values[i];
+            counts[column[i]]++;
+        }
+        Map<String, Double> result = new TreeMap<>();
+        for (int code = 0; code < sums.length; code++) {
+            result.put(dictionary.decode(code), sums[code] / counts[code]);
+        }
+        return result;
+    }
+
+    /**
+     * Counts selected rows in equal width buckets of a numeric field, e.g. a
+     * kilometrage histogram. Bucket i holds values from i * width up to
+     * (i + 1) * width, values outside the buckets fall into the first or
+     * last one.
+     *
+     * @param field   one of NUMERIC_FIELDS
+     * @param width   the width of a bucket
+     * @param buckets the number of buckets
+     * @param rows    the selected rows, null for every row
+     * @return the count in each bucket
+     */
+    public int[] histogram(String field, double width, int buckets, int[] rows) {
+        if (!(width > 0) || buckets <= 0) {
+            throw new IllegalArgumentException("Width and number of buckets must be positive.");
+        }
+        double[] values = toDoubles(field);
+        int[] counts = new int[buckets];
+        int last = buckets - 1;
+        if (rows == null) {
+            for (int i = 0; i < this.size; i++) {
+                counts[Math.max(0, Math.min(last, (int) (values[i] / width)))]++;
+            }
+        } else {
+            for (int row : rows) {
+                counts[Math.max(0, Math.min(last, (int) (values[row] / width)))]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Gets a numeric column as doubles, the double columns themselves are not
+     * copied. Prices are in dollars.
+     */
+    private double[] toDoubles(String field) {
+        switch (field) {
+            case "kilo":
+                return this.kilometerage;
+            case "weight":
+                return this.weights;
+            case "damage":
+                return this.damage;
+            case "year":
+            case "horsepower":
+                int[] ints = "year".equals(field) ? this.years : this.horsepower;
+                double[] widened = new double[this.size];
+                for (int i = 0; i < this.size; i++) {
+                    widened[i] = ints[i];
+                }
+                return widened;
+            case "price":
+                double[] dollars = new double[this.size];
+                for (int i = 0; i < this.size; i++) {
+                    dollars[i] = this.priceCents[i] / 100.0;
+                }
+                return dollars;
+            default:
+                throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    private int selectRange(int[] column, double min, double max, int[] rows) {
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            rows[count] = i;
+            count += column[i] >= min && column[i] <= max ? 1 : 0;
+        }
+        return count;
+    }
+
+    private int selectRange(double[] column, double min, double max, int[] rows) {
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            rows[count] = i;
+            count += column[i] >= min && column[i] <= max ? 1 : 0;
+        }
+        return count;
+    }
+
+    private double sum(int[] column, int[] rows) {
+        long sum = 0;
+        if (rows == null) {
+            for (int i = 0; i < this.size; i++) {
+                sum += column[i];
+            }
+        } else {
+            for (int row : rows) {
+                sum += column[row];
+            }
+        }
+        return sum;
+    }
+
+    private double sum(double[] column, int[] rows) {
+        double sum = 0;
+        if (rows == null) {
+            for (int i = 0; i < this.size; i++) {
+                sum += column[i];
+            }
+        } else {
+            for (int row : rows) {
+                sum += column[row];
+            }
+        }
+        return sum;
+    }
+
+    private static String getCategoryValue(Vehicle v, String category) {
+        if ("model".equals(category)) {
+            return v.getModel();
+        }
+        return InventoryIndex.getCategoryValue(v, category);
+    }
+}
@@ -19,4 +19,31 @@ public abstract class VehicleCompare implements ICompare<Vehicle> {
 
     @Override
     public abstract int compare(Vehicle vehicle1, Vehicle vehicle2);
+
+    /**
+     * Gets the comparator for a sort option typed by the user.
+     * 
+     * @param sortType id, price, year, kilometrage or damage
+     * @return the comparator, ascending
+     * @throws IllegalArgumentException if the sort option is unknown
+     */
+    public static VehicleCompare forSortType(String sortType) {
+        if (sortType == null) {
+            throw new IllegalArgumentException("Sort type cannot be null.");
+        }
+        switch (sortType) {
+            case "id":
+                return new VehicleIdCompare();
+            case "price":
+                return new VehiclePriceCompare();
+            case "year":
+                return new VehicleYearCompare();
+            case "kilometrage":
+                return new VehicleKilometerageCompare();
+            case "damage":
+                return new VehicleDamageCompare();
+            default:
+                throw new IllegalArgumentException("Invalid sort type: " + sortType);
+        }
+    }
 }
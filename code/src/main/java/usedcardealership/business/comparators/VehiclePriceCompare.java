@@ -21,12 +21,7 @@ public class VehiclePriceCompare extends VehicleCompare {
         if (vehicle1 == null || vehicle2 == null) {
             throw new IllegalArgumentException("Vehicles cannot be null.");
         }
-        if  (vehicle1.getPrice() > vehicle2.getPrice())  {
-            return 1;// vehicle1 is more expensive
-        } else if (vehicle1.getPrice() < vehicle2.getPrice()) {
-            return -1;
-        }
-        return 0;
+        return Long.compare(vehicle1.getPriceCents(), vehicle2.getPriceCents());
     }
 }
 
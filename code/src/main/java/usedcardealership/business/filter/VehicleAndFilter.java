@@ -0,0 +1,77 @@
+/**
+ * Filter matching Vehicles that match every one of its filters.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+public class VehicleAndFilter extends VehicleCompositeFilter {
+
+    /**
+     * Constructs a VehicleAndFilter over the given filters
+     * 
+     * @param filters the filters a Vehicle must all match
+     */
+    public VehicleAndFilter(List<IFilter<Vehicle>> filters) {
+        super(filters);
+    }
+
+    /**
+     * Constructs a VehicleAndFilter over the given filters
+     * 
+     * @param filters    the filters a Vehicle must all match
+     * @param sortByCost false to keep the given evaluation order
+     */
+    private VehicleAndFilter(List<IFilter<Vehicle>> filters, boolean sortByCost) {
+        super(filters, sortByCost);
+    }
+
+    /**
+     * Creates a VehicleAndFilter over the given filters. The array is only read
+     * here, never stored or handed on.
+     * 
+     * @param filters the filters a Vehicle must all match
+     * @return the VehicleAndFilter
+     */
+    @SafeVarargs
+    public static VehicleAndFilter of(IFilter<Vehicle>... filters) {
+        if (filters == null) {
+            throw new IllegalArgumentException("Filters cannot be null.");
+        }
+        List<IFilter<Vehicle>> list = new ArrayList<>(filters.length);
+        for (IFilter<Vehicle> filter : filters) {
+            list.add(filter);
+        }
+        return new VehicleAndFilter(list);
+    }
+
+    /**
+     * Checks the filters cheapest first, stopping at the first miss.
+     * 
+     * @param vehicle - the Vehicle object to check
+     * @return true if every filter matches, false otherwise
+     */
+    @Override
+    public boolean filter(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        for (IFilter<Vehicle> filter : getFilters()) {
+            if (!filter.filter(vehicle)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public VehicleCompositeFilter withFilters(List<IFilter<Vehicle>> filters) {
+        return new VehicleAndFilter(filters, false);
+    }
+}
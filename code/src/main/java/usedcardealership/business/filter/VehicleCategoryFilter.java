@@ -0,0 +1,43 @@
+/**
+ * Vehicle filter abstract class for case-insensitive equality on a
+ * categorical field (type, make, color, drive type, transmission).
+ * Exposes the category and the case-folded criteria so the inventory
+ * indexes can answer the filter without scanning.
+ * Subclasses fold their criteria with Symbols.fold and compare it with ==
+ * against the key the Vehicle folded its value to when it was made. Both
+ * are the one shared key whenever a Vehicle has that value, and a filter
+ * is built for each search, after the Vehicles it searches exist.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+public abstract class VehicleCategoryFilter extends VehicleFilter {
+
+    /**
+     * Gets the category this filter matches on, using the same names as
+     * DealershipManager.applyFilter ("type", "make", "color", "drive", "trans").
+     * 
+     * @return the category name
+     */
+    public abstract String getCategory();
+
+    /**
+     * Gets the lowercase value a Vehicle's category must equal.
+     * 
+     * @return the case-folded criteria
+     */
+    public abstract String getCriteria();
+
+    /**
+     * Case-insensitive string comparisons cost more than numeric ones.
+     * 
+     * @return the relative cost
+     */
+    @Override
+    public int getCost() {
+        return 2;
+    }
+}
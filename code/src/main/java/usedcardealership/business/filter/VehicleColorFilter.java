@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleColorFilter extends VehicleFilter {
+public class VehicleColorFilter extends VehicleCategoryFilter {
     private String color;
 
     /**
@@ -21,7 +21,7 @@ public class VehicleColorFilter extends VehicleFilter {
         if (color == null || color.length() == 0) {
             throw new IllegalArgumentException("Color cannot be null or empty.");
         }
-        this.color = color.toLowerCase();
+        this.color = Symbols.fold(color);
     }
 
     /**
@@ -35,6 +35,16 @@ public class VehicleColorFilter extends VehicleFilter {
         if (vehicle == null) {
             throw new IllegalArgumentException("Vehicle cannot be null.");
         }
-        return vehicle.getColor().toLowerCase().equals(this.color);
+        return vehicle.getColorKey() == this.color;
     }
-}
\ No newline at end of file
+
+    @Override
+    public String getCategory() {
+        return "color";
+    }
+
+    @Override
+    public String getCriteria() {
+        return this.color;
+    }
+}
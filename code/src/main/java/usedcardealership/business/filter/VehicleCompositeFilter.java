@@ -0,0 +1,97 @@
+/**
+ * Vehicle filter abstract class combining several filters (AND / OR).
+ * Children are kept cheapest first so evaluation can short-circuit before
+ * reaching the expensive checks.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+public abstract class VehicleCompositeFilter extends VehicleFilter {
+    private final List<IFilter<Vehicle>> filters;
+
+    /**
+     * Constructs a VehicleCompositeFilter over the given filters
+     * 
+     * @param filters the filters to combine, evaluated cheapest first
+     */
+    public VehicleCompositeFilter(List<IFilter<Vehicle>> filters) {
+        this(filters, true);
+    }
+
+    /**
+     * Constructs a VehicleCompositeFilter over the given filters
+     * 
+     * @param filters    the filters to combine
+     * @param sortByCost true to evaluate cheapest first, false to keep the
+     *                   given order (e.g. one already chosen by the planner)
+     */
+    protected VehicleCompositeFilter(List<IFilter<Vehicle>> filters, boolean sortByCost) {
+        if (filters == null || filters.size() == 0) {
+            throw new IllegalArgumentException("Filters cannot be null or empty.");
+        }
+        List<IFilter<Vehicle>> sorted = new ArrayList<>(filters);
+        for (IFilter<Vehicle> filter : sorted) {
+            if (filter == null) {
+                throw new IllegalArgumentException("Filter cannot be null.");
+            }
+        }
+        if (sortByCost) {
+            // Stable sort keeps the caller's order among equally cheap filters
+            sorted.sort(Comparator.comparingInt(VehicleCompositeFilter::costOf));
+        }
+        this.filters = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the combined filters in evaluation order.
+     * 
+     * @return the filters, cheapest first
+     */
+    public List<IFilter<Vehicle>> getFilters() {
+        return this.filters;
+    }
+
+    /**
+     * Builds a filter of the same kind over the given filters, evaluated in
+     * exactly the given order. Used by the query planner after reordering.
+     * 
+     * @param filters the filters to combine, in evaluation order
+     * @return the new composite filter
+     */
+    public abstract VehicleCompositeFilter withFilters(List<IFilter<Vehicle>> filters);
+
+    /**
+     * Worst case every child is evaluated.
+     * 
+     * @return the summed cost of the children
+     */
+    @Override
+    public int getCost() {
+        int cost = 0;
+        for (IFilter<Vehicle> filter : this.filters) {
+            cost += costOf(filter);
+        }
+        return cost;
+    }
+
+    /**
+     * Gets the relative cost of any Vehicle filter. Filters outside this
+     * package have unknown cost and are treated as expensive.
+     * 
+     * @param filter the filter to check
+     * @return the relative cost
+     */
+    public static int costOf(IFilter<Vehicle> filter) {
+        if (filter instanceof VehicleFilter) {
+            return ((VehicleFilter) filter).getCost();
+        }
+        return 4;
+    }
+}
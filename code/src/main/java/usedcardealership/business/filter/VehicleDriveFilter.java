@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleDriveFilter extends VehicleFilter {
+public class VehicleDriveFilter extends VehicleCategoryFilter {
     private String driveType;
 
     /**
@@ -21,7 +21,7 @@ public class VehicleDriveFilter extends VehicleFilter {
         if (driveType == null || driveType.isBlank()) {
             throw new IllegalArgumentException("Drive type cannot be null or empty.");
         }
-        this.driveType = driveType.toLowerCase();
+        this.driveType = Symbols.fold(driveType);
     }
 
     /**
@@ -35,6 +35,16 @@ public class VehicleDriveFilter extends VehicleFilter {
         if (vehicle == null) {
             throw new IllegalArgumentException("Vehicle cannot be null.");
         }
-        return vehicle.getDriveType().toLowerCase().equals(this.driveType);
+        return vehicle.getDriveTypeKey() == this.driveType;
+    }
+
+    @Override
+    public String getCategory() {
+        return "drive";
+    }
+
+    @Override
+    public String getCriteria() {
+        return this.driveType;
     }
 }
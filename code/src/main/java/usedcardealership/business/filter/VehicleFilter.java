@@ -18,4 +18,14 @@ public abstract class VehicleFilter implements IFilter<Vehicle> {
      */
     @Override
     public abstract boolean filter(Vehicle vehicle);
+
+    /**
+     * Gets the relative cost of checking one Vehicle against this filter,
+     * used to run cheap checks before expensive ones in composite filters.
+     * 
+     * @return the relative cost, 1 for a plain field comparison
+     */
+    public int getCost() {
+        return 1;
+    }
 }
\ No newline at end of file
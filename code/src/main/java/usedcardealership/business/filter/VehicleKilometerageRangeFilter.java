@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleKilometerageRangeFilter extends VehicleFilter {
+public class VehicleKilometerageRangeFilter extends VehicleRangeFilter {
     private double minKilometerage;
     private double maxKilometerage;
 
@@ -43,4 +43,19 @@ public class VehicleKilometerageRangeFilter extends VehicleFilter {
         }
         return vehicle.getKilometerage() >= minKilometerage && vehicle.getKilometerage() <= maxKilometerage;
     }
+
+    @Override
+    public String getRangeField() {
+        return "kilo";
+    }
+
+    @Override
+    public double getMin() {
+        return this.minKilometerage;
+    }
+
+    @Override
+    public double getMax() {
+        return this.maxKilometerage;
+    }
 }
@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleMakeFilter extends VehicleFilter {
+public class VehicleMakeFilter extends VehicleCategoryFilter {
     private String make;
 
     /**
@@ -21,7 +21,7 @@ public class VehicleMakeFilter extends VehicleFilter {
         if (make == null || make.length() == 0) {
             throw new IllegalArgumentException("Make cannot be null or empty.");
         }
-        this.make = make.toLowerCase();
+        this.make = Symbols.fold(make);
     }
 
     /**
@@ -35,6 +35,16 @@ public class VehicleMakeFilter extends VehicleFilter {
         if (vehicle == null) {
             throw new IllegalArgumentException("Vehicle cannot be null.");
         }
-        return vehicle.getMake().toLowerCase().equals(this.make);
+        return vehicle.getMakeKey() == this.make;
+    }
+
+    @Override
+    public String getCategory() {
+        return "make";
+    }
+
+    @Override
+    public String getCriteria() {
+        return this.make;
     }
 }
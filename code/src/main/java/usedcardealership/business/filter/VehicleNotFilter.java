@@ -0,0 +1,49 @@
+/**
+ * Filter matching Vehicles that do not match its filter.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+import usedcardealership.data.vehicle.*;
+
+public class VehicleNotFilter extends VehicleFilter {
+    private final IFilter<Vehicle> negated;
+
+    /**
+     * Constructs a VehicleNotFilter
+     * 
+     * @param negated the filter a Vehicle must not match
+     */
+    public VehicleNotFilter(IFilter<Vehicle> negated) {
+        if (negated == null) {
+            throw new IllegalArgumentException("Filter cannot be null.");
+        }
+        this.negated = negated;
+    }
+
+    public IFilter<Vehicle> getNegated() {
+        return this.negated;
+    }
+
+    /**
+     * Determines if Vehicle does not match the negated filter
+     * 
+     * @param vehicle - the Vehicle object to check
+     * @return true if the negated filter does not match, false otherwise
+     */
+    @Override
+    public boolean filter(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        return !this.negated.filter(vehicle);
+    }
+
+    @Override
+    public int getCost() {
+        return VehicleCompositeFilter.costOf(this.negated);
+    }
+}
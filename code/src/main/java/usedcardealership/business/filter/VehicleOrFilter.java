@@ -0,0 +1,77 @@
+/**
+ * Filter matching Vehicles that match at least one of its filters.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+public class VehicleOrFilter extends VehicleCompositeFilter {
+
+    /**
+     * Constructs a VehicleOrFilter over the given filters
+     * 
+     * @param filters the filters a Vehicle must match one of
+     */
+    public VehicleOrFilter(List<IFilter<Vehicle>> filters) {
+        super(filters);
+    }
+
+    /**
+     * Constructs a VehicleOrFilter over the given filters
+     * 
+     * @param filters    the filters a Vehicle must match one of
+     * @param sortByCost false to keep the given evaluation order
+     */
+    private VehicleOrFilter(List<IFilter<Vehicle>> filters, boolean sortByCost) {
+        super(filters, sortByCost);
+    }
+
+    /**
+     * Creates a VehicleOrFilter over the given filters. The array is only read
+     * here, never stored or handed on.
+     * 
+     * @param filters the filters a Vehicle must match one of
+     * @return the VehicleOrFilter
+     */
+    @SafeVarargs
+    public static VehicleOrFilter of(IFilter<Vehicle>... filters) {
+        if (filters == null) {
+            throw new IllegalArgumentException("Filters cannot be null.");
+        }
+        List<IFilter<Vehicle>> list = new ArrayList<>(filters.length);
+        for (IFilter<Vehicle> filter : filters) {
+            list.add(filter);
+        }
+        return new VehicleOrFilter(list);
+    }
+
+    /**
+     * Checks the filters cheapest first, stopping at the first match.
+     * 
+     * @param vehicle - the Vehicle object to check
+     * @return true if any filter matches, false otherwise
+     */
+    @Override
+    public boolean filter(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        for (IFilter<Vehicle> filter : getFilters()) {
+            if (filter.filter(vehicle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public VehicleCompositeFilter withFilters(List<IFilter<Vehicle>> filters) {
+        return new VehicleOrFilter(filters, false);
+    }
+}
@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehiclePriceRangeFilter extends VehicleFilter {
+public class VehiclePriceRangeFilter extends VehicleRangeFilter {
     private double minPrice;
     private double maxPrice;
 
@@ -44,4 +44,30 @@ public class VehiclePriceRangeFilter extends VehicleFilter {
         double totalPrice = vehicle.calculateTotalPrice();
         return totalPrice >= minPrice && totalPrice <= maxPrice;
     }
+
+    /**
+     * Reading the total price checks the pricing epoch and may recalculate
+     * depreciation.
+     * 
+     * @return the relative cost
+     */
+    @Override
+    public int getCost() {
+        return 3;
+    }
+
+    @Override
+    public String getRangeField() {
+        return "price";
+    }
+
+    @Override
+    public double getMin() {
+        return this.minPrice;
+    }
+
+    @Override
+    public double getMax() {
+        return this.maxPrice;
+    }
 }
@@ -0,0 +1,36 @@
+/**
+ * Vehicle filter abstract class for inclusive ranges over a numeric field
+ * (year, kilometrage, price).
+ * Exposes the field and its bounds so the inventory range indexes can
+ * binary search the bounds instead of scanning.
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+public abstract class VehicleRangeFilter extends VehicleFilter {
+
+    /**
+     * Gets the field this filter ranges over, using the same names as
+     * DealershipManager.applyRangeFilter ("year", "kilo", "price").
+     * 
+     * @return the field name
+     */
+    public abstract String getRangeField();
+
+    /**
+     * Gets the inclusive lower bound of the range.
+     * 
+     * @return the minimum value
+     */
+    public abstract double getMin();
+
+    /**
+     * Gets the inclusive upper bound of the range.
+     * 
+     * @return the maximum value
+     */
+    public abstract double getMax();
+}
@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleTransmissionFilter extends VehicleFilter {
+public class VehicleTransmissionFilter extends VehicleCategoryFilter {
     private String transmission;
 
     /**
@@ -21,7 +21,7 @@ public class VehicleTransmissionFilter extends VehicleFilter {
         if (transmission == null || transmission.length() == 0) {
             throw new IllegalArgumentException("Transmission cannot be null or empty.");
         }
-        this.transmission = transmission.toLowerCase();
+        this.transmission = Symbols.fold(transmission);
     }
 
     /**
@@ -35,6 +35,16 @@ public class VehicleTransmissionFilter extends VehicleFilter {
         if (vehicle == null) {
             throw new IllegalArgumentException("Vehicle cannot be null.");
         }
-        return vehicle.getTransmission().toLowerCase().equals(this.transmission);
+        return vehicle.getTransmissionKey() == this.transmission;
+    }
+
+    @Override
+    public String getCategory() {
+        return "trans";
+    }
+
+    @Override
+    public String getCriteria() {
+        return this.transmission;
     }
 }
@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleTypeFilter extends VehicleFilter {
+public class VehicleTypeFilter extends VehicleCategoryFilter {
     private String type;
 
     /**
@@ -21,7 +21,7 @@ public class VehicleTypeFilter extends VehicleFilter {
         if (type == null || type.length() == 0) {
             throw new IllegalArgumentException("Type cannot be null or empty.");
         }
-        this.type = type.toLowerCase();
+        this.type = Symbols.fold(type);
     }
 
     /**
@@ -35,6 +35,16 @@ public class VehicleTypeFilter extends VehicleFilter {
         if (vehicle == null) {
             throw new IllegalArgumentException("Vehicle cannot be null.");
         }
-        return vehicle.getType().toLowerCase().equals(this.type);
+        return vehicle.getTypeKey() == this.type;
+    }
+
+    @Override
+    public String getCategory() {
+        return "type";
+    }
+
+    @Override
+    public String getCriteria() {
+        return this.type;
     }
 }
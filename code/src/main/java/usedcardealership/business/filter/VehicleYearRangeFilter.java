@@ -9,7 +9,7 @@ package usedcardealership.business.filter;
 
 import usedcardealership.data.vehicle.*;
 
-public class VehicleYearRangeFilter extends VehicleFilter {
+public class VehicleYearRangeFilter extends VehicleRangeFilter {
     private int minYear;
     private int maxYear;
 
@@ -43,4 +43,19 @@ public class VehicleYearRangeFilter extends VehicleFilter {
         }
         return vehicle.getYear() >= minYear && vehicle.getYear() <= maxYear;
     }
+
+    @Override
+    public String getRangeField() {
+        return "year";
+    }
+
+    @Override
+    public double getMin() {
+        return this.minYear;
+    }
+
+    @Override
+    public double getMax() {
+        return this.maxYear;
+    }
 }
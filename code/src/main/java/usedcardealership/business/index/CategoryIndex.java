@@ -0,0 +1,113 @@
+/**
+ * Posting lists for one categorical Vehicle field.
+ * Maps each case-folded value to a PostingList of the Vehicle IDs having
+ * it, so an equality lookup costs time proportional to the number of
+ * matches and hands the IDs back as a primitive array.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.Symbols;
+
+public class CategoryIndex {
+    private final Map<String, PostingList> postings;
+    private final Map<String, String> displayValues;
+
+    /**
+     * CategoryIndex Constructor
+     * Creates an empty index.
+     */
+    public CategoryIndex() {
+        this.postings = new HashMap<>();
+        this.displayValues = new HashMap<>();
+    }
+
+    /**
+     * Adds a Vehicle ID under the given field value.
+     *
+     * @param id    the Vehicle ID
+     * @param value the Vehicle's value for this field (any case)
+     */
+    public void add(int id, String value) {
+        String key = fold(value);
+        PostingList ids = this.postings.get(key);
+        if (ids == null) {
+            ids = new PostingList();
+            this.postings.put(key, ids);
+            // Remember the first spelling seen for displaying options
+            this.displayValues.put(key, value);
+        }
+        ids.add(id);
+    }
+
+    /**
+     * Removes a Vehicle ID from under the given field value.
+     *
+     * @param id    the Vehicle ID
+     * @param value the Vehicle's value for this field (any case)
+     */
+    public void remove(int id, String value) {
+        String key = fold(value);
+        PostingList ids = this.postings.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            this.postings.remove(key);
+            this.displayValues.remove(key);
+        }
+    }
+
+    /**
+     * Gets the IDs of the Vehicles whose value matches the criteria.
+     *
+     * @param criteria the value to look up (any case)
+     * @return the matching IDs in ascending order, empty if none
+     */
+    public int[] lookup(String criteria) {
+        PostingList ids = this.postings.get(fold(criteria));
+        if (ids == null) {
+            return new int[0];
+        }
+        return ids.toArray();
+    }
+
+    /**
+     * Counts the Vehicles whose value matches the criteria.
+     *
+     * @param criteria the value to look up (any case)
+     * @return the number of matching Vehicles
+     */
+    public int count(String criteria) {
+        PostingList ids = this.postings.get(fold(criteria));
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Gets every distinct value currently indexed, in the spelling it was
+     * first seen with.
+     *
+     * @return the distinct values, sorted alphabetically
+     */
+    public List<String> getValues() {
+        List<String> values = new ArrayList<>(this.displayValues.values());
+        Collections.sort(values);
+        return values;
+    }
+
+    /**
+     * Case-folds a value the same way the Vehicle filters do.
+     *
+     * @param value the value to fold
+     * @return the lowercase value
+     */
+    private static String fold(String value) {
+        return Symbols.fold(value);
+    }
+}
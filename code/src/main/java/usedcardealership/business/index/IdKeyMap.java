@@ -0,0 +1,149 @@
+/**
+ * Hash map from a Vehicle ID to the key a RangeIndex holds it under.
+ * Uses the same open addressing table as VehicleIdIndex, with the IDs and
+ * keys in primitive arrays, so adding and removing entries never boxes.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+class IdKeyMap {
+    private static final int EMPTY = 0;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] ids;
+    private double[] keys;
+    private int size;
+
+    /**
+     * IdKeyMap Constructor
+     * Creates an empty map sized for the expected number of IDs.
+     *
+     * @param expectedSize the number of IDs the map should hold without
+     *                     resizing
+     */
+    IdKeyMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        // Keep the load factor at or below 0.5
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.ids = new int[capacity];
+        this.keys = new double[capacity];
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean containsId(int id) {
+        return slotOf(id) >= 0;
+    }
+
+    /**
+     * Gets the key stored for an ID.
+     *
+     * @param id the Vehicle ID
+     * @return the key, or NaN if the ID is not in the map
+     */
+    double get(int id) {
+        int slot = slotOf(id);
+        return slot < 0 ? Double.NaN : this.keys[slot];
+    }
+
+    /**
+     * Stores the key for an ID, replacing any previous key.
+     *
+     * @param id  the Vehicle ID, not 0
+     * @param key the key
+     */
+    void put(int id, double key) {
+        if (id == EMPTY) {
+            throw new IllegalArgumentException("Vehicle ID cannot be 0.");
+        }
+        int mask = this.ids.length - 1;
+        int slot = hash(id) & mask;
+        while (this.ids[slot] != EMPTY) {
+            if (this.ids[slot] == id) {
+                this.keys[slot] = key;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.ids[slot] = id;
+        this.keys[slot] = key;
+        this.size++;
+        if (this.size * 2 > this.ids.length) {
+            resize(this.ids.length << 1);
+        }
+    }
+
+    /**
+     * Removes an ID, shifting the rest of its probe chain back so no
+     * tombstones are left behind.
+     *
+     * @param id the Vehicle ID
+     * @return true if the ID was in the map
+     */
+    boolean remove(int id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        int mask = this.ids.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (this.ids[next] != EMPTY) {
+            int home = hash(this.ids[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                this.ids[gap] = this.ids[next];
+                this.keys[gap] = this.keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.ids[gap] = EMPTY;
+        this.size--;
+        return true;
+    }
+
+    private int slotOf(int id) {
+        if (id == EMPTY) {
+            return -1;
+        }
+        int mask = this.ids.length - 1;
+        int slot = hash(id) & mask;
+        while (this.ids[slot] != EMPTY) {
+            if (this.ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        int[] oldIds = this.ids;
+        double[] oldKeys = this.keys;
+        this.ids = new int[capacity];
+        this.keys = new double[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = hash(oldIds[i]) & mask;
+                while (this.ids[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.ids[slot] = oldIds[i];
+                this.keys[slot] = oldKeys[i];
+            }
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
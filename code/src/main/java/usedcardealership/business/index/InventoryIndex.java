@@ -0,0 +1,341 @@
+/**
+ * Secondary indexes over the dealership's inventory.
+ * Keeps one CategoryIndex per categorical filter so equality filters are
+ * answered from posting lists instead of scanning every Vehicle, and one
+ * RangeIndex per indexed numeric field so range filters binary search their
+ * bounds. The price index is keyed by total price, which depends on the
+ * pricing year, so it is rebuilt whenever the PricingClock epoch moves.
+ * VehicleManager keeps it in sync on add, remove, update and refresh.
+ * Searches only hold VehicleManager's read lock, so the rebuild does not
+ * change anything they may be reading: it builds a new price index under
+ * its own lock and publishes it, with its epoch, through a volatile field.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import java.util.*;
+
+import usedcardealership.business.filter.*;
+import usedcardealership.data.vehicle.*;
+
+public class InventoryIndex {
+    public static final String[] CATEGORIES = { "type", "make", "color", "drive", "trans" };
+    public static final String[] RANGE_FIELDS = { "year", "kilo", "price" };
+
+    private final List<Vehicle> vehicles;
+    private final Map<String, CategoryIndex> categoryIndexes;
+    private final Map<String, RangeIndex> rangeIndexes;
+    // Replaced as a whole when the pricing year moves, never changed by readers
+    private volatile PriceIndex priceIndex;
+    private final Object priceLock = new Object();
+
+    /**
+     * InventoryIndex Constructor
+     * Builds the indexes over the given Vehicles.
+     *
+     * @param vehicles the Vehicles currently in inventory, kept to rebuild the
+     *                 price index when the pricing year changes
+     */
+    public InventoryIndex(List<Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        this.vehicles = vehicles;
+        this.categoryIndexes = new HashMap<>();
+        for (String category : CATEGORIES) {
+            this.categoryIndexes.put(category, new CategoryIndex());
+        }
+        for (Vehicle v : vehicles) {
+            validateVehicleNull(v);
+            for (String category : CATEGORIES) {
+                this.categoryIndexes.get(category).add(v.getID(), getCategoryValue(v, category));
+            }
+        }
+        this.rangeIndexes = new HashMap<>();
+        for (String field : RANGE_FIELDS) {
+            if (!field.equals("price")) {
+                this.rangeIndexes.put(field, buildRangeIndex(field));
+            }
+        }
+        this.priceIndex = new PriceIndex(PricingClock.currentEpoch(), buildRangeIndex("price"));
+    }
+
+    /**
+     * Bulk builds a range index over the inventory rather than inserting one
+     * Vehicle at a time.
+     *
+     * @param field the field name
+     * @return the new RangeIndex
+     */
+    private RangeIndex buildRangeIndex(String field) {
+        int[] ids = new int[this.vehicles.size()];
+        double[] keys = new double[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Vehicle v = this.vehicles.get(i);
+            ids[i] = v.getID();
+            keys[i] = getRangeValue(v, field);
+        }
+        return new RangeIndex(ids, keys);
+    }
+
+    /**
+     * Gets the number of Vehicles in the indexed inventory.
+     *
+     * @return the inventory size
+     */
+    public int size() {
+        return this.vehicles.size();
+    }
+
+    /**
+     * Indexes a Vehicle that entered the inventory.
+     *
+     * @param v the Vehicle to index
+     */
+    public void add(Vehicle v) {
+        validateVehicleNull(v);
+        for (String category : CATEGORIES) {
+            this.categoryIndexes.get(category).add(v.getID(), getCategoryValue(v, category));
+        }
+        refresh(v);
+    }
+
+    /**
+     * Re-reads a Vehicle's numeric fields after it changed in place, such as
+     * after a test drive added kilometerage and damage.
+     *
+     * @param v the Vehicle to re-index
+     */
+    public void refresh(Vehicle v) {
+        validateVehicleNull(v);
+        for (String field : RANGE_FIELDS) {
+            getRangeIndex(field).add(v.getID(), getRangeValue(v, field));
+        }
+    }
+
+    /**
+     * Removes a Vehicle that left the inventory.
+     *
+     * @param v the Vehicle to remove
+     */
+    public void remove(Vehicle v) {
+        validateVehicleNull(v);
+        for (String category : CATEGORIES) {
+            this.categoryIndexes.get(category).remove(v.getID(), getCategoryValue(v, category));
+        }
+        for (String field : RANGE_FIELDS) {
+            getRangeIndex(field).remove(v.getID());
+        }
+    }
+
+    /**
+     * Re-indexes a Vehicle whose data was replaced.
+     *
+     * @param oldVehicle the Vehicle as it was indexed
+     * @param newVehicle the Vehicle with updated data
+     */
+    public void update(Vehicle oldVehicle, Vehicle newVehicle) {
+        remove(oldVehicle);
+        add(newVehicle);
+    }
+
+    /**
+     * Checks if a filter can be answered from these indexes.
+     *
+     * @param criteria the filter to check
+     * @return true if the filter is backed by an index, false otherwise
+     */
+    public boolean supports(IFilter<Vehicle> criteria) {
+        if (criteria instanceof VehicleCategoryFilter) {
+            return true;
+        }
+        if (criteria instanceof VehicleRangeFilter) {
+            return Arrays.asList(RANGE_FIELDS).contains(((VehicleRangeFilter) criteria).getRangeField());
+        }
+        return false;
+    }
+
+    /**
+     * Gets the IDs of the Vehicles matching an indexed filter.
+     * Category matches come in ascending ID order, range matches come in
+     * ascending order of the ranged field.
+     *
+     * @param criteria a filter the index supports
+     * @return the matching IDs
+     */
+    public int[] lookup(IFilter<Vehicle> criteria) {
+        return lookup(criteria, true);
+    }
+
+    /**
+     * Gets the IDs of the Vehicles matching an indexed filter.
+     * Category matches always come in ascending ID order, range matches come
+     * ordered by the ranged field in the requested direction.
+     *
+     * @param criteria  a filter the index supports
+     * @param ascending the direction range matches are ordered in
+     * @return the matching IDs
+     */
+    public int[] lookup(IFilter<Vehicle> criteria, boolean ascending) {
+        if (!supports(criteria)) {
+            throw new IllegalArgumentException("Filter is not backed by an index.");
+        }
+        if (criteria instanceof VehicleRangeFilter) {
+            VehicleRangeFilter filter = (VehicleRangeFilter) criteria;
+            return getRangeIndex(filter.getRangeField()).slice(filter.getMin(), filter.getMax(), ascending);
+        }
+        VehicleCategoryFilter filter = (VehicleCategoryFilter) criteria;
+        return getCategoryIndex(filter.getCategory()).lookup(filter.getCriteria());
+    }
+
+    /**
+     * Counts the Vehicles matching an indexed filter without collecting them.
+     *
+     * @param criteria a filter the index supports
+     * @return the number of matching Vehicles
+     */
+    public int count(IFilter<Vehicle> criteria) {
+        if (!supports(criteria)) {
+            throw new IllegalArgumentException("Filter is not backed by an index.");
+        }
+        if (criteria instanceof VehicleRangeFilter) {
+            VehicleRangeFilter filter = (VehicleRangeFilter) criteria;
+            return getRangeIndex(filter.getRangeField()).count(filter.getMin(), filter.getMax());
+        }
+        VehicleCategoryFilter filter = (VehicleCategoryFilter) criteria;
+        return getCategoryIndex(filter.getCategory()).count(filter.getCriteria());
+    }
+
+    /**
+     * Gets every distinct value of a category currently in inventory.
+     *
+     * @param category the category name (type, make, color, drive, trans)
+     * @return the distinct values, sorted alphabetically
+     */
+    public List<String> getCategoryValues(String category) {
+        return getCategoryIndex(category).getValues();
+    }
+
+    /**
+     * Gets the CategoryIndex for a category.
+     *
+     * @param category the category name
+     * @return the CategoryIndex
+     */
+    public CategoryIndex getCategoryIndex(String category) {
+        CategoryIndex index = this.categoryIndexes.get(category);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown category: " + category);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the RangeIndex for a numeric field.
+     * Rebuilds the price index first if the pricing year has changed. The
+     * rebuild reads the inventory, so the caller must keep it from changing,
+     * holding at least VehicleManager's read lock.
+     *
+     * @param field the field name (year, kilo, price)
+     * @return the RangeIndex
+     */
+    public RangeIndex getRangeIndex(String field) {
+        if (field.equals("price")) {
+            return getPriceIndex();
+        }
+        RangeIndex index = this.rangeIndexes.get(field);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown range field: " + field);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the price index for the current pricing year. One thread rebuilds
+     * it when the year has moved, the others wait for it and share the
+     * result.
+     *
+     * @return the price RangeIndex
+     */
+    private RangeIndex getPriceIndex() {
+        long epoch = PricingClock.currentEpoch();
+        PriceIndex current = this.priceIndex;
+        if (current.epoch == epoch) {
+            return current.index;
+        }
+        synchronized (this.priceLock) {
+            current = this.priceIndex;
+            if (current.epoch != epoch) {
+                current = new PriceIndex(epoch, buildRangeIndex("price"));
+                this.priceIndex = current;
+            }
+            return current.index;
+        }
+    }
+
+    /**
+     * Reads a Vehicle's value for an indexed numeric field.
+     *
+     * @param v     the Vehicle to read
+     * @param field the field name
+     * @return the Vehicle's value for the field
+     */
+    public static double getRangeValue(Vehicle v, String field) {
+        switch (field) {
+            case "year":
+                return v.getYear();
+            case "kilo":
+                return v.getKilometerage();
+            case "price":
+                return v.calculateTotalPrice();
+            default:
+                throw new IllegalArgumentException("Unknown range field: " + field);
+        }
+    }
+
+    /**
+     * Reads a Vehicle's value for a category.
+     *
+     * @param v        the Vehicle to read
+     * @param category the category name
+     * @return the Vehicle's value for the category
+     */
+    public static String getCategoryValue(Vehicle v, String category) {
+        switch (category) {
+            case "type":
+                return v.getType();
+            case "make":
+                return v.getMake();
+            case "color":
+                return v.getColor();
+            case "drive":
+                return v.getDriveType();
+            case "trans":
+                return v.getTransmission();
+            default:
+                throw new IllegalArgumentException("Unknown category: " + category);
+        }
+    }
+
+    private void validateVehicleNull(Vehicle v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+    }
+
+    /**
+     * The price index together with the pricing year it was built for.
+     */
+    private static final class PriceIndex {
+        private final long epoch;
+        private final RangeIndex index;
+
+        PriceIndex(long epoch, RangeIndex index) {
+            this.epoch = epoch;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Sorted, duplicate free list of the Vehicle IDs a CategoryIndex holds under
+ * one value. The IDs live in a primitive array kept in ascending order, so
+ * adding and removing binary search for their slot and never box. IDs are
+ * usually added in ascending order while loading, which appends.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import java.util.Arrays;
+
+class PostingList {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private int[] ids;
+    private int size;
+
+    /**
+     * PostingList Constructor
+     * Creates an empty list.
+     */
+    PostingList() {
+        this.ids = new int[DEFAULT_CAPACITY];
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Adds an ID, keeping the list sorted.
+     *
+     * @param id the Vehicle ID
+     */
+    void add(int id) {
+        int pos = Arrays.binarySearch(this.ids, 0, this.size, id);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (this.size == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.size * 2);
+        }
+        System.arraycopy(this.ids, pos, this.ids, pos + 1, this.size - pos);
+        this.ids[pos] = id;
+        this.size++;
+    }
+
+    /**
+     * Removes an ID if present.
+     *
+     * @param id the Vehicle ID
+     */
+    void remove(int id) {
+        int pos = Arrays.binarySearch(this.ids, 0, this.size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(this.ids, pos + 1, this.ids, pos, this.size - pos - 1);
+        this.size--;
+    }
+
+    /**
+     * Copies the IDs out.
+     *
+     * @return the IDs in ascending order
+     */
+    int[] toArray() {
+        return Arrays.copyOf(this.ids, this.size);
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Plans composite Vehicle queries against the InventoryIndex.
+ * Estimates how selective each filter is from the index counts, reorders
+ * AND / OR children so the checks most likely to decide the result cheaply
+ * run first, and picks candidate IDs from the most selective indexed filter
+ * so only those Vehicles are checked instead of the whole inventory.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import java.util.*;
+
+import usedcardealership.business.filter.*;
+import usedcardealership.data.vehicle.*;
+
+public class QueryPlanner {
+    // Assumed fraction of Vehicles matching a filter no index can count
+    private static final double DEFAULT_SELECTIVITY = 0.5;
+
+    private final InventoryIndex index;
+
+    /**
+     * QueryPlanner Constructor
+     *
+     * @param index the indexes to plan against
+     */
+    public QueryPlanner(InventoryIndex index) {
+        if (index == null) {
+            throw new IllegalArgumentException("Inventory index cannot be null.");
+        }
+        this.index = index;
+    }
+
+    /**
+     * Estimates the fraction of the inventory a filter matches.
+     * Indexed filters are counted exactly, composite filters assume their
+     * children are independent.
+     *
+     * @param criteria the filter to estimate
+     * @return the estimated fraction, between 0 and 1
+     */
+    public double estimateSelectivity(IFilter<Vehicle> criteria) {
+        int size = this.index.size();
+        if (size == 0) {
+            return 0.0;
+        }
+        if (this.index.supports(criteria)) {
+            return (double) this.index.count(criteria) / size;
+        }
+        if (criteria instanceof VehicleAndFilter) {
+            double selectivity = 1.0;
+            for (IFilter<Vehicle> filter : ((VehicleAndFilter) criteria).getFilters()) {
+                selectivity *= estimateSelectivity(filter);
+            }
+            return selectivity;
+        }
+        if (criteria instanceof VehicleOrFilter) {
+            double missed = 1.0;
+            for (IFilter<Vehicle> filter : ((VehicleOrFilter) criteria).getFilters()) {
+                missed *= 1.0 - estimateSelectivity(filter);
+            }
+            return 1.0 - missed;
+        }
+        if (criteria instanceof VehicleNotFilter) {
+            return 1.0 - estimateSelectivity(((VehicleNotFilter) criteria).getNegated());
+        }
+        return DEFAULT_SELECTIVITY;
+    }
+
+    /**
+     * Reorders the children of every AND / OR in the filter.
+     * An AND runs first the children that reject the most Vehicles per unit
+     * of cost, an OR runs first the children that accept the most.
+     *
+     * @param criteria the filter to optimize
+     * @return an equivalent filter with its checks reordered
+     */
+    public IFilter<Vehicle> optimize(IFilter<Vehicle> criteria) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null.");
+        }
+        if (criteria instanceof VehicleNotFilter) {
+            return new VehicleNotFilter(optimize(((VehicleNotFilter) criteria).getNegated()));
+        }
+        if (!(criteria instanceof VehicleCompositeFilter)) {
+            return criteria;
+        }
+        VehicleCompositeFilter composite = (VehicleCompositeFilter) criteria;
+        boolean isAnd = composite instanceof VehicleAndFilter;
+        List<IFilter<Vehicle>> children = new ArrayList<>();
+        Map<IFilter<Vehicle>, Double> ranks = new IdentityHashMap<>();
+        for (IFilter<Vehicle> child : composite.getFilters()) {
+            IFilter<Vehicle> optimized = optimize(child);
+            double selectivity = estimateSelectivity(optimized);
+            // Chance this child decides the result: a miss for AND, a hit for OR
+            double decides = isAnd ? 1.0 - selectivity : selectivity;
+            double cost = VehicleCompositeFilter.costOf(optimized);
+            ranks.put(optimized, decides <= 0.0 ? Double.MAX_VALUE : cost / decides);
+            children.add(optimized);
+        }
+        children.sort(Comparator.comparingDouble(ranks::get));
+        return composite.withFilters(children);
+    }
+
+    /**
+     * Gets the IDs of the only Vehicles that can match a filter, using the
+     * indexes. An AND takes the candidates of its most selective indexed
+     * child, an OR unions the candidates of its children.
+     *
+     * @param criteria the filter to plan
+     * @return the candidate IDs in ascending order, or null if the whole
+     *         inventory has to be scanned
+     */
+    public int[] candidates(IFilter<Vehicle> criteria) {
+        if (this.index.supports(criteria)) {
+            int[] ids = this.index.lookup(criteria);
+            if (criteria instanceof VehicleRangeFilter) {
+                // Range matches come ordered by their field, not by ID
+                Arrays.sort(ids);
+            }
+            return ids;
+        }
+        if (criteria instanceof VehicleAndFilter) {
+            IFilter<Vehicle> best = null;
+            int bestCount = Integer.MAX_VALUE;
+            for (IFilter<Vehicle> filter : ((VehicleAndFilter) criteria).getFilters()) {
+                int count = countCandidates(filter);
+                if (count >= 0 && count < bestCount) {
+                    best = filter;
+                    bestCount = count;
+                }
+            }
+            return best == null ? null : candidates(best);
+        }
+        if (criteria instanceof VehicleOrFilter) {
+            int[] union = new int[0];
+            for (IFilter<Vehicle> filter : ((VehicleOrFilter) criteria).getFilters()) {
+                int[] ids = candidates(filter);
+                if (ids == null) {
+                    return null;
+                }
+                union = union(union, ids);
+            }
+            return union;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the candidates candidates(criteria) would return without
+     * collecting them. ORs are counted as the sum of their children, which
+     * may overcount Vehicles matching several.
+     *
+     * @param criteria the filter to count
+     * @return the number of candidates, or -1 if the filter needs a scan
+     */
+    public int countCandidates(IFilter<Vehicle> criteria) {
+        if (this.index.supports(criteria)) {
+            return this.index.count(criteria);
+        }
+        if (criteria instanceof VehicleAndFilter) {
+            int best = -1;
+            for (IFilter<Vehicle> filter : ((VehicleAndFilter) criteria).getFilters()) {
+                int count = countCandidates(filter);
+                if (count >= 0 && (best < 0 || count < best)) {
+                    best = count;
+                }
+            }
+            return best;
+        }
+        if (criteria instanceof VehicleOrFilter) {
+            int total = 0;
+            for (IFilter<Vehicle> filter : ((VehicleOrFilter) criteria).getFilters()) {
+                int count = countCandidates(filter);
+                if (count < 0) {
+                    return -1;
+                }
+                total += count;
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    /**
+     * Merges two ascending ID arrays, dropping duplicates.
+     *
+     * @param a the first IDs
+     * @param b the second IDs
+     * @return the union in ascending order
+     */
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (n == 0 || result[n - 1] != next) {
+                result[n++] = next;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+}
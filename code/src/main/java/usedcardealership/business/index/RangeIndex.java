@@ -0,0 +1,261 @@
+/**
+ * Sorted index for one numeric Vehicle field.
+ * Entries are kept in parallel primitive arrays ordered by (key, id), so a
+ * range query binary searches both bounds and returns the slice between
+ * them already ordered by the field. The key each ID is held under is kept
+ * in an IdKeyMap, so finding an entry to replace or remove never boxes.
+ * Adding or removing an entry still shifts the arrays after it, which is
+ * a single block copy.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import java.util.*;
+
+public class RangeIndex {
+    private double[] keys;
+    private int[] ids;
+    private int size;
+    private final IdKeyMap keyById;
+
+    /**
+     * RangeIndex Constructor
+     * Creates an empty index.
+     */
+    public RangeIndex() {
+        this.keys = new double[16];
+        this.ids = new int[16];
+        this.keyById = new IdKeyMap(16);
+    }
+
+    /**
+     * RangeIndex Constructor
+     * Bulk builds the index from parallel arrays in O(n log n).
+     *
+     * @param ids  the Vehicle IDs
+     * @param keys the Vehicles' values for this field, same order as ids
+     */
+    public RangeIndex(int[] ids, double[] keys) {
+        if (ids == null || keys == null || ids.length != keys.length) {
+            throw new IllegalArgumentException("IDs and keys must be non-null and the same length.");
+        }
+        this.size = ids.length;
+        this.keys = Arrays.copyOf(keys, Math.max(16, this.size));
+        this.ids = Arrays.copyOf(ids, Math.max(16, this.size));
+        this.keyById = new IdKeyMap(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.keyById.put(ids[i], keys[i]);
+        }
+        sort(0, this.size - 1);
+    }
+
+    /**
+     * Gets the number of indexed IDs.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a Vehicle ID under the given key, replacing any previous entry for
+     * the ID.
+     *
+     * @param id  the Vehicle ID
+     * @param key the Vehicle's value for this field
+     */
+    public void add(int id, double key) {
+        if (this.keyById.containsId(id)) {
+            remove(id);
+        }
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.ids = Arrays.copyOf(this.ids, this.size * 2);
+        }
+        int pos = position(key, id);
+        System.arraycopy(this.keys, pos, this.keys, pos + 1, this.size - pos);
+        System.arraycopy(this.ids, pos, this.ids, pos + 1, this.size - pos);
+        this.keys[pos] = key;
+        this.ids[pos] = id;
+        this.size++;
+        this.keyById.put(id, key);
+    }
+
+    /**
+     * Removes the entry for a Vehicle ID.
+     * Uses the key the ID was indexed with, so it works even after the
+     * Vehicle's field has changed.
+     *
+     * @param id the Vehicle ID
+     */
+    public void remove(int id) {
+        if (!this.keyById.containsId(id)) {
+            return;
+        }
+        double key = this.keyById.get(id);
+        this.keyById.remove(id);
+        int pos = position(key, id);
+        System.arraycopy(this.keys, pos + 1, this.keys, pos, this.size - pos - 1);
+        System.arraycopy(this.ids, pos + 1, this.ids, pos, this.size - pos - 1);
+        this.size--;
+    }
+
+    /**
+     * Counts the entries with min <= key <= max.
+     *
+     * @param min the inclusive lower bound
+     * @param max the inclusive upper bound
+     * @return the number of entries in the range
+     */
+    public int count(double min, double max) {
+        if (min > max) {
+            return 0;
+        }
+        return upperBound(max) - lowerBound(min);
+    }
+
+    /**
+     * Gets the IDs with min <= key <= max ordered by key (ties by ID).
+     *
+     * @param min       the inclusive lower bound
+     * @param max       the inclusive upper bound
+     * @param ascending true for ascending key order, false for descending
+     * @return the matching IDs
+     */
+    public int[] slice(double min, double max, boolean ascending) {
+        if (min > max) {
+            return new int[0];
+        }
+        int from = lowerBound(min);
+        int to = upperBound(max);
+        int[] result = Arrays.copyOfRange(this.ids, from, to);
+        if (!ascending) {
+            for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+                int temp = result[i];
+                result[i] = result[j];
+                result[j] = temp;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Quicksorts entries low..high (inclusive) by (key, id), moving the key
+     * and ID arrays together.
+     *
+     * @param low  the first position to sort
+     * @param high the last position to sort
+     */
+    private void sort(int low, int high) {
+        while (high - low > 16) {
+            int mid = (low + high) >>> 1;
+            double pivotKey = this.keys[mid];
+            int pivotId = this.ids[mid];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(this.keys[i], this.ids[i], pivotKey, pivotId) < 0) {
+                    i++;
+                }
+                while (compare(this.keys[j], this.ids[j], pivotKey, pivotId) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            // Recurse into the smaller side to bound stack depth
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(this.keys[j], this.ids[j], this.keys[j - 1], this.ids[j - 1]) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+
+    private static int compare(double key1, int id1, double key2, int id2) {
+        int result = Double.compare(key1, key2);
+        return result != 0 ? result : Integer.compare(id1, id2);
+    }
+
+    private void swap(int i, int j) {
+        double tempKey = this.keys[i];
+        this.keys[i] = this.keys[j];
+        this.keys[j] = tempKey;
+        int tempId = this.ids[i];
+        this.ids[i] = this.ids[j];
+        this.ids[j] = tempId;
+    }
+
+    /**
+     * Finds the first position whose key is >= the given key.
+     *
+     * @param key the lower bound
+     * @return the position
+     */
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose key is > the given key.
+     *
+     * @param key the upper bound
+     * @return the position
+     */
+    private int upperBound(double key) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the position of (key, id) in the sort order.
+     *
+     * @param key the entry's key
+     * @param id  the entry's ID
+     * @return the position the entry is at, or would be inserted at
+     */
+    private int position(double key, int id) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.keys[mid] < key || (this.keys[mid] == key && this.ids[mid] < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
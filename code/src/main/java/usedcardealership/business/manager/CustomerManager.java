@@ -10,6 +10,7 @@
 package usedcardealership.business.manager;
 
 import java.util.*;
+import usedcardealership.data.ChangeTracker;
 import usedcardealership.data.customer.*;
 import usedcardealership.data.vehicle.*;
 import usedcardealership.interaction.*;
@@ -18,6 +19,7 @@ import usedcardealership.UsedCarDealership;
 public class CustomerManager {
 
     private List<Customer> customerList;
+    private ChangeTracker changeTracker;
 
     /**
      * Initializes the field customerList
@@ -25,10 +27,25 @@ public class CustomerManager {
      * @param customerList a List<Customer> with all customers
      */
     public CustomerManager(List<Customer> customerList) {
+        this(customerList, new ChangeTracker());
+    }
+
+    /**
+     * Initializes the field customerList, recording changes in the given
+     * tracker so only changed customers have to be saved
+     * 
+     * @param customerList  a List<Customer> with all customers
+     * @param changeTracker the tracker shared with the other managers
+     */
+    public CustomerManager(List<Customer> customerList, ChangeTracker changeTracker) {
         if (customerList == null) {
             throw new IllegalArgumentException("Customer list cannot be null.");
         }
+        if (changeTracker == null) {
+            throw new IllegalArgumentException("Change tracker cannot be null.");
+        }
         this.customerList = customerList;
+        this.changeTracker = changeTracker;
     }
 
     public List<Customer> getCustomers() {
@@ -45,9 +62,26 @@ public class CustomerManager {
         validateCustomerNull(customer);
         if (!this.customerList.contains(customer)) {
             this.customerList.add(customer);
+            this.changeTracker.markCustomer(customer);
         }
     }
 
+    /**
+     * Function updates the customerList List<Customer> to remove a Customer object
+     * The Customer's row is deleted on the next save
+     * 
+     * @param customer a Customer object
+     * @return boolean true if the Customer was in the list
+     */
+    public boolean removeCustomer(Customer customer) {
+        validateCustomerNull(customer);
+        if (!this.customerList.remove(customer)) {
+            return false;
+        }
+        this.changeTracker.markCustomerDeleted(customer.getID());
+        return true;
+    }
+
     /**
      * Function checks if the customerList List<Customer> contains a Customer object
      * 
@@ -70,6 +104,7 @@ public class CustomerManager {
         for (int i = 0; i < this.customerList.size(); i++) {
             if (this.customerList.get(i).equals(customer)) {
                 this.customerList.set(i, new Customer(customer));
+                this.changeTracker.markCustomer(this.customerList.get(i));
                 break;
             }
         }
@@ -115,8 +150,8 @@ public class CustomerManager {
     }
 
     /**
-     * Adds a vehicle to the shopping cart, removes it from available inventory,
-     * and provides options for further actions.
+     * Adds a vehicle to the shopping cart, reserving it so no other customer
+     * can buy it, and provides options for further actions.
      * 
      * @param dealer   the DealershipManager handling the dealership state.
      * @param vehicle  the Vehicle to be added to the shopping cart.
@@ -125,8 +160,12 @@ public class CustomerManager {
      */
     public static void addVehicleToCart(DealershipManager dealer, Vehicle vehicle, List<Vehicle> vehicles) {
         PrettyUtils.wipe();
+        if (dealer.getVehicleManager().reserveVehicle(vehicle.getID(), dealer.getCurrentCart()) == null) {
+            PrettyUtils.printRed("\nVehicle is no longer available.");
+            Prompter.promptEnter();
+            return;
+        }
         dealer.getCurrentCart().addVehicle(vehicle);
-        dealer.getVehicleManager().removeVehicle(vehicle);
         vehicles.remove(vehicle);
 
         PrettyUtils.printGreen("\nVehicle added to Shopping Cart");
@@ -247,11 +286,7 @@ public class CustomerManager {
         System.out.println("Enter the " + PrettyUtils.returnYellow("[ID]")
                 + " of the vehicle you would like to remove from your cart:");
         int vehicleIdToRemove = Prompter.promptInt();
-        for (Vehicle v : productsList) {
-            if (v.getID() == vehicleIdToRemove) {
-                dealer.getVehicleManager().addVehicle(v);
-            }
-        }
+        dealer.getVehicleManager().releaseVehicle(vehicleIdToRemove, dealer.getCurrentCart());
         boolean wasRemoved = dealer.getCurrentCart().removeVehicleById(vehicleIdToRemove);
 
         if (wasRemoved) {
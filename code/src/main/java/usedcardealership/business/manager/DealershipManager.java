@@ -7,6 +7,8 @@
 
 package usedcardealership.business.manager;
 
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.*;
 import usedcardealership.data.transaction.*;
 import usedcardealership.data.vehicle.*;
@@ -18,13 +20,14 @@ import java.util.*;
 
 public class DealershipManager {
     private String name;
-    private double accountBalance;
+    private long balanceCents;
     private TransactionManager transactionManager;
     private VehicleManager vehicleManager;
     private CustomerManager customerManager;
     private Customer currentCustomer;
     private ShoppingCart currentCart;
     private CouponManager couponManager;
+    private ChangeTracker changeTracker;
 
     /**
      * DealershipManager Constructor
@@ -58,10 +61,12 @@ public class DealershipManager {
             throw new IllegalArgumentException("Customers list cannot be null.");
         }
         this.name = name;
-        this.accountBalance = accountBalance;
-        this.transactionManager = new TransactionManager(transactions);
-        this.vehicleManager = new VehicleManager(inventory, database);
-        this.customerManager = new CustomerManager(customers);
+        this.balanceCents = Money.ofDollars(accountBalance);
+        // One tracker for all managers so a save writes every change together
+        this.changeTracker = new ChangeTracker();
+        this.transactionManager = new TransactionManager(transactions, this.changeTracker);
+        this.vehicleManager = new VehicleManager(inventory, database, this.changeTracker);
+        this.customerManager = new CustomerManager(customers, this.changeTracker);
         this.currentCart = new ShoppingCart();
         this.couponManager = new CouponManager(coupons);
     }
@@ -71,13 +76,21 @@ public class DealershipManager {
     }
 
     public double getBalance() {
-        return this.accountBalance;
+        return Money.toDollars(this.balanceCents);
+    }
+
+    public long getBalanceCents() {
+        return this.balanceCents;
     }
 
     public List<Customer> getCustomers() {
         return this.customerManager.getCustomers();
     }
 
+    public CustomerManager getCustomerManager() {
+        return this.customerManager;
+    }
+
     public TransactionManager getTransactionManager() {
         return this.transactionManager;
     }
@@ -102,16 +115,15 @@ public class DealershipManager {
         return this.couponManager;
     }
 
+    public ChangeTracker getChangeTracker() {
+        return this.changeTracker;
+    }
+
     public Vehicle getVehicleById(int vehicleId) {
         if (vehicleId <= 0) {
             throw new IllegalArgumentException("Vehicle ID must be a positive integer.");
         }
-        for (Vehicle v : this.getInventory()) {
-            if (v.getID() == vehicleId) {
-                return v;
-            }
-        }
-        return null;
+        return this.vehicleManager.getVehicleById(vehicleId);
     }
 
     /**
@@ -122,7 +134,7 @@ public class DealershipManager {
      *                      (negative or postive).
      */
     public void updateAccountBalance(double balanceChange) {
-        this.accountBalance += balanceChange;
+        this.balanceCents += Money.ofDollars(balanceChange);
     }
 
     public Customer getCurrentCustomer() {
@@ -138,7 +150,7 @@ public class DealershipManager {
 
     /**
      * Applies the filter to the dealership inventory using searchInventory
-     * Automatically sorts vehicle list by ID
+     * Vehicles come back sorted by ID from the inventory index
      * 
      * @param filterType the method we are filtering by
      * @param criteria   the user input criteria to pass into the filter
@@ -151,20 +163,15 @@ public class DealershipManager {
         }
         switch (filterType) {
             case "type":
-                return this.vehicleManager
-                        .sortVehiclesById(this.vehicleManager.searchInventory(new VehicleTypeFilter(criteria)));
+                return this.vehicleManager.searchInventory(new VehicleTypeFilter(criteria));
             case "make":
-                return this.vehicleManager
-                        .sortVehiclesById(this.vehicleManager.searchInventory(new VehicleMakeFilter(criteria)));
+                return this.vehicleManager.searchInventory(new VehicleMakeFilter(criteria));
             case "color":
-                return this.vehicleManager
-                        .sortVehiclesById(this.vehicleManager.searchInventory(new VehicleColorFilter(criteria)));
+                return this.vehicleManager.searchInventory(new VehicleColorFilter(criteria));
             case "drive":
-                return this.vehicleManager
-                        .sortVehiclesById(this.vehicleManager.searchInventory(new VehicleDriveFilter(criteria)));
+                return this.vehicleManager.searchInventory(new VehicleDriveFilter(criteria));
             case "trans":
-                return this.vehicleManager
-                        .sortVehiclesById(this.vehicleManager.searchInventory(new VehicleTransmissionFilter(criteria)));
+                return this.vehicleManager.searchInventory(new VehicleTransmissionFilter(criteria));
             default:
                 return new ArrayList<>();
         }
@@ -172,7 +179,7 @@ public class DealershipManager {
 
     /**
      * Applies the range filter to the dealership inventory using searchInventory
-     * Automatically sorts vehicle list by ID
+     * Vehicles come back sorted by the ranged field in ascending order
      * 
      * @param filterType the method we are filtering by
      * @param min        the user input min range
@@ -180,19 +187,33 @@ public class DealershipManager {
      * @return a list of Vehicles that are filter by the crtieria
      */
     public List<Vehicle> applyRangeFilter(String filterType, String min, String max) {
+        return applyRangeFilter(filterType, min, max, true);
+    }
+
+    /**
+     * Applies the range filter to the dealership inventory using searchInventory
+     * Answered from the inventory range indexes already sorted by that field
+     * 
+     * @param filterType the method we are filtering by
+     * @param min        the user input min range
+     * @param max        the user input max range
+     * @param ascending  true for ascending order, false for descending
+     * @return a list of Vehicles that are filter by the crtieria
+     */
+    public List<Vehicle> applyRangeFilter(String filterType, String min, String max, boolean ascending) {
         try {
             double minValue = Double.parseDouble(min);
             double maxValue = Double.parseDouble(max);
             switch (filterType) {
                 case "year":
-                    return this.vehicleManager.sortVehiclesById(this.vehicleManager
-                            .searchInventory(new VehicleYearRangeFilter(Integer.parseInt(min), Integer.parseInt(max))));
+                    return this.vehicleManager.searchInventory(
+                            new VehicleYearRangeFilter(Integer.parseInt(min), Integer.parseInt(max)), ascending);
                 case "price":
-                    return this.vehicleManager.sortVehiclesById(
-                            this.vehicleManager.searchInventory(new VehiclePriceRangeFilter(minValue, maxValue)));
+                    return this.vehicleManager.searchInventory(
+                            new VehiclePriceRangeFilter(minValue, maxValue), ascending);
                 case "kilo":
-                    return this.vehicleManager.sortVehiclesById(this.vehicleManager
-                            .searchInventory(new VehicleKilometerageRangeFilter(minValue, maxValue)));
+                    return this.vehicleManager.searchInventory(
+                            new VehicleKilometerageRangeFilter(minValue, maxValue), ascending);
                 default:
                     return new ArrayList<>();
             }
@@ -202,6 +223,110 @@ public class DealershipManager {
         }
     }
 
+    /**
+     * Applies a combined query to the dealership inventory using queryInventory
+     * Conditions are separated by `;` and written as `<filter type> <criteria>`,
+     * ranges as `<min>-<max>`, e.g. `make toyota; price 5000-20000; year 2015-2020`
+     * A vehicle must match every condition, prefix one with `not` to exclude it
+     * 
+     * @param query the user input query
+     * @return a list of Vehicles matching the query sorted by ID
+     */
+    public List<Vehicle> applyQuery(String query) {
+        if (query == null || query.trim().length() == 0) {
+            PrettyUtils.printRed("Invalid query");
+            return new ArrayList<>();
+        }
+        try {
+            return applyQuery(parseQuery(query));
+        } catch (IllegalArgumentException e) {
+            PrettyUtils.printRed(e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parses a combined query, written as for applyQuery(String), into a filter
+     * 
+     * @param query the query
+     * @return a VehicleAndFilter of the query's conditions
+     * @throws IllegalArgumentException if the query or a condition is invalid
+     */
+    public IFilter<Vehicle> parseQuery(String query) {
+        if (query == null || query.trim().length() == 0) {
+            throw new IllegalArgumentException("Query cannot be null or empty.");
+        }
+        List<IFilter<Vehicle>> filters = new ArrayList<>();
+        for (String condition : query.split(";")) {
+            String[] parts = condition.trim().split("\\s+", 2);
+            boolean negate = parts[0].equalsIgnoreCase("not") && parts.length == 2;
+            if (negate) {
+                parts = parts[1].trim().split("\\s+", 2);
+            }
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Missing criteria in `" + condition.trim() + "`.");
+            }
+            IFilter<Vehicle> filter = createFilter(parts[0].toLowerCase(), parts[1].trim());
+            filters.add(negate ? new VehicleNotFilter(filter) : filter);
+        }
+        return new VehicleAndFilter(filters);
+    }
+
+    /**
+     * Applies a combined filter to the dealership inventory using queryInventory
+     * 
+     * @param criteria the filter, possibly built from VehicleAndFilter,
+     *                 VehicleOrFilter and VehicleNotFilter
+     * @return a list of Vehicles matching the filter sorted by ID
+     */
+    public List<Vehicle> applyQuery(IFilter<Vehicle> criteria) {
+        return this.vehicleManager.queryInventory(criteria);
+    }
+
+    /**
+     * Creates the filter for a filter type
+     * 
+     * @param filterType the method we are filtering by
+     * @param criteria   the criteria, or `<min>-<max>` for range filters
+     * @return the filter
+     * @throws IllegalArgumentException if the type or criteria is invalid
+     */
+    public IFilter<Vehicle> createFilter(String filterType, String criteria) {
+        switch (filterType) {
+            case "type":
+                return new VehicleTypeFilter(criteria);
+            case "make":
+                return new VehicleMakeFilter(criteria);
+            case "color":
+                return new VehicleColorFilter(criteria);
+            case "drive":
+                return new VehicleDriveFilter(criteria);
+            case "trans":
+                return new VehicleTransmissionFilter(criteria);
+            case "year":
+            case "price":
+            case "kilo":
+                String[] range = criteria.split("-");
+                if (range.length != 2) {
+                    throw new IllegalArgumentException("Range must be written as `min-max`.");
+                }
+                try {
+                    String min = range[0].trim();
+                    String max = range[1].trim();
+                    if (filterType.equals("year")) {
+                        return new VehicleYearRangeFilter(Integer.parseInt(min), Integer.parseInt(max));
+                    } else if (filterType.equals("price")) {
+                        return new VehiclePriceRangeFilter(Double.parseDouble(min), Double.parseDouble(max));
+                    }
+                    return new VehicleKilometerageRangeFilter(Double.parseDouble(min), Double.parseDouble(max));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid range values. Please enter numeric values.");
+                }
+            default:
+                throw new IllegalArgumentException("Invalid filter type: " + filterType);
+        }
+    }
+
     /**
      * Processes a customer's vehicle sale to the dealership.
      * Handles the transaction, adds the vehicle to the dealership inventory,
@@ -210,23 +335,110 @@ public class DealershipManager {
      * @param vehicle         vehicle being sold by the customer
      * @param customer        customer selling the vehicle
      * @param transactionType type of transaction
+     * @return the Transaction created
      */
-    public void processCustomerVehicleTransaction(Vehicle vehicle, Customer customer, String transactionType) {
+    public Transaction processCustomerVehicleTransaction(Vehicle vehicle, Customer customer,
+            String transactionType) {
         if (vehicle == null || customer == null || transactionType == null || transactionType.length() == 0) {
             throw new IllegalArgumentException("Vehicle, customer, or transaction type cannot be null");
         }
         if (!customer.getVehicles().contains(vehicle) && transactionType == "purchase") {
             throw new IllegalArgumentException("Customer does not own the vehicle being sold.");
         }
-        this.getTransactionManager().handleTransaction(vehicle, customer, transactionType);
+        Transaction transaction;
+        // Locked like checkout, so a checkout's balance check holds until it has paid
+        synchronized (customer) {
+            transaction = transact(vehicle, customer, transactionType);
+        }
+        this.transactionManager.sync();
+        return transaction;
+    }
+
+    /**
+     * Handles a transaction and moves the vehicle, without waiting for the
+     * journal.
+     */
+    private Transaction transact(Vehicle vehicle, Customer customer, String transactionType) {
+        Transaction transaction = this.getTransactionManager().handleTransaction(vehicle, customer, transactionType);
+        updateCustomerAndInventory(vehicle, customer, transactionType);
+        return transaction;
+    }
+
+    /**
+     * Same as transact, at a price the caller fixed.
+     */
+    private Transaction transact(Vehicle vehicle, Customer customer, String transactionType, long priceCents) {
+        Transaction transaction = this.getTransactionManager().handleTransaction(vehicle, customer, transactionType,
+                priceCents);
         updateCustomerAndInventory(vehicle, customer, transactionType);
+        return transaction;
+    }
+
+    /**
+     * Sells a customer every vehicle in their shopping cart.
+     * The cart must hold a reservation on each vehicle, see
+     * VehicleManager.reserveVehicle. The customer is locked for the whole
+     * checkout so the balance checked is the balance paid from, and the
+     * cart's vehicles are claimed at once so no other cart can buy them.
+     * Each vehicle is priced once and charged that price, so a price change
+     * during checkout cannot fail it. If a sale still fails, the vehicles
+     * already sold leave the cart and the rest go back to the inventory,
+     * still reserved by the cart.
+     * 
+     * @param customer the customer buying
+     * @param cart     the customer's cart
+     * @return the Transaction for each vehicle, in cart order
+     * @throws IllegalStateException    if the cart is empty or does not hold
+     *                                  all of its vehicles anymore
+     * @throws IllegalArgumentException if the customer cannot afford the cart
+     */
+    public List<Transaction> checkout(Customer customer, ShoppingCart cart) {
+        if (customer == null || cart == null) {
+            throw new IllegalArgumentException("Customer and cart cannot be null.");
+        }
+        List<Transaction> receipt;
+        synchronized (customer) {
+            List<Vehicle> vehicles = new ArrayList<>(cart.getProductsList());
+            if (vehicles.isEmpty()) {
+                throw new IllegalStateException("Shopping cart is empty.");
+            }
+            long[] prices = new long[vehicles.size()];
+            long total = 0;
+            for (int i = 0; i < vehicles.size(); i++) {
+                prices[i] = vehicles.get(i).getTotalPriceCents();
+                total += prices[i];
+            }
+            if (customer.getBalanceCents() < total) {
+                throw new IllegalArgumentException("Insufficient balance for checkout.");
+            }
+            if (!this.vehicleManager.claimVehicles(vehicles, cart)) {
+                throw new IllegalStateException("A vehicle in the cart is no longer available.");
+            }
+            receipt = new ArrayList<>(vehicles.size());
+            try {
+                for (int i = 0; i < vehicles.size(); i++) {
+                    receipt.add(transact(vehicles.get(i), customer, "sale", prices[i]));
+                }
+            } finally {
+                if (receipt.size() < vehicles.size()) {
+                    for (Vehicle sold : vehicles.subList(0, receipt.size())) {
+                        cart.removeVehicleById(sold.getID());
+                    }
+                    this.vehicleManager.returnVehicles(vehicles.subList(receipt.size(), vehicles.size()), cart);
+                }
+            }
+            cart.emptyCart();
+        }
+        // One journal write for the whole cart, shared with other checkouts finishing now
+        this.transactionManager.sync();
+        return receipt;
     }
 
     public void updateCustomerAndInventory(Vehicle vehicle, Customer customer, String transactionType) {
         if (transactionType == "purchase") {
             this.getVehicleManager().addVehicle(vehicle);
         } else if (transactionType == "sale") {
-            this.getVehicleManager().removeVehicle(vehicle);
+            this.getVehicleManager().removeSoldVehicle(vehicle);
         }
     }
 
@@ -264,21 +476,20 @@ public class DealershipManager {
             return;
         }
         System.out.println("\nThe dealership offers you "
-                + PrettyUtils.returnYellow("$" + String.format("%.2f", vehicle.calculateTotalPrice()))
+                + PrettyUtils.returnYellow("$" + Money.format(vehicle.getTotalPriceCents()))
                 + " for the vehicle.");
 
         System.out.println("\nDo you accept this offer? " + PrettyUtils.returnYellow("(Y/N)") + ".");
         boolean confirmed = Prompter.promptYesNo();
         PrettyUtils.wipe();
         if (confirmed) {
-            dealer.processCustomerVehicleTransaction(vehicle, customer, "purchase");
-            List<Transaction> transactions = dealer.getTransactionManager().getTransactions();
+            Transaction transaction = dealer.processCustomerVehicleTransaction(vehicle, customer, "purchase");
 
             PrettyUtils.printGreen("Sale successful!");
             System.out.println("Updated Account Balance: "
-                    + PrettyUtils.returnYellow("$" + String.format("%.2f", customer.getAccountBalance())));
+                    + PrettyUtils.returnYellow("$" + Money.format(customer.getBalanceCents())));
             System.out.println(
-                    "\n" + PrettyUtils.returnYellow("Receipt:") + "\n" + transactions.get(transactions.size() - 1));
+                    "\n" + PrettyUtils.returnYellow("Receipt:") + "\n" + transaction);
         } else {
             PrettyUtils.printRed("Sale cancelled.");
         }
@@ -6,9 +6,15 @@
  */
 package usedcardealership.business.manager;
 
+import java.io.IOException;
 import java.util.*;
 import java.time.*;
+import usedcardealership.business.analytics.SalesRollups;
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.IdAllocator;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.*;
+import usedcardealership.data.filehandling.TransactionJournal;
 import usedcardealership.data.transaction.*;
 import usedcardealership.data.vehicle.*;
 import usedcardealership.data.coupons.*;
@@ -16,6 +22,11 @@ import usedcardealership.interaction.*;
 
 public class TransactionManager {
     private List<Transaction> transactionHistory;
+    private ChangeTracker changeTracker;
+    // Null when transactions are only saved at shutdown
+    private volatile TransactionJournal journal;
+    private volatile IdAllocator idAllocator;
+    private volatile SalesRollups salesRollups;
 
     /**
      * Constructor, Initializes the field transactionHistory
@@ -23,45 +34,160 @@ public class TransactionManager {
      * @param transactionHistory a List<Transaction>
      */
     public TransactionManager(List<Transaction> transactionHistory) {
+        this(transactionHistory, new ChangeTracker());
+    }
+
+    /**
+     * Constructor, Initializes the field transactionHistory and records new
+     * transactions and the customers they change in the given tracker
+     * 
+     * @param transactionHistory a List<Transaction>
+     * @param changeTracker      the tracker shared with the other managers
+     */
+    public TransactionManager(List<Transaction> transactionHistory, ChangeTracker changeTracker) {
         if (transactionHistory == null) {
             throw new IllegalArgumentException("Transaction history cannot be null.");
         }
+        if (changeTracker == null) {
+            throw new IllegalArgumentException("Change tracker cannot be null.");
+        }
         this.transactionHistory = transactionHistory;
+        this.changeTracker = changeTracker;
+        int highestId = 0;
+        for (Transaction transaction : transactionHistory) {
+            highestId = Math.max(highestId, transaction.getID());
+        }
+        this.idAllocator = new IdAllocator(highestId + 1);
+        this.salesRollups = SalesRollups.of(transactionHistory);
     }
 
     public List<Transaction> getTransactions() {
         return this.transactionHistory;
     }
 
+    public TransactionJournal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * Sets the journal every new transaction is written to
+     * 
+     * @param journal the journal, or null to stop journaling
+     */
+    public void setJournal(TransactionJournal journal) {
+        this.journal = journal;
+    }
+
+    public IdAllocator getIdAllocator() {
+        return this.idAllocator;
+    }
+
+    /**
+     * Sets the allocator new transactions get their ids from, in place of the
+     * one kept in memory that starts after the highest id in the history
+     * 
+     * @param idAllocator the allocator
+     */
+    public void setIdAllocator(IdAllocator idAllocator) {
+        if (idAllocator == null) {
+            throw new IllegalArgumentException("Id allocator cannot be null.");
+        }
+        this.idAllocator = idAllocator;
+    }
+
     /**
-     * Adds a transaction to the transaction history
+     * Gets the sales rollups, kept up to date as transactions are added
+     * 
+     * @return the rollups
+     */
+    public SalesRollups getSalesRollups() {
+        return this.salesRollups;
+    }
+
+    /**
+     * Rebuilds the sales rollups from the transaction history, e.g. after
+     * transactions were changed or removed in the history directly
+     */
+    public synchronized void rebuildSalesRollups() {
+        this.salesRollups = SalesRollups.of(this.transactionHistory);
+    }
+
+    /**
+     * Adds a transaction to the transaction history and the sales rollups,
+     * and to the journal if there is one. The journal record is only buffered, see sync.
      * 
      * @param transaction a Transaction object
      */
-    public void addTransaction(Transaction transaction) {
+    public synchronized void addTransaction(Transaction transaction) {
         if (transaction == null) {
             throw new IllegalArgumentException("Transaction cannot be null.");
         }
         this.transactionHistory.add(transaction);
+        this.changeTracker.addTransaction(transaction);
+        this.salesRollups.add(transaction);
+        TransactionJournal journal = this.journal;
+        if (journal != null) {
+            journal.append(transaction);
+        }
+    }
+
+    /**
+     * Waits until every transaction added so far is on disk. Called outside
+     * any lock, so transactions committed by several threads at once are
+     * written together.
+     * 
+     * @throws IllegalStateException if the journal cannot be written
+     */
+    public void sync() {
+        TransactionJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write the transaction journal: " + e.getMessage(), e);
+        }
     }
 
     /**
      * Handles a transaction for either purchasing or selling a vehicle.
      * Creates the appropriate transaction object (Purchase or Sale),
      * Updates the transaction history, and processes transaction adequatly.
+     * Synchronized so the history stays in id order.
      * 
      * @param vehicle         the Vehicle object involved in the transaction
      * @param customer        the Customer object involved in the transaction
      * @param transactionType the type of transaction, either "purchase" or "sale"
+     * @return the Transaction created
      * @throws IllegalArgumentException if the transactionType is invalid
      */
-    public void handleTransaction(Vehicle vehicle, Customer customer, String transactionType) {
+    public synchronized Transaction handleTransaction(Vehicle vehicle, Customer customer, String transactionType) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle, customer, and transaction type cannot be null.");
+        }
+        return handleTransaction(vehicle, customer, transactionType, vehicle.getTotalPriceCents());
+    }
+
+    /**
+     * Handles a transaction at a price the caller fixed, e.g. the price a
+     * checkout checked the customer's balance against.
+     * 
+     * @param vehicle         the Vehicle object involved in the transaction
+     * @param customer        the Customer object involved in the transaction
+     * @param transactionType the type of transaction, either "purchase" or "sale"
+     * @param priceCents      the price in cents
+     * @return the Transaction created
+     * @throws IllegalArgumentException if the transactionType is invalid
+     */
+    public synchronized Transaction handleTransaction(Vehicle vehicle, Customer customer, String transactionType,
+            long priceCents) {
         if (vehicle == null || customer == null || transactionType == null || transactionType.length() == 0) {
             throw new IllegalArgumentException("Vehicle, customer, and transaction type cannot be null.");
         }
-        int newId = transactionHistory.size() + 1;
+        int newId = this.idAllocator.next();
         LocalDate currentDate = LocalDate.now();
-        double price = vehicle.calculateTotalPrice();
+        double price = Money.toDollars(priceCents);
 
         Transaction transaction;
         if ("purchase".equalsIgnoreCase(transactionType)) {
@@ -72,8 +198,10 @@ public class TransactionManager {
             throw new IllegalArgumentException("Invalid transaction type: " + transactionType);
         }
 
-        addTransaction(transaction);
+        // Processed first, so a failed transaction is never recorded and the journal gets the new balance
         processTransaction(transaction, customer);
+        addTransaction(transaction);
+        return transaction;
     }
 
     /**
@@ -109,8 +237,10 @@ public class TransactionManager {
         if (!customer.getVehicles().contains(vehicle)) {
             throw new IllegalArgumentException("Customer does not own the vehicle being sold");
         }
-        customer.updateAccountBalance(customer.getAccountBalance() + purchase.getPrice());
+        // Credit the purchase price, adding the balance again would double it
+        customer.updateBalanceCents(purchase.getPriceCents());
         customer.getVehicles().remove(vehicle);
+        this.changeTracker.markCustomer(customer);
     }
 
     /**
@@ -125,16 +255,17 @@ public class TransactionManager {
      */
     private void processSale(Sale sale, Customer customer) {
         Vehicle vehicle = sale.getVehicle();
-        double price = sale.getPrice();
+        long priceCents = sale.getPriceCents();
 
         // Check if the customer has enough balance
-        if (customer.getAccountBalance() < price) {
+        if (customer.getBalanceCents() < priceCents) {
             throw new IllegalArgumentException("Insufficient balance for the sale.");
         }
 
         // Deduct the price and add the vehicle to the customer's list
-        customer.updateAccountBalance(-1 * price);
+        customer.updateBalanceCents(-1 * priceCents);
         customer.getVehicles().add(vehicle);
+        this.changeTracker.markCustomer(customer);
     }
 
     /**
@@ -148,8 +279,8 @@ public class TransactionManager {
      */
     public static void checkoutLogic(DealershipManager dealer, List<Vehicle> productsList) {
         Customer customer = dealer.getCurrentCustomer();
-        double allVehiclesPrice = 0;
-        double customerAccountBalance = customer.getAccountBalance();
+        long allVehiclesCents = 0;
+        long customerBalanceCents = customer.getBalanceCents();
     
         if (productsList == null || productsList.isEmpty() || customer == null) {
             PrettyUtils.printRed("Error: Vehicle list or Customer not found!");
@@ -160,7 +291,7 @@ public class TransactionManager {
             // Possible coupon is generated
             Coupon coupon = dealer.getCouponManager().possibleCoupon();
             Prompter.promptEnter();
-            double vehiclePrice = v.calculateTotalPrice();
+            long vehicleCents = v.getTotalPriceCents();
     
             if (coupon != null) {
                 System.out.println(PrettyUtils.returnGreen("Lucky you, you got a coupon: " + coupon.getCode() + "!!"));
@@ -171,11 +302,11 @@ public class TransactionManager {
                     try {
                         // Apply the coupon to the vehicle price
                         PrettyUtils.wipe();
-                        double discountedPrice = vehiclePrice-coupon.getDiscount();
+                        long discountedCents = coupon.applyCouponCents(vehicleCents);
                         System.out.println(PrettyUtils.returnGreen("Coupon applied! Original Price: $" +
-                                String.format("%.2f", vehiclePrice) + " -> Discounted Price: $" +
-                                String.format("%.2f", discountedPrice)));
-                        vehiclePrice = discountedPrice;
+                                Money.format(vehicleCents) + " -> Discounted Price: $" +
+                                Money.format(discountedCents)));
+                        vehicleCents = discountedCents;
                     } catch (Exception e) {
                         PrettyUtils.printRed("Error applying coupon: " + e.getMessage());
                     }
@@ -184,15 +315,15 @@ public class TransactionManager {
     
             // Output vehicle info and accumulate price
             System.out.println(v);
-            allVehiclesPrice += vehiclePrice;
+            allVehiclesCents += vehicleCents;
         }
     
         // Output total price and account balance
-        System.out.println(PrettyUtils.returnCyan("Total: $" + String.format("%.2f", allVehiclesPrice)));
+        System.out.println(PrettyUtils.returnCyan("Total: $" + Money.format(allVehiclesCents)));
         System.out.println(PrettyUtils.returnCyan("Your account balance: ") + 
-            (customerAccountBalance > allVehiclesPrice
-                ? PrettyUtils.returnGreen("$" + String.format("%.2f", customerAccountBalance))
-                : PrettyUtils.returnRed("$" + String.format("%.2f", customerAccountBalance))));
+            (customerBalanceCents > allVehiclesCents
+                ? PrettyUtils.returnGreen("$" + Money.format(customerBalanceCents))
+                : PrettyUtils.returnRed("$" + Money.format(customerBalanceCents))));
     
         // Ask if they want to finalize the purchase
         System.out.println(PrettyUtils.returnYellow("Finalize your purchase? (Y/N)"));
@@ -200,17 +331,23 @@ public class TransactionManager {
         PrettyUtils.wipe();
     
         if (confirmed) {
+            // Claims the whole cart or nothing, another customer may have bought a vehicle meanwhile
+            List<Transaction> transactions;
+            try {
+                transactions = dealer.checkout(customer, dealer.getCurrentCart());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                PrettyUtils.printRed(e.getMessage());
+                return;
+            }
             String receipt = PrettyUtils.returnYellow("Receipt:");
-            for (Vehicle vehicle : productsList) {
-                dealer.processCustomerVehicleTransaction(vehicle, customer, "sale");
-                List<Transaction> transactions = dealer.getTransactionManager().getTransactions();
+            for (Transaction transaction : transactions) {
+                Vehicle vehicle = transaction.getVehicle();
                 System.out.println(PrettyUtils.returnCyan("Congrats") + " on your new " + 
                         PrettyUtils.returnCyan(vehicle.getMake() + " " + vehicle.getModel()) + "!");
-                receipt += "\n" + transactions.get(transactions.size() - 1);
+                receipt += "\n" + transaction;
             }
     
-            System.out.println("Updated Account Balance: $" + String.format("%.2f", customer.getAccountBalance()));
-            dealer.getCurrentCart().emptyCart();
+            System.out.println("Updated Account Balance: $" + Money.format(customer.getBalanceCents()));
             viewReceipt(receipt);
         } else {
             PrettyUtils.printRed("Sale cancelled.");
@@ -8,36 +8,80 @@
 package usedcardealership.business.manager;
 
 import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import usedcardealership.business.analytics.VehicleColumns;
 import usedcardealership.business.comparators.*;
 import usedcardealership.business.filter.*;
+import usedcardealership.business.index.InventoryIndex;
+import usedcardealership.business.index.QueryPlanner;
+import usedcardealership.business.paging.*;
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.customer.ShoppingCart;
 import usedcardealership.data.filehandling.VehicleFileHandler;
 import usedcardealership.data.vehicle.*;
 import usedcardealership.interaction.PrettyUtils;
 import usedcardealership.interaction.Prompter;
 
 public class VehicleManager {
-    private List<Vehicle> inventory;
-    private List<Vehicle> database;
+    private IndexedVehicleList inventory;
+    private IndexedVehicleList database;
+    private InventoryIndex inventoryIndex;
+    private QueryPlanner queryPlanner;
+    private ChangeTracker changeTracker;
+    // Vehicles shown per page when listing them in the console
+    private static final int PAGE_SIZE = 20;
+    // Searches share the read lock, changes to the lists and indexes take the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final VehicleReservations reservations = new VehicleReservations();
+    // Built on first use, dropped whenever the inventory changes
+    private volatile VehicleColumns inventoryColumns;
 
     /**
      * VehicleManager Constructor
      * Initializes the dealership's inventory and database of vehicles.
+     * Both lists are indexed by vehicle ID, changes made through the manager
+     * are written through to the given lists. The inventory also gets
+     * secondary indexes for the categorical and range filters.
      * 
      * @param inventory list of vehicles dealership currently has in inventory.
      * @param database  list of vehicles dealership has seen before.
      */
     public VehicleManager(List<Vehicle> inventory, List<Vehicle> database) {
+        this(inventory, database, new ChangeTracker());
+    }
+
+    /**
+     * VehicleManager Constructor
+     * Same as above, recording every change in the given tracker so only
+     * changed vehicles have to be saved.
+     * 
+     * @param inventory     list of vehicles dealership currently has in inventory.
+     * @param database      list of vehicles dealership has seen before.
+     * @param changeTracker the tracker shared with the other managers.
+     */
+    public VehicleManager(List<Vehicle> inventory, List<Vehicle> database, ChangeTracker changeTracker) {
         if (inventory == null) {
             throw new IllegalArgumentException("Inventory list cannot be null.");
         }
         if (database == null) {
             throw new IllegalArgumentException("Database list cannot be null.");
         }
-        this.inventory = inventory;
-        this.database = database;
+        if (changeTracker == null) {
+            throw new IllegalArgumentException("Change tracker cannot be null.");
+        }
+        this.changeTracker = changeTracker;
+        this.inventory = IndexedVehicleList.of(inventory);
+        this.database = IndexedVehicleList.of(database);
+        this.inventoryIndex = new InventoryIndex(this.inventory);
+        this.queryPlanner = new QueryPlanner(this.inventoryIndex);
     }
 
+    /**
+     * Gets the live inventory list. It is not locked, so only read it while
+     * no other thread is changing the inventory, e.g. when saving on exit.
+     */
     public List<Vehicle> getInventory() {
         return this.inventory;
     }
@@ -56,12 +100,12 @@ public class VehicleManager {
         if (vehicleId <= 0) {
             throw new IllegalArgumentException("vehicleId must be positive integer.");
         } else {
-            for (Vehicle v : this.inventory) {
-                if (v.getID() == vehicleId) {
-                    return v;
-                }
+            this.lock.readLock().lock();
+            try {
+                return this.inventory.getById(vehicleId);
+            } finally {
+                this.lock.readLock().unlock();
             }
-            return null;
         }
     }
 
@@ -79,32 +123,344 @@ public class VehicleManager {
      */
     public void addVehicle(Vehicle v) {
         validateVehicleNull(v);
-        if (!inventory.contains(v)) {
-            inventory.add(v);
-        }
-        if (!database.contains(v)) {
-            database.add(v);
+        this.lock.writeLock().lock();
+        try {
+            if (!inventory.containsId(v.getID())) {
+                inventory.add(v);
+                inventoryIndex.add(v);
+                inventoryColumns = null;
+                changeTracker.markInventoryChanged();
+            }
+            if (!database.containsId(v.getID())) {
+                database.add(v);
+                changeTracker.markVehicle(v);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
         }
     }
 
     /**
      * Method that removes a vehicle from the dealership's inventory.
+     * The vehicle's row is deleted on the next save, see removeSoldVehicle
+     * for a vehicle a customer bought.
      * 
      * @param v the vehicle that is being removed.
      */
     public void removeVehicle(Vehicle v) {
         validateVehicleNull(v);
-        inventory.remove(v);
+        this.lock.writeLock().lock();
+        try {
+            removeFromInventory(v.getID());
+            changeTracker.markVehicleDeleted(v.getID());
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method that removes a vehicle a customer bought from the dealership's
+     * inventory. The customer owns it now, so its row is kept.
+     * 
+     * @param v the vehicle that was sold.
+     */
+    public void removeSoldVehicle(Vehicle v) {
+        validateVehicleNull(v);
+        this.lock.writeLock().lock();
+        try {
+            removeFromInventory(v.getID());
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a vehicle from the inventory and its indexes, the write lock
+     * must be held.
+     * 
+     * @param vehicleId the id of the vehicle to remove
+     */
+    private void removeFromInventory(int vehicleId) {
+        Vehicle removed = inventory.removeById(vehicleId);
+        if (removed != null) {
+            inventoryIndex.remove(removed);
+            inventoryColumns = null;
+            changeTracker.markInventoryChanged();
+        }
+    }
+
+    /**
+     * Reserves a vehicle in the inventory for a shopping cart. A reserved
+     * vehicle stays in the inventory but is left out of searches and cannot
+     * be reserved by another cart until it is released.
+     * 
+     * @param vehicleId the id of the vehicle to reserve
+     * @param cart      the cart reserving it
+     * @return the vehicle, or null if it is not in the inventory or another
+     *         cart holds it
+     */
+    public Vehicle reserveVehicle(int vehicleId, ShoppingCart cart) {
+        // The read lock keeps the vehicle from being removed between the check and the reservation
+        this.lock.readLock().lock();
+        try {
+            Vehicle v = this.inventory.getById(vehicleId);
+            if (v == null || !this.reservations.reserve(vehicleId, cart)) {
+                return null;
+            }
+            return v;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases a vehicle a shopping cart reserved, making it available again.
+     * 
+     * @param vehicleId the id of the vehicle to release
+     * @param cart      the cart holding it
+     * @return true if the cart held the vehicle
+     */
+    public boolean releaseVehicle(int vehicleId, ShoppingCart cart) {
+        return this.reservations.release(vehicleId, cart);
+    }
+
+    /**
+     * Checks whether a vehicle is reserved by a shopping cart.
+     * 
+     * @param vehicleId the id of the vehicle
+     * @return true if a cart holds the vehicle
+     */
+    public boolean isReserved(int vehicleId) {
+        return this.reservations.isReserved(vehicleId);
+    }
+
+    /**
+     * Claims every vehicle a shopping cart reserved and takes them out of the
+     * inventory, all or nothing. No vehicle can be claimed by two carts, so
+     * no vehicle is sold twice.
+     * 
+     * @param vehicles the vehicles in the cart
+     * @param cart     the cart that reserved them
+     * @return true if every vehicle was claimed, false if the cart does not
+     *         hold one of them or one has left the inventory, in which case
+     *         nothing changes
+     */
+    public boolean claimVehicles(List<Vehicle> vehicles, ShoppingCart cart) {
+        validateListVehiclesNull(vehicles);
+        if (!this.reservations.claimAll(vehicles, cart)) {
+            return false;
+        }
+        this.lock.writeLock().lock();
+        try {
+            for (Vehicle v : vehicles) {
+                if (!this.inventory.containsId(v.getID())) {
+                    this.reservations.unclaim(vehicles, cart);
+                    return false;
+                }
+            }
+            for (Vehicle v : vehicles) {
+                removeFromInventory(v.getID());
+                this.reservations.clearClaim(v.getID());
+            }
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts claimed vehicles back in the inventory, reserved by the cart that
+     * claimed them, when a checkout fails before selling them.
+     * 
+     * @param vehicles the vehicles claimed and not sold
+     * @param cart     the cart that claimed them
+     */
+    public void returnVehicles(List<Vehicle> vehicles, ShoppingCart cart) {
+        validateListVehiclesNull(vehicles);
+        this.lock.writeLock().lock();
+        try {
+            for (Vehicle v : vehicles) {
+                if (!this.inventory.containsId(v.getID())) {
+                    this.inventory.add(v);
+                    this.inventoryIndex.add(v);
+                    this.inventoryColumns = null;
+                    this.changeTracker.markInventoryChanged();
+                }
+                this.reservations.reserve(v.getID(), cart);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Leaves reserved vehicles out of search results.
+     * 
+     * @param vehicles the vehicles found
+     * @return the same list without the reserved vehicles
+     */
+    private List<Vehicle> withoutReserved(List<Vehicle> vehicles) {
+        if (!this.reservations.isEmpty()) {
+            vehicles.removeIf(v -> this.reservations.isReserved(v.getID()));
+        }
+        return vehicles;
     }
 
     /**
      * Method that searches for vehicles in the inventory based on criteria.
+     * Filters backed by an inventory index are answered from the index.
      * 
      * @param criteria a IFilter sub-type object to determine filtering criteria.
      * @return List<Vehicle> list of filtered vehicles based on criteria input.
      */
     public List<Vehicle> searchInventory(IFilter<Vehicle> criteria) {
-        return searchList(criteria, this.inventory);
+        return searchInventory(criteria, true);
+    }
+
+    /**
+     * Method that searches for vehicles in the inventory based on criteria.
+     * Indexed category filters return vehicles sorted by ID, indexed range
+     * filters return vehicles sorted by the ranged field in the given order.
+     * Unindexed filters return vehicles in inventory order. Vehicles the
+     * index returns are checked against the filter again, in case one was
+     * changed without going through the manager.
+     * 
+     * @param criteria  a IFilter sub-type object to determine filtering criteria.
+     * @param ascending true for ascending order, false for descending
+     * @return List<Vehicle> list of filtered vehicles based on criteria input.
+     */
+    public List<Vehicle> searchInventory(IFilter<Vehicle> criteria, boolean ascending) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null.");
+        }
+        this.lock.readLock().lock();
+        try {
+            if (this.inventoryIndex.supports(criteria)) {
+                return withoutReserved(getInventoryByIds(this.inventoryIndex.lookup(criteria, ascending), criteria));
+            }
+            return withoutReserved(searchList(criteria, this.inventory));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method that runs a query, possibly combining several filters with
+     * VehicleAndFilter, VehicleOrFilter and VehicleNotFilter, over the
+     * inventory. The checks are reordered by estimated selectivity and cost,
+     * and when an index covers part of the query only the vehicles it
+     * returns are checked.
+     * 
+     * @param criteria the query to run
+     * @return List<Vehicle> the matching vehicles sorted by ID
+     */
+    public List<Vehicle> queryInventory(IFilter<Vehicle> criteria) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null.");
+        }
+        this.lock.readLock().lock();
+        try {
+            IFilter<Vehicle> plan = this.queryPlanner.optimize(criteria);
+            int[] candidates = this.queryPlanner.candidates(plan);
+            if (candidates == null) {
+                return withoutReserved(sortVehiclesById(searchList(plan, this.inventory)));
+            }
+            List<Vehicle> result = new ArrayList<>();
+            for (int id : candidates) {
+                Vehicle v = this.inventory.getById(id);
+                if (v != null && plan.filter(v)) {
+                    result.add(v);
+                }
+            }
+            return withoutReserved(result);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a column store snapshot of the inventory for analytics, such as
+     * the inventory's value or the average price by make. The snapshot is
+     * shared until the inventory changes or the pricing year moves, so it
+     * must not be modified. Reserved vehicles are still in the inventory and
+     * are counted.
+     * 
+     * @return VehicleColumns the inventory's columns
+     */
+    public VehicleColumns getInventoryColumns() {
+        VehicleColumns columns = this.inventoryColumns;
+        if (columns != null && columns.getPriceEpoch() == PricingClock.currentEpoch()) {
+            return columns;
+        }
+        this.lock.readLock().lock();
+        try {
+            columns = VehicleColumns.of(this.inventory);
+            // A change waits for the read lock, so this snapshot is current until then
+            this.inventoryColumns = columns;
+            return columns;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets one page of the inventory, or of the vehicles matching a query,
+     * in the pager's order. Only one page's worth of vehicles is ever
+     * sorted, reserved vehicles are left out.
+     * 
+     * @param criteria the query to run, null for the whole inventory
+     * @param pager    the order to list vehicles in
+     * @param after    the previous page's cursor, null for the first page
+     * @param pageSize the number of vehicles on a page
+     * @return VehiclePage the page
+     */
+    public VehiclePage pageInventory(IFilter<Vehicle> criteria, VehiclePager pager, Vehicle after, int pageSize) {
+        if (pager == null) {
+            throw new IllegalArgumentException("Pager cannot be null.");
+        }
+        if (criteria != null) {
+            return pager.page(queryInventory(criteria), after, pageSize);
+        }
+        this.lock.readLock().lock();
+        try {
+            return pager.page(this.inventory, v -> !this.reservations.isReserved(v.getID()), after, pageSize);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves inventory vehicle ids into the vehicles still matching the
+     * criteria, keeping the ids' order.
+     * 
+     * @param ids      the ids of vehicles in the inventory
+     * @param criteria the filter the vehicles must still pass
+     * @return List<Vehicle> the matching vehicles with the given ids
+     */
+    private List<Vehicle> getInventoryByIds(int[] ids, IFilter<Vehicle> criteria) {
+        List<Vehicle> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Vehicle v = this.inventory.getById(id);
+            if (v != null && criteria.filter(v)) {
+                result.add(v);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets every distinct value of a category in the inventory.
+     * 
+     * @param category the category to list (type, make, color, drive, trans)
+     * @return the distinct values sorted alphabetically
+     */
+    public List<String> getAvailableCriteria(String category) {
+        this.lock.readLock().lock();
+        try {
+            return this.inventoryIndex.getCategoryValues(category);
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     /**
@@ -114,7 +470,12 @@ public class VehicleManager {
      * @return List<Vehicle> list of filtered vehicles based on criteria input.
      */
     public List<Vehicle> searchDatabase(IFilter<Vehicle> criteria) {
-        return searchList(criteria, this.database);
+        this.lock.readLock().lock();
+        try {
+            return searchList(criteria, this.database);
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     /**
@@ -136,6 +497,53 @@ public class VehicleManager {
         return result;
     }
 
+    /**
+     * Test drives a vehicle in the inventory and re-indexes the kilometerage
+     * it picked up.
+     * 
+     * @param vehicleId the id of the vehicle to test drive
+     */
+    public void testDriveVehicle(int vehicleId) {
+        testDriveVehicle(vehicleId, true);
+    }
+
+    /**
+     * Test drives a vehicle in the inventory and re-indexes the kilometerage
+     * it picked up.
+     * 
+     * @param vehicleId the id of the vehicle to test drive
+     * @param verbose   true to print how the drive went
+     * @throws IllegalArgumentException if the vehicle is not in the inventory
+     *                                  or a shopping cart holds it
+     */
+    public void testDriveVehicle(int vehicleId, boolean verbose) {
+        if (vehicleId <= 0) {
+            throw new IllegalArgumentException("vehicleId must be positive integer.");
+        }
+        TestDriveOutcome outcome;
+        this.lock.writeLock().lock();
+        try {
+            Vehicle v = this.inventory.getById(vehicleId);
+            if (v == null) {
+                throw new IllegalArgumentException("Vehicle is not in inventory.");
+            }
+            // A reserved vehicle's price must not change under its cart
+            if (this.reservations.isReserved(vehicleId)) {
+                throw new IllegalArgumentException("Vehicle is reserved by another customer.");
+            }
+            outcome = v.testDrive(RandomSource.get().generator());
+            inventoryIndex.refresh(v);
+            inventoryColumns = null;
+            changeTracker.markVehicle(v);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        // Print after unlocking, other threads should not wait on the console
+        if (verbose) {
+            outcome.print();
+        }
+    }
+
     /**
      * Method that allows us to update a vehicles mutable fields in Lists
      * 
@@ -143,8 +551,24 @@ public class VehicleManager {
      */
     public void updateVehicle(Vehicle v) {
         validateVehicleNull(v);
-        updateVehicleInList(inventory, v);
-        updateVehicleInList(database, v);
+        this.lock.writeLock().lock();
+        try {
+            Vehicle oldVehicle = inventory.getById(v.getID());
+            updateVehicleInList(inventory, v);
+            updateVehicleInList(database, v);
+            if (oldVehicle != null) {
+                inventoryIndex.update(oldVehicle, inventory.getById(v.getID()));
+                inventoryColumns = null;
+            }
+            // Save the copy now in the lists, the database copy if there is one
+            Vehicle updated = database.containsId(v.getID()) ? database.getById(v.getID())
+                    : inventory.getById(v.getID());
+            if (updated != null) {
+                changeTracker.markVehicle(updated);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -152,29 +576,29 @@ public class VehicleManager {
      * 
      * @param updatedVehicle the vehicle with updated data.
      */
-    private void updateVehicleInList(List<Vehicle> vehicleList, Vehicle updatedVehicle) {
+    private void updateVehicleInList(IndexedVehicleList vehicleList, Vehicle updatedVehicle) {
         validateListVehiclesNull(vehicleList);
         validateVehicleNull(updatedVehicle);
-        for (int i = 0; i < vehicleList.size(); i++) {
-            if (vehicleList.get(i).equals(updatedVehicle)) {
-                // Check the type of updatedVehicle and call correct copy constructor
-                if (updatedVehicle instanceof Car) {
-                    vehicleList.set(i, new Car((Car) updatedVehicle));
-                } else if (updatedVehicle instanceof SUV) {
-                    vehicleList.set(i, new SUV((SUV) updatedVehicle));
-                } else if (updatedVehicle instanceof Van) {
-                    vehicleList.set(i, new Van((Van) updatedVehicle));
-                } else if (updatedVehicle instanceof PickupTruck) {
-                    vehicleList.set(i, new PickupTruck((PickupTruck) updatedVehicle));
-                } else if (updatedVehicle instanceof Motorcycle) {
-                    vehicleList.set(i, new Motorcycle((Motorcycle) updatedVehicle));
-                } else if (updatedVehicle instanceof RV) {
-                    vehicleList.set(i, new RV((RV) updatedVehicle));
-                } else {
-                    throw new IllegalArgumentException("Unsupported vehicle type.");
-                }
-                break;
-            }
+        // Found through the id index, -1 if the id is not in this list
+        int i = vehicleList.indexOf(updatedVehicle);
+        if (i < 0) {
+            return;
+        }
+        // Check the type of updatedVehicle and call correct copy constructor
+        if (updatedVehicle instanceof Car) {
+            vehicleList.set(i, new Car((Car) updatedVehicle));
+        } else if (updatedVehicle instanceof SUV) {
+            vehicleList.set(i, new SUV((SUV) updatedVehicle));
+        } else if (updatedVehicle instanceof Van) {
+            vehicleList.set(i, new Van((Van) updatedVehicle));
+        } else if (updatedVehicle instanceof PickupTruck) {
+            vehicleList.set(i, new PickupTruck((PickupTruck) updatedVehicle));
+        } else if (updatedVehicle instanceof Motorcycle) {
+            vehicleList.set(i, new Motorcycle((Motorcycle) updatedVehicle));
+        } else if (updatedVehicle instanceof RV) {
+            vehicleList.set(i, new RV((RV) updatedVehicle));
+        } else {
+            throw new IllegalArgumentException("Unsupported vehicle type.");
         }
     }
 
@@ -222,6 +646,7 @@ public class VehicleManager {
 
     /**
      * Initilizes a VehicleFileLoader and loads from file path
+     * Large files are parsed in parallel, small ones on this thread
      * 
      * @param filePath the file path to load from
      * @return a list of vehicles loaded from file
@@ -229,7 +654,7 @@ public class VehicleManager {
     public static List<Vehicle> initializeListVehicle(String filePath) {
         try {
             VehicleFileHandler vehicleLoader = new VehicleFileHandler(filePath);
-            return vehicleLoader.load();
+            return vehicleLoader.loadParallel();
         } catch (Exception e) {
             PrettyUtils.printRed("Error loading vehicles from file: " + filePath);
             PrettyUtils.printRed(e.getMessage());
@@ -245,34 +670,16 @@ public class VehicleManager {
      * @param filterType the method we are filtering by
      */
     public static void displayAvailableCriteria(DealershipManager dealership, String filterType) {
-        // Create String hash set for unique values only
-        HashSet<String> criteriaSet = new HashSet<>();
         // Depending on filterType, print unique values to choose from
+        List<String> sortedCriteria;
         switch (filterType) {
             case "type":
-                for (Vehicle v : dealership.getInventory()) {
-                    criteriaSet.add(v.getType());
-                }
-                break;
             case "make":
-                for (Vehicle v : dealership.getInventory()) {
-                    criteriaSet.add(v.getMake());
-                }
-                break;
             case "color":
-                for (Vehicle v : dealership.getInventory()) {
-                    criteriaSet.add(v.getColor());
-                }
-                break;
             case "drive":
-                for (Vehicle v : dealership.getInventory()) {
-                    criteriaSet.add(v.getDriveType());
-                }
-                break;
             case "trans":
-                for (Vehicle v : dealership.getInventory()) {
-                    criteriaSet.add(v.getTransmission());
-                }
+                // Unique values come sorted from the inventory index
+                sortedCriteria = dealership.getVehicleManager().getAvailableCriteria(filterType);
                 break;
             default:
                 PrettyUtils.printRed("No available criteria to display for this filter.");
@@ -280,14 +687,10 @@ public class VehicleManager {
                 return;
         }
         // If there are no options to choose from print warning
-        if (criteriaSet.size() == 0) {
+        if (sortedCriteria.size() == 0) {
             PrettyUtils.printRed("No options available.");
             Prompter.promptEnter();
         } else {
-            // Convert HashSet to List for sorting
-            List<String> sortedCriteria = new ArrayList<>(criteriaSet);
-            // Sort alphabetically
-            Collections.sort(sortedCriteria);
             PrettyUtils.printYellow("Available options:");
             for (String criteria : sortedCriteria) {
                 System.out.println("- " + criteria);
@@ -297,17 +700,35 @@ public class VehicleManager {
 
     /**
      * Allows customer to select vehicle from list by ID
+     * Shows one page of vehicles at a time, in the list's order until a sort
+     * is chosen. Sorting picks each page from the list instead of sorting it.
      * 
      * @param dealership the DealershipManager object
      * @param vehicles   the list of vehicles to select from
      */
     public static void selectVehiclesFromList(DealershipManager dealership, List<Vehicle> vehicles) {
         boolean inPage = true;
+        VehiclePager pager = null;
+        // The cursor each page up to the current one starts after, null for the first
+        List<Vehicle> cursors = new ArrayList<>();
+        cursors.add(null);
         while (inPage) {
             PrettyUtils.wipe();
-            for (Vehicle v : vehicles) {
+            int pageIndex = cursors.size() - 1;
+            VehiclePage page;
+            if (pager == null) {
+                int start = Math.min(pageIndex * PAGE_SIZE, vehicles.size());
+                int end = Math.min(start + PAGE_SIZE, vehicles.size());
+                page = new VehiclePage(new ArrayList<>(vehicles.subList(start, end)), end < vehicles.size());
+            } else {
+                page = pager.page(vehicles, cursors.get(pageIndex), PAGE_SIZE);
+            }
+            for (Vehicle v : page.getVehicles()) {
                 System.out.println(v);
             }
+            int pageCount = Math.max(1, (vehicles.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+            System.out.println(PrettyUtils.returnCyan("Page " + (pageIndex + 1) + " of " + pageCount) + " ("
+                    + vehicles.size() + " vehicles)\n");
             // Print out prompt and get user input for sorting
             System.out.println(Prompter.getPrompt("id-sort"));
             String input = Prompter.promptString();
@@ -318,6 +739,24 @@ public class VehicleManager {
             } else {
                 input = input.trim().toLowerCase();
             }
+            if (input.equals("next") || input.equals("n")) {
+                if (page.hasNext()) {
+                    cursors.add(pager == null ? null : page.getCursor());
+                } else {
+                    PrettyUtils.printRed("\nThis is the last page.");
+                    Prompter.promptEnter();
+                }
+                continue;
+            }
+            if (input.equals("prev") || input.equals("p")) {
+                if (pageIndex > 0) {
+                    cursors.remove(pageIndex);
+                } else {
+                    PrettyUtils.printRed("\nThis is the first page.");
+                    Prompter.promptEnter();
+                }
+                continue;
+            }
             try {
                 // Check if input is numeric (assumes it's a vehicle ID)
                 int vehicleID = Integer.parseInt(input);
@@ -334,30 +773,15 @@ public class VehicleManager {
                 String sortType = sortingInfo[0];
                 // Default to ascending if no "desc"
                 boolean ascending = sortingInfo.length < 2 || !sortingInfo[1].equals("desc");
-                switch (sortType) {
-                    case "id":
-                        dealership.getVehicleManager().sortVehicles(vehicles, new VehicleIdCompare(), ascending);
-                        System.out.println("\nSorting by ID " + (ascending ? "ascending." : "descending."));
-                        break;
-                    case "price":
-                        dealership.getVehicleManager().sortVehicles(vehicles, new VehiclePriceCompare(), ascending);
-                        System.out.println("\nSorting by Price " + (ascending ? "ascending." : "descending."));
-                        break;
-                    case "year":
-                        dealership.getVehicleManager().sortVehicles(vehicles, new VehicleYearCompare(), ascending);
-                        System.out.println("\nSorting by Year " + (ascending ? "ascending." : "descending."));
-                        break;
-                    case "kilometrage":
-                        dealership.getVehicleManager().sortVehicles(vehicles, new VehicleKilometerageCompare(),
-                                ascending);
-                        System.out.println("\nSorting by Kilometrage " + (ascending ? "ascending." : "descending."));
-                        break;
-                    case "damage":
-                        dealership.getVehicleManager().sortVehicles(vehicles, new VehicleDamageCompare(), ascending);
-                        System.out.println("\nSorting by Damage " + (ascending ? "ascending." : "descending."));
-                        break;
-                    default:
-                        PrettyUtils.printRed("\nInvalid option. Please enter a valid vehicle ID or sorting type.");
+                try {
+                    pager = new VehiclePager(VehicleCompare.forSortType(sortType), ascending);
+                    // A new order starts again from the first page
+                    cursors.subList(1, cursors.size()).clear();
+                    String label = sortType.equals("id") ? "ID"
+                            : Character.toUpperCase(sortType.charAt(0)) + sortType.substring(1);
+                    System.out.println("\nSorting by " + label + " " + (ascending ? "ascending." : "descending."));
+                } catch (IllegalArgumentException ex) {
+                    PrettyUtils.printRed("\nInvalid option. Please enter a valid vehicle ID or sorting type.");
                 }
                 Prompter.promptEnter();
             }
@@ -391,7 +815,7 @@ public class VehicleManager {
                 case 1:
                     if (testDriveCount < 1) {
                         try {
-                            dealership.getVehicleManager().getVehicleById(vehicleId).testDrive();
+                            dealership.getVehicleManager().testDriveVehicle(vehicleId);
                             Prompter.promptEnter();
                             testDriveCount++;
                         } catch (IllegalArgumentException e) {
@@ -0,0 +1,133 @@
+/**
+ * Keeps track of which ShoppingCart holds each inventory Vehicle.
+ * A Vehicle can be held by one cart at a time. Reserving and releasing are
+ * single compare-and-set operations on a ConcurrentHashMap keyed by vehicle
+ * ID, so carts in different threads never wait on each other unless they
+ * want the same Vehicle.
+ * At checkout a cart claims all of its Vehicles at once: every reservation
+ * is swapped for a claim mark that no other cart can reserve or release,
+ * and if any of them is not held by the cart the claims already made are
+ * swapped back, so the cart gets all of its Vehicles or none.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.manager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import usedcardealership.data.customer.ShoppingCart;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class VehicleReservations {
+    // Held by a Vehicle between its cart's claim and its removal from inventory
+    private static final Object CLAIMED = new Object();
+
+    private final ConcurrentHashMap<Integer, Object> holders = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves a Vehicle for a cart.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @param cart      the cart reserving it
+     * @return true if the Vehicle was free and is now held by the cart
+     */
+    public boolean reserve(int vehicleId, ShoppingCart cart) {
+        validateCartNull(cart);
+        return this.holders.putIfAbsent(vehicleId, cart) == null;
+    }
+
+    /**
+     * Releases a Vehicle a cart reserved.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @param cart      the cart holding it
+     * @return true if the cart held the Vehicle
+     */
+    public boolean release(int vehicleId, ShoppingCart cart) {
+        validateCartNull(cart);
+        return this.holders.remove(vehicleId, cart);
+    }
+
+    /**
+     * Checks whether a Vehicle is reserved or claimed by any cart.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @return true if the Vehicle is held
+     */
+    public boolean isReserved(int vehicleId) {
+        return this.holders.containsKey(vehicleId);
+    }
+
+    /**
+     * Checks whether a cart holds a Vehicle.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @param cart      the cart
+     * @return true if the cart reserved the Vehicle and has not claimed it
+     */
+    public boolean isReservedBy(int vehicleId, ShoppingCart cart) {
+        return cart != null && this.holders.get(vehicleId) == cart;
+    }
+
+    /**
+     * Returns true if no Vehicle is held.
+     */
+    public boolean isEmpty() {
+        return this.holders.isEmpty();
+    }
+
+    /**
+     * Claims every Vehicle of a cart, all or nothing.
+     *
+     * @param vehicles the Vehicles to claim
+     * @param cart     the cart that reserved them
+     * @return true if the cart held every Vehicle and has now claimed them,
+     *         false if it did not, in which case nothing is claimed
+     */
+    public boolean claimAll(List<Vehicle> vehicles, ShoppingCart cart) {
+        validateCartNull(cart);
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        for (int i = 0; i < vehicles.size(); i++) {
+            if (!this.holders.replace(vehicles.get(i).getID(), cart, CLAIMED)) {
+                unclaim(vehicles.subList(0, i), cart);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gives claimed Vehicles back to the cart that claimed them.
+     * Only the cart that claimed a Vehicle can hold its claim, so the
+     * Vehicles must be ones this cart just claimed.
+     *
+     * @param vehicles the claimed Vehicles
+     * @param cart     the cart that claimed them
+     */
+    public void unclaim(List<Vehicle> vehicles, ShoppingCart cart) {
+        validateCartNull(cart);
+        for (Vehicle vehicle : vehicles) {
+            this.holders.replace(vehicle.getID(), CLAIMED, cart);
+        }
+    }
+
+    /**
+     * Forgets the claim on a Vehicle once it has left the inventory.
+     *
+     * @param vehicleId the Vehicle's ID
+     */
+    public void clearClaim(int vehicleId) {
+        this.holders.remove(vehicleId, CLAIMED);
+    }
+
+    private void validateCartNull(ShoppingCart cart) {
+        if (cart == null) {
+            throw new IllegalArgumentException("Shopping cart cannot be null.");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * One page of a sorted Vehicle listing.
+ * The last Vehicle on the page is the cursor for the next one: pass it to
+ * VehiclePager.page as the Vehicle to start after.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.paging;
+
+import java.util.*;
+
+import usedcardealership.data.vehicle.Vehicle;
+
+public class VehiclePage {
+    private final List<Vehicle> vehicles;
+    private final boolean hasNext;
+
+    /**
+     * VehiclePage Constructor
+     *
+     * @param vehicles the Vehicles on the page, in order
+     * @param hasNext  true if more Vehicles come after the page
+     */
+    public VehiclePage(List<Vehicle> vehicles, boolean hasNext) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        this.vehicles = Collections.unmodifiableList(vehicles);
+        this.hasNext = hasNext;
+    }
+
+    public List<Vehicle> getVehicles() {
+        return this.vehicles;
+    }
+
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    /**
+     * Gets the cursor for the next page.
+     *
+     * @return the last Vehicle on the page, or null if there is no next page
+     */
+    public Vehicle getCursor() {
+        return this.hasNext ? this.vehicles.get(this.vehicles.size() - 1) : null;
+    }
+}
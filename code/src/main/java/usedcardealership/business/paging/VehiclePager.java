@@ -0,0 +1,135 @@
+/**
+ * Sorted, paged views of Vehicle lists without sorting the whole list.
+ * The top K Vehicles in an order are picked with a bounded heap holding at
+ * most K of them, so the 20 cheapest of a million Vehicles cost O(n log 20)
+ * and the list itself is left as it was. Pages are found by keyset: the
+ * next page is the top K of the Vehicles that come after the previous
+ * page's last Vehicle, so no offset is counted and a page stays correct
+ * when Vehicles before it are sold. Ties are broken by ID so every Vehicle
+ * has exactly one place in the order.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.paging;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import usedcardealership.business.comparators.VehicleIdCompare;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class VehiclePager {
+    private final Comparator<Vehicle> order;
+
+    /**
+     * VehiclePager Constructor
+     *
+     * @param comparator the order to list Vehicles in
+     * @param ascending  true for ascending order, false for descending
+     */
+    public VehiclePager(Comparator<Vehicle> comparator, boolean ascending) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null.");
+        }
+        Comparator<Vehicle> direction = ascending ? comparator : comparator.reversed();
+        this.order = direction.thenComparing(new VehicleIdCompare());
+    }
+
+    /**
+     * Gets the order Vehicles are listed in, ties broken by ID.
+     *
+     * @return the comparator
+     */
+    public Comparator<Vehicle> getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Picks the first k Vehicles in order.
+     *
+     * @param vehicles the Vehicles to pick from, left unchanged
+     * @param k        the number of Vehicles to pick
+     * @return up to k Vehicles, sorted
+     */
+    public List<Vehicle> topK(List<Vehicle> vehicles, int k) {
+        return select(vehicles, null, null, k);
+    }
+
+    /**
+     * Gets a page of Vehicles.
+     *
+     * @param vehicles the Vehicles to list, left unchanged
+     * @param after    the previous page's cursor, or null for the first page
+     * @param pageSize the number of Vehicles on a page
+     * @return the page
+     */
+    public VehiclePage page(List<Vehicle> vehicles, Vehicle after, int pageSize) {
+        return page(vehicles, null, after, pageSize);
+    }
+
+    /**
+     * Gets a page of the Vehicles that pass a check.
+     *
+     * @param vehicles the Vehicles to list, left unchanged
+     * @param include  which Vehicles to list, null for all of them
+     * @param after    the previous page's cursor, or null for the first page
+     * @param pageSize the number of Vehicles on a page
+     * @return the page
+     */
+    public VehiclePage page(List<Vehicle> vehicles, Predicate<Vehicle> include, Vehicle after, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        // One extra tells whether there is a next page
+        List<Vehicle> selected = select(vehicles, include, after, pageSize + 1);
+        boolean hasNext = selected.size() > pageSize;
+        if (hasNext) {
+            selected.remove(pageSize);
+        }
+        return new VehiclePage(selected, hasNext);
+    }
+
+    /**
+     * Keeps the first k Vehicles after the cursor in a heap whose root is
+     * the last of them, replacing the root whenever an earlier one turns up.
+     */
+    private List<Vehicle> select(List<Vehicle> vehicles, Predicate<Vehicle> include, Vehicle after, int k) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative.");
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Vehicle> heap = new PriorityQueue<>(Math.min(k, Math.max(1, vehicles.size())),
+                this.order.reversed());
+        for (Vehicle v : vehicles) {
+            if (v == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null.");
+            }
+            if (after != null && this.order.compare(v, after) <= 0) {
+                continue;
+            }
+            if (heap.size() == k && this.order.compare(v, heap.peek()) >= 0) {
+                continue;
+            }
+            if (include != null && !include.test(v)) {
+                continue;
+            }
+            if (heap.size() == k) {
+                heap.poll();
+            }
+            heap.add(v);
+        }
+        List<Vehicle> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
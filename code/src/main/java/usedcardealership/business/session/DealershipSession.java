@@ -0,0 +1,185 @@
+/**
+ * A non-interactive shopping session for one Customer at a dealership.
+ * Offers the flows of the console menus (searching, test driving, filling a
+ * cart, checking out and selling a vehicle) as plain method calls that
+ * return results and throw on failure instead of prompting, so they can be
+ * driven by scripts and load tests.
+ * Any number of sessions can share one dealership from different threads.
+ * Adding a Vehicle to the cart reserves it without locking anything else,
+ * and checking out claims the whole cart at once, so two sessions can never
+ * buy the same Vehicle. Calls that change the Customer lock the Customer.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import java.util.*;
+
+import usedcardealership.business.manager.*;
+import usedcardealership.data.customer.*;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+
+public class DealershipSession {
+    private final DealershipManager dealer;
+    private final Customer customer;
+    private final ShoppingCart cart;
+
+    /**
+     * DealershipSession Constructor
+     *
+     * @param dealer   the dealership to shop at
+     * @param customer the Customer shopping
+     */
+    public DealershipSession(DealershipManager dealer, Customer customer) {
+        if (dealer == null) {
+            throw new IllegalArgumentException("Dealership cannot be null.");
+        }
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null.");
+        }
+        this.dealer = dealer;
+        this.customer = customer;
+        this.cart = new ShoppingCart();
+    }
+
+    public Customer getCustomer() {
+        return this.customer;
+    }
+
+    /**
+     * Gets the Vehicles in the cart.
+     *
+     * @return a copy of the cart's Vehicles
+     */
+    public synchronized List<Vehicle> getCart() {
+        return new ArrayList<>(this.cart.getProductsList());
+    }
+
+    /**
+     * Gets the Vehicles the Customer owns.
+     *
+     * @return a copy of the Customer's Vehicles
+     */
+    public List<Vehicle> getOwnedVehicles() {
+        synchronized (this.customer) {
+            return new ArrayList<>(this.customer.getVehicles());
+        }
+    }
+
+    /**
+     * Searches the inventory with one filter.
+     * Vehicles reserved by a cart are left out.
+     *
+     * @param filterType type, make, color, drive, trans, year, price or kilo
+     * @param criteria   the value to match, or `min-max` for year, price and kilo
+     * @return the matching Vehicles
+     * @throws IllegalArgumentException if the filter type or criteria is invalid
+     */
+    public List<Vehicle> search(String filterType, String criteria) {
+        if (filterType == null || criteria == null) {
+            throw new IllegalArgumentException("Filter type and criteria cannot be null.");
+        }
+        return this.dealer.getVehicleManager()
+                .searchInventory(this.dealer.createFilter(filterType.toLowerCase(), criteria.trim()));
+    }
+
+    /**
+     * Searches the inventory with a combined query, e.g.
+     * `make toyota; price 5000-20000; not color red`.
+     * Vehicles reserved by a cart are left out.
+     *
+     * @param query the query
+     * @return the matching Vehicles sorted by ID
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    public List<Vehicle> query(String query) {
+        return this.dealer.applyQuery(this.dealer.parseQuery(query));
+    }
+
+    /**
+     * Test drives a Vehicle in the inventory.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @throws IllegalArgumentException if the Vehicle is not in the inventory
+     *                                  or is reserved
+     */
+    public void testDrive(int vehicleId) {
+        this.dealer.getVehicleManager().testDriveVehicle(vehicleId, false);
+    }
+
+    /**
+     * Reserves a Vehicle in the inventory and puts it in the cart, so no
+     * other session can take it.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @return the Vehicle added
+     * @throws IllegalArgumentException if the Vehicle is not in the inventory
+     *                                  or another cart holds it
+     */
+    public synchronized Vehicle addToCart(int vehicleId) {
+        Vehicle vehicle = this.dealer.getVehicleManager().reserveVehicle(vehicleId, this.cart);
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle " + vehicleId + " is not available.");
+        }
+        this.cart.addVehicle(vehicle);
+        return vehicle;
+    }
+
+    /**
+     * Takes a Vehicle out of the cart and releases it.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @return true if the Vehicle was in the cart
+     */
+    public synchronized boolean removeFromCart(int vehicleId) {
+        if (!this.cart.removeVehicleById(vehicleId)) {
+            return false;
+        }
+        this.dealer.getVehicleManager().releaseVehicle(vehicleId, this.cart);
+        return true;
+    }
+
+    /**
+     * Buys every Vehicle in the cart.
+     * Either the whole cart is bought or, if the Customer cannot afford it,
+     * nothing is and the cart is left as it was.
+     *
+     * @return the Transaction for each Vehicle, in cart order
+     * @throws IllegalStateException    if the cart is empty
+     * @throws IllegalArgumentException if the Customer cannot afford the cart
+     */
+    public synchronized List<Transaction> checkout() {
+        return this.dealer.checkout(this.customer, this.cart);
+    }
+
+    /**
+     * Sells one of the Customer's Vehicles to the dealership at its current
+     * price.
+     *
+     * @param vehicleId the Vehicle's ID
+     * @return the Transaction
+     * @throws IllegalArgumentException if the Customer does not own the Vehicle
+     */
+    public Transaction sellVehicle(int vehicleId) {
+        synchronized (this.customer) {
+            Vehicle vehicle = this.customer.getVehicleById(vehicleId);
+            if (vehicle == null) {
+                throw new IllegalArgumentException("Customer does not own vehicle " + vehicleId + ".");
+            }
+            return this.dealer.processCustomerVehicleTransaction(vehicle, this.customer, "purchase");
+        }
+    }
+
+    /**
+     * Ends the session, releasing anything left in the cart.
+     */
+    public synchronized void close() {
+        for (Vehicle vehicle : this.cart.getProductsList()) {
+            this.dealer.getVehicleManager().releaseVehicle(vehicle.getID(), this.cart);
+        }
+        this.cart.emptyCart();
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * A replayable list of steps every scripted session runs, one per line:
+ *
+ * <pre>
+ * # browse, pick something and buy it
+ * search make toyota
+ * query price 5000-30000; not color red
+ * testdrive random
+ * add random
+ * remove random
+ * checkout
+ * sell random
+ * </pre>
+ *
+ * `search` and `query` take the same filters as the console menus. The
+ * vehicle steps take an ID, or `random` for a random Vehicle from the last
+ * search (testdrive, add), the cart (remove) or the Customer's own
+ * Vehicles (sell). Blank lines and lines starting with # are skipped.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+public class SessionScript {
+    private static final Set<String> OPERATIONS = new HashSet<>(
+            Arrays.asList("search", "query", "testdrive", "add", "remove", "checkout", "sell"));
+
+    private final List<Step> steps;
+
+    /**
+     * SessionScript Constructor
+     *
+     * @param lines the script, one step per line
+     * @throws IllegalArgumentException if a line is not a valid step
+     */
+    public SessionScript(List<String> lines) {
+        if (lines == null) {
+            throw new IllegalArgumentException("Script lines cannot be null.");
+        }
+        List<Step> parsed = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+", 2);
+            String operation = parts[0].toLowerCase();
+            String argument = parts.length > 1 ? parts[1].trim() : "";
+            if (!OPERATIONS.contains(operation)) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": unknown step `" + parts[0] + "`.");
+            }
+            if (operation.equals("checkout") != argument.isEmpty()) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": "
+                        + (argument.isEmpty() ? "`" + operation + "` needs an argument." : "`checkout` takes none."));
+            }
+            if (operation.equals("search") && argument.split("\\s+", 2).length < 2) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": `search` needs a filter type and criteria.");
+            }
+            if (isVehicleStep(operation) && !argument.equalsIgnoreCase("random") && !argument.matches("\\d+")) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": expected a vehicle ID or `random`.");
+            }
+            parsed.add(new Step(operation, argument));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("Script has no steps.");
+        }
+        this.steps = Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Reads a script from a file.
+     *
+     * @param file the script file
+     * @return the script
+     * @throws IOException if the file cannot be read
+     */
+    public static SessionScript load(Path file) throws IOException {
+        return new SessionScript(Files.readAllLines(file));
+    }
+
+    public List<Step> getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Runs every step on a session.
+     * A step that fails, e.g. adding a Vehicle another session took first,
+     * is reported to the listener and the script carries on.
+     *
+     * @param session  the session to drive
+     * @param random   where random picks come from
+     * @param listener told how long each step took and whether it failed
+     */
+    public void run(DealershipSession session, Random random, StepListener listener) {
+        List<Vehicle> lastSearch = new ArrayList<>();
+        for (Step step : this.steps) {
+            long start = System.nanoTime();
+            boolean failed = false;
+            try {
+                List<Vehicle> found = step.run(session, random, lastSearch);
+                if (found != null) {
+                    lastSearch = found;
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                failed = true;
+            }
+            listener.onStep(step.getOperation(), System.nanoTime() - start, failed);
+        }
+    }
+
+    private static boolean isVehicleStep(String operation) {
+        return operation.equals("testdrive") || operation.equals("add") || operation.equals("remove")
+                || operation.equals("sell");
+    }
+
+    /**
+     * Told about every step a script runs.
+     */
+    public interface StepListener {
+        /**
+         * @param operation    the step's operation, e.g. search
+         * @param elapsedNanos how long the step took
+         * @param failed       true if the step threw
+         */
+        void onStep(String operation, long elapsedNanos, boolean failed);
+    }
+
+    /**
+     * One step of a script.
+     */
+    public static class Step {
+        private final String operation;
+        private final String argument;
+
+        Step(String operation, String argument) {
+            this.operation = operation;
+            this.argument = argument;
+        }
+
+        public String getOperation() {
+            return this.operation;
+        }
+
+        public String getArgument() {
+            return this.argument;
+        }
+
+        /**
+         * Runs the step.
+         *
+         * @return the Vehicles found if the step is a search, otherwise null
+         */
+        private List<Vehicle> run(DealershipSession session, Random random, List<Vehicle> lastSearch) {
+            switch (this.operation) {
+                case "search":
+                    String[] parts = this.argument.split("\\s+", 2);
+                    return session.search(parts[0], parts[1]);
+                case "query":
+                    return session.query(this.argument);
+                case "testdrive":
+                    session.testDrive(pick(lastSearch, random));
+                    return null;
+                case "add":
+                    session.addToCart(pick(lastSearch, random));
+                    return null;
+                case "remove":
+                    session.removeFromCart(pick(session.getCart(), random));
+                    return null;
+                case "checkout":
+                    session.checkout();
+                    return null;
+                default:
+                    session.sellVehicle(pick(session.getOwnedVehicles(), random));
+                    return null;
+            }
+        }
+
+        private int pick(List<Vehicle> vehicles, Random random) {
+            if (!this.argument.equalsIgnoreCase("random")) {
+                return Integer.parseInt(this.argument);
+            }
+            if (vehicles.isEmpty()) {
+                throw new IllegalStateException("No vehicle to pick for `" + this.operation + "`.");
+            }
+            return vehicles.get(random.nextInt(vehicles.size())).getID();
+        }
+
+        @Override
+        public String toString() {
+            return this.argument.isEmpty() ? this.operation : this.operation + " " + this.argument;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Results of a workload run: overall throughput and, for each kind of
+ * step, how many ran, how many failed and their latency percentiles.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import java.util.*;
+
+public class WorkloadReport {
+    private final int sessions;
+    private final long elapsedNanos;
+    // Sorted latencies of each operation, in the order operations first ran
+    private final Map<String, long[]> latencies;
+    private final Map<String, Integer> failures;
+
+    /**
+     * WorkloadReport Constructor
+     *
+     * @param sessions     the number of sessions run
+     * @param elapsedNanos the wall-clock time of the whole run
+     * @param latencies    every step's latency by operation, sorted here
+     * @param failures     the number of failed steps by operation
+     */
+    public WorkloadReport(int sessions, long elapsedNanos, Map<String, long[]> latencies,
+            Map<String, Integer> failures) {
+        if (latencies == null || failures == null) {
+            throw new IllegalArgumentException("Latencies and failures cannot be null.");
+        }
+        this.sessions = sessions;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : latencies.entrySet()) {
+            long[] sorted = entry.getValue().clone();
+            Arrays.sort(sorted);
+            this.latencies.put(entry.getKey(), sorted);
+        }
+        this.failures = new HashMap<>(failures);
+    }
+
+    public int getSessions() {
+        return this.sessions;
+    }
+
+    public double getElapsedSeconds() {
+        return this.elapsedNanos / 1e9;
+    }
+
+    public Set<String> getOperations() {
+        return Collections.unmodifiableSet(this.latencies.keySet());
+    }
+
+    /**
+     * Gets the number of steps run, failed or not.
+     *
+     * @return the step count
+     */
+    public int getSteps() {
+        int steps = 0;
+        for (long[] values : this.latencies.values()) {
+            steps += values.length;
+        }
+        return steps;
+    }
+
+    /**
+     * Gets the steps run per second of wall-clock time.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+        return this.elapsedNanos == 0 ? 0 : getSteps() / getElapsedSeconds();
+    }
+
+    public int getCount(String operation) {
+        long[] values = this.latencies.get(operation);
+        return values == null ? 0 : values.length;
+    }
+
+    public int getFailures(String operation) {
+        return this.failures.getOrDefault(operation, 0);
+    }
+
+    /**
+     * Gets a latency percentile of one operation, by nearest rank.
+     *
+     * @param operation  the operation, e.g. search
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in nanoseconds, 0 if the operation never ran
+     */
+    public long getPercentile(String operation, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        long[] values = this.latencies.get(operation);
+        if (values == null || values.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * values.length);
+        return values[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d sessions, %d steps in %.2f s, %.0f steps/s%n", this.sessions, getSteps(),
+                getElapsedSeconds(), getThroughput()));
+        report.append(String.format("%-10s %9s %8s %10s %10s %10s %10s%n", "step", "count", "failed", "p50 ms",
+                "p90 ms", "p99 ms", "max ms"));
+        for (String operation : this.latencies.keySet()) {
+            report.append(String.format("%-10s %9d %8d %10.3f %10.3f %10.3f %10.3f%n", operation, getCount(operation),
+                    getFailures(operation), getPercentile(operation, 50) / 1e6, getPercentile(operation, 90) / 1e6,
+                    getPercentile(operation, 99) / 1e6, getPercentile(operation, 100) / 1e6));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Runs many scripted sessions against one dealership at once and reports
+ * throughput and latency percentiles for each kind of step.
+ * Each session shops as a random Customer and draws its random picks from
+ * its own seed, so a run with one thread replays exactly. With more
+ * threads the sessions race for the same Vehicles, as real shoppers would.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.filehandling.*;
+
+public class WorkloadRunner {
+    private static final List<String> DEFAULT_SCRIPT = Arrays.asList(
+            "search price 5000-40000",
+            "query make toyota; not color red",
+            "testdrive random",
+            "add random",
+            "checkout",
+            "sell random");
+
+    private final DealershipManager dealer;
+    private final SessionScript script;
+
+    /**
+     * WorkloadRunner Constructor
+     *
+     * @param dealer the dealership every session shops at
+     * @param script the steps every session runs
+     */
+    public WorkloadRunner(DealershipManager dealer, SessionScript script) {
+        if (dealer == null) {
+            throw new IllegalArgumentException("Dealership cannot be null.");
+        }
+        if (script == null) {
+            throw new IllegalArgumentException("Script cannot be null.");
+        }
+        this.dealer = dealer;
+        this.script = script;
+    }
+
+    /**
+     * Runs the sessions and waits for all of them to finish.
+     *
+     * @param sessions the number of sessions
+     * @param threads  the number of sessions running at once
+     * @param seed     the seed for picking Customers and Vehicles
+     * @return the report
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public WorkloadReport run(int sessions, int threads, long seed) throws InterruptedException {
+        if (sessions < 0) {
+            throw new IllegalArgumentException("Session count cannot be negative.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        List<Customer> customers = new ArrayList<>(this.dealer.getCustomers());
+        if (customers.isEmpty() && sessions > 0) {
+            throw new IllegalStateException("Dealership has no customers.");
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Recorder>> results = new ArrayList<>(sessions);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < sessions; i++) {
+                Random random = new Random(seed * 31 + i);
+                Customer customer = customers.get(random.nextInt(customers.size()));
+                results.add(pool.submit(() -> runSession(customer, random)));
+            }
+            Recorder total = new Recorder();
+            for (Future<Recorder> result : results) {
+                total.addAll(result.get());
+            }
+            return total.toReport(sessions, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            // Steps only throw the exceptions the script catches, anything else is a bug
+            throw new IllegalStateException("Session failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Recorder runSession(Customer customer, Random random) {
+        Recorder recorder = new Recorder();
+        DealershipSession session = new DealershipSession(this.dealer, customer);
+        try {
+            this.script.run(session, random, recorder);
+        } finally {
+            session.close();
+        }
+        return recorder;
+    }
+
+    /**
+     * Collects step latencies and failures by operation.
+     */
+    private static class Recorder implements SessionScript.StepListener {
+        private final Map<String, long[]> latencies = new LinkedHashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Map<String, Integer> failures = new HashMap<>();
+
+        @Override
+        public void onStep(String operation, long elapsedNanos, boolean failed) {
+            int count = this.counts.getOrDefault(operation, 0);
+            long[] values = this.latencies.get(operation);
+            if (values == null || count == values.length) {
+                values = values == null ? new long[16] : Arrays.copyOf(values, count * 2);
+                this.latencies.put(operation, values);
+            }
+            values[count] = elapsedNanos;
+            this.counts.put(operation, count + 1);
+            if (failed) {
+                this.failures.merge(operation, 1, Integer::sum);
+            }
+        }
+
+        void addAll(Recorder other) {
+            for (Map.Entry<String, long[]> entry : other.latencies.entrySet()) {
+                String operation = entry.getKey();
+                long[] values = entry.getValue();
+                for (int i = 0; i < other.counts.get(operation); i++) {
+                    onStep(operation, values[i], false);
+                }
+            }
+            for (Map.Entry<String, Integer> entry : other.failures.entrySet()) {
+                this.failures.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+        }
+
+        WorkloadReport toReport(int sessions, long elapsedNanos) {
+            Map<String, long[]> trimmed = new LinkedHashMap<>();
+            for (Map.Entry<String, long[]> entry : this.latencies.entrySet()) {
+                trimmed.put(entry.getKey(), Arrays.copyOf(entry.getValue(), this.counts.get(entry.getKey())));
+            }
+            return new WorkloadReport(sessions, elapsedNanos, trimmed, this.failures);
+        }
+    }
+
+    /**
+     * Loads a dealership from CSV files and runs a workload against it.
+     * Nothing is saved, so the files are left as they were.
+     *
+     * @param args --data (the directory holding inventory.csv, database.csv,
+     *             customers.csv, transactions.csv and coupons.csv), --script
+     *             (a SessionScript file, a browse-and-buy script by default),
+     *             --sessions, --threads and --seed
+     * @throws Exception if the data or script cannot be read
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("data", "resources");
+        options.put("script", "");
+        options.put("sessions", "10000");
+        options.put("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        options.put("seed", "42");
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unknown option or missing value: " + args[i]);
+            }
+            options.put(name, args[i + 1]);
+        }
+        Path data = Paths.get(options.get("data"));
+        DealershipState state = SnapshotFileHandler.importCsv(data, "Workload Dealership", 0);
+        DealershipManager dealer = new DealershipManager(state.getName(), 0, state.getTransactions(),
+                state.getInventory(), state.getDatabase(), state.getCustomers(), state.getCoupons());
+        SessionScript script = options.get("script").isEmpty() ? new SessionScript(DEFAULT_SCRIPT)
+                : SessionScript.load(Paths.get(options.get("script")));
+        WorkloadReport report = new WorkloadRunner(dealer, script).run(Integer.parseInt(options.get("sessions")),
+                Integer.parseInt(options.get("threads")), Long.parseLong(options.get("seed")));
+        System.out.print(report);
+    }
+}
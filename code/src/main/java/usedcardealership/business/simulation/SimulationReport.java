@@ -0,0 +1,161 @@
+/**
+ * Results of a test drive simulation: the inventory's value before and
+ * across the trials, and how far kilometerage and damage drifted.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.simulation;
+
+import java.util.*;
+
+import usedcardealership.data.Money;
+
+public class SimulationReport {
+    private final int vehicles;
+    private final int drives;
+    private final int trials;
+    private final long startValueCents;
+    // The inventory's value at the end of each trial, sorted
+    private final long[] valueCents;
+    private final double kilometerage;
+    private final double damage;
+    private final long crashes;
+    private final long elapsedNanos;
+
+    /**
+     * SimulationReport Constructor
+     *
+     * @param vehicles        the number of Vehicles simulated
+     * @param drives          the number of test drives per Vehicle per trial
+     * @param trials          the number of trials
+     * @param startValueCents the inventory's value before any drive
+     * @param valueCents      the inventory's value after each trial, sorted
+     *                        here
+     * @param kilometerage    the kilometerage added over every Vehicle and
+     *                        trial
+     * @param damage          the damage added over every Vehicle and trial
+     * @param crashes         the number of drives that ended in a crash
+     * @param elapsedNanos    the wall-clock time of the run
+     */
+    public SimulationReport(int vehicles, int drives, int trials, long startValueCents, long[] valueCents,
+            double kilometerage, double damage, long crashes, long elapsedNanos) {
+        if (valueCents == null || valueCents.length != trials) {
+            throw new IllegalArgumentException("There must be one value per trial.");
+        }
+        this.vehicles = vehicles;
+        this.drives = drives;
+        this.trials = trials;
+        this.startValueCents = startValueCents;
+        this.valueCents = valueCents.clone();
+        Arrays.sort(this.valueCents);
+        this.kilometerage = kilometerage;
+        this.damage = damage;
+        this.crashes = crashes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getVehicles() {
+        return this.vehicles;
+    }
+
+    public int getDrives() {
+        return this.drives;
+    }
+
+    public int getTrials() {
+        return this.trials;
+    }
+
+    /**
+     * Gets the number of test drives simulated.
+     *
+     * @return vehicles * drives * trials
+     */
+    public long getOutcomes() {
+        return (long) this.vehicles * this.drives * this.trials;
+    }
+
+    public long getCrashes() {
+        return this.crashes;
+    }
+
+    public double getElapsedSeconds() {
+        return this.elapsedNanos / 1e9;
+    }
+
+    /**
+     * Gets the number of test drives simulated per second.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+        return this.elapsedNanos == 0 ? 0 : getOutcomes() / getElapsedSeconds();
+    }
+
+    public long getStartValueCents() {
+        return this.startValueCents;
+    }
+
+    /**
+     * Gets the inventory's average value at the end of a trial.
+     *
+     * @return the value in cents
+     */
+    public long getMeanValueCents() {
+        long sum = 0;
+        for (long value : this.valueCents) {
+            sum += value;
+        }
+        return Math.round((double) sum / this.trials);
+    }
+
+    /**
+     * Gets a percentile of the inventory's value at the end of a trial.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value in cents
+     */
+    public long getValuePercentileCents(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        int rank = (int) Math.ceil(percentile / 100 * this.valueCents.length);
+        return this.valueCents[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the average kilometerage one Vehicle gains in a trial.
+     *
+     * @return the kilometers
+     */
+    public double getMeanKilometerageAdded() {
+        return this.vehicles == 0 ? 0 : this.kilometerage / ((double) this.vehicles * this.trials);
+    }
+
+    /**
+     * Gets the average damage one Vehicle gains in a trial.
+     *
+     * @return the damage in percent
+     */
+    public double getMeanDamageAdded() {
+        return this.vehicles == 0 ? 0 : this.damage / ((double) this.vehicles * this.trials);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d vehicles x %d drives x %d trials = %d drives in %.2f s, %.0f drives/s%n",
+                this.vehicles, this.drives, this.trials, getOutcomes(), getElapsedSeconds(), getThroughput()));
+        report.append(String.format("crashes: %d, per vehicle per trial: +%.2f km, +%.2f%% damage%n", this.crashes,
+                getMeanKilometerageAdded(), getMeanDamageAdded()));
+        long mean = getMeanValueCents();
+        report.append("inventory value: $" + Money.format(this.startValueCents) + " -> mean $" + Money.format(mean)
+                + " (p5 $" + Money.format(getValuePercentileCents(5)) + ", p50 $"
+                + Money.format(getValuePercentileCents(50)) + ", p95 $" + Money.format(getValuePercentileCents(95))
+                + ")" + String.format("%n"));
+        report.append("mean erosion: $" + Money.format(this.startValueCents - mean) + String.format("%n"));
+        return report.toString();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Monte Carlo simulation of test drives over an inventory.
+ * Every trial gives each Vehicle a number of random test drives and prices
+ * it afterwards, so many trials project how far kilometerage and damage
+ * drift and how much value the inventory loses. The Vehicles are never
+ * changed: their kilometerage and damage are copied when the simulator is
+ * made and the drives are applied to the copies.
+ * The Vehicles are split into chunks run on a thread pool. Each Vehicle draws
+ * from its own SplittableRandom seeded from the run's seed and its position,
+ * so every Vehicle gets the same drives with any number of threads.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.simulation;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import usedcardealership.data.filehandling.VehicleFileHandler;
+import usedcardealership.data.vehicle.*;
+
+public class TestDriveSimulator {
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final List<Vehicle> vehicles;
+    private final double[] kilometerage;
+    private final double[] damage;
+
+    /**
+     * TestDriveSimulator Constructor
+     *
+     * @param vehicles the Vehicles to simulate, their kilometerage and damage
+     *                 are read once here
+     */
+    public TestDriveSimulator(List<Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        this.vehicles = new ArrayList<>(vehicles);
+        this.kilometerage = new double[this.vehicles.size()];
+        this.damage = new double[this.vehicles.size()];
+        for (int i = 0; i < this.vehicles.size(); i++) {
+            Vehicle v = this.vehicles.get(i);
+            if (v == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null.");
+            }
+            this.kilometerage[i] = v.getKilometerage();
+            this.damage[i] = v.getDamage();
+        }
+    }
+
+    /**
+     * Runs the simulation and waits for it to finish.
+     *
+     * @param drives  the number of test drives each Vehicle gets in a trial
+     * @param trials  the number of trials
+     * @param threads the number of threads to run on
+     * @param seed    the seed every Vehicle's generator is derived from
+     * @return the report
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public SimulationReport run(int drives, int trials, int threads, long seed) throws InterruptedException {
+        if (drives < 0) {
+            throw new IllegalArgumentException("Drive count cannot be negative.");
+        }
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Trial count must be positive.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        long startValueCents = 0;
+        for (Vehicle v : this.vehicles) {
+            startValueCents += v.getTotalPriceCents(v.getKilometerage(), v.getDamage());
+        }
+        int size = this.vehicles.size();
+        int chunkSize = Math.max(1, (size + threads * CHUNKS_PER_THREAD - 1) / (threads * CHUNKS_PER_THREAD));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<Totals>> results = new ArrayList<>();
+            for (int from = 0; from < size; from += chunkSize) {
+                int first = from;
+                int last = Math.min(size, from + chunkSize);
+                results.add(pool.submit(() -> simulate(first, last, drives, trials, seed)));
+            }
+            Totals total = new Totals(trials);
+            for (Future<Totals> result : results) {
+                total.addAll(result.get());
+            }
+            return new SimulationReport(size, drives, trials, startValueCents, total.valueCents,
+                    total.kilometerage, total.damage, total.crashes, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Simulates the Vehicles from first up to last through every trial.
+     */
+    private Totals simulate(int first, int last, int drives, int trials, long seed) {
+        Totals totals = new Totals(trials);
+        for (int i = first; i < last; i++) {
+            Vehicle v = this.vehicles.get(i);
+            SplittableRandom random = new SplittableRandom(seed + i * SEED_STEP);
+            for (int trial = 0; trial < trials; trial++) {
+                double kilometers = this.kilometerage[i];
+                double percent = this.damage[i];
+                for (int drive = 0; drive < drives; drive++) {
+                    TestDriveOutcome outcome = TestDriveOutcome.draw(random);
+                    kilometers += outcome.getKilometers();
+                    // Same cap as Vehicle.addDamage
+                    percent = Math.min(100, percent + outcome.getDamage());
+                    if (outcome.hasCrashed()) {
+                        totals.crashes++;
+                    }
+                }
+                totals.valueCents[trial] += v.getTotalPriceCents(kilometers, percent);
+                totals.kilometerage += kilometers - this.kilometerage[i];
+                totals.damage += percent - this.damage[i];
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Sums for one chunk of Vehicles.
+     */
+    private static class Totals {
+        // The inventory's value at the end of each trial
+        private final long[] valueCents;
+        private double kilometerage;
+        private double damage;
+        private long crashes;
+
+        Totals(int trials) {
+            this.valueCents = new long[trials];
+        }
+
+        void addAll(Totals other) {
+            for (int trial = 0; trial < this.valueCents.length; trial++) {
+                this.valueCents[trial] += other.valueCents[trial];
+            }
+            this.kilometerage += other.kilometerage;
+            this.damage += other.damage;
+            this.crashes += other.crashes;
+        }
+    }
+
+    /**
+     * Loads an inventory from a CSV file and simulates test drives on it.
+     *
+     * @param args --data (the directory holding inventory.csv), --drives,
+     *             --trials, --threads and --seed
+     * @throws Exception if the inventory cannot be read
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("data", "resources");
+        options.put("drives", "10");
+        options.put("trials", "100");
+        options.put("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        options.put("seed", "42");
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unknown option or missing value: " + args[i]);
+            }
+            options.put(name, args[i + 1]);
+        }
+        Path data = Paths.get(options.get("data"));
+        List<Vehicle> inventory = new VehicleFileHandler(data.resolve("inventory.csv").toString()).load();
+        SimulationReport report = new TestDriveSimulator(inventory).run(Integer.parseInt(options.get("drives")),
+                Integer.parseInt(options.get("trials")), Integer.parseInt(options.get("threads")),
+                Long.parseLong(options.get("seed")));
+        System.out.print(report);
+    }
+}
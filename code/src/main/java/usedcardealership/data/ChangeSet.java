@@ -0,0 +1,89 @@
+/**
+ * Records which items of one kind changed since the last save, keyed by ID.
+ * An item marked dirty is saved with its latest state, an item marked
+ * deleted is removed from the data source. Marking the same ID again
+ * replaces its earlier change, so each ID is written at most once per save.
+ *
+ * @param <T> the type of items tracked
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import java.util.*;
+
+public class ChangeSet<T> {
+    private final Map<Integer, T> dirty = new LinkedHashMap<>();
+    private final Set<Integer> deleted = new LinkedHashSet<>();
+
+    public ChangeSet() {
+    }
+
+    /**
+     * Copy constructor, the copy does not see later changes to other.
+     *
+     * @param other the ChangeSet to copy
+     */
+    public ChangeSet(ChangeSet<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("ChangeSet cannot be null.");
+        }
+        this.dirty.putAll(other.dirty);
+        this.deleted.addAll(other.deleted);
+    }
+
+    /**
+     * Marks an item as inserted or updated.
+     *
+     * @param id   the item's ID
+     * @param item the item, saved with whatever state it has at save time
+     */
+    public void markDirty(int id, T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null.");
+        }
+        this.deleted.remove(id);
+        this.dirty.put(id, item);
+    }
+
+    /**
+     * Marks an item as deleted, dropping any pending insert or update.
+     *
+     * @param id the item's ID
+     */
+    public void markDeleted(int id) {
+        this.dirty.remove(id);
+        this.deleted.add(id);
+    }
+
+    /**
+     * Gets the items to insert or update, in the order first marked.
+     *
+     * @return the dirty items
+     */
+    public List<T> getDirty() {
+        return new ArrayList<>(this.dirty.values());
+    }
+
+    /**
+     * Gets the IDs to delete, in the order marked.
+     *
+     * @return the deleted IDs
+     */
+    public Set<Integer> getDeleted() {
+        return Collections.unmodifiableSet(this.deleted);
+    }
+
+    public boolean isEmpty() {
+        return this.dirty.isEmpty() && this.deleted.isEmpty();
+    }
+
+    /**
+     * Forgets every change, called once they are saved.
+     */
+    public void clear() {
+        this.dirty.clear();
+        this.deleted.clear();
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Unit of work shared by the Vehicle, Customer and Transaction managers.
+ * Records every change made during a session so saving only writes what
+ * changed: dirty and deleted Vehicles and Customers, whether the inventory
+ * membership changed, and the Transactions added since the last save, which
+ * are only ever appended. Its methods are synchronized, so managers
+ * changed from several threads at once can share one tracker, and the
+ * ChangeSets it hands out are copies taken under its lock.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import java.util.*;
+
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class ChangeTracker {
+    private final ChangeSet<Vehicle> vehicles = new ChangeSet<>();
+    private final ChangeSet<Customer> customers = new ChangeSet<>();
+    private final List<Transaction> newTransactions = new ArrayList<>();
+    private boolean inventoryChanged;
+
+    /**
+     * Gets the Vehicles changed since the last save.
+     *
+     * @return a copy of the Vehicle changes
+     */
+    public synchronized ChangeSet<Vehicle> getVehicles() {
+        return new ChangeSet<>(this.vehicles);
+    }
+
+    /**
+     * Gets the Customers changed since the last save.
+     *
+     * @return a copy of the Customer changes
+     */
+    public synchronized ChangeSet<Customer> getCustomers() {
+        return new ChangeSet<>(this.customers);
+    }
+
+    /**
+     * Gets the Transactions added since the last save.
+     *
+     * @return the new Transactions in the order added
+     */
+    public synchronized List<Transaction> getNewTransactions() {
+        return Collections.unmodifiableList(this.newTransactions);
+    }
+
+    /**
+     * Checks whether Vehicles were added to or removed from the inventory, or
+     * any Vehicle changed, since the last save.
+     *
+     * @return true if the inventory has to be written again
+     */
+    public synchronized boolean isInventoryChanged() {
+        return this.inventoryChanged || !this.vehicles.isEmpty();
+    }
+
+    public synchronized void markVehicle(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        this.vehicles.markDirty(vehicle.getID(), vehicle);
+    }
+
+    public synchronized void markCustomer(Customer customer) {
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null.");
+        }
+        this.customers.markDirty(customer.getID(), customer);
+    }
+
+    public synchronized void markVehicleDeleted(int id) {
+        this.vehicles.markDeleted(id);
+    }
+
+    public synchronized void markCustomerDeleted(int id) {
+        this.customers.markDeleted(id);
+    }
+
+    public synchronized void markInventoryChanged() {
+        this.inventoryChanged = true;
+    }
+
+    public synchronized void addTransaction(Transaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        this.newTransactions.add(transaction);
+    }
+
+    /**
+     * Checks whether anything changed since the last save.
+     *
+     * @return true if there is nothing to save
+     */
+    public synchronized boolean isEmpty() {
+        return !isInventoryChanged() && this.customers.isEmpty() && this.newTransactions.isEmpty();
+    }
+
+    /**
+     * Forgets every change, called once they are all saved.
+     */
+    public synchronized void clear() {
+        this.vehicles.clear();
+        this.customers.clear();
+        this.newTransactions.clear();
+        this.inventoryChanged = false;
+    }
+}
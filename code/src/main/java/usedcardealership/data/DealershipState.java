@@ -0,0 +1,84 @@
+/**
+ * Everything a dealership saves: its name and balance, the inventory and
+ * database Vehicles, the Customers with the Vehicles they own, the
+ * Transaction history and the coupons. What SnapshotFileHandler writes and
+ * reads, and what a DealershipManager is built from.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import java.util.*;
+
+import usedcardealership.data.coupons.Coupon;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class DealershipState {
+    private final String name;
+    private final long balanceCents;
+    private final List<Vehicle> inventory;
+    private final List<Vehicle> database;
+    private final List<Customer> customers;
+    private final List<Transaction> transactions;
+    private final List<Coupon> coupons;
+
+    /**
+     * DealershipState Constructor
+     *
+     * @param name         the dealership's name
+     * @param balanceCents the dealership's balance in cents
+     * @param inventory    the Vehicles on the lot
+     * @param database     the Vehicles the dealership knows of
+     * @param customers    the Customers, with their Vehicles
+     * @param transactions the Transaction history
+     * @param coupons      the coupons
+     */
+    public DealershipState(String name, long balanceCents, List<Vehicle> inventory, List<Vehicle> database,
+            List<Customer> customers, List<Transaction> transactions, List<Coupon> coupons) {
+        if (name == null || name.length() == 0) {
+            throw new IllegalArgumentException("Dealership name cannot be null or empty.");
+        }
+        if (inventory == null || database == null || customers == null || transactions == null || coupons == null) {
+            throw new IllegalArgumentException("Lists cannot be null.");
+        }
+        this.name = name;
+        this.balanceCents = balanceCents;
+        this.inventory = inventory;
+        this.database = database;
+        this.customers = customers;
+        this.transactions = transactions;
+        this.coupons = coupons;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getBalanceCents() {
+        return this.balanceCents;
+    }
+
+    public List<Vehicle> getInventory() {
+        return this.inventory;
+    }
+
+    public List<Vehicle> getDatabase() {
+        return this.database;
+    }
+
+    public List<Customer> getCustomers() {
+        return this.customers;
+    }
+
+    public List<Transaction> getTransactions() {
+        return this.transactions;
+    }
+
+    public List<Coupon> getCoupons() {
+        return this.coupons;
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Hands out IDs that are never reused, even after a restart or after
+ * records are deleted. IDs are reserved from a high-water mark in blocks:
+ * the mark is moved past the block, and saved to disk when the allocator
+ * has a file, before any ID in it is handed out. A restart then starts
+ * from the saved mark, skipping what was left of the last block.
+ * next takes IDs in increasing order from a shared block with a single
+ * compare-and-set, so only one call per block takes the lock and writes
+ * the file. lease gives a thread or node a range of its own to take IDs
+ * from without touching the allocator at all.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IdAllocator {
+    public static final int DEFAULT_BLOCK_SIZE = 100;
+
+    // Null when the mark is only kept in memory
+    private final Path markFile;
+    private final int blockSize;
+    // The shared block: the ID after it in the high 32 bits, the next ID in the low 32
+    private final AtomicLong block;
+    // First ID not reserved yet, guarded by this
+    private int mark;
+
+    /**
+     * IdAllocator Constructor
+     * Creates an allocator kept in memory, for data whose store already
+     * holds the highest ID used, like a database table.
+     *
+     * @param first the first ID to hand out
+     */
+    public IdAllocator(int first) {
+        this(null, first, DEFAULT_BLOCK_SIZE);
+    }
+
+    private IdAllocator(Path markFile, int first, int blockSize) {
+        if (first <= 0) {
+            throw new IllegalArgumentException("First ID must be a positive integer.");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be a positive integer.");
+        }
+        this.markFile = markFile;
+        this.blockSize = blockSize;
+        this.mark = first;
+        this.block = new AtomicLong(pack(first, first));
+    }
+
+    /**
+     * Opens an allocator whose high-water mark is saved in a file, created
+     * on the first reservation.
+     *
+     * @param markFile  the file holding the mark
+     * @param minimum   the lowest ID to hand out, one more than the highest
+     *                  ID already stored, in case the file is missing or
+     *                  older than the data
+     * @param blockSize the number of IDs reserved per write of the file
+     * @return the allocator
+     * @throws IOException if the file cannot be read
+     */
+    public static IdAllocator open(Path markFile, int minimum, int blockSize) throws IOException {
+        if (markFile == null) {
+            throw new IllegalArgumentException("Mark file cannot be null.");
+        }
+        int first = minimum;
+        if (Files.exists(markFile)) {
+            String saved = new String(Files.readAllBytes(markFile), StandardCharsets.UTF_8).trim();
+            try {
+                first = Math.max(first, Integer.parseInt(saved));
+            } catch (NumberFormatException e) {
+                throw new IOException("ID mark " + markFile + " is corrupt: " + saved, e);
+            }
+        }
+        return new IdAllocator(markFile, first, blockSize);
+    }
+
+    /**
+     * Gets the next ID.
+     *
+     * @return an ID higher than every one handed out before
+     * @throws IllegalStateException if the mark cannot be saved or the IDs
+     *                               ran out
+     */
+    public int next() {
+        while (true) {
+            long current = this.block.get();
+            int id = (int) current;
+            if (id < (int) (current >>> 32)) {
+                if (this.block.compareAndSet(current, current + 1)) {
+                    return id;
+                }
+            } else {
+                refill(current);
+            }
+        }
+    }
+
+    /**
+     * Reserves a range of IDs for the caller alone, e.g. one thread or one
+     * node, none of which next or another lease will hand out.
+     *
+     * @param count the number of IDs
+     * @return the range
+     * @throws IllegalStateException if the mark cannot be saved or the IDs
+     *                               ran out
+     */
+    public synchronized Block lease(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be a positive integer.");
+        }
+        int start = reserve(count);
+        return new Block(start, start + count);
+    }
+
+    /**
+     * Gets the high-water mark, the first ID no block holds yet.
+     *
+     * @return the mark
+     */
+    public synchronized int getHighWaterMark() {
+        return this.mark;
+    }
+
+    /**
+     * Starts a new shared block, unless another thread already did since
+     * the caller saw the old one.
+     */
+    private synchronized void refill(long seen) {
+        if (this.block.get() == seen) {
+            int start = reserve(this.blockSize);
+            this.block.set(pack(start, start + this.blockSize));
+        }
+    }
+
+    /**
+     * Moves the mark past a number of IDs and saves it. Called holding the
+     * lock.
+     *
+     * @return the first ID reserved
+     */
+    private int reserve(int count) {
+        if (this.mark > Integer.MAX_VALUE - count) {
+            throw new IllegalStateException("No IDs left to allocate.");
+        }
+        int start = this.mark;
+        if (this.markFile != null) {
+            try {
+                save(start + count);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not save the ID mark: " + e.getMessage(), e);
+            }
+        }
+        this.mark = start + count;
+        return start;
+    }
+
+    /**
+     * Writes the mark beside the file and moves it over it, so a crash
+     * leaves the old mark or the new one.
+     */
+    private void save(int newMark) throws IOException {
+        Path temp = this.markFile.resolveSibling(this.markFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap((newMark + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, this.markFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long pack(int next, int end) {
+        return ((long) end << 32) | next;
+    }
+
+    /**
+     * A range of IDs leased to one holder. Not thread safe, it is meant to be
+     * used by the holder alone.
+     */
+    public static final class Block {
+        private final int end;
+        private int next;
+
+        private Block(int start, int end) {
+            this.next = start;
+            this.end = end;
+        }
+
+        public boolean hasNext() {
+            return this.next < this.end;
+        }
+
+        /**
+         * Gets the next ID in the range.
+         *
+         * @return the ID
+         * @throws IllegalStateException if the range is used up
+         */
+        public int next() {
+            if (this.next >= this.end) {
+                throw new IllegalStateException("Block of IDs is used up.");
+            }
+            return this.next++;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Fixed-point money: amounts are held as a long number of cents.
+ * Sums of cents are exact, where sums of doubles drift (0.10 + 0.20 is not
+ * 0.30), and a primitive long is never boxed. format() writes an amount
+ * without going through String.format, which has to parse its pattern on
+ * every call.
+ * Prices, balances, transaction prices and coupon discounts are stored in
+ * cents. Their double getters return the same amount in dollars.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+    // Largest amount, in dollars, that fits in a long of cents with room to spare
+    private static final double MAX_DOLLARS = 9.0e16;
+
+    private Money() {
+    }
+
+    /**
+     * Converts dollars to cents, rounding to the nearest cent.
+     *
+     * @param dollars the amount in dollars
+     * @return the amount in cents
+     * @throws IllegalArgumentException if the amount is not finite or too large
+     */
+    public static long ofDollars(double dollars) {
+        if (!(Math.abs(dollars) <= MAX_DOLLARS)) {
+            throw new IllegalArgumentException("Amount out of range: " + dollars);
+        }
+        return Math.round(dollars * 100);
+    }
+
+    /**
+     * Converts cents to dollars.
+     *
+     * @param cents the amount in cents
+     * @return the amount in dollars
+     */
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Multiplies an amount by a rate, e.g. a tax rate, rounding to the
+     * nearest cent.
+     *
+     * @param cents  the amount in cents
+     * @param factor the rate
+     * @return the product in cents
+     */
+    public static long multiply(long cents, double factor) {
+        return ofDollars(toDollars(cents) * factor);
+    }
+
+    /**
+     * Parses an amount written in dollars, e.g. `18000`, `18000.5` or
+     * `-12.34`. Amounts with more than two decimals are rounded half up.
+     *
+     * @param text the amount
+     * @return the amount in cents
+     * @throws IllegalArgumentException if the text is not a number
+     */
+    public static long parse(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Amount cannot be null.");
+        }
+        String amount = text.trim();
+        int start = amount.startsWith("-") || amount.startsWith("+") ? 1 : 0;
+        int dot = amount.indexOf('.');
+        int end = dot < 0 ? amount.length() : dot;
+        int decimals = dot < 0 ? 0 : amount.length() - dot - 1;
+        // Plain amounts with up to two decimals are read digit by digit
+        if (end > start && end - start <= 15 && decimals <= 2 && allDigits(amount, start, end)
+                && allDigits(amount, end + 1, amount.length())) {
+            long cents = 0;
+            for (int i = start; i < end; i++) {
+                cents = cents * 10 + (amount.charAt(i) - '0');
+            }
+            for (int i = 0; i < 2; i++) {
+                int digit = i < decimals ? amount.charAt(dot + 1 + i) - '0' : 0;
+                cents = cents * 10 + digit;
+            }
+            return amount.charAt(0) == '-' ? -cents : cents;
+        }
+        try {
+            return fromBigDecimal(new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + text);
+        }
+    }
+
+    /**
+     * Writes an amount in dollars with two decimals, e.g. `18000.50`.
+     *
+     * @param cents the amount in cents
+     * @return the amount
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(24), cents).toString();
+    }
+
+    /**
+     * Appends an amount in dollars with two decimals to a StringBuilder.
+     *
+     * @param out   where to write the amount
+     * @param cents the amount in cents
+     * @return out
+     */
+    public static StringBuilder appendTo(StringBuilder out, long cents) {
+        long dollars = cents / 100;
+        int rest = (int) Math.abs(cents % 100);
+        // -0.05 has no sign on its dollars
+        if (cents < 0 && dollars == 0) {
+            out.append('-');
+        }
+        out.append(dollars).append('.');
+        if (rest < 10) {
+            out.append('0');
+        }
+        return out.append(rest);
+    }
+
+    /**
+     * Converts cents to a BigDecimal with two decimals, as stored in
+     * DECIMAL(10,2) columns.
+     *
+     * @param cents the amount in cents
+     * @return the amount in dollars
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Converts a BigDecimal in dollars to cents, rounding half up.
+     *
+     * @param dollars the amount in dollars, null for zero
+     * @return the amount in cents
+     * @throws IllegalArgumentException if the amount does not fit in a long
+     */
+    public static long fromBigDecimal(BigDecimal dollars) {
+        if (dollars == null) {
+            return 0;
+        }
+        try {
+            return dollars.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount out of range: " + dollars);
+        }
+    }
+
+    private static boolean allDigits(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 package usedcardealership.data.coupons;
 
+import usedcardealership.data.Money;
+
 public abstract class Coupon {
     private String code;
     private double discount;
@@ -29,7 +31,23 @@ public abstract class Coupon {
         return this.code;
     }
 
-    public abstract double applyCoupon(double originalPrice);
+    /**
+     * Applies the coupon to a price.
+     * 
+     * @param originalPrice the original price before applying the coupon
+     * @return the price after the discount is applied
+     */
+    public double applyCoupon(double originalPrice) {
+        return Money.toDollars(applyCouponCents(Money.ofDollars(originalPrice)));
+    }
+
+    /**
+     * Applies the coupon to a price in cents, rounding to the nearest cent.
+     * 
+     * @param originalCents the original price in cents
+     * @return the price after the discount is applied, never below zero
+     */
+    public abstract long applyCouponCents(long originalCents);
 
     /**
      * Provides a string representation of the coupon.
@@ -1,5 +1,7 @@
 package usedcardealership.data.coupons;
 
+import usedcardealership.data.Money;
+
 public class NumericCoupon extends Coupon {
     private double discountAmount;
 
@@ -12,6 +14,7 @@ public class NumericCoupon extends Coupon {
      */
     public NumericCoupon(String code, double discountAmount) {
         super(code, discountAmount);
+        this.discountAmount = discountAmount;
     }
 
     /**
@@ -35,14 +38,15 @@ public class NumericCoupon extends Coupon {
     /**
      * Applies the discount coupon to the original price.
      * 
-     * @param originalPrice the original price before applying the coupon
+     * @param originalCents the original price in cents
      * @return the price after the discount is applied
      */
     @Override
-    public double applyCoupon(double originalPrice) {
-        if (originalPrice < this.discountAmount) {
+    public long applyCouponCents(long originalCents) {
+        long discountCents = Money.ofDollars(this.discountAmount);
+        if (originalCents < discountCents) {
             return 0; // If the discount is larger than the original price, return 0
         }
-        return originalPrice - this.discountAmount;
+        return originalCents - discountCents;
     }
 }
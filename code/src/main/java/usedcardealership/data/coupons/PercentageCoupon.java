@@ -1,5 +1,7 @@
 package usedcardealership.data.coupons;
 
+import usedcardealership.data.Money;
+
 public class PercentageCoupon extends Coupon {
     private double discountPercentage;
     /**
@@ -11,6 +13,7 @@ public class PercentageCoupon extends Coupon {
      */
     public PercentageCoupon(String code, double discountPercentage) {
         super(code, discountPercentage);
+        this.discountPercentage = discountPercentage;
     }
 
     /**
@@ -25,16 +28,16 @@ public class PercentageCoupon extends Coupon {
     /**
      * Applies the percentage coupon to the original price.
      * 
-     * @param originalPrice the original price before applying the coupon
+     * @param originalCents the original price in cents
      * @return the price after the percentage discount is applied
      */
     @Override
-    public double applyCoupon(double originalPrice) {
+    public long applyCouponCents(long originalCents) {
         if (discountPercentage <= 0) {
-            return originalPrice; // No discount if the percentage is zero or negative
+            return originalCents; // No discount if the percentage is zero or negative
         }
 
-        double discountAmount = (discountPercentage / 100) * originalPrice;
-        return originalPrice - discountAmount;
+        long discountCents = Money.multiply(originalCents, discountPercentage / 100);
+        return Math.max(0, originalCents - discountCents);
     }
 }
@@ -7,6 +7,8 @@
 package usedcardealership.data.customer;
 
 import java.util.*;
+import usedcardealership.data.Money;
+import usedcardealership.data.vehicle.IndexedVehicleList;
 import usedcardealership.data.vehicle.Vehicle;
 
 public class Customer {
@@ -16,8 +18,8 @@ public class Customer {
     private String birthday;
     private String phoneNumber;
     private String address;
-    private double accountBalance;
-    private List<Vehicle> vehicles;
+    private long balanceCents;
+    private IndexedVehicleList vehicles;
 
     /**
      * @param id
@@ -60,8 +62,8 @@ public class Customer {
         this.birthday = birthday;
         this.phoneNumber = phoneNumber;
         this.address = address;
-        this.accountBalance = accountBalance;
-        this.vehicles = vehicles;
+        this.balanceCents = Money.ofDollars(accountBalance);
+        this.vehicles = IndexedVehicleList.of(vehicles);
     }
     /** 
      * Copy constructor
@@ -73,7 +75,7 @@ public class Customer {
                 c.birthday,
                 c.phoneNumber,
                 c.address,
-                c.accountBalance,
+                Money.toDollars(c.balanceCents),
                 c.vehicles);
     }
 
@@ -89,7 +91,7 @@ public class Customer {
                 "Birthday: " + this.birthday + "\n" +
                 "Phone: " + this.phoneNumber + "\n" +
                 "Address: " + this.address + "\n" +
-                "Account Balance: $" + String.format("%.2f", this.accountBalance);
+                "Account Balance: $" + Money.format(this.balanceCents);
     }
 
     public int getID() {
@@ -117,7 +119,11 @@ public class Customer {
     }
 
     public double getAccountBalance() {
-        return this.accountBalance;
+        return Money.toDollars(this.balanceCents);
+    }
+
+    public long getBalanceCents() {
+        return this.balanceCents;
     }
 
     public List<Vehicle> getVehicles() {
@@ -132,7 +138,16 @@ public class Customer {
      * @return void
      */
     public void updateAccountBalance(double amount) {
-        this.accountBalance += amount;
+        this.balanceCents += Money.ofDollars(amount);
+    }
+
+    /**
+     * Same as updateAccountBalance, in cents
+     * 
+     * @param cents (positive or negative)
+     */
+    public void updateBalanceCents(long cents) {
+        this.balanceCents += cents;
     }
 
     public void setPhoneNumber(String number) {
@@ -153,12 +168,7 @@ public class Customer {
         if (vehicleID <= 0) {
             throw new IllegalArgumentException("Vehicle ID must be positive integer.");
         }
-        for (Vehicle vehicle : vehicles) {
-            if (vehicle.getID() == vehicleID) {
-                return vehicle;
-            }
-        }
-        return null;
+        return this.vehicles.getById(vehicleID);
     }
 
     /**
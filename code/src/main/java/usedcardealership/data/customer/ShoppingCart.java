@@ -11,10 +11,10 @@ import usedcardealership.data.vehicle.*;
 import usedcardealership.interaction.*;
 
 public class ShoppingCart {
-    private List<Vehicle> productsList;
+    private IndexedVehicleList productsList;
 
     public ShoppingCart() {
-        this.productsList = new ArrayList<Vehicle>();
+        this.productsList = new IndexedVehicleList();
     }
 
     /**
@@ -63,13 +63,17 @@ public class ShoppingCart {
      *         the given ID was found.
      */
     public boolean removeVehicleById(int vehicleId) {
-        for (int i = 0; i < productsList.size(); i++) {
-            if (productsList.get(i).getID() == vehicleId) {
-                productsList.remove(i);
-                return true; // Successfully removed the vehicle
-            }
-        }
-        return false; // Vehicle not found
+        return this.productsList.removeById(vehicleId) != null;
+    }
+
+    /**
+     * Gets a vehicle in the cart by its ID.
+     * 
+     * @param vehicleId the ID of the vehicle.
+     * @return the vehicle, or null if it is not in the cart.
+     */
+    public Vehicle getVehicleById(int vehicleId) {
+        return this.productsList.getById(vehicleId);
     }
 
     /**
@@ -79,12 +83,7 @@ public class ShoppingCart {
      * @return true if the vehicle is already in the cart, false otherwise
      */
     public boolean isVehicleInCart(Vehicle vehicle) {
-        for (Vehicle v : productsList) {
-            if (v.getID() == vehicle.getID()) {
-                return true; // Vehicle is already in the cart
-            }
-        }
-        return false; // Vehicle is not in the cart
+        return this.productsList.containsId(vehicle.getID());
     }
 
     /**
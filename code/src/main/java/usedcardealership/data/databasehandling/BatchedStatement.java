@@ -0,0 +1,113 @@
+/**
+ * PreparedStatement wrapper that sends rows to the database in batches.
+ * Each add() queues the statement's current parameters, and a batch is sent
+ * whenever batchSize rows are queued, so saving n rows costs about
+ * n / batchSize round-trips instead of n. Call flush() to send the last
+ * partial batch, close() discards it.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+package usedcardealership.data.databasehandling;
+
+import java.sql.*;
+import java.util.*;
+
+public class BatchedStatement implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private int[] updateCounts = new int[0];
+    private int sent;
+
+    /**
+     * Constructor for BatchedStatement
+     * 
+     * @param connection the JDBC Connection object
+     * @param sql        the statement to batch
+     * @param batchSize  the number of rows sent per round-trip
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public BatchedStatement(Connection connection, String sql, int batchSize) throws SQLException {
+        validateBatchSize(batchSize);
+        this.statement = connection.prepareStatement(sql);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the wrapped statement, to set the next row's parameters on
+     * 
+     * @return the PreparedStatement
+     */
+    public PreparedStatement getStatement() {
+        return this.statement;
+    }
+
+    /**
+     * Queues the current parameters as a row, sending the batch if it is full
+     * 
+     * @throws SQLException if there is a database error
+     */
+    public void add() throws SQLException {
+        this.statement.addBatch();
+        this.pending++;
+        if (this.pending >= this.batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends any queued rows
+     * 
+     * @throws SQLException if there is a database error
+     */
+    public void flush() throws SQLException {
+        if (this.pending > 0) {
+            this.pending = 0;
+            int[] counts = this.statement.executeBatch();
+            if (this.sent + counts.length > this.updateCounts.length) {
+                this.updateCounts = Arrays.copyOf(this.updateCounts,
+                        Math.max(this.sent + counts.length, this.updateCounts.length * 2));
+            }
+            System.arraycopy(counts, 0, this.updateCounts, this.sent, counts.length);
+            this.sent += counts.length;
+        }
+    }
+
+    /**
+     * Gets the update count of every row sent so far, in the order added
+     * Drivers that cannot tell report Statement.SUCCESS_NO_INFO for a row
+     * 
+     * @return the rows each sent statement affected
+     */
+    public int[] getUpdateCounts() {
+        return Arrays.copyOf(this.updateCounts, this.sent);
+    }
+
+    /**
+     * Closes the statement, discarding any rows queued since the last flush
+     * Rows are only sent by add() and flush(), so a batch abandoned by an
+     * exception never writes a partial tail
+     * 
+     * @throws SQLException if there is a database error
+     */
+    @Override
+    public void close() throws SQLException {
+        this.pending = 0;
+        this.statement.close();
+    }
+
+    /**
+     * Validates a batch size
+     * 
+     * @param batchSize the batch size to check
+     * @throws IllegalArgumentException if it is not positive
+     */
+    public static void validateBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+    }
+}
@@ -10,13 +10,23 @@ package usedcardealership.data.databasehandling;
 import java.sql.*;
 import java.util.*;
 
+import usedcardealership.data.ChangeSet;
 import usedcardealership.data.IDataHandler;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.Customer;
 import usedcardealership.data.filehandling.VehicleHelper;
 import usedcardealership.data.vehicle.Vehicle;
 
 public class CustomerDatabaseHandler implements IDataHandler<Customer> {
+    private static final String INSERT_QUERY = "INSERT INTO customers (id, first_name, last_name, birthday, phone_number, address, account_balance) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    // Same parameter order as INSERT_QUERY, with the ID repeated for the WHERE
+    private static final String UPDATE_QUERY = "UPDATE customers SET id = ?, first_name = ?, last_name = ?, birthday = ?, phone_number = ?, address = ?,"
+            + " account_balance = ? WHERE id = ?";
+    // Rows the driver fetches per round-trip while loading
+    private static final int FETCH_SIZE = 1000;
+
     private final Connection connection;
+    private final int batchSize;
 
     /**
      * Constructor for CustomerDatabaseHandler
@@ -24,92 +34,238 @@ public class CustomerDatabaseHandler implements IDataHandler<Customer> {
      * @param connection the JDBC Connection object
      */
     public CustomerDatabaseHandler(Connection connection) {
+        this(connection, BatchedStatement.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for CustomerDatabaseHandler
+     * 
+     * @param connection the JDBC Connection object
+     * @param batchSize  the number of rows sent per round-trip when saving
+     */
+    public CustomerDatabaseHandler(Connection connection, int batchSize) {
+        BatchedStatement.validateBatchSize(batchSize);
         this.connection = connection;
+        this.batchSize = batchSize;
     }
 
     /**
      * Loads a List of Customers from the databse using a SELECT query
+     * Runs two queries no matter how many Customers there are: one for every
+     * owned Vehicle and one for the Customers, stitched together by ID
      * 
      * @return List<Customer> - the List of Customers loaded from the database
-     * @throws SQLException if there is a database error
      */
     @Override
     public List<Customer> load() {
-        String customerQuery = "SELECT * FROM customers";
-        // Use bridging table to get vehicles for customer vehicle loading
-        String vehicleQuery = "SELECT v.* FROM vehicles v "
-                + "JOIN customers_vehicles cv ON v.id = cv.vehicle_id "
-                + "WHERE cv.customer_id = ?";
-
         List<Customer> customers = new ArrayList<>();
-        try (PreparedStatement customerStmt = connection.prepareStatement(customerQuery);
-                ResultSet customerRs = customerStmt.executeQuery()) {
-            while (customerRs.next()) {
-                // Parse Customer details
-                int customerId = customerRs.getInt("id");
-                String firstName = customerRs.getString("first_name");
-                String lastName = customerRs.getString("last_name");
-                String birthday = customerRs.getString("birthday");
-                String phoneNumber = customerRs.getString("phone_number");
-                String address = customerRs.getString("address");
-                double accountBalance = customerRs.getDouble("account_balance");
-
-                // Parse Customer's Vehicles
-                List<Vehicle> vehicles = new ArrayList<>();
-                try (PreparedStatement vehicleStmt = connection.prepareStatement(vehicleQuery)) {
-                    vehicleStmt.setInt(1, customerId);
-                    try (ResultSet vehicleRs = vehicleStmt.executeQuery()) {
-                        while (vehicleRs.next()) {
-                            String type = vehicleRs.getString("type");
-                            vehicles.add(VehicleHelper.parseVehicleFromResultSet(type, vehicleRs));
-                        }
-                    }
-                }
-
-                // Instantiate Customer object with Customer details and List of Vehicles
-                Customer customer = new Customer(customerId, firstName, lastName, birthday, phoneNumber, address,
-                        accountBalance, vehicles);
-                customers.add(customer);
-            }
+        try {
+            // One transaction so both queries see the same data, and so
+            // PostgreSQL streams rows in FETCH_SIZE chunks instead of all at once
+            DatabaseTransaction.run(connection, () -> read(customers));
         } catch (SQLException e) {
             e.printStackTrace();
         }
         return customers;
     }
 
+    /**
+     * Reads every Customer with their Vehicles into the given List
+     * 
+     * @param customers the List to add the Customers to
+     * @throws SQLException if there is a database error
+     */
+    private void read(List<Customer> customers) throws SQLException {
+        // Use bridging table to get every customer's vehicles at once
+        String vehicleQuery = "SELECT cv.customer_id, v.* FROM customers_vehicles cv "
+                + "JOIN vehicles v ON v.id = cv.vehicle_id";
+        String customerQuery = "SELECT * FROM customers ORDER BY id";
+
+        Map<Integer, List<Vehicle>> vehiclesByCustomer = new HashMap<>();
+        try (PreparedStatement vehicleStmt = connection.prepareStatement(vehicleQuery)) {
+            vehicleStmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet vehicleRs = vehicleStmt.executeQuery()) {
+                while (vehicleRs.next()) {
+                    int customerId = vehicleRs.getInt("customer_id");
+                    String type = vehicleRs.getString("type");
+                    vehiclesByCustomer.computeIfAbsent(customerId, id -> new ArrayList<>())
+                            .add(VehicleHelper.parseVehicleFromResultSet(type, vehicleRs));
+                }
+            }
+        }
+
+        try (PreparedStatement customerStmt = connection.prepareStatement(customerQuery)) {
+            customerStmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet customerRs = customerStmt.executeQuery()) {
+                while (customerRs.next()) {
+                    // Parse Customer details
+                    int customerId = customerRs.getInt("id");
+                    String firstName = customerRs.getString("first_name");
+                    String lastName = customerRs.getString("last_name");
+                    String birthday = customerRs.getString("birthday");
+                    String phoneNumber = customerRs.getString("phone_number");
+                    String address = customerRs.getString("address");
+                    double accountBalance = Money.toDollars(Money.fromBigDecimal(customerRs.getBigDecimal("account_balance")));
+
+                    // Customer's Vehicles were loaded by the first query
+                    List<Vehicle> vehicles = vehiclesByCustomer.remove(customerId);
+                    if (vehicles == null) {
+                        vehicles = new ArrayList<>();
+                    }
+
+                    // Instantiate Customer object with Customer details and List of Vehicles
+                    Customer customer = new Customer(customerId, firstName, lastName, birthday, phoneNumber, address,
+                            accountBalance, vehicles);
+                    customers.add(customer);
+                }
+            }
+        }
+    }
+
     /**
      * Writes a List of Customers to the databse using two INSERT statements
+     * Rolls back if anything fails
      * 
      * @param customers the List of Customers to save to the database
-     * @throws SQLException if there is a database error
      */
     public void save(List<Customer> customers) {
-        String queryCustomer = "INSERT INTO customers (id, first_name, last_name, birthday, phone_number, address, account_balance) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        String queryVehicles = "INSERT INTO customers_vehicles (customer_id, vehicle_id) VALUES (?, ?)";
+        try {
+            write(customers);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a List of Customers to the database in batched INSERTs inside one
+     * transaction, or inside the caller's transaction if one is open
+     * 
+     * @param customers the List of Customers to save to the database
+     * @throws SQLException if there is a database error, after rolling back
+     */
+    public void write(List<Customer> customers) throws SQLException {
+        DatabaseTransaction.run(connection, () -> {
+            // Customers are all sent before their vehicle links so the foreign keys resolve
+            insert(customers);
+            insertVehicleLinks(customers);
+        });
+    }
+
+    /**
+     * Saves only the Customers changed since the last save, inside one
+     * transaction or the caller's transaction if one is open
+     * Dirty Customers are updated by ID and inserted if no row had that ID,
+     * and their vehicle links are replaced. Deleted Customers are deleted by
+     * ID, which also deletes their links and Transactions through the
+     * cascading foreign keys
+     * 
+     * @param changes the Customers changed since the last save
+     * @throws SQLException if there is a database error, after rolling back
+     */
+    public void saveChanges(ChangeSet<Customer> changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Customer> dirty = changes.getDirty();
+        DatabaseTransaction.run(connection, () -> {
+            int[] counts;
+            try (BatchedStatement batch = new BatchedStatement(connection, UPDATE_QUERY, batchSize)) {
+                PreparedStatement pstmt = batch.getStatement();
+                for (Customer customer : dirty) {
+                    setCustomerFields(pstmt, customer);
+                    pstmt.setInt(8, customer.getID());
+                    batch.add();
+                }
+                batch.flush();
+                counts = batch.getUpdateCounts();
+            }
+
+            // Insert the Customers the UPDATE found no row for
+            List<Customer> missing = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    missing.add(dirty.get(i));
+                }
+            }
+            insert(missing);
+
+            // Replace the vehicle links of every dirty Customer
+            try (BatchedStatement batch = new BatchedStatement(connection,
+                    "DELETE FROM customers_vehicles WHERE customer_id = ?", batchSize)) {
+                for (Customer customer : dirty) {
+                    batch.getStatement().setInt(1, customer.getID());
+                    batch.add();
+                }
+                batch.flush();
+            }
+            insertVehicleLinks(dirty);
 
-        try (PreparedStatement pstmtCustomer = connection.prepareStatement(queryCustomer);
-                PreparedStatement pstmtVehicles = connection.prepareStatement(queryVehicles)) {
+            try (BatchedStatement batch = new BatchedStatement(connection, "DELETE FROM customers WHERE id = ?",
+                    batchSize)) {
+                for (int id : changes.getDeleted()) {
+                    batch.getStatement().setInt(1, id);
+                    batch.add();
+                }
+                batch.flush();
+            }
+        });
+    }
+
+    /**
+     * Inserts Customers in batches on the current transaction
+     * 
+     * @param customers the Customers to insert
+     * @throws SQLException if there is a database error
+     */
+    private void insert(List<Customer> customers) throws SQLException {
+        if (customers.isEmpty()) {
+            return;
+        }
+        try (BatchedStatement batch = new BatchedStatement(connection, INSERT_QUERY, batchSize)) {
+            PreparedStatement pstmt = batch.getStatement();
+            for (Customer customer : customers) {
+                setCustomerFields(pstmt, customer);
+                batch.add();
+            }
+            batch.flush();
+        }
+    }
 
+    /**
+     * Inserts the bridging table rows for the Vehicles each Customer owns
+     * 
+     * @param customers the Customers whose Vehicles to link
+     * @throws SQLException if there is a database error
+     */
+    private void insertVehicleLinks(List<Customer> customers) throws SQLException {
+        try (BatchedStatement batch = new BatchedStatement(connection,
+                "INSERT INTO customers_vehicles (customer_id, vehicle_id) VALUES (?, ?)", batchSize)) {
+            PreparedStatement pstmt = batch.getStatement();
             for (Customer customer : customers) {
-                // Insert Customer
-                pstmtCustomer.setInt(1, customer.getID());
-                pstmtCustomer.setString(2, customer.getFirstName());
-                pstmtCustomer.setString(3, customer.getLastName());
-                pstmtCustomer.setDate(4, java.sql.Date.valueOf(customer.getBirthday()));
-                pstmtCustomer.setString(5, customer.getPhoneNumber());
-                pstmtCustomer.setString(6, customer.getAddress());
-                pstmtCustomer.setDouble(7, customer.getAccountBalance());
-                pstmtCustomer.execute();
-
-                // Insert Vehicles associated with the Customer in bridging table
                 for (Vehicle vehicle : customer.getVehicles()) {
-                    pstmtVehicles.setInt(1, customer.getID());
-                    pstmtVehicles.setInt(2, vehicle.getID());
-                    pstmtVehicles.execute();
+                    pstmt.setInt(1, customer.getID());
+                    pstmt.setInt(2, vehicle.getID());
+                    batch.add();
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            batch.flush();
         }
     }
+
+    /**
+     * Sets the customers columns, in INSERT_QUERY order
+     * 
+     * @param pstmt    the PreparedStatement object
+     * @param customer the Customer object
+     * @throws SQLException if there is a database error
+     */
+    private void setCustomerFields(PreparedStatement pstmt, Customer customer) throws SQLException {
+        pstmt.setInt(1, customer.getID());
+        pstmt.setString(2, customer.getFirstName());
+        pstmt.setString(3, customer.getLastName());
+        pstmt.setDate(4, java.sql.Date.valueOf(customer.getBirthday()));
+        pstmt.setString(5, customer.getPhoneNumber());
+        pstmt.setString(6, customer.getAddress());
+        pstmt.setBigDecimal(7, Money.toBigDecimal(customer.getBalanceCents()));
+    }
 }
@@ -0,0 +1,55 @@
+/**
+ * Runs database work inside one explicit transaction.
+ * The work is committed if it completes and rolled back if it throws.
+ * When the Connection is already inside a transaction (auto-commit off) the
+ * work joins it instead, and failures are rethrown for the outer
+ * transaction to roll back, so several saves can commit together.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+package usedcardealership.data.databasehandling;
+
+import java.sql.*;
+
+public class DatabaseTransaction {
+
+    /**
+     * Work that talks to the database
+     */
+    public interface Work {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Runs the work in a transaction, committing or rolling back
+     * 
+     * @param connection the JDBC Connection object
+     * @param work       the work to run
+     * @throws SQLException if the work or the commit fails, after rolling back
+     */
+    public static void run(Connection connection, Work work) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection cannot be null.");
+        }
+        if (!connection.getAutoCommit()) {
+            // Already in a transaction, let its owner commit or roll back
+            work.run();
+            return;
+        }
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
@@ -11,25 +11,69 @@ import java.sql.*;
 import java.util.*;
 
 import usedcardealership.data.IDataHandler;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.Customer;
-import usedcardealership.data.filehandling.VehicleHelper;
-import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.transaction.*;
 import usedcardealership.data.vehicle.Vehicle;
 
 public class TransactionDatabaseHandler implements IDataHandler<Transaction> {
+    // Rows the driver fetches per round-trip while loading
+    private static final int FETCH_SIZE = 1000;
+
     private Connection connection;
+    private final int batchSize;
+    private final TransactionReferences references;
 
     /**
-     * Constructor for TransactionDatabaseHandler
+     * Constructor for TransactionDatabaseHandler, for saving Transactions
      * 
      * @param connection the JDBC Connection object
      */
     public TransactionDatabaseHandler(Connection connection) {
+        this(connection, BatchedStatement.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for TransactionDatabaseHandler, for saving Transactions
+     * 
+     * @param connection the JDBC Connection object
+     * @param batchSize  the number of rows sent per round-trip when saving
+     */
+    public TransactionDatabaseHandler(Connection connection, int batchSize) {
+        this(connection, batchSize, new TransactionReferences());
+    }
+
+    /**
+     * Constructor for TransactionDatabaseHandler
+     * 
+     * @param connection the JDBC Connection object
+     * @param references the loaded Customers and Vehicles Transactions refer to
+     */
+    public TransactionDatabaseHandler(Connection connection, TransactionReferences references) {
+        this(connection, BatchedStatement.DEFAULT_BATCH_SIZE, references);
+    }
+
+    /**
+     * Constructor for TransactionDatabaseHandler
+     * 
+     * @param connection the JDBC Connection object
+     * @param batchSize  the number of rows sent per round-trip when saving
+     * @param references the loaded Customers and Vehicles Transactions refer to
+     */
+    public TransactionDatabaseHandler(Connection connection, int batchSize, TransactionReferences references) {
+        BatchedStatement.validateBatchSize(batchSize);
+        if (references == null) {
+            throw new IllegalArgumentException("References cannot be null.");
+        }
         this.connection = connection;
+        this.batchSize = batchSize;
+        this.references = references;
     }
 
     /**
      * Loads all of the Transactions from the databse using a SELECT query
+     * Only the transactions table is read: each row's Customer and Vehicle
+     * are the already loaded ones with its customer_id and vehicle_id
      * 
      * @return List<Transaction> - the List of Transactions loaded from the database
      * @throws SQLException if there is a database error
@@ -37,70 +81,86 @@ public class TransactionDatabaseHandler implements IDataHandler<Transaction> {
     @Override
     public List<Transaction> load() {
         List<Transaction> transactions = new ArrayList<>();
-        String query = "SELECT t.id, t.type, t.date, t.price, t.tax, c.id AS customer_id, "
-                + "c.first_name, c.last_name, c.birthday, c.phone_number, c.address, c.account_balance, "
-                + "v.type AS vehicle_type, v.* "
-                + "FROM transactions t "
-                + "JOIN customers c ON t.customer_id = c.id "
-                + "JOIN vehicles v ON t.vehicle_id = v.id";
-        try (Statement stmt = this.connection.createStatement();
-                ResultSet rs = stmt.executeQuery(query)) {
-            while (rs.next()) {
-                // Parse Customer object
-                Customer customer = new Customer(
-                        rs.getInt("customer_id"),
-                        rs.getString("first_name"),
-                        rs.getString("last_name"),
-                        rs.getString("birthday"),
-                        rs.getString("phone_number"),
-                        rs.getString("address"),
-                        rs.getDouble("account_balance"),
-                        new ArrayList<>());
-
-                // Parse Vehicle object
-                String vehicleType = rs.getString("vehicle_type");
-                Vehicle vehicle = VehicleHelper.parseVehicleFromResultSet(vehicleType, rs);
-
-                // Parse Transaction object with Customer and Vehicle
-                Transaction transaction = new Transaction(
-                        rs.getInt("id"),
-                        rs.getString("type"),
-                        rs.getDate("date").toLocalDate(),
-                        rs.getDouble("price"),
-                        customer,
-                        vehicle);
-                transactions.add(transaction);
-            }
+        try {
+            // One transaction so PostgreSQL streams rows in FETCH_SIZE chunks
+            DatabaseTransaction.run(connection, () -> read(transactions));
         } catch (SQLException e) {
             e.printStackTrace();
         }
         return transactions;
     }
 
+    /**
+     * Reads every Transaction into the given List
+     * 
+     * @param transactions the List to add the Transactions to
+     * @throws SQLException if there is a database error
+     */
+    private void read(List<Transaction> transactions) throws SQLException {
+        String query = "SELECT id, type, date, price, customer_id, vehicle_id FROM transactions ORDER BY id";
+        try (PreparedStatement stmt = this.connection.prepareStatement(query)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    // Share the loaded Customer and Vehicle
+                    Customer customer = this.references.getCustomer(rs.getInt("customer_id"));
+                    Vehicle vehicle = this.references.getVehicle(rs.getInt("vehicle_id"));
+
+                    // Parse Transaction object with Customer and Vehicle
+                    Transaction transaction = new Transaction(
+                            rs.getInt("id"),
+                            rs.getString("type"),
+                            rs.getDate("date").toLocalDate(),
+                            Money.toDollars(Money.fromBigDecimal(rs.getBigDecimal("price"))),
+                            customer,
+                            vehicle);
+                    transactions.add(transaction);
+                }
+            }
+        }
+    }
+
     /**
      * Writes an List of Transactions to the databse with an INSERT statement
+     * Rolls back if anything fails
      * 
      * @param transactions - The List of Transactions to INSERT into the database
-     * @throws SQLException if there is a database error
      */
     @Override
     public void save(List<Transaction> transactions) {
+        try {
+            write(transactions);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a List of Transactions to the database in batched INSERTs inside
+     * one transaction, or inside the caller's transaction if one is open
+     * 
+     * @param transactions the List of Transactions to INSERT into the database
+     * @throws SQLException if there is a database error, after rolling back
+     */
+    public void write(List<Transaction> transactions) throws SQLException {
         String query = "INSERT INTO transactions (id, type, date, price, tax, customer_id, vehicle_id) "
                 + "VALUES (?, ?, ?, ?, ?, ?, ?)";
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            for (Transaction transaction : transactions) {
-                pstmt.setInt(1, transaction.getID());
-                pstmt.setString(2, transaction.getType());
-                pstmt.setDate(3, java.sql.Date.valueOf(transaction.getDate()));
-                pstmt.setDouble(4, transaction.getPrice());
-                pstmt.setDouble(5, transaction.getTax());
-                pstmt.setInt(6, transaction.getCustomer().getID());
-                pstmt.setInt(7, transaction.getVehicle().getID());
-                pstmt.execute();
+        DatabaseTransaction.run(connection, () -> {
+            try (BatchedStatement batch = new BatchedStatement(connection, query, batchSize)) {
+                PreparedStatement pstmt = batch.getStatement();
+                for (Transaction transaction : transactions) {
+                    pstmt.setInt(1, transaction.getID());
+                    pstmt.setString(2, transaction.getType());
+                    pstmt.setDate(3, java.sql.Date.valueOf(transaction.getDate()));
+                    pstmt.setBigDecimal(4, Money.toBigDecimal(transaction.getPriceCents()));
+                    pstmt.setDouble(5, transaction.getTax());
+                    pstmt.setInt(6, transaction.getCustomer().getID());
+                    pstmt.setInt(7, transaction.getVehicle().getID());
+                    batch.add();
+                }
+                batch.flush();
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        });
     }
 }
@@ -10,12 +10,24 @@ package usedcardealership.data.databasehandling;
 import java.sql.*;
 import java.util.*;
 
+import usedcardealership.data.ChangeSet;
 import usedcardealership.data.IDataHandler;
+import usedcardealership.data.Money;
 import usedcardealership.data.filehandling.VehicleHelper;
 import usedcardealership.data.vehicle.*;
 
 public class VehicleDatabaseHandler implements IDataHandler<Vehicle> {
+    private static final String INSERT_QUERY = "INSERT INTO vehicles (id, type, make, model, year, price, color, transmission, drive_type, horsepower, weight, kilometerage, damage,"
+            + " is_electric, engine_cc, handlebar_type, num_doors, num_seats, has_sunroof, sleep_capacity, has_bathroom, is_convertible, cargo_capacity, has_thirdrow"
+            + "_seating, has_sliding_doors, bed_length, towing_capacity) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Same parameter order as INSERT_QUERY, with the ID repeated for the WHERE
+    private static final String UPDATE_QUERY = "UPDATE vehicles SET id = ?, type = ?, make = ?, model = ?, year = ?, price = ?, color = ?, transmission = ?,"
+            + " drive_type = ?, horsepower = ?, weight = ?, kilometerage = ?, damage = ?, is_electric = ?, engine_cc = ?, handlebar_type = ?, num_doors = ?,"
+            + " num_seats = ?, has_sunroof = ?, sleep_capacity = ?, has_bathroom = ?, is_convertible = ?, cargo_capacity = ?, has_thirdrow_seating = ?,"
+            + " has_sliding_doors = ?, bed_length = ?, towing_capacity = ? WHERE id = ?";
+
     private final Connection connection;
+    private final int batchSize;
 
     /**
      * Constructor for VehicleDatabaseHandler
@@ -23,7 +35,19 @@ public class VehicleDatabaseHandler implements IDataHandler<Vehicle> {
      * @param connection the JDBC Connection object
      */
     public VehicleDatabaseHandler(Connection connection) {
+        this(connection, BatchedStatement.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for VehicleDatabaseHandler
+     * 
+     * @param connection the JDBC Connection object
+     * @param batchSize  the number of rows sent per round-trip when saving
+     */
+    public VehicleDatabaseHandler(Connection connection, int batchSize) {
+        BatchedStatement.validateBatchSize(batchSize);
         this.connection = connection;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -88,7 +112,7 @@ public class VehicleDatabaseHandler implements IDataHandler<Vehicle> {
      * 
      * @throws SQLException if there is a database error
      */
-    private void clearAllTables() {
+    private void clearAllTables() throws SQLException {
         String deleteCustomersVehiclesQuery = "DELETE FROM customers_vehicles";
         String deleteTransactionsQuery = "DELETE FROM transactions";
         String deleteVehiclesQuery = "DELETE FROM vehicles";
@@ -104,32 +128,106 @@ public class VehicleDatabaseHandler implements IDataHandler<Vehicle> {
             pstmt2.executeUpdate();
             pstmt3.executeUpdate();
             pstmt4.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
     }
 
     /**
      * Saves a List of Vehicles to the databse using an INSERT statement
      * Uses clearAllTables method at start before starting INSERTs
+     * Rolls back to the previous data if anything fails
      * 
      * @param vehicles the List of Vehicles to save to the database
-     * @throws SQLException if there is a database errror
      */
     @Override
     public void save(List<Vehicle> vehicles) {
-        clearAllTables();
-        String query = "INSERT INTO vehicles (id, type, make, model, year, price, color, transmission, drive_type, horsepower, weight, kilometerage, damage,"
-                + " is_electric, engine_cc, handlebar_type, num_doors, num_seats, has_sunroof, sleep_capacity, has_bathroom, is_convertible, cargo_capacity, has_thirdrow"
-                + "_seating, has_sliding_doors, bed_length, towing_capacity) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try {
+            write(vehicles);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Saves a List of Vehicles to the database in batched INSERTs inside one
+     * transaction, or inside the caller's transaction if one is open
+     * 
+     * @param vehicles the List of Vehicles to save to the database
+     * @throws SQLException if there is a database error, after rolling back
+     */
+    public void write(List<Vehicle> vehicles) throws SQLException {
+        DatabaseTransaction.run(connection, () -> {
+            clearAllTables();
+            insert(vehicles);
+        });
+    }
+
+    /**
+     * Saves only the Vehicles changed since the last save, inside one
+     * transaction or the caller's transaction if one is open
+     * Dirty Vehicles are updated by ID and inserted if no row had that ID,
+     * deleted Vehicles are deleted by ID, which also deletes their Customer
+     * links and Transactions through the cascading foreign keys
+     * 
+     * @param changes the Vehicles changed since the last save
+     * @throws SQLException if there is a database error, after rolling back
+     */
+    public void saveChanges(ChangeSet<Vehicle> changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Vehicle> dirty = changes.getDirty();
+        DatabaseTransaction.run(connection, () -> {
+            int[] counts;
+            try (BatchedStatement batch = new BatchedStatement(connection, UPDATE_QUERY, batchSize)) {
+                PreparedStatement pstmt = batch.getStatement();
+                for (Vehicle v : dirty) {
+                    setCommonFields(pstmt, v);
+                    setTypeSpecificFields(pstmt, v);
+                    pstmt.setInt(28, v.getID());
+                    batch.add();
+                }
+                batch.flush();
+                counts = batch.getUpdateCounts();
+            }
+
+            // Insert the Vehicles the UPDATE found no row for
+            List<Vehicle> missing = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    missing.add(dirty.get(i));
+                }
+            }
+            insert(missing);
+
+            try (BatchedStatement batch = new BatchedStatement(connection, "DELETE FROM vehicles WHERE id = ?",
+                    batchSize)) {
+                for (int id : changes.getDeleted()) {
+                    batch.getStatement().setInt(1, id);
+                    batch.add();
+                }
+                batch.flush();
+            }
+        });
+    }
+
+    /**
+     * Inserts Vehicles in batches on the current transaction
+     * 
+     * @param vehicles the Vehicles to insert
+     * @throws SQLException if there is a database error
+     */
+    private void insert(List<Vehicle> vehicles) throws SQLException {
+        if (vehicles.isEmpty()) {
+            return;
+        }
+        try (BatchedStatement batch = new BatchedStatement(connection, INSERT_QUERY, batchSize)) {
+            PreparedStatement pstmt = batch.getStatement();
             for (Vehicle v : vehicles) {
                 setCommonFields(pstmt, v);
                 setTypeSpecificFields(pstmt, v);
-                pstmt.execute();
+                batch.add();
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            batch.flush();
         }
     }
 
@@ -146,7 +244,7 @@ public class VehicleDatabaseHandler implements IDataHandler<Vehicle> {
         pstmt.setString(3, v.getMake());
         pstmt.setString(4, v.getModel());
         pstmt.setInt(5, v.getYear());
-        pstmt.setDouble(6, v.getPrice());
+        pstmt.setBigDecimal(6, Money.toBigDecimal(v.getPriceCents()));
         pstmt.setString(7, v.getColor());
         pstmt.setString(8, v.getTransmission());
         pstmt.setString(9, v.getDriveType());
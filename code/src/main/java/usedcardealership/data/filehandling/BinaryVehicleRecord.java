@@ -0,0 +1,158 @@
+/**
+ * Vehicle records in a binary snapshot.
+ * A record holds the fields of Vehicle.toCSVFields at fixed offsets, in a
+ * layout picked by the Vehicle's type: ints, doubles and booleans as their
+ * bytes and text as its index in the snapshot's string table. Reading goes
+ * through CsvRecord, so VehicleHelper builds a Vehicle from a record the
+ * same way it does from a CSV line, with nothing to parse.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+class BinaryVehicleRecord implements CsvRecord {
+    private static final byte TEXT = 'S';
+    private static final byte INT = 'I';
+    private static final byte DOUBLE = 'D';
+    private static final byte BOOLEAN = 'B';
+    // type, id, make, model, year, price, color, transmission, drive type,
+    // horsepower, weight, kilometerage, damage, is electric
+    private static final String COMMON = "SISSIDSSSIDDDB";
+    private static final Map<String, Layout> LAYOUTS = new HashMap<>();
+    // Largest record of any type, what a writer must have room for
+    static final int MAX_SIZE;
+
+    static {
+        LAYOUTS.put("Motorcycle", new Layout(COMMON + "DS"));
+        LAYOUTS.put("RV", new Layout(COMMON + "IIBIB"));
+        LAYOUTS.put("Car", new Layout(COMMON + "IIBB"));
+        LAYOUTS.put("SUV", new Layout(COMMON + "IIBB"));
+        LAYOUTS.put("PickupTruck", new Layout(COMMON + "IIBDDD"));
+        LAYOUTS.put("Van", new Layout(COMMON + "IIBDB"));
+        int max = 0;
+        for (Layout layout : LAYOUTS.values()) {
+            max = Math.max(max, layout.size);
+        }
+        MAX_SIZE = max;
+    }
+
+    private final ByteBuffer buffer;
+    private final StringTable strings;
+    private Layout layout;
+    private int start;
+
+    /**
+     * Reads records from a buffer.
+     *
+     * @param buffer  the section holding the records
+     * @param strings the snapshot's string table
+     */
+    BinaryVehicleRecord(ByteBuffer buffer, StringTable strings) {
+        this.buffer = buffer;
+        this.strings = strings;
+    }
+
+    /**
+     * Moves to the record at a position.
+     *
+     * @param position where the record starts
+     * @return where the next record starts
+     */
+    int moveTo(int position) {
+        this.start = position;
+        String type = this.strings.get(this.buffer.getInt(position));
+        this.layout = LAYOUTS.get(type);
+        if (this.layout == null) {
+            throw new IllegalArgumentException("Unknown vehicle type: " + type);
+        }
+        return position + this.layout.size;
+    }
+
+    /**
+     * Writes a Vehicle as a record.
+     *
+     * @param vehicle the Vehicle
+     * @param out     the buffer to write to, with MAX_SIZE bytes free
+     * @param strings the string table being built
+     */
+    static void write(Vehicle vehicle, ByteBuffer out, StringTable.Builder strings) {
+        String[] fields = vehicle.toCSVFields();
+        Layout layout = LAYOUTS.get(fields[0]);
+        if (layout == null) {
+            throw new IllegalArgumentException("Unknown vehicle type: " + fields[0]);
+        }
+        for (int i = 0; i < layout.kinds.length; i++) {
+            switch (layout.kinds[i]) {
+                case TEXT:
+                    out.putInt(strings.indexOf(fields[i]));
+                    break;
+                case INT:
+                    out.putInt(Integer.parseInt(fields[i]));
+                    break;
+                case DOUBLE:
+                    out.putDouble(Double.parseDouble(fields[i]));
+                    break;
+                default:
+                    out.put((byte) (Boolean.parseBoolean(fields[i]) ? 1 : 0));
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.layout.kinds.length;
+    }
+
+    @Override
+    public String getString(int i) {
+        return this.strings.get(this.buffer.getInt(this.start + this.layout.offsets[i]));
+    }
+
+    @Override
+    public String getSymbol(int i) {
+        return this.strings.getSymbol(this.buffer.getInt(this.start + this.layout.offsets[i]));
+    }
+
+    @Override
+    public int getInt(int i) {
+        return this.buffer.getInt(this.start + this.layout.offsets[i]);
+    }
+
+    @Override
+    public double getDouble(int i) {
+        return this.buffer.getDouble(this.start + this.layout.offsets[i]);
+    }
+
+    @Override
+    public boolean getBoolean(int i) {
+        return this.buffer.get(this.start + this.layout.offsets[i]) != 0;
+    }
+
+    /**
+     * The kind and offset of each field of one type of Vehicle.
+     */
+    private static final class Layout {
+        private final byte[] kinds;
+        private final int[] offsets;
+        private final int size;
+
+        Layout(String kinds) {
+            this.kinds = new byte[kinds.length()];
+            this.offsets = new int[kinds.length()];
+            int offset = 0;
+            for (int i = 0; i < kinds.length(); i++) {
+                this.kinds[i] = (byte) kinds.charAt(i);
+                this.offsets[i] = offset;
+                offset += this.kinds[i] == DOUBLE ? 8 : this.kinds[i] == BOOLEAN ? 1 : 4;
+            }
+            this.size = offset;
+        }
+    }
+}
@@ -37,4 +37,22 @@ public class CouponFileHandler {
         }
         return coupons;
     }
+
+    /**
+     * Saves coupons in the format load reads.
+     * 
+     * @param coupons the coupons to save
+     * @throws IOException if the file cannot be written
+     */
+    public void save(List<Coupon> coupons) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Coupon coupon : coupons) {
+            if (coupon instanceof PercentageCoupon) {
+                lines.add("Percentage," + coupon.getCode() + "," + ((PercentageCoupon) coupon).getDiscountPercentage());
+            } else if (coupon instanceof NumericCoupon) {
+                lines.add("Numeric," + coupon.getCode() + "," + ((NumericCoupon) coupon).getDiscountAmount());
+            }
+        }
+        Files.write(Paths.get(couponFile), lines);
+    }
 }
@@ -0,0 +1,343 @@
+/**
+ * Streaming reader for comma separated files.
+ * Reads the file through a channel into one reusable buffer and only
+ * records where each field of the current line starts and ends, so no line
+ * String or String[] is created. Numbers are parsed directly from the
+ * buffer's bytes, only text fields become Strings. Categorical fields read
+ * with getSymbol are looked up by their bytes, so a repeated make or color
+ * costs no String at all.
+ * Fields are not quoted, matching the files the dealership writes.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import usedcardealership.data.vehicle.Symbols;
+
+public class CsvReader implements CsvRecord, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    // Exact powers of ten, so one division rounds the same as Double.parseDouble
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+    private byte[] bytes;
+    private int lineEnd;
+    private int limit;
+    private boolean endOfInput;
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+    private int fieldCount;
+    private final SymbolCache symbols = new SymbolCache();
+
+    /**
+     * CsvReader Constructor
+     *
+     * @param channel the channel to read, closed along with the reader
+     */
+    public CsvReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * CsvReader Constructor
+     *
+     * @param channel    the channel to read, closed along with the reader
+     * @param bufferSize the starting buffer size, grown if a line is longer
+     */
+    public CsvReader(ReadableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null.");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.bytes = this.buffer.array();
+        this.fieldStarts = new int[32];
+        this.fieldEnds = new int[32];
+    }
+
+    /**
+     * Advances to the next non-empty line.
+     *
+     * @return true if a line was read, false at the end of the input
+     * @throws IOException if the channel cannot be read
+     */
+    public boolean nextLine() throws IOException {
+        while (true) {
+            int start = this.lineEnd;
+            // Step over the newline ending the previous line
+            if (start < this.limit && this.bytes[start] == '\n') {
+                start++;
+            }
+            int newline = indexOf('\n', start);
+            while (newline < 0 && !this.endOfInput) {
+                start = fill(start);
+                newline = indexOf('\n', start);
+            }
+            if (newline < 0) {
+                if (start >= this.limit) {
+                    this.lineEnd = this.limit;
+                    this.fieldCount = 0;
+                    return false;
+                }
+                // Last line without a trailing newline
+                newline = this.limit;
+            }
+            this.lineEnd = newline;
+            int end = newline;
+            if (end > start && this.bytes[end - 1] == '\r') {
+                end--;
+            }
+            if (end > start) {
+                split(start, end);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.fieldCount;
+    }
+
+    @Override
+    public String getString(int i) {
+        Objects.checkIndex(i, this.fieldCount);
+        int start = this.fieldStarts[i];
+        return new String(this.bytes, start, this.fieldEnds[i] - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getSymbol(int i) {
+        Objects.checkIndex(i, this.fieldCount);
+        return this.symbols.get(this.bytes, this.fieldStarts[i], this.fieldEnds[i]);
+    }
+
+    @Override
+    public int getInt(int i) {
+        Objects.checkIndex(i, this.fieldCount);
+        int pos = this.fieldStarts[i];
+        int end = this.fieldEnds[i];
+        boolean negative = pos < end && this.bytes[pos] == '-';
+        if (pos < end && (this.bytes[pos] == '-' || this.bytes[pos] == '+')) {
+            pos++;
+        }
+        // Nine digits can never overflow an int
+        if (pos == end || end - pos > 9) {
+            return Integer.parseInt(getString(i));
+        }
+        int value = 0;
+        for (; pos < end; pos++) {
+            int digit = this.bytes[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(getString(i));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    @Override
+    public double getDouble(int i) {
+        Objects.checkIndex(i, this.fieldCount);
+        int pos = this.fieldStarts[i];
+        int end = this.fieldEnds[i];
+        boolean negative = pos < end && this.bytes[pos] == '-';
+        if (pos < end && (this.bytes[pos] == '-' || this.bytes[pos] == '+')) {
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; pos < end; pos++) {
+            byte b = this.bytes[pos];
+            if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = b - '0';
+            if (digit < 0 || digit > 9) {
+                // Exponents, NaN, whitespace and so on
+                return Double.parseDouble(getString(i));
+            }
+            mantissa = mantissa * 10 + digit;
+            digits++;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        // Fast path is exact only while the mantissa fits in a double's 53 bits
+        if (digits == 0 || digits > 15 || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(getString(i));
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    @Override
+    public boolean getBoolean(int i) {
+        Objects.checkIndex(i, this.fieldCount);
+        int start = this.fieldStarts[i];
+        if (this.fieldEnds[i] - start != 4) {
+            return false;
+        }
+        return (this.bytes[start] | 0x20) == 't' && (this.bytes[start + 1] | 0x20) == 'r'
+                && (this.bytes[start + 2] | 0x20) == 'u' && (this.bytes[start + 3] | 0x20) == 'e';
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Records the field boundaries of the line between start and end.
+     *
+     * @param start the first byte of the line
+     * @param end   the byte after the line's last character
+     */
+    private void split(int start, int end) {
+        int count = 0;
+        int fieldStart = start;
+        for (int pos = start; pos <= end; pos++) {
+            if (pos == end || this.bytes[pos] == ',') {
+                if (count == this.fieldStarts.length) {
+                    this.fieldStarts = Arrays.copyOf(this.fieldStarts, count * 2);
+                    this.fieldEnds = Arrays.copyOf(this.fieldEnds, count * 2);
+                }
+                this.fieldStarts[count] = fieldStart;
+                this.fieldEnds[count] = pos;
+                count++;
+                fieldStart = pos + 1;
+            }
+        }
+        this.fieldCount = count;
+    }
+
+    /**
+     * Moves the unread bytes from start to the front of the buffer, growing
+     * it if it is already full, and reads more from the channel.
+     *
+     * @param start the first unread byte
+     * @return the new position of that byte
+     * @throws IOException if the channel cannot be read
+     */
+    private int fill(int start) throws IOException {
+        int remaining = this.limit - start;
+        if (remaining == this.bytes.length) {
+            this.buffer = ByteBuffer.allocate(this.bytes.length * 2);
+            System.arraycopy(this.bytes, start, this.buffer.array(), 0, remaining);
+            this.bytes = this.buffer.array();
+        } else {
+            System.arraycopy(this.bytes, start, this.bytes, 0, remaining);
+        }
+        this.buffer.clear();
+        this.buffer.position(remaining);
+        int read = this.channel.read(this.buffer);
+        while (read == 0) {
+            read = this.channel.read(this.buffer);
+        }
+        if (read < 0) {
+            this.endOfInput = true;
+        }
+        this.limit = this.buffer.position();
+        this.lineEnd = 0;
+        return 0;
+    }
+
+    /**
+     * Finds a byte in the buffered data.
+     *
+     * @param target the byte to find
+     * @param from   the position to start at
+     * @return the byte's position, or -1 if it is not buffered
+     */
+    private int indexOf(char target, int from) {
+        for (int pos = from; pos < this.limit; pos++) {
+            if (this.bytes[pos] == target) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Maps field bytes to the Symbols instance of their text, so a value seen
+     * before on this reader is found without decoding it.
+     */
+    private static class SymbolCache {
+        // Files with more distinct values than this are interned without caching
+        private static final int MAX_ENTRIES = 4096;
+
+        private byte[][] keys = new byte[256][];
+        private String[] values = new String[256];
+        private int entries;
+
+        String get(byte[] bytes, int start, int end) {
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            int mask = this.keys.length - 1;
+            int slot = hash & mask;
+            while (this.keys[slot] != null) {
+                if (Arrays.equals(this.keys[slot], 0, this.keys[slot].length, bytes, start, end)) {
+                    return this.values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            String value = Symbols.intern(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+            if (this.entries < MAX_ENTRIES) {
+                this.keys[slot] = Arrays.copyOfRange(bytes, start, end);
+                this.values[slot] = value;
+                this.entries++;
+                // Keep the table at most half full
+                if (this.entries * 2 > this.keys.length) {
+                    grow();
+                }
+            }
+            return value;
+        }
+
+        private void grow() {
+            byte[][] oldKeys = this.keys;
+            String[] oldValues = this.values;
+            this.keys = new byte[oldKeys.length * 2][];
+            this.values = new String[oldKeys.length * 2];
+            int mask = this.keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null) {
+                    continue;
+                }
+                int hash = 1;
+                for (byte b : oldKeys[i]) {
+                    hash = 31 * hash + b;
+                }
+                int slot = hash & mask;
+                while (this.keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * One CSV record whose fields can be read by position.
+ * Lets VehicleHelper parse a Vehicle the same way whether the fields come
+ * from a split String[] or straight from CsvReader's byte buffer.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import usedcardealership.data.vehicle.Symbols;
+
+public interface CsvRecord {
+    /**
+     * Gets the number of fields in the record.
+     *
+     * @return the field count
+     */
+    int size();
+
+    /**
+     * Reads a field as text.
+     *
+     * @param i the field position
+     * @return the field's text
+     */
+    String getString(int i);
+
+    /**
+     * Reads a categorical field, e.g. a make or a color, as the shared
+     * instance from Symbols.
+     *
+     * @param i the field position
+     * @return the field's text, shared with every equal field
+     */
+    default String getSymbol(int i) {
+        return Symbols.intern(getString(i));
+    }
+
+    /**
+     * Reads a field as an int, with the same rules as Integer.parseInt.
+     *
+     * @param i the field position
+     * @return the field's value
+     */
+    int getInt(int i);
+
+    /**
+     * Reads a field as a double, with the same rules as Double.parseDouble.
+     *
+     * @param i the field position
+     * @return the field's value
+     */
+    double getDouble(int i);
+
+    /**
+     * Reads a field as a boolean, with the same rules as
+     * Boolean.parseBoolean.
+     *
+     * @param i the field position
+     * @return the field's value
+     */
+    boolean getBoolean(int i);
+}
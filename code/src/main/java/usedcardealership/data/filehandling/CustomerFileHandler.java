@@ -13,6 +13,7 @@ import java.io.*;
 import java.util.*;
 
 import usedcardealership.data.IDataHandler;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.*;
 import usedcardealership.data.vehicle.*;
 
@@ -93,7 +94,7 @@ public class CustomerFileHandler implements IDataHandler<Customer> {
                     customer.getBirthday(),
                     customer.getPhoneNumber(),
                     customer.getAddress(),
-                    String.valueOf(customer.getAccountBalance()));
+                    Money.format(customer.getBalanceCents()));
 
             // Convert each vehicle in the customer's list to CSV format
             List<String> vehicleStrings = new ArrayList<>();
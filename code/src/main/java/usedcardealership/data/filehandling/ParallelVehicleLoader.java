@@ -0,0 +1,283 @@
+/**
+ * Loads large Vehicle CSV files in parallel.
+ * Splits the file into byte ranges that start right after a newline, memory
+ * maps each range and parses it with CsvReader on a fork-join pool, then
+ * concatenates the chunks so Vehicles come back in file order.
+ * When a chunk fails the others stop at their next line, and the load waits
+ * for all of them before closing the file, then throws the first failure.
+ * Files smaller than the chunk threshold are streamed on the calling thread.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import usedcardealership.data.vehicle.*;
+
+public class ParallelVehicleLoader {
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    // A single mapping must stay under 2GB, keep chunks well below that
+    private static final long MAX_CHUNK_SIZE = 256L << 20;
+
+    private final ForkJoinPool pool;
+    private final long minChunkSize;
+
+    /**
+     * ParallelVehicleLoader Constructor
+     * Parses on the common fork-join pool.
+     */
+    public ParallelVehicleLoader() {
+        this(ForkJoinPool.commonPool(), MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * ParallelVehicleLoader Constructor
+     *
+     * @param pool         the pool to parse chunks on
+     * @param minChunkSize the smallest chunk worth handing to another thread,
+     *                     also the file size below which nothing is split
+     */
+    public ParallelVehicleLoader(ForkJoinPool pool, long minChunkSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        if (minChunkSize <= 0) {
+            throw new IllegalArgumentException("Minimum chunk size must be positive.");
+        }
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Loads every Vehicle in the file.
+     *
+     * @param filePath the CSV file to load
+     * @return the Vehicles in file order
+     * @throws IOException if the file cannot be read
+     */
+    public List<Vehicle> load(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            if (bounds.length == 2) {
+                return parse(new CsvReader(channel));
+            }
+            List<ForkJoinTask<List<Vehicle>>> tasks = new ArrayList<>();
+            AtomicBoolean failed = new AtomicBoolean();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(this.pool.submit(() -> {
+                    try {
+                        return parse(channel, start, end, failed);
+                    } catch (IOException | RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
+            }
+            int total = 0;
+            List<List<Vehicle>> chunks = new ArrayList<>(tasks.size());
+            try {
+                for (ForkJoinTask<List<Vehicle>> task : tasks) {
+                    List<Vehicle> chunk = join(task);
+                    chunks.add(chunk);
+                    total += chunk.size();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Chunks still parsing read the channel, they must stop before it closes
+                failed.set(true);
+                for (ForkJoinTask<List<Vehicle>> task : tasks) {
+                    task.quietlyJoin();
+                }
+                throw e;
+            }
+            List<Vehicle> vehicles = new ArrayList<>(total);
+            for (List<Vehicle> chunk : chunks) {
+                vehicles.addAll(chunk);
+            }
+            return vehicles;
+        }
+    }
+
+    /**
+     * Picks chunk boundaries, each one just after a newline.
+     *
+     * @param channel the file to split
+     * @return the chunk offsets, first 0 and last the file size
+     * @throws IOException if the file cannot be read
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < this.minChunkSize * 2) {
+            return new long[] { 0, size };
+        }
+        // A few chunks per worker so uneven chunks still balance out
+        long target = size / ((long) this.pool.getParallelism() * 4);
+        long chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(this.minChunkSize, target));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = chunkSize;
+        while (position < size) {
+            long lineStart = nextLineStart(channel, position, probe);
+            if (lineStart >= size) {
+                break;
+            }
+            bounds.add(lineStart);
+            position = lineStart + chunkSize;
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the start of the first line beginning at or after a position.
+     *
+     * @param channel  the file to search
+     * @param position where to start looking
+     * @param probe    a scratch buffer
+     * @return the offset after the next newline, or the file size if none
+     * @throws IOException if the file cannot be read
+     */
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        // Step back one byte so a boundary right after a newline is kept
+        long offset = position - 1;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * Maps and parses the Vehicles between two line boundaries.
+     *
+     * @param channel the file to read
+     * @param start   the first byte of the chunk
+     * @param end     the byte after the chunk
+     * @param stop    set when another chunk failed, parsing stops early
+     * @return the chunk's Vehicles in file order
+     * @throws IOException if the file cannot be read
+     */
+    private static List<Vehicle> parse(FileChannel channel, long start, long end, AtomicBoolean stop)
+            throws IOException {
+        if (end <= start) {
+            return new ArrayList<>();
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return parse(new CsvReader(new BufferChannel(mapped)), stop);
+    }
+
+    /**
+     * Parses every Vehicle a reader returns, then closes it.
+     *
+     * @param csvReader the reader to drain
+     * @return the Vehicles in the order read
+     * @throws IOException if the input cannot be read
+     */
+    private static List<Vehicle> parse(CsvReader csvReader) throws IOException {
+        return parse(csvReader, new AtomicBoolean());
+    }
+
+    /**
+     * Parses the Vehicles a reader returns until it ends or stop is set,
+     * then closes it.
+     *
+     * @param csvReader the reader to drain
+     * @param stop      checked before each line
+     * @return the Vehicles in the order read
+     * @throws IOException if the input cannot be read
+     */
+    private static List<Vehicle> parse(CsvReader csvReader, AtomicBoolean stop) throws IOException {
+        List<Vehicle> vehicles = new ArrayList<>();
+        try (CsvReader reader = csvReader) {
+            while (!stop.get() && reader.nextLine()) {
+                Vehicle vehicle = VehicleHelper.parseVehicle(reader);
+                if (vehicle != null) {
+                    vehicles.add(vehicle);
+                }
+            }
+        }
+        return vehicles;
+    }
+
+    /**
+     * Waits for a chunk, unwrapping the exception a parse failed with.
+     *
+     * @param task the chunk's task
+     * @return the chunk's Vehicles
+     * @throws IOException if the chunk could not be read
+     */
+    private static List<Vehicle> join(ForkJoinTask<List<Vehicle>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading vehicles.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Exposes a mapped region to CsvReader as a channel, copying it into the
+     * reader's buffer a block at a time.
+     */
+    private static class BufferChannel implements ReadableByteChannel {
+        private final ByteBuffer source;
+        private boolean open = true;
+
+        BufferChannel(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!this.source.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(dst.remaining(), this.source.remaining());
+            dst.put(this.source.slice(this.source.position(), n));
+            this.source.position(this.source.position() + n);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.open;
+        }
+
+        @Override
+        public void close() {
+            this.open = false;
+        }
+    }
+}
@@ -0,0 +1,449 @@
+/**
+ * Saves and loads a whole dealership as one binary snapshot, so startup
+ * does not parse text. The file starts with a magic number, the format
+ * version and a directory of sections: the string table, the dealership's
+ * name and balance, the inventory, the database, the Customers with their
+ * Vehicles, the Transactions and the coupons. Numbers are stored as their
+ * bytes and text as an index in the string table, see BinaryVehicleRecord.
+ * Transactions refer to their Customer and Vehicle by ID and share the
+ * loaded instances. Version 1 snapshots kept a copy of both with every
+ * Transaction, they still load and the next save writes version 2.
+ * Each section is memory mapped on load and read in place.
+ * The snapshot is written beside the old one and moved over it, so a crash
+ * while saving leaves the previous snapshot intact. CSV files stay the
+ * format for interchange: importCsv and exportCsv convert between the two,
+ * and main does the same from the command line.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.Money;
+import usedcardealership.data.coupons.*;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class SnapshotFileHandler {
+    private static final int MAGIC = 0x56554344;
+    private static final int VERSION = 2;
+    // Transactions with copies of their Customer and Vehicle
+    private static final int EMBEDDED_VERSION = 1;
+    private static final int STRINGS = 0;
+    private static final int DEALERSHIP = 1;
+    private static final int INVENTORY = 2;
+    private static final int DATABASE = 3;
+    private static final int CUSTOMERS = 4;
+    private static final int TRANSACTIONS = 5;
+    private static final int COUPONS = 6;
+    private static final int SECTION_COUNT = 7;
+    // Magic, version and section count, then kind, offset and length per section
+    private static final int HEADER_SIZE = 12 + SECTION_COUNT * 20;
+    // Id, five strings and the balance
+    private static final int CUSTOMER_SIZE = 4 + 5 * 4 + 8;
+    // Id, type, date and price, then the Customer and Vehicle IDs
+    private static final int TRANSACTION_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+    private static final byte PERCENTAGE = 0;
+    private static final byte NUMERIC = 1;
+
+    private final Path filePath;
+
+    /**
+     * Constructs a SnapshotFileHandler with the specified file path.
+     *
+     * @param filePath the snapshot file
+     */
+    public SnapshotFileHandler(String filePath) {
+        this.filePath = Paths.get(filePath);
+    }
+
+    /**
+     * Checks whether a snapshot has been saved.
+     *
+     * @return true if the snapshot file exists
+     */
+    public boolean exists() {
+        return Files.exists(this.filePath);
+    }
+
+    /**
+     * Writes a dealership to the snapshot file.
+     *
+     * @param state the dealership to save
+     * @throws IOException if the file cannot be written
+     */
+    public void save(DealershipState state) throws IOException {
+        if (state == null) {
+            throw new IllegalArgumentException("State cannot be null.");
+        }
+        Path temp = this.filePath.resolveSibling(this.filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SectionWriter out = new SectionWriter(channel);
+            StringTable.Builder strings = new StringTable.Builder();
+
+            out.begin(DEALERSHIP);
+            out.room(12).putInt(strings.indexOf(state.getName())).putLong(state.getBalanceCents());
+            out.begin(INVENTORY);
+            writeVehicles(out, state.getInventory(), strings);
+            out.begin(DATABASE);
+            writeVehicles(out, state.getDatabase(), strings);
+            out.begin(CUSTOMERS);
+            out.room(4).putInt(state.getCustomers().size());
+            for (Customer customer : state.getCustomers()) {
+                writeCustomer(out, customer, strings);
+                writeVehicles(out, customer.getVehicles(), strings);
+            }
+            out.begin(TRANSACTIONS);
+            writeTransactions(out, state.getTransactions(), strings);
+            out.begin(COUPONS);
+            out.room(4).putInt(state.getCoupons().size());
+            for (Coupon coupon : state.getCoupons()) {
+                boolean numeric = coupon instanceof NumericCoupon;
+                double discount = numeric ? ((NumericCoupon) coupon).getDiscountAmount()
+                        : ((PercentageCoupon) coupon).getDiscountPercentage();
+                out.room(13).put(numeric ? NUMERIC : PERCENTAGE).putInt(strings.indexOf(coupon.getCode()))
+                        .putDouble(discount);
+            }
+            // Strings last, every other section has added its own by now
+            out.begin(STRINGS);
+            out.write(strings.toBytes());
+            out.finish();
+        }
+        Files.move(temp, this.filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the dealership from the snapshot file.
+     *
+     * @return the dealership
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public DealershipState load() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.filePath, StandardOpenOption.READ)) {
+            ByteBuffer[] sections = new ByteBuffer[SECTION_COUNT];
+            int version = mapSections(channel, sections);
+            StringTable strings = StringTable.read(sections[STRINGS]);
+
+            ByteBuffer dealership = sections[DEALERSHIP];
+            String name = strings.get(dealership.getInt(0));
+            long balanceCents = dealership.getLong(4);
+
+            ByteBuffer customerSection = sections[CUSTOMERS];
+            BinaryVehicleRecord owned = new BinaryVehicleRecord(customerSection, strings);
+            List<Customer> customers = new ArrayList<>(customerSection.getInt(0));
+            int position = 4;
+            for (int i = customerSection.getInt(0); i > 0; i--) {
+                Customer customer = readCustomer(customerSection, position, strings, new ArrayList<>());
+                position += CUSTOMER_SIZE;
+                int count = customerSection.getInt(position);
+                position = readVehicles(owned, position + 4, count, customer.getVehicles());
+                customers.add(customer);
+            }
+
+            List<Vehicle> inventory = readVehicles(sections[INVENTORY], strings);
+            List<Vehicle> database = readVehicles(sections[DATABASE], strings);
+            TransactionReferences references = new TransactionReferences(customers, inventory, database);
+            ByteBuffer transactionSection = sections[TRANSACTIONS];
+            BinaryVehicleRecord sold = new BinaryVehicleRecord(transactionSection, strings);
+            List<Transaction> transactions = new ArrayList<>(transactionSection.getInt(0));
+            position = 4;
+            for (int i = transactionSection.getInt(0); i > 0; i--) {
+                int id = transactionSection.getInt(position);
+                String type = strings.get(transactionSection.getInt(position + 4));
+                LocalDate date = LocalDate.ofEpochDay(transactionSection.getLong(position + 8));
+                double price = Money.toDollars(transactionSection.getLong(position + 16));
+                Customer customer;
+                Vehicle vehicle;
+                if (version == EMBEDDED_VERSION) {
+                    customer = references.resolve(
+                            readCustomer(transactionSection, position + 24, strings, new ArrayList<>()));
+                    position = sold.moveTo(position + 24 + CUSTOMER_SIZE);
+                    vehicle = references.resolve(VehicleHelper.parseVehicle(sold));
+                } else {
+                    customer = references.getCustomer(transactionSection.getInt(position + 24));
+                    vehicle = references.getVehicle(transactionSection.getInt(position + 28));
+                    position += TRANSACTION_SIZE;
+                }
+                transactions.add(new Transaction(id, type, date, price, customer, vehicle));
+            }
+
+            ByteBuffer couponSection = sections[COUPONS];
+            List<Coupon> coupons = new ArrayList<>(couponSection.getInt(0));
+            position = 4;
+            for (int i = couponSection.getInt(0); i > 0; i--) {
+                String code = strings.get(couponSection.getInt(position + 1));
+                double discount = couponSection.getDouble(position + 5);
+                coupons.add(couponSection.get(position) == NUMERIC ? new NumericCoupon(code, discount)
+                        : new PercentageCoupon(code, discount));
+                position += 13;
+            }
+
+            return new DealershipState(name, balanceCents, inventory, database, customers, transactions, coupons);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot " + this.filePath + " is truncated or corrupt.", e);
+        }
+    }
+
+    /**
+     * Loads a dealership from the CSV files the file handlers read.
+     *
+     * @param directory    the directory holding inventory.csv, database.csv,
+     *                     customers.csv, transactions.csv and coupons.csv
+     * @param name         the dealership's name
+     * @param balanceCents the dealership's balance in cents
+     * @return the dealership
+     * @throws IOException if a file cannot be read
+     */
+    public static DealershipState importCsv(Path directory, String name, long balanceCents) throws IOException {
+        List<Vehicle> inventory = new VehicleFileHandler(directory.resolve("inventory.csv").toString()).loadParallel();
+        List<Vehicle> database = new VehicleFileHandler(directory.resolve("database.csv").toString()).loadParallel();
+        List<Customer> customers = new CustomerFileHandler(directory.resolve("customers.csv").toString()).load();
+        TransactionReferences references = new TransactionReferences(customers, inventory, database);
+        return new DealershipState(name, balanceCents, inventory, database, customers,
+                new TransactionFileHandler(directory.resolve("transactions.csv").toString(), references).load(),
+                new CouponFileHandler(directory.resolve("coupons.csv").toString()).load());
+    }
+
+    /**
+     * Writes a dealership as the CSV files importCsv reads. The name and
+     * balance are not part of them.
+     *
+     * @param state     the dealership
+     * @param directory where to write the files, created if missing
+     * @throws IOException if a file cannot be written
+     */
+    public static void exportCsv(DealershipState state, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        new VehicleFileHandler(directory.resolve("inventory.csv").toString()).save(state.getInventory());
+        new VehicleFileHandler(directory.resolve("database.csv").toString()).save(state.getDatabase());
+        new CustomerFileHandler(directory.resolve("customers.csv").toString()).save(state.getCustomers());
+        new TransactionFileHandler(directory.resolve("transactions.csv").toString()).save(state.getTransactions());
+        new CouponFileHandler(directory.resolve("coupons.csv").toString()).save(state.getCoupons());
+    }
+
+    private static void writeVehicles(SectionWriter out, List<Vehicle> vehicles, StringTable.Builder strings)
+            throws IOException {
+        out.room(4).putInt(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            BinaryVehicleRecord.write(vehicle, out.room(BinaryVehicleRecord.MAX_SIZE), strings);
+        }
+    }
+
+    private static void writeCustomer(SectionWriter out, Customer customer, StringTable.Builder strings)
+            throws IOException {
+        out.room(CUSTOMER_SIZE).putInt(customer.getID())
+                .putInt(strings.indexOf(customer.getFirstName()))
+                .putInt(strings.indexOf(customer.getLastName()))
+                .putInt(strings.indexOf(customer.getBirthday()))
+                .putInt(strings.indexOf(customer.getPhoneNumber()))
+                .putInt(strings.indexOf(customer.getAddress()))
+                .putLong(customer.getBalanceCents());
+    }
+
+    /**
+     * Writes each Transaction as a fixed size record, with the IDs of its
+     * Customer and Vehicle.
+     */
+    private static void writeTransactions(SectionWriter out, List<Transaction> transactions,
+            StringTable.Builder strings) throws IOException {
+        out.room(4).putInt(transactions.size());
+        for (Transaction transaction : transactions) {
+            out.room(TRANSACTION_SIZE).putInt(transaction.getID())
+                    .putInt(strings.indexOf(transaction.getType()))
+                    .putLong(transaction.getDate().toEpochDay())
+                    .putLong(transaction.getPriceCents())
+                    .putInt(transaction.getCustomer().getID())
+                    .putInt(transaction.getVehicle().getID());
+        }
+    }
+
+    private static Customer readCustomer(ByteBuffer buffer, int position, StringTable strings,
+            List<Vehicle> vehicles) {
+        return new Customer(buffer.getInt(position),
+                strings.get(buffer.getInt(position + 4)),
+                strings.get(buffer.getInt(position + 8)),
+                strings.get(buffer.getInt(position + 12)),
+                strings.get(buffer.getInt(position + 16)),
+                strings.get(buffer.getInt(position + 20)),
+                Money.toDollars(buffer.getLong(position + 24)), vehicles);
+    }
+
+    private static List<Vehicle> readVehicles(ByteBuffer section, StringTable strings) {
+        List<Vehicle> vehicles = new ArrayList<>(section.getInt(0));
+        readVehicles(new BinaryVehicleRecord(section, strings), 4, section.getInt(0), vehicles);
+        return vehicles;
+    }
+
+    /**
+     * Reads a run of Vehicle records.
+     *
+     * @return where the record after them starts
+     */
+    private static int readVehicles(BinaryVehicleRecord record, int position, int count, List<Vehicle> vehicles) {
+        for (int i = 0; i < count; i++) {
+            int next = record.moveTo(position);
+            vehicles.add(VehicleHelper.parseVehicle(record));
+            position = next;
+        }
+        return position;
+    }
+
+    /**
+     * Checks the header and maps every section it lists.
+     *
+     * @return the snapshot's format version
+     */
+    private int mapSections(FileChannel channel, ByteBuffer[] sections) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) <= 0) {
+                break;
+            }
+        }
+        header.flip();
+        if (header.remaining() < 12 || header.getInt() != MAGIC) {
+            throw new IOException(this.filePath + " is not a dealership snapshot.");
+        }
+        int version = header.getInt();
+        if (version != VERSION && version != EMBEDDED_VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + " in " + this.filePath + ".");
+        }
+        int count = header.getInt();
+        if (count != SECTION_COUNT || header.remaining() < count * 20) {
+            throw new IOException("Snapshot " + this.filePath + " has a damaged header.");
+        }
+        for (int i = 0; i < count; i++) {
+            int kind = header.getInt();
+            long offset = header.getLong();
+            long length = header.getLong();
+            if (kind < 0 || kind >= SECTION_COUNT || offset < HEADER_SIZE || offset + length > channel.size()) {
+                throw new IOException("Snapshot " + this.filePath + " has a damaged header.");
+            }
+            // One mapping per section, so only a single section has to stay under 2GB
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot section " + kind + " is too large to map.");
+            }
+            sections[kind] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+        return version;
+    }
+
+    /**
+     * Buffers a snapshot's sections and writes them through the channel,
+     * after the space kept for the header, which finish writes last.
+     */
+    private static class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        private final long[] offsets = new long[SECTION_COUNT];
+        private final long[] lengths = new long[SECTION_COUNT];
+        private int section = -1;
+        private long flushed = HEADER_SIZE;
+
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Ends the current section and starts the next one.
+         *
+         * @param kind the section's kind
+         */
+        void begin(int kind) {
+            end();
+            this.section = kind;
+            this.offsets[kind] = position();
+        }
+
+        /**
+         * Makes room for a number of bytes.
+         *
+         * @return the buffer to put them in
+         */
+        ByteBuffer room(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                flush();
+            }
+            return this.buffer;
+        }
+
+        void write(byte[] bytes) throws IOException {
+            flush();
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+            while (wrapped.hasRemaining()) {
+                this.flushed += this.channel.write(wrapped, this.flushed);
+            }
+        }
+
+        /**
+         * Ends the last section, then writes the header and forces the file.
+         */
+        void finish() throws IOException {
+            end();
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(SECTION_COUNT);
+            for (int kind = 0; kind < SECTION_COUNT; kind++) {
+                header.putInt(kind).putLong(this.offsets[kind]).putLong(this.lengths[kind]);
+            }
+            header.flip();
+            while (header.hasRemaining()) {
+                this.channel.write(header, header.position());
+            }
+            this.channel.force(true);
+        }
+
+        private long position() {
+            return this.flushed + this.buffer.position();
+        }
+
+        private void end() {
+            if (this.section >= 0) {
+                this.lengths[this.section] = position() - this.offsets[this.section];
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.flushed += this.channel.write(this.buffer, this.flushed);
+            }
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * Converts between CSV files and a snapshot.
+     *
+     * @param args import (a CSV directory, the snapshot file, the
+     *             dealership's name and balance) or export (the snapshot file
+     *             and a CSV directory)
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 5 && args[0].equals("import")) {
+            DealershipState state = importCsv(Paths.get(args[1]), args[3], Money.parse(args[4]));
+            new SnapshotFileHandler(args[2]).save(state);
+            System.out.println("Imported " + state.getInventory().size() + " inventory vehicles, "
+                    + state.getCustomers().size() + " customers and " + state.getTransactions().size()
+                    + " transactions into " + args[2]);
+        } else if (args.length == 3 && args[0].equals("export")) {
+            exportCsv(new SnapshotFileHandler(args[1]).load(), Paths.get(args[2]));
+            System.out.println("Exported " + args[1] + " to " + args[2]);
+        } else {
+            System.out.println("Usage: import <csv directory> <snapshot> <name> <balance>");
+            System.out.println("       export <snapshot> <csv directory>");
+        }
+    }
+}
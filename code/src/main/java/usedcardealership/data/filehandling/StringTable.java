@@ -0,0 +1,99 @@
+/**
+ * The strings of a binary snapshot, stored once each and referred to by
+ * index. Vehicles' categorical fields are read as the shared Symbols
+ * instance, interned once per distinct value instead of once per Vehicle.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import usedcardealership.data.vehicle.Symbols;
+
+class StringTable {
+    private final String[] strings;
+    private final String[] symbols;
+
+    private StringTable(String[] strings) {
+        this.strings = strings;
+        this.symbols = new String[strings.length];
+    }
+
+    /**
+     * Reads a table written by Builder.write.
+     *
+     * @param buffer the table's section
+     * @return the table
+     */
+    static StringTable read(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt(0)];
+        int position = 4;
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getInt(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + 4, bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += 4 + length;
+        }
+        return new StringTable(strings);
+    }
+
+    String get(int index) {
+        return this.strings[index];
+    }
+
+    String getSymbol(int index) {
+        String symbol = this.symbols[index];
+        if (symbol == null) {
+            symbol = Symbols.intern(this.strings[index]);
+            this.symbols[index] = symbol;
+        }
+        return symbol;
+    }
+
+    /**
+     * Collects strings while a snapshot is written.
+     */
+    static class Builder {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String value) {
+            Integer index = this.indexes.get(value);
+            if (index == null) {
+                index = this.strings.size();
+                this.indexes.put(value, index);
+                this.strings.add(value);
+            }
+            return index;
+        }
+
+        /**
+         * Encodes the table: the count, then each string's length and UTF-8
+         * bytes.
+         *
+         * @return the table's bytes
+         */
+        byte[] toBytes() {
+            List<byte[]> encoded = new ArrayList<>(this.strings.size());
+            int size = 4;
+            for (String value : this.strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                size += 4 + bytes.length;
+            }
+            ByteBuffer out = ByteBuffer.allocate(size);
+            out.putInt(encoded.size());
+            for (byte[] bytes : encoded) {
+                out.putInt(bytes.length);
+                out.put(bytes);
+            }
+            return out.array();
+        }
+    }
+}
@@ -8,30 +8,54 @@
 
 package usedcardealership.data.filehandling;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.*;
 import java.time.LocalDate;
 import java.io.*;
 import java.util.*;
 
 import usedcardealership.data.IDataHandler;
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.*;
 import usedcardealership.data.transaction.*;
 import usedcardealership.data.vehicle.*;
 
 public class TransactionFileHandler implements IDataHandler<Transaction> {
   private final Path filePath;
+  private final TransactionReferences references;
 
   /**
-   * Constructs a TransactionFileHandler with the specified file path.
+   * Constructs a TransactionFileHandler with the specified file path, for
+   * saving Transactions.
    * 
    * @param String filePath - The path to the file containing Transaction data.
    */
   public TransactionFileHandler(String filePath)  {
+    this(filePath, new TransactionReferences());
+  }
+
+  /**
+   * Constructs a TransactionFileHandler with the specified file path, that
+   * loads Transactions sharing the already loaded Customers and Vehicles.
+   * 
+   * @param String filePath - The path to the file containing Transaction data.
+   * @param TransactionReferences references - The loaded Customers and Vehicles.
+   */
+  public TransactionFileHandler(String filePath, TransactionReferences references)  {
+    if (references == null) {
+      throw new IllegalArgumentException("References cannot be null.");
+    }
     this.filePath = Paths.get(filePath);
+    this.references = references;
   }
 
   /**
    * Loads Transaction from the file and returns them as a list.
+   * Lines may be in either format: ones referring to the Customer and
+   * Vehicle by ID, or older ones holding copies of them after #. Copies are
+   * swapped for the loaded instances with the same ID, and the next save
+   * writes every line by ID.
    * 
    * @return List<Transaction> - A list of Transactions loaded from file.
    */
@@ -42,27 +66,13 @@ public class TransactionFileHandler implements IDataHandler<Transaction> {
       List<String> allLines = Files.readAllLines(this.filePath);
 
       for (String line : allLines) {
-        // Split transaction, customer, and vehicle sections using # delimiter
-        String[] sections = line.split("#");
-
-        // Transaction section
-        String[] transactionFields = sections[0].split(",");
-        int id = Integer.parseInt(transactionFields[0]);
-        String type = transactionFields[1];
-        String dateString = transactionFields[2];
-        LocalDate date = LocalDate.parse(dateString);
-
-        double price = Double.parseDouble(transactionFields[3]);
-        // Customer section
-        String[] customerFields = sections[1].split(",");
-        Customer customer = parseCustomer(customerFields);
-
-        // Vehicle section
-        String[] vehicleFields = sections[2].split(",");
-        Vehicle vehicle = VehicleHelper.parseVehicle(vehicleFields);
-
-        Transaction transaction = new Transaction(id, type, date, price, customer, vehicle);
-        transactions.add(transaction);
+        if (line.indexOf('#') < 0) {
+          transactions.add(parseLine(line, this.references));
+        } else {
+          Transaction copy = parseEmbeddedLine(line);
+          transactions.add(new Transaction(copy.getID(), copy.getType(), copy.getDate(), copy.getPrice(),
+              this.references.resolve(copy.getCustomer()), this.references.resolve(copy.getVehicle())));
+        }
       }
     } catch (IOException e) {
       e.printStackTrace();
@@ -70,56 +80,182 @@ public class TransactionFileHandler implements IDataHandler<Transaction> {
     return transactions;
   }
 
+  /**
+   * Helper method for converting one CSV line into a Transaction.
+   * 
+   * @param line - the transaction fields, then the Customer and Vehicle IDs.
+   * @param references - the Customers and Vehicles the IDs refer to.
+   * @return Transaction - the parsed Transaction.
+   */
+  static Transaction parseLine(String line, TransactionReferences references) {
+    String[] fields = line.split(",");
+    int id = Integer.parseInt(fields[0]);
+    String type = fields[1];
+    LocalDate date = LocalDate.parse(fields[2]);
+    double price = Double.parseDouble(fields[3]);
+    Customer customer = references.getCustomer(Integer.parseInt(fields[5]));
+    Vehicle vehicle = references.getVehicle(Integer.parseInt(fields[6]));
+
+    return new Transaction(id, type, date, price, customer, vehicle);
+  }
+
+  /**
+   * Helper method for converting one line holding copies of the Customer and
+   * Vehicle into a Transaction, with new Customer and Vehicle objects.
+   * The format transactions.csv used to have, and the journal still writes
+   * since its records must stand on their own.
+   * 
+   * @param line - the transaction, customer and vehicle sections.
+   * @return Transaction - the parsed Transaction.
+   */
+  static Transaction parseEmbeddedLine(String line) {
+    // Split transaction, customer, and vehicle sections using # delimiter
+    String[] sections = line.split("#");
+
+    // Transaction section
+    String[] transactionFields = sections[0].split(",");
+    int id = Integer.parseInt(transactionFields[0]);
+    String type = transactionFields[1];
+    String dateString = transactionFields[2];
+    LocalDate date = LocalDate.parse(dateString);
+
+    double price = Double.parseDouble(transactionFields[3]);
+    // Customer section
+    String[] customerFields = sections[1].split(",");
+    Customer customer = parseCustomer(customerFields);
+
+    // Vehicle section
+    String[] vehicleFields = sections[2].split(",");
+    Vehicle vehicle = VehicleHelper.parseVehicle(vehicleFields);
+
+    return new Transaction(id, type, date, price, customer, vehicle);
+  }
+
   /**
    * Converts a List of Transactions into CSV and saves to file
    * 
    * @param transactions - List of transactions to write to file.
    */
   public void save(List<Transaction> transactions) {
-    List<String> lines = new ArrayList<>();
-
-    for (Transaction transaction : transactions) {
-      // Convert Transaction info.
-      String transactionLine = String.join(",",
-          String.valueOf(transaction.getID()),
-          transaction.getType(),
-          String.valueOf(transaction.getDate()),
-          String.valueOf(transaction.getPrice()),
-          String.valueOf(transaction.getTax()));
-
-      // Convert Customer info.
-      Customer customer = transaction.getCustomer();
-      String customerLine = String.join(",",
-          String.valueOf(customer.getID()),
-          customer.getFirstName(),
-          customer.getLastName(),
-          customer.getBirthday(),
-          customer.getPhoneNumber(),
-          customer.getAddress(),
-          String.valueOf(customer.getAccountBalance()));
-
-      //Convert Vehicle info.
-      Vehicle vehicle = transaction.getVehicle();
-      String vehicleLine = VehicleHelper.convertVehicleToCSV(vehicle);
-
-      // Combine into one line.
-      String fullLine = String.join("#", transactionLine, customerLine, vehicleLine);
-      lines.add(fullLine);
-    }
     try {
-      Files.write(this.filePath, lines);
+      Files.write(this.filePath, toLines(transactions));
     } catch (IOException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * Converts a List of Transactions into CSV and adds it to the end of the
+   * file, creating the file if needed. Transactions are never changed once
+   * written, so saving new ones does not rewrite the history before them.
+   * 
+   * @param transactions - List of new transactions to add to the file.
+   * @throws IOException if the file cannot be written
+   */
+  public void append(List<Transaction> transactions) throws IOException {
+    if (transactions.isEmpty()) {
+      return;
+    }
+    List<String> lines = toLines(transactions);
+    if (!endsWithNewline()) {
+      // Finish a last line written without a newline so the first new one does not join it
+      lines.add(0, "");
+    }
+    Files.write(this.filePath, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  /**
+   * Checks whether the file is missing, empty or ends with a newline.
+   * 
+   * @return boolean - true if lines can be added directly after the content.
+   * @throws IOException if the file cannot be read
+   */
+  private boolean endsWithNewline() throws IOException {
+    if (!Files.exists(this.filePath) || Files.size(this.filePath) == 0) {
+      return true;
+    }
+    try (SeekableByteChannel channel = Files.newByteChannel(this.filePath)) {
+      ByteBuffer last = ByteBuffer.allocate(1);
+      channel.position(channel.size() - 1);
+      channel.read(last);
+      return last.get(0) == '\n';
+    }
+  }
+
+  /**
+   * Helper method for converting Transactions into CSV lines.
+   * 
+   * @param transactions - the Transactions to convert.
+   * @return List<String> - one line per Transaction.
+   */
+  private List<String> toLines(List<Transaction> transactions) {
+    List<String> lines = new ArrayList<>();
+
+    for (Transaction transaction : transactions) {
+      lines.add(toLine(transaction));
+    }
+    return lines;
+  }
+
+  /**
+   * Helper method for converting one Transaction into a CSV line.
+   * 
+   * @param transaction - the Transaction to convert.
+   * @return String - the transaction fields, then the Customer and Vehicle IDs.
+   */
+  static String toLine(Transaction transaction) {
+    return String.join(",",
+        String.valueOf(transaction.getID()),
+        transaction.getType(),
+        String.valueOf(transaction.getDate()),
+        Money.format(transaction.getPriceCents()),
+        String.valueOf(transaction.getTax()),
+        String.valueOf(transaction.getCustomer().getID()),
+        String.valueOf(transaction.getVehicle().getID()));
+  }
+
+  /**
+   * Helper method for converting one Transaction into a line holding copies
+   * of its Customer and Vehicle, read by parseEmbeddedLine.
+   * 
+   * @param transaction - the Transaction to convert.
+   * @return String - the transaction, customer and vehicle sections.
+   */
+  static String toEmbeddedLine(Transaction transaction) {
+    // Convert Transaction info.
+    String transactionLine = String.join(",",
+        String.valueOf(transaction.getID()),
+        transaction.getType(),
+        String.valueOf(transaction.getDate()),
+        Money.format(transaction.getPriceCents()),
+        String.valueOf(transaction.getTax()));
+
+    // Convert Customer info.
+    Customer customer = transaction.getCustomer();
+    String customerLine = String.join(",",
+        String.valueOf(customer.getID()),
+        customer.getFirstName(),
+        customer.getLastName(),
+        customer.getBirthday(),
+        customer.getPhoneNumber(),
+        customer.getAddress(),
+        Money.format(customer.getBalanceCents()));
+
+    //Convert Vehicle info.
+    Vehicle vehicle = transaction.getVehicle();
+    String vehicleLine = VehicleHelper.convertVehicleToCSV(vehicle);
+
+    // Combine into one line.
+    return String.join("#", transactionLine, customerLine, vehicleLine);
+  }
+
   /**
    * Helper method for converting a String[] of fields into Customer object.
    * 
    * @param customerFields - the String[] of Customer fields.
    * @return Customer - the parsed Customer object.
    */
-  private Customer parseCustomer(String[] customerFields) {
+  private static Customer parseCustomer(String[] customerFields) {
     int id = Integer.parseInt(customerFields[0]);
     String firstName = customerFields[1];
     String lastName = customerFields[2];
@@ -0,0 +1,375 @@
+/**
+ * Append-only journal of Transactions, written as sales and purchases
+ * happen so a crash mid-session loses nothing that was committed.
+ * Each record is a Transaction with copies of its Customer and Vehicle, in
+ * the line format transactions.csv had before it referred to them by ID,
+ * after the CRC32 of that line. A record stands on its own: it holds the
+ * Customer's balance after the Transaction, so replaying a record sets
+ * state instead of changing it and replaying twice is harmless.
+ * Writes are group committed: append only buffers a record, and the first
+ * thread to sync writes and forces every buffered record at once while the
+ * others wait for it, so concurrent checkouts share one fsync.
+ * On startup replay applies the records the last save does not have yet:
+ * the binary dealership.snapshot in CSV mode, or the database in database
+ * mode. Once a save completes, compact drops the records it holds, so the
+ * journal only grows between saves.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class TransactionJournal implements Closeable {
+    private final Path filePath;
+    // Guards everything below and hands the flush from one thread to the next
+    private final Object lock = new Object();
+    private FileChannel channel;
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appended;
+    private long durable;
+    private boolean flushing;
+    private int records;
+    private IOException failure;
+
+    /**
+     * Opens the journal, creating the file if needed. A record cut off by a
+     * crash is dropped so new records start on a clean line.
+     *
+     * @param filePath the journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public TransactionJournal(String filePath) throws IOException {
+        this.filePath = Paths.get(filePath);
+        this.channel = FileChannel.open(this.filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        List<String> lines = new ArrayList<>();
+        long valid = readRecords(lines);
+        if (valid < this.channel.size()) {
+            this.channel.truncate(valid);
+            this.channel.force(true);
+        }
+        this.channel.position(valid);
+        this.records = lines.size();
+    }
+
+    /**
+     * Gets the number of records written to the file since it was last
+     * compacted.
+     *
+     * @return the record count
+     */
+    public int getRecordCount() {
+        synchronized (this.lock) {
+            return this.records;
+        }
+    }
+
+    /**
+     * Buffers a record of a Transaction. It is not durable until sync.
+     *
+     * @param transaction the Transaction, after its Customer was updated
+     * @return the record's sequence number, to pass to sync
+     */
+    public long append(Transaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        byte[] record = encode(TransactionFileHandler.toEmbeddedLine(transaction));
+        synchronized (this.lock) {
+            this.pending.write(record, 0, record.length);
+            return ++this.appended;
+        }
+    }
+
+    /**
+     * Makes every record appended so far durable.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    public void sync() throws IOException {
+        long sequence;
+        synchronized (this.lock) {
+            sequence = this.appended;
+        }
+        sync(sequence);
+    }
+
+    /**
+     * Makes records up to a sequence number durable. If another thread is
+     * already writing, waits for it and then writes whatever is still
+     * buffered, so records appended meanwhile go out in one batch.
+     *
+     * @param sequence the sequence number returned by append
+     * @throws IOException if the journal cannot be written
+     */
+    public void sync(long sequence) throws IOException {
+        byte[] batch;
+        long batchEnd;
+        int batchRecords;
+        synchronized (this.lock) {
+            while (this.durable < sequence && this.flushing && this.failure == null) {
+                awaitFlush();
+            }
+            if (this.failure != null) {
+                throw new IOException("Transaction journal failed earlier.", this.failure);
+            }
+            if (this.durable >= sequence) {
+                return;
+            }
+            this.flushing = true;
+            batch = this.pending.toByteArray();
+            this.pending.reset();
+            batchEnd = this.appended;
+            batchRecords = (int) (batchEnd - this.durable);
+        }
+        IOException error = null;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(batch);
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            this.channel.force(false);
+        } catch (IOException e) {
+            error = e;
+        }
+        synchronized (this.lock) {
+            this.flushing = false;
+            if (error == null) {
+                this.durable = batchEnd;
+                this.records += batchRecords;
+            } else {
+                // The batch is gone from the buffer, so later records cannot be called durable either
+                this.failure = error;
+            }
+            this.lock.notifyAll();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Applies the records a snapshot does not have yet: each Transaction
+     * after the last one in the history is added to it, its Customer gets
+     * the recorded balance, and the Vehicle moves between the inventory and
+     * the Customer.
+     *
+     * @param history   the Transactions in the snapshot, added to
+     * @param customers the Customers in the snapshot, updated
+     * @param inventory the Vehicles in the snapshot's inventory, updated
+     * @return the Transactions replayed, in order
+     * @throws IOException if the journal cannot be read
+     */
+    public List<Transaction> replay(List<Transaction> history, List<Customer> customers, List<Vehicle> inventory)
+            throws IOException {
+        if (history == null || customers == null || inventory == null) {
+            throw new IllegalArgumentException("History, customers and inventory cannot be null.");
+        }
+        int lastId = 0;
+        for (Transaction transaction : history) {
+            lastId = Math.max(lastId, transaction.getID());
+        }
+        Map<Integer, Customer> byId = new HashMap<>();
+        for (Customer customer : customers) {
+            byId.put(customer.getID(), customer);
+        }
+        List<String> lines = new ArrayList<>();
+        synchronized (this.lock) {
+            readRecords(lines);
+        }
+        List<Transaction> replayed = new ArrayList<>();
+        for (String line : lines) {
+            Transaction record = TransactionFileHandler.parseEmbeddedLine(line);
+            if (record.getID() <= lastId) {
+                continue;
+            }
+            lastId = record.getID();
+            Customer recorded = record.getCustomer();
+            Customer customer = byId.get(recorded.getID());
+            if (customer == null) {
+                customer = recorded;
+                customers.add(customer);
+                byId.put(customer.getID(), customer);
+            }
+            customer.updateBalanceCents(recorded.getBalanceCents() - customer.getBalanceCents());
+            Vehicle vehicle = isSale(record) ? sell(record.getVehicle(), customer, inventory)
+                    : buy(record.getVehicle(), customer, inventory);
+            Transaction transaction = new Transaction(record.getID(), record.getType(), record.getDate(),
+                    record.getPrice(), customer, vehicle);
+            history.add(transaction);
+            replayed.add(transaction);
+        }
+        return replayed;
+    }
+
+    /**
+     * Drops the records a saved snapshot holds. Records after it, and any
+     * still buffered, are kept, so the journal can be compacted while
+     * Transactions keep coming in.
+     *
+     * @param lastSavedId the ID of the last Transaction in the snapshot
+     * @throws IOException if the journal cannot be rewritten
+     */
+    public void compact(int lastSavedId) throws IOException {
+        synchronized (this.lock) {
+            while (this.flushing) {
+                awaitFlush();
+            }
+            List<String> lines = new ArrayList<>();
+            readRecords(lines);
+            ByteArrayOutputStream kept = new ByteArrayOutputStream();
+            int keptRecords = 0;
+            for (String line : lines) {
+                if (recordId(line) > lastSavedId) {
+                    byte[] record = encode(line);
+                    kept.write(record, 0, record.length);
+                    keptRecords++;
+                }
+            }
+            // Written beside the journal and moved over it, so a crash leaves one or the other
+            Path temp = this.filePath.resolveSibling(this.filePath.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(kept.toByteArray());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            this.channel.close();
+            Files.move(temp, this.filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.channel = FileChannel.open(this.filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.channel.position(this.channel.size());
+            this.records = keptRecords;
+        }
+    }
+
+    /**
+     * Writes whatever is still buffered and closes the file.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            synchronized (this.lock) {
+                this.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the complete, intact records from the start of the file, stopping
+     * at the first one that is cut off or fails its checksum. Called holding
+     * the lock.
+     *
+     * @return the length of the intact records in bytes
+     */
+    private long readRecords(List<String> lines) throws IOException {
+        byte[] bytes = new byte[(int) this.channel.size()];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (this.channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String record = new String(bytes, start, i - start, StandardCharsets.UTF_8);
+            int separator = record.indexOf('|');
+            if (separator < 0) {
+                break;
+            }
+            String line = record.substring(separator + 1);
+            if (!record.substring(0, separator).equals(checksum(line))) {
+                break;
+            }
+            lines.add(line);
+            start = i + 1;
+        }
+        return start;
+    }
+
+    private void awaitFlush() throws InterruptedIOException {
+        try {
+            this.lock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for the transaction journal.");
+        }
+    }
+
+    private static byte[] encode(String line) {
+        return (checksum(line) + "|" + line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String checksum(String line) {
+        CRC32 crc = new CRC32();
+        crc.update(line.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static int recordId(String line) {
+        return Integer.parseInt(line.substring(0, line.indexOf(',')));
+    }
+
+    private static boolean isSale(Transaction transaction) {
+        return transaction.getType().toLowerCase().endsWith("sale");
+    }
+
+    /**
+     * Moves a sold Vehicle from the inventory to the Customer, if it is not
+     * there already.
+     */
+    private static Vehicle sell(Vehicle recorded, Customer customer, List<Vehicle> inventory) {
+        Vehicle vehicle = recorded;
+        for (Iterator<Vehicle> it = inventory.iterator(); it.hasNext();) {
+            Vehicle v = it.next();
+            if (v.getID() == recorded.getID()) {
+                vehicle = v;
+                it.remove();
+                break;
+            }
+        }
+        if (customer.getVehicleById(recorded.getID()) == null) {
+            customer.getVehicles().add(vehicle);
+        }
+        return vehicle;
+    }
+
+    /**
+     * Moves a Vehicle the dealership bought from the Customer to the
+     * inventory, if it is not there already.
+     */
+    private static Vehicle buy(Vehicle recorded, Customer customer, List<Vehicle> inventory) {
+        Vehicle owned = customer.getVehicleById(recorded.getID());
+        if (owned != null) {
+            customer.getVehicles().remove(owned);
+        }
+        for (Vehicle v : inventory) {
+            if (v.getID() == recorded.getID()) {
+                return v;
+            }
+        }
+        inventory.add(recorded);
+        return recorded;
+    }
+}
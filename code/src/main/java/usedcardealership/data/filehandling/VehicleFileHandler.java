@@ -8,9 +8,11 @@
 
 package usedcardealership.data.filehandling;
 
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.io.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 import usedcardealership.data.IDataHandler;
 import usedcardealership.data.vehicle.*;
@@ -35,19 +37,46 @@ public class VehicleFileHandler implements IDataHandler<Vehicle> {
   @Override
   public List<Vehicle> load() {
     List<Vehicle> vehicles = new ArrayList<>();
-    try {
-      List<String> allLines = Files.readAllLines(this.filePath);
-      for (String line : allLines) {
-        String[] vehicleFields = line.split(",");
-        Vehicle vehicle = VehicleHelper.parseVehicle(vehicleFields);
+    load(vehicles::add);
+    return vehicles;
+  }
+
+  /**
+   * Streams Vehicles from the file to a consumer one line at a time, so the
+   * file is never held in memory as a whole.
+   * 
+   * @param Consumer<Vehicle> consumer - receives each Vehicle in file order.
+   */
+  public void load(Consumer<Vehicle> consumer) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("Consumer cannot be null.");
+    }
+    try (CsvReader reader = new CsvReader(FileChannel.open(this.filePath, StandardOpenOption.READ))) {
+      while (reader.nextLine()) {
+        Vehicle vehicle = VehicleHelper.parseVehicle(reader);
         if (vehicle != null) {
-          vehicles.add(vehicle);
+          consumer.accept(vehicle);
         }
       }
     } catch (IOException e) {
       e.printStackTrace();
     }
-    return vehicles;
+  }
+
+  /**
+   * Loads Vehicles from the file using every core, for large files.
+   * The file is split on line boundaries and parsed in parallel, the
+   * Vehicles still come back in file order.
+   * 
+   * @return List<Vehicle> - A list of Vehicles loaded from the file.
+   */
+  public List<Vehicle> loadParallel() {
+    try {
+      return new ParallelVehicleLoader().load(this.filePath);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return new ArrayList<>();
+    }
   }
 
   /**
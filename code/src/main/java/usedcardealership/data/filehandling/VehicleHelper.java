@@ -9,6 +9,7 @@
 package usedcardealership.data.filehandling;
 
 import java.sql.*;
+import usedcardealership.data.Money;
 import usedcardealership.data.vehicle.*;
 
 public class VehicleHelper {
@@ -19,28 +20,41 @@ public class VehicleHelper {
      * @return a Vehicle instance or null if the type is not valid.
      */
     public static Vehicle parseVehicle(String[] fields) {
+        if (fields == null) {
+            throw new IllegalArgumentException("Invalid fields array: null or insufficient data.");
+        }
+        return parseVehicle(new ArrayRecord(fields));
+    }
+
+    /**
+     * Parses a CSV record into a specific Vehicle type based on type field.
+     * 
+     * @param fields CsvRecord containing the Vehicle's data.
+     * @return a Vehicle instance or null if the type is not valid.
+     */
+    public static Vehicle parseVehicle(CsvRecord fields) {
         final int MAX_FIELDS = 14;
-        if (fields == null || fields.length < MAX_FIELDS) {
+        if (fields == null || fields.size() < MAX_FIELDS) {
             throw new IllegalArgumentException("Invalid fields array: null or insufficient data.");
         }
-        if (fields[0].equals("[]")) {
+        // Fill common fields.
+        String type = fields.getSymbol(0);
+        if (type.equals("[]")) {
             return null;
         }
-        // Fill common fields.
-        String type = fields[0];
-        int id = Integer.parseInt(fields[1]);
-        String make = fields[2];
-        String model = fields[3];
-        int year = Integer.parseInt(fields[4]);
-        double price = Double.parseDouble(fields[5]);
-        String color = fields[6];
-        String transmission = fields[7];
-        String driveType = fields[8];
-        int horsepower = Integer.parseInt(fields[9]);
-        double weight = Double.parseDouble(fields[10]);
-        double kilometerage = Double.parseDouble(fields[11]);
-        double damage = Double.parseDouble(fields[12]);
-        boolean isElectric = Boolean.parseBoolean(fields[13]);
+        int id = fields.getInt(1);
+        String make = fields.getSymbol(2);
+        String model = fields.getSymbol(3);
+        int year = fields.getInt(4);
+        double price = fields.getDouble(5);
+        String color = fields.getSymbol(6);
+        String transmission = fields.getSymbol(7);
+        String driveType = fields.getSymbol(8);
+        int horsepower = fields.getInt(9);
+        double weight = fields.getDouble(10);
+        double kilometerage = fields.getDouble(11);
+        double damage = fields.getDouble(12);
+        boolean isElectric = fields.getBoolean(13);
 
         // Check for each type of Vehicle and fill fields/return Vehicle subtype.
         switch (type) {
@@ -70,11 +84,11 @@ public class VehicleHelper {
     /**
      * Parses a Motorcycle from the given fields array.
      */
-    private static Motorcycle parseMotorcycle(String[] fields, int id, String make, String model, int year,
+    private static Motorcycle parseMotorcycle(CsvRecord fields, int id, String make, String model, int year,
             double price, String color, String transmission, String driveType, int horsepower,
             double weight, double kilometerage, double damage, boolean isElectric) {
-        double engineCC = Double.parseDouble(fields[14]);
-        String handlebarType = fields[15];
+        double engineCC = fields.getDouble(14);
+        String handlebarType = fields.getSymbol(15);
         return new Motorcycle("Motorcycle", id, make, model, year, price, color, transmission, driveType, horsepower,
                 weight, kilometerage, damage, isElectric, engineCC, handlebarType);
     }
@@ -82,14 +96,14 @@ public class VehicleHelper {
     /**
      * Parses an RV from the given fields array.
      */
-    private static RV parseRV(String[] fields, int id, String make, String model, int year, double price,
+    private static RV parseRV(CsvRecord fields, int id, String make, String model, int year, double price,
             String color, String transmission, String driveType, int horsepower, double weight,
             double kilometerage, double damage, boolean isElectric) {
-        int numSeats = Integer.parseInt(fields[14]);
-        int numDoors = Integer.parseInt(fields[15]);
-        boolean hasSunRoof = Boolean.parseBoolean(fields[16]);
-        int sleepCapacity = Integer.parseInt(fields[17]);
-        boolean hasBathroom = Boolean.parseBoolean(fields[18]);
+        int numSeats = fields.getInt(14);
+        int numDoors = fields.getInt(15);
+        boolean hasSunRoof = fields.getBoolean(16);
+        int sleepCapacity = fields.getInt(17);
+        boolean hasBathroom = fields.getBoolean(18);
         return new RV("RV", id, make, model, year, price, color, transmission, driveType, horsepower, weight,
                 kilometerage, damage, isElectric, numSeats, numDoors, hasSunRoof, sleepCapacity, hasBathroom);
     }
@@ -97,13 +111,13 @@ public class VehicleHelper {
     /**
      * Parses a Car from the given fields array.
      */
-    private static Car parseCar(String[] fields, int id, String make, String model, int year, double price,
+    private static Car parseCar(CsvRecord fields, int id, String make, String model, int year, double price,
             String color, String transmission, String driveType, int horsepower, double weight,
             double kilometerage, double damage, boolean isElectric) {
-        int numSeats = Integer.parseInt(fields[14]);
-        int numDoors = Integer.parseInt(fields[15]);
-        boolean hasSunRoof = Boolean.parseBoolean(fields[16]);
-        boolean isConvertible = Boolean.parseBoolean(fields[17]);
+        int numSeats = fields.getInt(14);
+        int numDoors = fields.getInt(15);
+        boolean hasSunRoof = fields.getBoolean(16);
+        boolean isConvertible = fields.getBoolean(17);
         return new Car("Car", id, make, model, year, price, color, transmission, driveType, horsepower, weight,
                 kilometerage, damage, isElectric, numSeats, numDoors, hasSunRoof, isConvertible);
     }
@@ -111,13 +125,13 @@ public class VehicleHelper {
     /**
      * Parses an SUV from the given fields array.
      */
-    private static SUV parseSUV(String[] fields, int id, String make, String model, int year, double price,
+    private static SUV parseSUV(CsvRecord fields, int id, String make, String model, int year, double price,
             String color, String transmission, String driveType, int horsepower, double weight,
             double kilometerage, double damage, boolean isElectric) {
-        int numSeats = Integer.parseInt(fields[14]);
-        int numDoors = Integer.parseInt(fields[15]);
-        boolean hasSunRoof = Boolean.parseBoolean(fields[16]);
-        boolean hasThirdRowSeating = Boolean.parseBoolean(fields[17]);
+        int numSeats = fields.getInt(14);
+        int numDoors = fields.getInt(15);
+        boolean hasSunRoof = fields.getBoolean(16);
+        boolean hasThirdRowSeating = fields.getBoolean(17);
         return new SUV("SUV", id, make, model, year, price, color, transmission, driveType, horsepower, weight,
                 kilometerage, damage, isElectric, numSeats, numDoors, hasSunRoof, hasThirdRowSeating);
     }
@@ -125,15 +139,15 @@ public class VehicleHelper {
     /**
      * Parses a PickupTruck from the given fields array.
      */
-    private static PickupTruck parsePickupTruck(String[] fields, int id, String make, String model, int year,
+    private static PickupTruck parsePickupTruck(CsvRecord fields, int id, String make, String model, int year,
             double price, String color, String transmission, String driveType, int horsepower,
             double weight, double kilometerage, double damage, boolean isElectric) {
-        int numSeats = Integer.parseInt(fields[14]);
-        int numDoors = Integer.parseInt(fields[15]);
-        boolean hasSunRoof = Boolean.parseBoolean(fields[16]);
-        double cargoCapacity = Double.parseDouble(fields[17]);
-        double bedLength = Double.parseDouble(fields[18]);
-        double towingCapacity = Double.parseDouble(fields[19]);
+        int numSeats = fields.getInt(14);
+        int numDoors = fields.getInt(15);
+        boolean hasSunRoof = fields.getBoolean(16);
+        double cargoCapacity = fields.getDouble(17);
+        double bedLength = fields.getDouble(18);
+        double towingCapacity = fields.getDouble(19);
         return new PickupTruck("PickupTruck", id, make, model, year, price, color, transmission, driveType, horsepower,
                 weight, kilometerage, damage, isElectric, numSeats, numDoors, hasSunRoof, cargoCapacity,
                 bedLength, towingCapacity);
@@ -142,14 +156,14 @@ public class VehicleHelper {
     /**
      * Parses a Van from the given fields array.
      */
-    private static Van parseVan(String[] fields, int id, String make, String model, int year, double price,
+    private static Van parseVan(CsvRecord fields, int id, String make, String model, int year, double price,
             String color, String transmission, String driveType, int horsepower, double weight,
             double kilometerage, double damage, boolean isElectric) {
-        int numSeats = Integer.parseInt(fields[14]);
-        int numDoors = Integer.parseInt(fields[15]);
-        boolean hasSunRoof = Boolean.parseBoolean(fields[16]);
-        double cargoCapacity = Double.parseDouble(fields[17]);
-        boolean hasSlidingDoors = Boolean.parseBoolean(fields[18]);
+        int numSeats = fields.getInt(14);
+        int numDoors = fields.getInt(15);
+        boolean hasSunRoof = fields.getBoolean(16);
+        double cargoCapacity = fields.getDouble(17);
+        boolean hasSlidingDoors = fields.getBoolean(18);
         return new Van("Van", id, make, model, year, price, color, transmission, driveType, horsepower, weight,
                 kilometerage, damage, isElectric, numSeats, numDoors, hasSunRoof, cargoCapacity, hasSlidingDoors);
     }
@@ -167,6 +181,42 @@ public class VehicleHelper {
         return String.join(",", vehicle.toCSVFields());
     }
 
+    /**
+     * Adapts a split String[] line to CsvRecord.
+     */
+    private static class ArrayRecord implements CsvRecord {
+        private final String[] fields;
+
+        ArrayRecord(String[] fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public int size() {
+            return this.fields.length;
+        }
+
+        @Override
+        public String getString(int i) {
+            return this.fields[i];
+        }
+
+        @Override
+        public int getInt(int i) {
+            return Integer.parseInt(this.fields[i]);
+        }
+
+        @Override
+        public double getDouble(int i) {
+            return Double.parseDouble(this.fields[i]);
+        }
+
+        @Override
+        public boolean getBoolean(int i) {
+            return Boolean.parseBoolean(this.fields[i]);
+        }
+    }
+
     /**
      * Parses a Vehicle of given type from a SQL Result Set object
      * 
@@ -180,7 +230,7 @@ public class VehicleHelper {
         String make = rs.getString("make");
         String model = rs.getString("model");
         int year = rs.getInt("year");
-        double price = rs.getDouble("price");
+        double price = Money.toDollars(Money.fromBigDecimal(rs.getBigDecimal("price")));
         String color = rs.getString("color");
         String transmission = rs.getString("transmission");
         String driveType = rs.getString("drive_type");
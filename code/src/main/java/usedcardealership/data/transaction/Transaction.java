@@ -6,6 +6,7 @@
  */
 package usedcardealership.data.transaction;
 
+import usedcardealership.data.Money;
 import usedcardealership.data.customer.*;
 import usedcardealership.data.vehicle.*;
 import usedcardealership.interaction.PrettyUtils;
@@ -16,7 +17,7 @@ public class Transaction {
     private int id;
     private String type;
     private LocalDate date;
-    private double price;
+    private long priceCents;
     private double tax;
     private Customer customer;
     private Vehicle vehicle;
@@ -52,7 +53,7 @@ public class Transaction {
         this.id = id;
         this.type = type;
         this.date = localDate;
-        this.price = price;
+        this.priceCents = Money.ofDollars(price);
         this.tax = 1.15;
         this.customer = customer;
         this.vehicle = vehicle;
@@ -74,7 +75,11 @@ public class Transaction {
     }
 
     public double getPrice() {
-        return this.price;
+        return Money.toDollars(this.priceCents);
+    }
+
+    public long getPriceCents() {
+        return this.priceCents;
     }
 
     public double getTax() {
@@ -100,14 +105,14 @@ public class Transaction {
         if (price < 0) {
             throw new IllegalArgumentException("Price cannot be negative.");
         }
-        this.price = price;
+        this.priceCents = Money.ofDollars(price);
     }
 
     public String toString() {
         return "***************************************************************************\n"
                 + PrettyUtils.returnYellow("Transaction Info:") + "\nTransaction ID: " + this.id + "\nType: "
                 + this.type + "\nDate: "
-                + this.date + "\nPrice: $" + String.format("%.2f", this.price) + "\n\n"
+                + this.date + "\nPrice: $" + Money.format(this.priceCents) + "\n\n"
                 + PrettyUtils.returnYellow("Customer Info:") + "\n" + this.customer + "\n\n"
                 + PrettyUtils.returnYellow("Vehicle Info:") + "\n"
                 + this.vehicle + "\n***************************************************************************";
@@ -120,6 +125,15 @@ public class Transaction {
      * @return double
      */
     public double calculateTotal() {
-        return this.getVehicle().calculateTotalPrice() * this.getTax();
+        return Money.toDollars(calculateTotalCents());
+    }
+
+    /**
+     * Same as calculateTotal, in cents rounded to the nearest cent
+     * 
+     * @return long
+     */
+    public long calculateTotalCents() {
+        return Money.multiply(this.getVehicle().getTotalPriceCents(), this.getTax());
     }
 }
@@ -0,0 +1,123 @@
+/**
+ * Resolves the Customer and Vehicle IDs a stored Transaction refers to
+ * against the Customers and Vehicles that were already loaded, so every
+ * Transaction shares their instances instead of holding its own copies.
+ * A Vehicle is looked up among the Customers' Vehicles first, then the
+ * inventory, then the database, the first place holding it being where it
+ * is now.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.transaction;
+
+import java.util.*;
+
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.vehicle.*;
+
+public class TransactionReferences {
+    private final Map<Integer, Customer> customers;
+    private final VehicleIdIndex vehicles;
+
+    /**
+     * TransactionReferences Constructor
+     * Creates references that resolve nothing, for handlers that only save.
+     */
+    public TransactionReferences() {
+        this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * TransactionReferences Constructor
+     *
+     * @param customers the loaded Customers, with their Vehicles
+     * @param inventory the loaded inventory
+     * @param database  the loaded database
+     */
+    public TransactionReferences(List<Customer> customers, List<Vehicle> inventory, List<Vehicle> database) {
+        if (customers == null || inventory == null || database == null) {
+            throw new IllegalArgumentException("Customers, inventory and database cannot be null.");
+        }
+        this.customers = new HashMap<>(customers.size() * 2);
+        this.vehicles = new VehicleIdIndex(inventory.size() + database.size());
+        for (Customer customer : customers) {
+            this.customers.put(customer.getID(), customer);
+            for (Vehicle vehicle : customer.getVehicles()) {
+                addVehicle(vehicle);
+            }
+        }
+        for (Vehicle vehicle : inventory) {
+            addVehicle(vehicle);
+        }
+        for (Vehicle vehicle : database) {
+            addVehicle(vehicle);
+        }
+    }
+
+    /**
+     * Gets the Customer with the given ID.
+     *
+     * @param id the Customer's ID
+     * @return the loaded Customer
+     * @throws IllegalArgumentException if no Customer has the ID
+     */
+    public Customer getCustomer(int id) {
+        Customer customer = this.customers.get(id);
+        if (customer == null) {
+            throw new IllegalArgumentException("Transaction refers to unknown customer " + id + ".");
+        }
+        return customer;
+    }
+
+    /**
+     * Gets the Vehicle with the given ID.
+     *
+     * @param id the Vehicle's ID
+     * @return the loaded Vehicle
+     * @throws IllegalArgumentException if no Vehicle has the ID
+     */
+    public Vehicle getVehicle(int id) {
+        Vehicle vehicle = this.vehicles.get(id);
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Transaction refers to unknown vehicle " + id + ".");
+        }
+        return vehicle;
+    }
+
+    /**
+     * Swaps a copy of a Customer stored with an old Transaction for the loaded
+     * Customer with its ID. A copy of a Customer that is not loaded is kept
+     * and shared by the Transactions read after it.
+     *
+     * @param copy the stored copy
+     * @return the loaded Customer, or the copy
+     */
+    public Customer resolve(Customer copy) {
+        Customer customer = this.customers.putIfAbsent(copy.getID(), copy);
+        return customer == null ? copy : customer;
+    }
+
+    /**
+     * Swaps a copy of a Vehicle stored with an old Transaction for the loaded
+     * Vehicle with its ID, the same way as for Customers.
+     *
+     * @param copy the stored copy
+     * @return the loaded Vehicle, or the copy
+     */
+    public Vehicle resolve(Vehicle copy) {
+        Vehicle vehicle = this.vehicles.get(copy.getID());
+        if (vehicle == null) {
+            this.vehicles.put(copy);
+            return copy;
+        }
+        return vehicle;
+    }
+
+    private void addVehicle(Vehicle vehicle) {
+        if (!this.vehicles.containsKey(vehicle.getID())) {
+            this.vehicles.put(vehicle);
+        }
+    }
+}
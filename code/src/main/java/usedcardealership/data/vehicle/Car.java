@@ -7,6 +7,7 @@
 
 package usedcardealership.data.vehicle;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public class Car extends EnclosedVehicle {
@@ -97,7 +98,7 @@ public class Car extends EnclosedVehicle {
                 getMake(),
                 getModel(),
                 String.valueOf(getYear()),
-                String.valueOf(getPrice()),
+                Money.format(getPriceCents()),
                 getColor(),
                 getTransmission(),
                 getDriveType(),
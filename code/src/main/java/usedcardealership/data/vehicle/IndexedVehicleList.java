@@ -0,0 +1,270 @@
+/**
+ * List of Vehicles that keeps a VehicleIdIndex in sync with its contents.
+ * Writes go through to the backing List so callers holding the original
+ * List still see every change, while ID lookups and contains checks are
+ * answered by the index in constant time.
+ * The index also keeps where each Vehicle was last seen in the list, so
+ * finding, removing or replacing one looks around that position instead of
+ * scanning the list. Inserts and removals in the middle shift the Vehicles
+ * after them, so once a lookup has to look far, every position is stored
+ * again.
+ * Vehicle IDs are expected to be unique within one list. A Vehicle added
+ * with an ID already in the list is kept, and indexed once the other one
+ * leaves, but while the list holds duplicates, lookups by position scan it.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.util.*;
+
+public class IndexedVehicleList extends AbstractList<Vehicle> implements RandomAccess {
+    // How far from its stored position a Vehicle may have moved before every position is stored again
+    private static final int MAX_DRIFT = 32;
+
+    private final List<Vehicle> vehicles;
+    private final VehicleIdIndex index;
+    // Vehicles in the list whose ID the index holds for another Vehicle
+    private int duplicates;
+
+    /**
+     * IndexedVehicleList Constructor
+     * Creates an empty list backed by a new ArrayList.
+     */
+    public IndexedVehicleList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * IndexedVehicleList Constructor
+     * Wraps the given List and indexes the Vehicles it already holds.
+     *
+     * @param vehicles the List to wrap, changes are written through to it
+     */
+    public IndexedVehicleList(List<Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicle list cannot be null.");
+        }
+        this.vehicles = vehicles;
+        this.index = new VehicleIdIndex(vehicles.size());
+        for (int i = 0; i < vehicles.size(); i++) {
+            index(vehicles.get(i), i);
+        }
+    }
+
+    /**
+     * Wraps the given List unless it is already an IndexedVehicleList, so that
+     * two indexes are never kept over the same contents.
+     *
+     * @param vehicles the List to wrap
+     * @return an IndexedVehicleList over the given Vehicles
+     */
+    public static IndexedVehicleList of(List<Vehicle> vehicles) {
+        if (vehicles instanceof IndexedVehicleList) {
+            return (IndexedVehicleList) vehicles;
+        }
+        return new IndexedVehicleList(vehicles);
+    }
+
+    /**
+     * Gets the Vehicle with the given ID.
+     *
+     * @param id the Vehicle ID to look up
+     * @return the Vehicle with the ID, or null if it is not in the list
+     */
+    public Vehicle getById(int id) {
+        return this.index.get(id);
+    }
+
+    /**
+     * Checks if a Vehicle with the given ID is in the list.
+     *
+     * @param id the Vehicle ID to check
+     * @return true if the list holds a Vehicle with the ID, false otherwise
+     */
+    public boolean containsId(int id) {
+        return this.index.containsKey(id);
+    }
+
+    /**
+     * Removes the Vehicle with the given ID.
+     *
+     * @param id the Vehicle ID to remove
+     * @return the removed Vehicle, or null if no Vehicle had the ID
+     */
+    public Vehicle removeById(int id) {
+        Vehicle v = this.index.get(id);
+        if (v != null) {
+            remove(v);
+        }
+        return v;
+    }
+
+    @Override
+    public Vehicle get(int i) {
+        return this.vehicles.get(i);
+    }
+
+    @Override
+    public int size() {
+        return this.vehicles.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Vehicle && this.index.containsKey(((Vehicle) o).getID());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!contains(o)) {
+            return -1;
+        }
+        if (this.duplicates > 0) {
+            return this.vehicles.indexOf(o);
+        }
+        return locate(((Vehicle) o).getID());
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (this.duplicates > 0) {
+            return this.vehicles.lastIndexOf(o);
+        }
+        return indexOf(o);
+    }
+
+    @Override
+    public Vehicle set(int i, Vehicle v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        Vehicle previous = this.vehicles.set(i, v);
+        unindex(previous);
+        index(v, i);
+        return previous;
+    }
+
+    @Override
+    public void add(int i, Vehicle v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        this.vehicles.add(i, v);
+        index(v, i);
+    }
+
+    @Override
+    public Vehicle remove(int i) {
+        Vehicle removed = this.vehicles.remove(i);
+        unindex(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0) {
+            return false;
+        }
+        remove(i);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        this.vehicles.clear();
+        this.index.clear();
+        this.duplicates = 0;
+    }
+
+    /**
+     * Finds where the Vehicle with the given ID is in the list, starting at
+     * the position the index stored for it and looking outwards.
+     *
+     * @param id the Vehicle ID
+     * @return the position, or -1 if no Vehicle in the list has the ID
+     */
+    private int locate(int id) {
+        Vehicle v = this.index.get(id);
+        if (v == null) {
+            return -1;
+        }
+        int size = this.vehicles.size();
+        int hint = Math.max(0, Math.min(this.index.getPosition(id), size - 1));
+        for (int distance = 0; hint - distance >= 0 || hint + distance < size; distance++) {
+            int i = hint - distance;
+            if (i < 0 || this.vehicles.get(i) != v) {
+                i = hint + distance;
+                if (i >= size || this.vehicles.get(i) != v) {
+                    continue;
+                }
+            }
+            if (distance > MAX_DRIFT) {
+                storePositions();
+            } else {
+                this.index.setPosition(id, i);
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Stores the current position of every Vehicle in the index.
+     */
+    private void storePositions() {
+        for (int i = 0; i < this.vehicles.size(); i++) {
+            this.index.setPosition(this.vehicles.get(i).getID(), i);
+        }
+    }
+
+    /**
+     * Indexes a Vehicle that joined the list, unless another Vehicle with its
+     * ID is already indexed.
+     *
+     * @param v        the Vehicle
+     * @param position where it is in the list
+     */
+    private void index(Vehicle v, int position) {
+        if (this.index.containsKey(v.getID())) {
+            this.duplicates++;
+        } else {
+            this.index.put(v, position);
+        }
+    }
+
+    /**
+     * Removes a Vehicle that left the list from the index. If the index held
+     * it and another Vehicle in the list has its ID, that one is indexed in
+     * its place.
+     *
+     * @param v the Vehicle that left the list
+     */
+    private void unindex(Vehicle v) {
+        if (v == null) {
+            return;
+        }
+        Vehicle indexed = this.index.get(v.getID());
+        if (indexed != v) {
+            if (indexed != null && this.duplicates > 0) {
+                this.duplicates--;
+            }
+            return;
+        }
+        this.index.remove(v.getID());
+        if (this.duplicates == 0) {
+            return;
+        }
+        for (int i = 0; i < this.vehicles.size(); i++) {
+            Vehicle survivor = this.vehicles.get(i);
+            if (survivor.getID() == v.getID()) {
+                this.index.put(survivor, i);
+                this.duplicates--;
+                return;
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@
 
 package usedcardealership.data.vehicle;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public class Motorcycle extends Vehicle {
@@ -60,7 +61,7 @@ public class Motorcycle extends Vehicle {
             throw new IllegalArgumentException("Handlebar type cannot be null or empty");
         }
         this.engineCC = engineCC;
-        this.handlebarType = handlebarType;
+        this.handlebarType = Symbols.intern(handlebarType);
     }
 
     /**
@@ -107,7 +108,7 @@ public class Motorcycle extends Vehicle {
                 getMake(),
                 getModel(),
                 String.valueOf(getYear()),
-                String.valueOf(getPrice()),
+                Money.format(getPriceCents()),
                 getColor(),
                 getTransmission(),
                 getDriveType(),
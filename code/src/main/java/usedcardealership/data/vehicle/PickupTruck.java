@@ -7,6 +7,7 @@
 
 package usedcardealership.data.vehicle;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public class PickupTruck extends CargoCapacity {
@@ -117,7 +118,7 @@ public String getFullDetails() {
                 getMake(),
                 getModel(),
                 String.valueOf(getYear()),
-                String.valueOf(getPrice()),
+                Money.format(getPriceCents()),
                 getColor(),
                 getTransmission(),
                 getDriveType(),
@@ -0,0 +1,127 @@
+/**
+ * Shared clock that decides which year Vehicle depreciation is priced in.
+ * Every change of pricing year, whether from the calendar rolling over or
+ * from a test pinning a year, bumps a global epoch. Vehicles cache their
+ * total price against the epoch, so cached prices only go stale when the
+ * year actually changes.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.time.*;
+
+public class PricingClock {
+    private static volatile PricingClock current = new PricingClock(Clock.systemDefaultZone());
+    private static volatile long epoch = 0;
+
+    private final Clock clock;
+    private volatile int year;
+    private volatile long nextYearMillis;
+
+    /**
+     * PricingClock Constructor
+     * Prices in whatever year the given clock is in.
+     *
+     * @param clock the clock to read the year from
+     */
+    public PricingClock(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null.");
+        }
+        this.clock = clock;
+        rollYear();
+    }
+
+    /**
+     * PricingClock Constructor
+     * Always prices in the given year.
+     *
+     * @param year the year to price in
+     */
+    public PricingClock(int year) {
+        if (year < 1886) {
+            throw new IllegalArgumentException("Year must be 1886 or later.");
+        }
+        this.clock = null;
+        this.year = year;
+        this.nextYearMillis = Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the clock Vehicles are currently priced with.
+     *
+     * @return the shared PricingClock
+     */
+    public static PricingClock get() {
+        return current;
+    }
+
+    /**
+     * Replaces the shared clock, invalidating every cached Vehicle price.
+     *
+     * @param pricingClock the clock to price with from now on
+     */
+    public static synchronized void set(PricingClock pricingClock) {
+        if (pricingClock == null) {
+            throw new IllegalArgumentException("Pricing clock cannot be null.");
+        }
+        current = pricingClock;
+        epoch++;
+    }
+
+    /**
+     * Goes back to pricing in the system's current year.
+     */
+    public static void useSystemClock() {
+        set(new PricingClock(Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Gets the current pricing epoch, first checking whether the shared
+     * clock has rolled into a new year.
+     *
+     * @return the epoch cached prices must match to still be valid
+     */
+    public static long currentEpoch() {
+        current.checkRollover();
+        return epoch;
+    }
+
+    /**
+     * Gets the year Vehicles are priced in.
+     *
+     * @return the pricing year
+     */
+    public int getYear() {
+        checkRollover();
+        return this.year;
+    }
+
+    /**
+     * Rolls the year over once the clock passes the start of the next year.
+     * A single millis comparison on the common path.
+     */
+    private void checkRollover() {
+        if (this.clock != null && this.clock.millis() >= this.nextYearMillis) {
+            synchronized (PricingClock.class) {
+                if (this.clock.millis() >= this.nextYearMillis) {
+                    rollYear();
+                    epoch++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the clock's year and when the following year starts.
+     */
+    private void rollYear() {
+        ZoneId zone = this.clock.getZone();
+        int clockYear = Year.now(this.clock).getValue();
+        this.nextYearMillis = LocalDate.of(clockYear + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        this.year = clockYear;
+    }
+}
@@ -7,6 +7,7 @@
 
 package usedcardealership.data.vehicle;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public class RV extends EnclosedVehicle {
@@ -112,7 +113,7 @@ public class RV extends EnclosedVehicle {
                 getMake(),
                 getModel(),
                 String.valueOf(getYear()),
-                String.valueOf(getPrice()),
+                Money.format(getPriceCents()),
                 getColor(),
                 getTransmission(),
                 getDriveType(),
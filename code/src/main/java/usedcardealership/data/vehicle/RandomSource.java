@@ -0,0 +1,91 @@
+/**
+ * Shared source of randomness for test drives.
+ * Vehicles do not own a random number generator, every test drive draws
+ * from the current RandomSource instead. Each thread gets its own
+ * SplittableRandom split off one root generator, so threads never contend
+ * and nothing is seeded per Vehicle. A seeded source replays exactly when
+ * one thread drives; code that needs repeatable results across threads,
+ * like the TestDriveSimulator, passes its own generator to testDrive.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+public class RandomSource {
+    private static volatile RandomSource current = new RandomSource();
+
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> generators;
+
+    /**
+     * RandomSource Constructor
+     * Draws from an unpredictable seed.
+     */
+    public RandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * RandomSource Constructor
+     * Draws from the given seed.
+     *
+     * @param seed the seed of the root generator
+     */
+    public RandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomSource(SplittableRandom root) {
+        this.root = root;
+        this.generators = ThreadLocal.withInitial(this::split);
+    }
+
+    /**
+     * Gets the source test drives currently draw from.
+     *
+     * @return the shared RandomSource
+     */
+    public static RandomSource get() {
+        return current;
+    }
+
+    /**
+     * Replaces the shared source.
+     *
+     * @param randomSource the source to draw from from now on
+     */
+    public static void set(RandomSource randomSource) {
+        if (randomSource == null) {
+            throw new IllegalArgumentException("Random source cannot be null.");
+        }
+        current = randomSource;
+    }
+
+    /**
+     * Goes back to drawing from an unpredictable seed.
+     */
+    public static void useDefault() {
+        set(new RandomSource());
+    }
+
+    /**
+     * Gets the calling thread's generator. Keep it on that thread.
+     *
+     * @return the generator
+     */
+    public RandomGenerator generator() {
+        return this.generators.get();
+    }
+
+    private SplittableRandom split() {
+        // SplittableRandom is not thread safe, only splitting touches the root
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
+}
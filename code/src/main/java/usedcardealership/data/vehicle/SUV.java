@@ -7,6 +7,7 @@
 
 package usedcardealership.data.vehicle;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public class SUV extends EnclosedVehicle {
@@ -98,7 +99,7 @@ public class SUV extends EnclosedVehicle {
                 getMake(),
                 getModel(),
                 String.valueOf(getYear()),
-                String.valueOf(getPrice()),
+                Money.format(getPriceCents()),
                 getColor(),
                 getTransmission(),
                 getDriveType(),
@@ -0,0 +1,89 @@
+/**
+ * Shared symbol table for Vehicles' categorical attributes: type, make,
+ * model, color, transmission, drive type and handlebar type.
+ * Vehicles intern these when they are made, so a million Vehicles loaded
+ * from CSV or the database share one "Automatic" and one "Toyota" instead
+ * of holding a copy each. Every symbol also has one canonical lowercase
+ * key, which each Vehicle keeps next to its value and the category filters
+ * compare against, so matching a Vehicle costs an identity check instead
+ * of lowercasing its value.
+ * The table only grows with distinct attribute values. Folding a value that
+ * no Vehicle has, e.g. a search typed by a user, does not add it.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Symbols {
+    private static final ConcurrentHashMap<String, Symbol> SYMBOLS = new ConcurrentHashMap<>();
+    // Lowercase key to its canonical instance
+    private static final ConcurrentHashMap<String, String> KEYS = new ConcurrentHashMap<>();
+
+    private Symbols() {
+    }
+
+    /**
+     * Gets the shared instance of a value, adding it if it is new.
+     *
+     * @param value the value, may be null
+     * @return the equal shared String, or null
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        Symbol symbol = SYMBOLS.get(value);
+        if (symbol == null) {
+            symbol = SYMBOLS.computeIfAbsent(value,
+                    v -> new Symbol(v, KEYS.computeIfAbsent(v.toLowerCase(), key -> key)));
+        }
+        return symbol.value;
+    }
+
+    /**
+     * Gets the lowercase key of a value. The key is the shared instance when
+     * any interned value folds to it, so keys of interned values can be
+     * compared with ==, though equals is always correct.
+     *
+     * @param value the value
+     * @return the lowercase key
+     */
+    public static String fold(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        Symbol symbol = SYMBOLS.get(value);
+        if (symbol != null) {
+            return symbol.key;
+        }
+        String key = value.toLowerCase();
+        String shared = KEYS.get(key);
+        return shared != null ? shared : key;
+    }
+
+    /**
+     * Gets the number of distinct values interned.
+     *
+     * @return the table size
+     */
+    public static int size() {
+        return SYMBOLS.size();
+    }
+
+    /**
+     * A value and its lowercase key.
+     */
+    private static final class Symbol {
+        private final String value;
+        private final String key;
+
+        Symbol(String value, String key) {
+            this.value = value;
+            this.key = key;
+        }
+    }
+}
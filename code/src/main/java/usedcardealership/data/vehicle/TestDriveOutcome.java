@@ -0,0 +1,98 @@
+/**
+ * What one test drive did to a Vehicle: the damage and kilometers it added
+ * and whether it ended in a crash. Drawing an outcome does not touch any
+ * Vehicle, so simulations can draw millions of them against plain numbers.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.util.random.RandomGenerator;
+
+import usedcardealership.interaction.PrettyUtils;
+
+public final class TestDriveOutcome {
+    private static final double MAX_DAMAGE = 0.1;
+    private static final double MAX_KILOMETER = 50.0;
+    private static final double CRASH_PROBABILITY = 0.01;
+    private static final double MAX_CRASH_DAMAGE = 90.0;
+    private static final double MIN_CRASH_DAMAGE = 10.0;
+
+    private final double damage;
+    private final double kilometers;
+    private final double crashDamage;
+
+    private TestDriveOutcome(double damage, double kilometers, double crashDamage) {
+        this.damage = damage;
+        this.kilometers = kilometers;
+        this.crashDamage = crashDamage;
+    }
+
+    /**
+     * Draws a random test drive with a small chance of crashing.
+     *
+     * @param random the generator to draw from
+     * @return the outcome
+     */
+    public static TestDriveOutcome draw(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random generator cannot be null.");
+        }
+        // Generate random damage and kilometers
+        double randomDamage = random.nextDouble() * MAX_DAMAGE;
+        double randomKilometers = random.nextDouble() * MAX_KILOMETER;
+        randomDamage = Math.round(randomDamage * 100.0) / 100.0;
+        randomKilometers = Math.round(randomKilometers * 100.0) / 100.0;
+
+        // Check for crash
+        double crashAddition = 0;
+        if (random.nextDouble() < CRASH_PROBABILITY) {
+            double multiplierRange = MAX_CRASH_DAMAGE - MIN_CRASH_DAMAGE;
+            crashAddition = MIN_CRASH_DAMAGE + (random.nextDouble() * multiplierRange);
+            randomDamage += crashAddition;
+            randomDamage = Math.round(randomDamage * 100.0) / 100.0;
+        }
+        return new TestDriveOutcome(randomDamage, randomKilometers, crashAddition);
+    }
+
+    /**
+     * Gets the damage added, crash included.
+     *
+     * @return the damage in percent
+     */
+    public double getDamage() {
+        return this.damage;
+    }
+
+    public double getKilometers() {
+        return this.kilometers;
+    }
+
+    public boolean hasCrashed() {
+        return this.crashDamage > 0;
+    }
+
+    /**
+     * Gets the damage the crash added, 0 without a crash.
+     *
+     * @return the crash damage in percent
+     */
+    public double getCrashDamage() {
+        return this.crashDamage;
+    }
+
+    /**
+     * Prints how the drive went to the console.
+     */
+    public void print() {
+        if (hasCrashed()) {
+            PrettyUtils.printRed("\nYou crashed the vehicle during the test drive!");
+            System.out.println("This caused " + String.format("%.2f", this.crashDamage) + "% additional damage.");
+        }
+        PrettyUtils.printGreen("\nTest drive completed:");
+        System.out.println("Damage applied: " + this.damage + "%");
+        System.out.println("Kilometers driven: " + this.kilometers + " km");
+    }
+}
@@ -7,19 +7,19 @@
 
 package usedcardealership.data.vehicle;
 
-import java.time.*;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
+import usedcardealership.data.Money;
 import usedcardealership.interaction.PrettyUtils;
 
 public abstract class Vehicle {
-    private Random rng;
     private String type;
     private int id;
     private String make;
     private String model;
     private int year;
-    private double price;
+    private long priceCents;
     private String color;
     private String transmission;
     private String driveType;
@@ -28,6 +28,14 @@ public abstract class Vehicle {
     private double kilometerage;
     private double damage;
     private boolean isElectric;
+    // Lowercase keys of the categorical fields, for the category filters
+    private String typeKey;
+    private String makeKey;
+    private String colorKey;
+    private String transmissionKey;
+    private String driveTypeKey;
+    // Read by searches without a lock, so the price and its epoch are published together
+    private volatile CachedPrice cachedPrice;
 
     /**
      * Vehicle Constructor
@@ -102,21 +110,26 @@ public abstract class Vehicle {
         if (damage < 0 || damage > 100) {
             throw new IllegalArgumentException("Damage percentage must be between 0.00 and 100.00");
         }
-        this.rng = new Random();
-        this.type = type;
+        // Categorical values are shared between Vehicles, see Symbols
+        this.type = Symbols.intern(type);
         this.id = id;
-        this.make = make;
-        this.model = model;
+        this.make = Symbols.intern(make);
+        this.model = Symbols.intern(model);
         this.year = year;
-        this.price = price;
-        this.color = color;
-        this.transmission = transmission;
-        this.driveType = driveType;
+        this.priceCents = Money.ofDollars(price);
+        this.color = Symbols.intern(color);
+        this.transmission = Symbols.intern(transmission);
+        this.driveType = Symbols.intern(driveType);
         this.horsepower = horsepower;
         this.weight = weight;
         this.kilometerage = kilometerage;
         this.damage = damage;
         this.isElectric = isElectric;
+        this.typeKey = Symbols.fold(this.type);
+        this.makeKey = Symbols.fold(this.make);
+        this.colorKey = Symbols.fold(this.color);
+        this.transmissionKey = Symbols.fold(this.transmission);
+        this.driveTypeKey = Symbols.fold(this.driveType);
     }
 
     /**
@@ -132,7 +145,7 @@ public abstract class Vehicle {
                 v.make,
                 v.model,
                 v.year,
-                v.price,
+                Money.toDollars(v.priceCents),
                 v.color,
                 v.transmission,
                 v.driveType,
@@ -141,13 +154,12 @@ public abstract class Vehicle {
                 v.kilometerage,
                 v.damage,
                 v.isElectric);
-        this.rng = new Random();
     }
 
     @Override
     public String toString() {
         return PrettyUtils.returnYellow("[" + this.id + "] ") + this.year + " " + this.color + " " + this.make + " " + this.model + "\n"
-                + "Price: $" + String.format("%.2f", this.calculateTotalPrice()) + " | Transmission: " + this.transmission + ", "
+                + "Price: $" + Money.format(getTotalPriceCents()) + " | Transmission: " + this.transmission + ", "
                 + this.driveType + " | Kilometrage: " + String.format("%.2f", this.kilometerage) + " km\n";
     }
 
@@ -201,7 +213,7 @@ public abstract class Vehicle {
                 PrettyUtils.returnCyan("Make: ") + this.make + "\n" +
                 PrettyUtils.returnCyan("Model: ") + this.model + "\n" +
                 PrettyUtils.returnCyan("Year: ") + String.valueOf(this.year) + "\n" +
-                PrettyUtils.returnCyan("Price: ") + "$" + String.format("%.2f", calculateTotalPrice()) + "\n";
+                PrettyUtils.returnCyan("Price: ") + "$" + Money.format(getTotalPriceCents()) + "\n";
     }
 
     @Override
@@ -213,6 +225,11 @@ public abstract class Vehicle {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.id);
+    }
+
     public abstract String getFullDetails();
 
     public String getType() {
@@ -236,7 +253,11 @@ public abstract class Vehicle {
     }
 
     public double getPrice() {
-        return this.price;
+        return Money.toDollars(this.priceCents);
+    }
+
+    public long getPriceCents() {
+        return this.priceCents;
     }
 
     public String getColor() {
@@ -251,6 +272,51 @@ public abstract class Vehicle {
         return this.driveType;
     }
 
+    /**
+     * Gets the shared lowercase key of the type, see Symbols.fold.
+     *
+     * @return the type key
+     */
+    public String getTypeKey() {
+        return this.typeKey;
+    }
+
+    /**
+     * Gets the shared lowercase key of the make, see Symbols.fold.
+     *
+     * @return the make key
+     */
+    public String getMakeKey() {
+        return this.makeKey;
+    }
+
+    /**
+     * Gets the shared lowercase key of the color, see Symbols.fold.
+     *
+     * @return the color key
+     */
+    public String getColorKey() {
+        return this.colorKey;
+    }
+
+    /**
+     * Gets the shared lowercase key of the transmission, see Symbols.fold.
+     *
+     * @return the transmission key
+     */
+    public String getTransmissionKey() {
+        return this.transmissionKey;
+    }
+
+    /**
+     * Gets the shared lowercase key of the drive type, see Symbols.fold.
+     *
+     * @return the drive type key
+     */
+    public String getDriveTypeKey() {
+        return this.driveTypeKey;
+    }
+
     public int getHorsepower() {
         return this.horsepower;
     }
@@ -272,10 +338,11 @@ public abstract class Vehicle {
     }
 
     public void setPrice(double price) {
-        if (price >= 0) {
+        if (price < 0) {
             throw new IllegalArgumentException("Price cannot be negative.");
         } else {
-            this.price = price;
+            this.priceCents = Money.ofDollars(price);
+            invalidatePrice();
         }
     }
 
@@ -288,6 +355,7 @@ public abstract class Vehicle {
     public void addKilometerage(double kilometers) {
         if (kilometers >= 0) {
             this.kilometerage += kilometers;
+            invalidatePrice();
         } else {
             throw new IllegalArgumentException("Kilometers must be greater than or equal to zero.");
         }
@@ -302,8 +370,10 @@ public abstract class Vehicle {
         double newDamage = this.damage + damage;
         if (newDamage >= 0 && newDamage <= 100) {
             this.damage = newDamage;
+            invalidatePrice();
         } else if (newDamage > 100) {
             this.damage = 100;
+            invalidatePrice();
         } else {
             throw new IllegalArgumentException("Vehicle damage may not be below zero.");
         }
@@ -314,62 +384,98 @@ public abstract class Vehicle {
      * Applies random damage and kilometerage to the Vehicle.
      */
     public void testDrive() {
-        final double MAX_DAMAGE = 0.1;
-        final double MAX_KILOMETER = 50.0;
-        final double CRASH_PROBABILITY = 0.01;
-        final double MAX_CRASH_DAMAGE = 90.0;
-        final double MIN_CRASH_DAMAGE = 10.0;
-
-        // Generate random damage and kilometers
-        double randomDamage = rng.nextDouble() * MAX_DAMAGE;
-        double randomKilometers = rng.nextDouble() * MAX_KILOMETER;
-        randomDamage = Math.round(randomDamage * 100.0) / 100.0;
-        randomKilometers = Math.round(randomKilometers * 100.0) / 100.0;
-
-        // Check for crash
-        boolean hasCrashed = rng.nextDouble() < CRASH_PROBABILITY;
-        if (hasCrashed) {
-            // Generate crash damage multiplier
-            double multiplierRange = MAX_CRASH_DAMAGE - MIN_CRASH_DAMAGE;
-            double crashAddition = MIN_CRASH_DAMAGE + (rng.nextDouble() * multiplierRange);
-            randomDamage += crashAddition;
-            randomDamage = Math.round(randomDamage * 100.0) / 100.0;
-            PrettyUtils.printRed("\nYou crashed the vehicle during the test drive!");
-            System.out.println("This caused " + String.format("%.2f", crashAddition) + "% additional damage.");
-        }
+        testDrive(true);
+    }
 
-        // Apply damage
-        addDamage(randomDamage);
-        addKilometerage(randomKilometers);
+    /**
+     * Performs a virtual test drive for Vehicle with random chance of crashing.
+     * Applies random damage and kilometerage to the Vehicle.
+     * 
+     * @param verbose true to print how the drive went
+     */
+    public void testDrive(boolean verbose) {
+        TestDriveOutcome outcome = testDrive(RandomSource.get().generator());
+        if (verbose) {
+            outcome.print();
+        }
+    }
 
-        PrettyUtils.printGreen("\nTest drive completed:");
-        System.out.println("Damage applied: " + randomDamage + "%");
-        System.out.println("Kilometers driven: " + randomKilometers + " km");
+    /**
+     * Performs a virtual test drive drawing from the given generator, without
+     * printing anything.
+     * 
+     * @param random the generator to draw the outcome from
+     * @return what the drive did to the Vehicle
+     */
+    public TestDriveOutcome testDrive(RandomGenerator random) {
+        TestDriveOutcome outcome = TestDriveOutcome.draw(random);
+        addDamage(outcome.getDamage());
+        addKilometerage(outcome.getKilometers());
+        return outcome;
     }
 
     /**
      * Calculates the total price based on depreciation from age, mileage, and
      * damage.
+     * The result is cached until the price, kilometerage or damage changes,
+     * or the PricingClock moves to another year.
      * 
      * @return the price of the vehicle after depreciation.
      */
     public double calculateTotalPrice() {
-        return this.price - calculateDepreciation();
+        return Money.toDollars(getTotalPriceCents());
+    }
+
+    /**
+     * Same as calculateTotalPrice, in cents rounded to the nearest cent.
+     * 
+     * @return the price of the vehicle after depreciation, in cents.
+     */
+    public long getTotalPriceCents() {
+        long epoch = PricingClock.currentEpoch();
+        CachedPrice cached = this.cachedPrice;
+        if (cached == null || cached.epoch != epoch) {
+            cached = new CachedPrice(epoch, getTotalPriceCents(this.kilometerage, this.damage));
+            this.cachedPrice = cached;
+        }
+        return cached.cents;
+    }
+
+    /**
+     * Calculates what the total price would be with other kilometerage and
+     * damage, e.g. to project the price after more test drives. Not cached.
+     * 
+     * @param kilometerage the kilometerage to price with
+     * @param damage       the damage percentage to price with
+     * @return the price after depreciation, in cents.
+     */
+    public long getTotalPriceCents(double kilometerage, double damage) {
+        return this.priceCents - Money.ofDollars(calculateDepreciation(kilometerage, damage));
+    }
+
+    /**
+     * Forces the total price to be recalculated on its next read.
+     */
+    private void invalidatePrice() {
+        this.cachedPrice = null;
     }
 
     /**
      * Calculates depreciation based on damage, year, and mileage.
      * 
+     * @param kilometerage the kilometerage to price with
+     * @param damage       the damage percentage to price with
      * @return the amount of money to deduct from the Vehicle's price.
      *         If depreciation exceeds the Vehicle's price, returns the full price.
      */
-    private double calculateDepreciation() {
+    private double calculateDepreciation(double kilometerage, double damage) {
         double totalDepreciation = 0.0;
         totalDepreciation += calculateAgeDepreciation();
-        totalDepreciation += calculateKilometerageDepreciation();
-        totalDepreciation += calculateDamageDepreciation();
+        totalDepreciation += calculateKilometerageDepreciation(kilometerage);
+        totalDepreciation += calculateDamageDepreciation(damage);
         // Cap depreciation at the vehicle's full price
-        return totalDepreciation >= this.price ? this.price : totalDepreciation;
+        double price = Money.toDollars(this.priceCents);
+        return totalDepreciation >= price ? price : totalDepreciation;
     }
 
     /**
@@ -378,29 +484,31 @@ public abstract class Vehicle {
      * @return the amount to deduct from the vehicle's price due to age.
      */
     private double calculateAgeDepreciation() {
-        int currentYear = Year.now().getValue();
+        int currentYear = PricingClock.get().getYear();
         final double AGE_DEPRECIATION_RATE = 0.02;
-        return (currentYear - this.year) * AGE_DEPRECIATION_RATE * this.price; // 5% per year
+        return (currentYear - this.year) * AGE_DEPRECIATION_RATE * Money.toDollars(this.priceCents); // 5% per year
     }
 
     /**
      * Calculates the depreciation based on the vehicle's kilometerage .
      * 
+     * @param kilometerage the kilometerage to price with
      * @return the amount to deduct from the vehicle's price due to kilometerage.
      */
-    private double calculateKilometerageDepreciation() {
+    private double calculateKilometerageDepreciation(double kilometerage) {
         final double KILOMETER_DEPRECIATION_RATE = 0.02;
-        return this.kilometerage * KILOMETER_DEPRECIATION_RATE; // $0.02 per kilometer
+        return kilometerage * KILOMETER_DEPRECIATION_RATE; // $0.02 per kilometer
     }
 
     /**
      * Calculates the depreciation based on the vehicle's damage percentage.
      * 
+     * @param damage the damage percentage to price with
      * @return the amount to deduct from the vehicle's price due to damage.
      */
-    private double calculateDamageDepreciation() {
+    private double calculateDamageDepreciation(double damage) {
         final double DAMAGE_DEPRECIATION_RATE = 0.50;
-        return (this.damage / 100) * this.price * DAMAGE_DEPRECIATION_RATE; // 50% impact of damage on price
+        return (damage / 100) * Money.toDollars(this.priceCents) * DAMAGE_DEPRECIATION_RATE; // 50% impact of damage on price
     }
 
     /**
@@ -410,4 +518,17 @@ public abstract class Vehicle {
      * @return String[] representing the fields of the vehicle
      */
     public abstract String[] toCSVFields();
-}
\ No newline at end of file
+
+    /**
+     * A total price and the pricing epoch it was calculated in.
+     */
+    private static final class CachedPrice {
+        private final long epoch;
+        private final long cents;
+
+        CachedPrice(long epoch, long cents) {
+            this.epoch = epoch;
+            this.cents = cents;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Hash index from a Vehicle's ID to the Vehicle itself.
+ * Keys are kept as primitive ints in an open addressing table so lookups
+ * never box the ID or walk a list. Each entry can also hold the Vehicle's
+ * position in a list, as a hint for IndexedVehicleList.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import java.util.Arrays;
+
+public class VehicleIdIndex {
+    private static final int EMPTY = 0;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private Vehicle[] values;
+    private int[] positions;
+    private int size;
+
+    /**
+     * VehicleIdIndex Constructor
+     * Creates an empty index.
+     */
+    public VehicleIdIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * VehicleIdIndex Constructor
+     * Creates an empty index sized for the expected number of Vehicles.
+     *
+     * @param expectedSize the number of Vehicles the index should hold without
+     *                     resizing
+     */
+    public VehicleIdIndex(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative.");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        // Keep the load factor at or below 0.5
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new int[capacity];
+        this.values = new Vehicle[capacity];
+        this.positions = new int[capacity];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the Vehicle stored under the given ID.
+     *
+     * @param id the Vehicle ID to look up
+     * @return the Vehicle with the ID, or null if it is not indexed
+     */
+    public Vehicle get(int id) {
+        int slot = slotOf(id);
+        return slot < 0 ? null : this.values[slot];
+    }
+
+    /**
+     * Checks if a Vehicle with the given ID is indexed.
+     *
+     * @param id the Vehicle ID to check
+     * @return true if indexed, false otherwise
+     */
+    public boolean containsKey(int id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Indexes a Vehicle under its ID, replacing any Vehicle with the same ID.
+     *
+     * @param v the Vehicle to index
+     * @return the Vehicle previously stored under the ID, or null
+     */
+    public Vehicle put(Vehicle v) {
+        return put(v, -1);
+    }
+
+    /**
+     * Indexes a Vehicle under its ID with its position in a list, replacing
+     * any Vehicle with the same ID.
+     *
+     * @param v        the Vehicle to index
+     * @param position where the Vehicle is in its list, -1 if unknown
+     * @return the Vehicle previously stored under the ID, or null
+     */
+    public Vehicle put(Vehicle v, int position) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null.");
+        }
+        int id = v.getID();
+        int mask = this.keys.length - 1;
+        int slot = hash(id) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == id) {
+                Vehicle previous = this.values[slot];
+                this.values[slot] = v;
+                this.positions[slot] = position;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = id;
+        this.values[slot] = v;
+        this.positions[slot] = position;
+        this.size++;
+        if (this.size * 2 > this.keys.length) {
+            resize(this.keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the list position stored with the Vehicle under the given ID. It
+     * is only a hint, the list may have shifted since it was stored.
+     *
+     * @param id the Vehicle ID to look up
+     * @return the position, or -1 if unknown or the ID is not indexed
+     */
+    public int getPosition(int id) {
+        int slot = slotOf(id);
+        return slot < 0 ? -1 : this.positions[slot];
+    }
+
+    /**
+     * Stores the list position of the Vehicle under the given ID.
+     *
+     * @param id       the Vehicle ID
+     * @param position where the Vehicle is in its list
+     */
+    public void setPosition(int id, int position) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            this.positions[slot] = position;
+        }
+    }
+
+    /**
+     * Removes the Vehicle stored under the given ID.
+     * Uses backward shift deletion so no tombstones are left behind.
+     *
+     * @param id the Vehicle ID to remove
+     * @return the removed Vehicle, or null if the ID was not indexed
+     */
+    public Vehicle remove(int id) {
+        if (id == EMPTY) {
+            return null;
+        }
+        int mask = this.keys.length - 1;
+        int slot = hash(id) & mask;
+        while (this.keys[slot] != id) {
+            if (this.keys[slot] == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        Vehicle removed = this.values[slot];
+        // Shift following entries of the probe chain back into the gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (this.keys[next] != EMPTY) {
+            int home = hash(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                this.keys[gap] = this.keys[next];
+                this.values[gap] = this.values[next];
+                this.positions[gap] = this.positions[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.keys[gap] = EMPTY;
+        this.values[gap] = null;
+        this.size--;
+        return removed;
+    }
+
+    /**
+     * Removes every Vehicle from the index.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, EMPTY);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Finds the table slot holding the given ID.
+     *
+     * @param id the Vehicle ID
+     * @return the slot, or -1 if the ID is not indexed
+     */
+    private int slotOf(int id) {
+        if (id == EMPTY) {
+            return -1;
+        }
+        int mask = this.keys.length - 1;
+        int slot = hash(id) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Rehashes every entry into a table of the new capacity.
+     *
+     * @param capacity the new table length (power of two)
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = this.keys;
+        Vehicle[] oldValues = this.values;
+        int[] oldPositions = this.positions;
+        this.keys = new int[capacity];
+        this.values = new Vehicle[capacity];
+        this.positions = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (this.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+                this.positions[slot] = oldPositions[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads sequential IDs across the table.
+     *
+     * @param id the Vehicle ID
+     * @return the mixed hash of the ID
+     */
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -149,10 +149,17 @@ public class Prompter {
                 return "\nType a " + PrettyUtils.returnYellow("vehicle kilometrage range") + " or press " + PrettyUtils.returnYellowEnter() + " to go back:";
             case "trans":
                 return "\nType a " + PrettyUtils.returnYellow("vehicle transmission type") + " or press " + PrettyUtils.returnYellowEnter() + " to go back:";
+            case "combined":
+                return PrettyUtils.returnYellow("Combined Filter:\n") +
+                        "- Filters: " + PrettyUtils.returnYellow("type, make, color, drive, trans, year, price, kilo\n") +
+                        "- Separate conditions with " + PrettyUtils.returnYellow("`;`") + " and ranges with " + PrettyUtils.returnYellow("`-`") + " (`make toyota; price 5000-20000`)\n" +
+                        "- Add " + PrettyUtils.returnYellow("`not`") + " before a condition to exclude it (`not color red`)\n" +
+                        "Type a " + PrettyUtils.returnYellow("query") + " or press " + PrettyUtils.returnYellowEnter() + " to go back:";
             case "id-sort":
                 return PrettyUtils.returnYellow("Sort Options:\n") +
                         "- Type: " + PrettyUtils.returnYellow("id, price, year, kilometrage, damage\n") +
                         "- Add " + PrettyUtils.returnYellow("`desc`") + " for descending order (`id desc`)\n" +
+                        "- Type " + PrettyUtils.returnYellow("next") + " or " + PrettyUtils.returnYellow("prev") + " to change pages\n" +
                         "Select a vehicle with it's " + PrettyUtils.returnYellow("[ID]") + ", type a " + PrettyUtils.returnYellow("sorting") + " option, or press " + PrettyUtils.returnYellowEnter() + " to go back.";
             default:
                 return "No prompt available";
@@ -0,0 +1,440 @@
+/**
+ * A local HTTP API for the dealership, so real concurrent traffic can be put
+ * on it from a load generator. Runs the JDK's HttpServer on the loopback
+ * address and handles every request on its own virtual thread.
+ *
+ * <pre>
+ * GET    /vehicles?filter=make&amp;criteria=toyota          search with one filter
+ * GET    /vehicles?filter=price&amp;min=5000&amp;max=20000&amp;order=desc
+ * GET    /vehicles?query=make toyota; not color red     search with a combined query
+ * GET    /vehicles/{id}                                every field of a Vehicle
+ * POST   /carts?customer={id}                          open a cart for a Customer
+ * GET    /carts/{id}                                   the cart and its total
+ * POST   /carts/{id}/vehicles/{vehicleId}              reserve a Vehicle into the cart
+ * DELETE /carts/{id}/vehicles/{vehicleId}              release a Vehicle from the cart
+ * POST   /carts/{id}/checkout                          buy the whole cart or nothing
+ * DELETE /carts/{id}                                   close the cart, releasing its Vehicles
+ * GET    /sales?month=2024-11&amp;make=toyota              sales totals, overall or per day, month,
+ *                                                       make or type
+ * </pre>
+ *
+ * Every response is JSON. Vehicle searches take an optional `limit`, and
+ * `sort=price|year|kilometrage|damage|id` with `order` returns only the
+ * first `limit` (default 20) in that order, plus the `next` cursor to pass
+ * back as `after` for the following page.
+ * Each cart is a DealershipSession, so the API has the same guarantees as
+ * the sessions: a Vehicle in one cart cannot be added to another, and no
+ * Vehicle is ever sold twice.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.interaction.http;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.*;
+
+import usedcardealership.business.analytics.SalesRollups;
+import usedcardealership.business.comparators.VehicleCompare;
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.business.paging.*;
+import usedcardealership.business.session.DealershipSession;
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.filehandling.*;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.Vehicle;
+
+public class DealershipServer {
+    private static final Set<String> CATEGORY_FILTERS = new HashSet<>(
+            Arrays.asList("type", "make", "color", "drive", "trans"));
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final Set<String> RANGE_FILTERS = new HashSet<>(Arrays.asList("year", "price", "kilo"));
+
+    private final DealershipManager dealer;
+    private final Map<Integer, Customer> customers = new HashMap<>();
+    private final Map<Integer, DealershipSession> carts = new ConcurrentHashMap<>();
+    private final AtomicInteger nextCartId = new AtomicInteger(1);
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * DealershipServer Constructor
+     * Binds the server to the loopback address, it starts with start().
+     *
+     * @param dealer the dealership to serve
+     * @param port   the port to listen on, 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public DealershipServer(DealershipManager dealer, int port) throws IOException {
+        if (dealer == null) {
+            throw new IllegalArgumentException("Dealership cannot be null.");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535.");
+        }
+        this.dealer = dealer;
+        for (Customer customer : dealer.getCustomers()) {
+            this.customers.put(customer.getID(), customer);
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/vehicles", exchange -> handle(exchange, this::routeVehicles));
+        this.server.createContext("/carts", exchange -> handle(exchange, this::routeCarts));
+        this.server.createContext("/sales", exchange -> handle(exchange, this::routeSales));
+    }
+
+    public void start() {
+        this.server.start();
+    }
+
+    /**
+     * Stops the server and closes every open cart, so their Vehicles go
+     * back on sale.
+     */
+    public void stop() {
+        this.server.stop(0);
+        this.executor.shutdown();
+        for (DealershipSession session : this.carts.values()) {
+            session.close();
+        }
+        this.carts.clear();
+    }
+
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Runs a route and sends what it returns, or the error it throws.
+     */
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        int status;
+        String body;
+        try {
+            Response response = route.respond(exchange.getRequestMethod(), segments(exchange.getRequestURI()),
+                    query(exchange.getRequestURI()));
+            status = response.status;
+            body = response.body;
+        } catch (ApiException e) {
+            status = e.status;
+            body = Json.error(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = Json.error(e.getMessage());
+        } catch (RuntimeException e) {
+            status = 500;
+            body = Json.error("Internal error.");
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Answers /vehicles and /vehicles/{id}.
+     */
+    private Response routeVehicles(String method, List<String> path, Map<String, String> params) {
+        requireMethod(method, "GET");
+        if (path.size() == 1) {
+            List<Vehicle> found = search(params);
+            if (params.containsKey("sort")) {
+                return new Response(200, Json.page(page(found, params)));
+            }
+            int limit = params.containsKey("limit") ? parseInt(params.get("limit"), "limit") : found.size();
+            if (limit < 0) {
+                throw new IllegalArgumentException("limit cannot be negative.");
+            }
+            return new Response(200, Json.vehicles(found.subList(0, Math.min(limit, found.size()))));
+        }
+        if (path.size() == 2) {
+            int id = parseInt(path.get(1), "vehicle ID");
+            Vehicle vehicle = id > 0 ? this.dealer.getVehicleById(id) : null;
+            if (vehicle == null) {
+                throw new ApiException(404, "Vehicle " + path.get(1) + " is not in inventory.");
+            }
+            return new Response(200, Json.vehicleDetails(vehicle));
+        }
+        throw new ApiException(404, "Not found.");
+    }
+
+    /**
+     * Picks the page of a search a sorted /vehicles request asks for.
+     */
+    private VehiclePage page(List<Vehicle> found, Map<String, String> params) {
+        String order = params.getOrDefault("order", "asc");
+        if (!order.equals("asc") && !order.equals("desc")) {
+            throw new IllegalArgumentException("order must be asc or desc.");
+        }
+        VehiclePager pager = new VehiclePager(VehicleCompare.forSortType(params.get("sort").trim().toLowerCase()),
+                order.equals("asc"));
+        int limit = params.containsKey("limit") ? parseInt(params.get("limit"), "limit") : DEFAULT_PAGE_SIZE;
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive.");
+        }
+        Vehicle after = null;
+        if (params.containsKey("after")) {
+            int id = parseInt(params.get("after"), "after");
+            after = id > 0 ? this.dealer.getVehicleById(id) : null;
+            if (after == null) {
+                throw new IllegalArgumentException("after must be a Vehicle in inventory.");
+            }
+        }
+        return pager.page(found, after, limit);
+    }
+
+    /**
+     * Runs the search a /vehicles request asks for.
+     */
+    private List<Vehicle> search(Map<String, String> params) {
+        if (params.containsKey("query")) {
+            return this.dealer.applyQuery(this.dealer.parseQuery(params.get("query")));
+        }
+        String filter = params.getOrDefault("filter", "").toLowerCase();
+        if (CATEGORY_FILTERS.contains(filter)) {
+            String criteria = params.getOrDefault("criteria", "").trim();
+            if (criteria.isEmpty()) {
+                throw new IllegalArgumentException("criteria is required for filter " + filter + ".");
+            }
+            return this.dealer.applyFilter(filter, criteria);
+        }
+        if (RANGE_FILTERS.contains(filter)) {
+            String min = params.get("min");
+            String max = params.get("max");
+            // Checked here so bad input is a 400 instead of an empty list
+            if (filter.equals("year")) {
+                parseInt(min, "min");
+                parseInt(max, "max");
+            } else {
+                parseDouble(min, "min");
+                parseDouble(max, "max");
+            }
+            String order = params.getOrDefault("order", "asc");
+            if (!order.equals("asc") && !order.equals("desc")) {
+                throw new IllegalArgumentException("order must be asc or desc.");
+            }
+            return this.dealer.applyRangeFilter(filter, min.trim(), max.trim(), order.equals("asc"));
+        }
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("A filter or query is required.");
+        }
+        throw new IllegalArgumentException("Invalid filter type: " + filter);
+    }
+
+    /**
+     * Answers /carts and everything under it.
+     */
+    private Response routeCarts(String method, List<String> path, Map<String, String> params) {
+        if (path.size() == 1) {
+            requireMethod(method, "POST");
+            Customer customer = this.customers.get(parseInt(params.get("customer"), "customer"));
+            if (customer == null) {
+                throw new ApiException(404, "Customer " + params.get("customer") + " not found.");
+            }
+            int id = this.nextCartId.getAndIncrement();
+            DealershipSession session = new DealershipSession(this.dealer, customer);
+            this.carts.put(id, session);
+            return new Response(201, Json.cart(id, customer, session.getCart()));
+        }
+        int id = parseInt(path.get(1), "cart ID");
+        DealershipSession session = this.carts.get(id);
+        if (session == null) {
+            throw new ApiException(404, "Cart " + path.get(1) + " not found.");
+        }
+        if (path.size() == 2) {
+            if (method.equals("DELETE")) {
+                if (this.carts.remove(id, session)) {
+                    session.close();
+                }
+                return new Response(200, Json.cart(id, session.getCustomer(), session.getCart()));
+            }
+            requireMethod(method, "GET");
+            return new Response(200, Json.cart(id, session.getCustomer(), session.getCart()));
+        }
+        if (path.size() == 3 && path.get(2).equals("checkout")) {
+            requireMethod(method, "POST");
+            try {
+                List<Transaction> receipt = session.checkout();
+                return new Response(200, Json.receipt(receipt, session.getCustomer().getBalanceCents()));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new ApiException(409, e.getMessage());
+            }
+        }
+        if (path.size() == 4 && path.get(2).equals("vehicles")) {
+            int vehicleId = parseInt(path.get(3), "vehicle ID");
+            if (method.equals("DELETE")) {
+                if (!session.removeFromCart(vehicleId)) {
+                    throw new ApiException(404, "Vehicle " + vehicleId + " is not in the cart.");
+                }
+                return new Response(200, Json.cart(id, session.getCustomer(), session.getCart()));
+            }
+            requireMethod(method, "POST");
+            try {
+                session.addToCart(vehicleId);
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(409, e.getMessage());
+            }
+            return new Response(200, Json.cart(id, session.getCustomer(), session.getCart()));
+        }
+        throw new ApiException(404, "Not found.");
+    }
+
+    /**
+     * Answers /sales from the rollups, without reading the Transaction
+     * history. Each of day, month, make and type that is given gets its own
+     * totals beside the overall ones.
+     */
+    private Response routeSales(String method, List<String> path, Map<String, String> params) {
+        requireMethod(method, "GET");
+        if (path.size() != 1) {
+            throw new ApiException(404, "Not found.");
+        }
+        SalesRollups rollups = this.dealer.getTransactionManager().getSalesRollups();
+        Map<String, SalesRollups.Totals> totals = new LinkedHashMap<>();
+        totals.put("all", rollups.getTotals());
+        try {
+            if (params.containsKey("day")) {
+                totals.put("day", rollups.getDay(LocalDate.parse(params.get("day").trim())));
+            }
+            if (params.containsKey("month")) {
+                totals.put("month", rollups.getMonth(YearMonth.parse(params.get("month").trim())));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("day must be YYYY-MM-DD and month YYYY-MM.");
+        }
+        if (params.containsKey("make")) {
+            totals.put("make", rollups.getMake(params.get("make").trim()));
+        }
+        if (params.containsKey("type")) {
+            totals.put("type", rollups.getType(params.get("type").trim()));
+        }
+        return new Response(200, Json.sales(totals));
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new ApiException(405, "Method " + method + " not allowed.");
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value == null ? "" : value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer.");
+        }
+    }
+
+    private static double parseDouble(String value, String name) {
+        try {
+            return Double.parseDouble(value == null ? "" : value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number.");
+        }
+    }
+
+    /**
+     * Splits a request path into its non-empty segments.
+     */
+    private static List<String> segments(URI uri) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : uri.getPath().split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Decodes a request's query string, the last value of a repeated name wins.
+     */
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Answers a request, given its method, path segments and query parameters.
+     */
+    private interface Route {
+        Response respond(String method, List<String> path, Map<String, String> params);
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * A request that fails with a specific HTTP status.
+     */
+    private static class ApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Loads a dealership from CSV files and serves it until the process is
+     * stopped. Nothing is saved, so the files are left as they were.
+     *
+     * @param args --data (the directory holding inventory.csv, database.csv,
+     *             customers.csv, transactions.csv and coupons.csv) and --port
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        options.put("data", "resources");
+        options.put("port", "8080");
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unknown option or missing value: " + args[i]);
+            }
+            options.put(name, args[i + 1]);
+        }
+        Path data = Paths.get(options.get("data"));
+        DealershipState state = SnapshotFileHandler.importCsv(data, "HTTP Dealership", 0);
+        DealershipManager dealer = new DealershipManager(state.getName(), 0, state.getTransactions(),
+                state.getInventory(), state.getDatabase(), state.getCustomers(), state.getCoupons());
+        DealershipServer server = new DealershipServer(dealer, Integer.parseInt(options.get("port")));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.out.println("Listening on http://localhost:" + server.getPort());
+    }
+}
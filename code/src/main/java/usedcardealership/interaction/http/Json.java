@@ -0,0 +1,264 @@
+/**
+ * Writes the dealership's objects as JSON for the HTTP API.
+ * Prices are the Vehicles' current prices, as shown in the console menus,
+ * rounded to cents.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.interaction.http;
+
+import java.util.*;
+
+import usedcardealership.business.analytics.SalesRollups;
+import usedcardealership.business.paging.VehiclePage;
+import usedcardealership.data.Money;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.*;
+
+public class Json {
+    private Json() {
+    }
+
+    /**
+     * Writes a Vehicle's summary: the fields shown in vehicle lists.
+     *
+     * @param v the Vehicle
+     * @return the JSON object
+     */
+    public static String vehicle(Vehicle v) {
+        StringBuilder json = new StringBuilder(192);
+        appendSummary(json, v);
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes every field of a Vehicle, including those of its type.
+     *
+     * @param v the Vehicle
+     * @return the JSON object
+     */
+    public static String vehicleDetails(Vehicle v) {
+        StringBuilder json = new StringBuilder(384);
+        appendSummary(json, v);
+        json.append(",\"horsepower\":").append(v.getHorsepower());
+        json.append(",\"weight\":").append(number(v.getWeight()));
+        json.append(",\"damage\":").append(number(v.getDamage()));
+        json.append(",\"electric\":").append(v.isElectric());
+        if (v instanceof EnclosedVehicle) {
+            EnclosedVehicle enclosed = (EnclosedVehicle) v;
+            json.append(",\"seats\":").append(enclosed.getNumSeats());
+            json.append(",\"doors\":").append(enclosed.getNumDoors());
+            json.append(",\"sunRoof\":").append(enclosed.hasSunRoof());
+        }
+        if (v instanceof CargoCapacity) {
+            json.append(",\"cargoCapacity\":").append(number(((CargoCapacity) v).getCargoCapacity()));
+        }
+        if (v instanceof Car) {
+            json.append(",\"convertible\":").append(((Car) v).isConvertible());
+        } else if (v instanceof SUV) {
+            json.append(",\"thirdRowSeating\":").append(((SUV) v).hasThirdRowSeating());
+        } else if (v instanceof Van) {
+            json.append(",\"slidingDoors\":").append(((Van) v).hasSlidingDoors());
+        } else if (v instanceof PickupTruck) {
+            PickupTruck truck = (PickupTruck) v;
+            json.append(",\"bedLength\":").append(number(truck.getBedLength()));
+            json.append(",\"towingCapacity\":").append(number(truck.getTowingCapacity()));
+        } else if (v instanceof Motorcycle) {
+            Motorcycle motorcycle = (Motorcycle) v;
+            json.append(",\"engineCC\":").append(number(motorcycle.getEngineCC()));
+            json.append(",\"handleType\":").append(string(motorcycle.getHandleType()));
+        } else if (v instanceof RV) {
+            RV rv = (RV) v;
+            json.append(",\"sleepCapacity\":").append(rv.getSleepCapacity());
+            json.append(",\"bathroom\":").append(rv.hasBathroom());
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes a list of Vehicle summaries.
+     *
+     * @param vehicles the Vehicles
+     * @return the JSON object, with the count and the Vehicles
+     */
+    public static String vehicles(List<Vehicle> vehicles) {
+        return appendVehicles(new StringBuilder(32 + vehicles.size() * 192), vehicles).append('}').toString();
+    }
+
+    /**
+     * Writes one page of a sorted search.
+     *
+     * @param page the page
+     * @return the JSON object, with the ID to ask for the next page after,
+     *         or null on the last page
+     */
+    public static String page(VehiclePage page) {
+        List<Vehicle> vehicles = page.getVehicles();
+        StringBuilder json = appendVehicles(new StringBuilder(48 + vehicles.size() * 192), vehicles);
+        Vehicle cursor = page.getCursor();
+        json.append(",\"next\":").append(cursor == null ? "null" : Integer.toString(cursor.getID()));
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes the count and list of Vehicles, leaving the object open.
+     */
+    private static StringBuilder appendVehicles(StringBuilder json, List<Vehicle> vehicles) {
+        json.append("{\"count\":").append(vehicles.size()).append(",\"vehicles\":[");
+        for (int i = 0; i < vehicles.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(vehicle(vehicles.get(i)));
+        }
+        return json.append(']');
+    }
+
+    /**
+     * Writes a shopping cart.
+     *
+     * @param id       the cart's ID
+     * @param customer the Customer shopping
+     * @param vehicles the Vehicles in the cart
+     * @return the JSON object, with the total price of the cart
+     */
+    public static String cart(int id, Customer customer, List<Vehicle> vehicles) {
+        long total = 0;
+        for (Vehicle v : vehicles) {
+            total += v.getTotalPriceCents();
+        }
+        String list = vehicles(vehicles);
+        return "{\"id\":" + id + ",\"customer\":" + customer.getID() + ",\"total\":" + Money.format(total) + ","
+                + list.substring(1);
+    }
+
+    /**
+     * Writes a Transaction.
+     *
+     * @param transaction the Transaction
+     * @return the JSON object
+     */
+    public static String transaction(Transaction transaction) {
+        return "{\"id\":" + transaction.getID()
+                + ",\"type\":" + string(transaction.getType())
+                + ",\"date\":" + string(transaction.getDate().toString())
+                + ",\"price\":" + Money.format(transaction.getPriceCents())
+                + ",\"customer\":" + transaction.getCustomer().getID()
+                + ",\"vehicle\":" + vehicle(transaction.getVehicle()) + "}";
+    }
+
+    /**
+     * Writes the result of a checkout.
+     *
+     * @param transactions the Transaction for each Vehicle bought
+     * @param balanceCents the Customer's balance afterwards, in cents
+     * @return the JSON object
+     */
+    public static String receipt(List<Transaction> transactions, long balanceCents) {
+        StringBuilder json = Money.appendTo(new StringBuilder("{\"balance\":"), balanceCents)
+                .append(",\"transactions\":[");
+        for (int i = 0; i < transactions.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(transaction(transactions.get(i)));
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Writes named sales totals, one object per name.
+     *
+     * @param totals the totals by name, in the order to write them
+     * @return the JSON object
+     */
+    public static String sales(Map<String, SalesRollups.Totals> totals) {
+        StringBuilder json = new StringBuilder(64 + totals.size() * 192).append('{');
+        for (Map.Entry<String, SalesRollups.Totals> entry : totals.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            SalesRollups.Totals t = entry.getValue();
+            json.append(string(entry.getKey())).append(":{\"unitsSold\":").append(t.getUnitsSold());
+            Money.appendTo(json.append(",\"revenue\":"), t.getRevenueCents());
+            Money.appendTo(json.append(",\"tax\":"), t.getTaxCents());
+            Money.appendTo(json.append(",\"discount\":"), t.getDiscountCents());
+            Money.appendTo(json.append(",\"averageDiscount\":"), t.getAverageDiscountCents());
+            json.append(",\"purchases\":").append(t.getPurchases());
+            Money.appendTo(json.append(",\"purchaseSpend\":"), t.getPurchaseCents());
+            json.append('}');
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes an error.
+     *
+     * @param message what went wrong
+     * @return the JSON object
+     */
+    public static String error(String message) {
+        return "{\"error\":" + string(message) + "}";
+    }
+
+    /**
+     * Quotes and escapes a string.
+     *
+     * @param value the string, may be null
+     * @return the JSON string, or null
+     */
+    public static String string(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private static void appendSummary(StringBuilder json, Vehicle v) {
+        json.append("{\"id\":").append(v.getID());
+        json.append(",\"type\":").append(string(v.getType()));
+        json.append(",\"make\":").append(string(v.getMake()));
+        json.append(",\"model\":").append(string(v.getModel()));
+        json.append(",\"year\":").append(v.getYear());
+        Money.appendTo(json.append(",\"price\":"), v.getTotalPriceCents());
+        json.append(",\"color\":").append(string(v.getColor()));
+        json.append(",\"transmission\":").append(string(v.getTransmission()));
+        json.append(",\"driveType\":").append(string(v.getDriveType()));
+        json.append(",\"kilometerage\":").append(number(v.getKilometerage()));
+    }
+
+    private static String number(double value) {
+        // JSON has no NaN or Infinity
+        return Double.isFinite(value) ? String.valueOf(value) : "null";
+    }
+}
@@ -0,0 +1,521 @@
+/**
+ * Generates a synthetic dealership dataset at any size for scale testing:
+ * inventory, database, customers with their owned vehicles, transactions
+ * and coupons, as the CSV files the file handlers read and as a PostgreSQL
+ * script for the schema in sql/usedcardealership.sql.
+ * Every row is derived from the seed and its own ID, so rows are rendered
+ * in parallel chunks and streamed to disk in order, and the output is the
+ * same whatever the number of threads.
+ *
+ * Vehicle IDs 1 to inventorySize are on the lot, the IDs after that belong
+ * to customers in customer order. The database holds every Vehicle.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.tools;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import usedcardealership.data.Money;
+
+public final class DatasetGenerator {
+    private static final int CHUNK_ROWS = 10000;
+    // Chunks rendered ahead of the writer per thread, bounds memory use
+    private static final int CHUNKS_PER_THREAD = 4;
+    // Owned vehicles per customer are capped so one customer line stays small
+    private static final int MAX_OWNED = 10;
+    private static final String TAX = "1.15";
+
+    private static final long VEHICLE_STREAM = 1;
+    private static final long CUSTOMER_STREAM = 2;
+    private static final long TRANSACTION_STREAM = 3;
+    private static final long COUPON_STREAM = 4;
+
+    private static final String[] FIRST_NAMES = { "Alice", "Bob", "Chris", "Dana", "Eve", "Frank", "Grace", "Hank",
+            "Ivy", "Jack", "Karen", "Liam", "Maya", "Noah", "Olivia", "Paul", "Quinn", "Rosa", "Sam", "Tara" };
+    private static final String[] LAST_NAMES = { "Anderson", "Brown", "Clark", "Davis", "Garcia", "Johnson", "Lee",
+            "Martin", "Miller", "Nguyen", "Patel", "Roy", "Smith", "Taylor", "Thomas", "Tremblay", "White", "Wilson" };
+    private static final String[] STREETS = { "Elm St", "Oak Ave", "Maple Blvd", "Birch Dr", "Pine Ln", "Spruce Way",
+            "Cedar Pl", "Walnut Ct", "Poplar Rd", "Aspen Cir" };
+    private static final LocalDate FIRST_TRANSACTION = LocalDate.of(2020, 1, 1);
+    private static final int TRANSACTION_DAYS = 6 * 365;
+
+    private static final String VEHICLE_COLUMNS = "id, type, make, model, year, price, color, transmission, drive_type,"
+            + " horsepower, weight, kilometerage, damage, is_electric, engine_cc, handlebar_type, num_doors, num_seats,"
+            + " has_sunroof, sleep_capacity, has_bathroom, is_convertible, cargo_capacity, has_thirdrow_seating,"
+            + " has_sliding_doors, bed_length, towing_capacity";
+    // CSV field holding each column from engine_cc to towing_capacity, -1 for NULL
+    private static final Map<String, int[]> TYPE_COLUMNS = Map.of(
+            "Motorcycle", new int[] { 14, 15, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1 },
+            "Car", new int[] { -1, -1, 15, 14, 16, -1, -1, 17, -1, -1, -1, -1, -1 },
+            "RV", new int[] { -1, -1, 15, 14, 16, 17, 18, -1, -1, -1, -1, -1, -1 },
+            "SUV", new int[] { -1, -1, 15, 14, 16, -1, -1, -1, -1, 17, -1, -1, -1 },
+            "PickupTruck", new int[] { -1, -1, 15, 14, 16, -1, -1, -1, 17, -1, -1, 18, 19 },
+            "Van", new int[] { -1, -1, 15, 14, 16, -1, -1, -1, 17, -1, 18, -1, -1 });
+
+    private final long seed;
+    private final int inventorySize;
+    private final int customerCount;
+    private final double vehiclesPerCustomer;
+    private final int transactionCount;
+    private final int couponCount;
+    // Owned vehicles before each customer, ownedBefore[c - 1] for customer c
+    private final int[] ownedBefore;
+
+    /**
+     * DatasetGenerator Constructor
+     * Works out how many vehicles each customer owns, the rows themselves
+     * are only generated while writing.
+     *
+     * @param seed                the seed, the same seed gives the same dataset
+     * @param inventorySize       the number of vehicles on the lot
+     * @param customerCount       the number of customers
+     * @param vehiclesPerCustomer the average number of vehicles a customer owns
+     * @param transactionCount    the number of past transactions
+     * @param couponCount         the number of coupons
+     */
+    public DatasetGenerator(long seed, int inventorySize, int customerCount, double vehiclesPerCustomer,
+            int transactionCount, int couponCount) {
+        if (inventorySize < 0 || customerCount < 0 || transactionCount < 0 || couponCount < 0) {
+            throw new IllegalArgumentException("Row counts cannot be negative.");
+        }
+        if (vehiclesPerCustomer < 0 || vehiclesPerCustomer > MAX_OWNED) {
+            throw new IllegalArgumentException("Vehicles per customer must be between 0 and " + MAX_OWNED + ".");
+        }
+        if (transactionCount > 0 && customerCount == 0) {
+            throw new IllegalArgumentException("Transactions need at least one customer.");
+        }
+        this.seed = seed;
+        this.inventorySize = inventorySize;
+        this.customerCount = customerCount;
+        this.vehiclesPerCustomer = vehiclesPerCustomer;
+        this.transactionCount = transactionCount;
+        this.couponCount = couponCount;
+        this.ownedBefore = new int[customerCount + 1];
+        long owned = 0;
+        for (int id = 1; id <= customerCount; id++) {
+            owned += ownedCount(random(CUSTOMER_STREAM, id));
+            if (inventorySize + owned > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many vehicles for integer IDs.");
+            }
+            this.ownedBefore[id] = (int) owned;
+        }
+        if (transactionCount > 0 && getVehicleCount() == 0) {
+            throw new IllegalArgumentException("Transactions need at least one vehicle.");
+        }
+    }
+
+    /**
+     * Gets the number of vehicles in the database, on the lot or owned.
+     *
+     * @return the vehicle count
+     */
+    public int getVehicleCount() {
+        return this.inventorySize + this.ownedBefore[this.customerCount];
+    }
+
+    /**
+     * Writes inventory.csv, database.csv, customers.csv, transactions.csv and
+     * coupons.csv in the formats the file handlers read.
+     *
+     * @param directory where to write the files, created if missing
+     * @param threads   the number of threads rendering rows
+     * @throws IOException if a file cannot be written
+     */
+    public void writeCsv(Path directory, int threads) throws IOException {
+        Files.createDirectories(directory);
+        ExecutorService pool = newPool(threads);
+        try {
+            writeFile(directory.resolve("inventory.csv"), pool, 1, this.inventorySize, this::appendVehicleLine);
+            writeFile(directory.resolve("database.csv"), pool, 1, getVehicleCount(), this::appendVehicleLine);
+            writeFile(directory.resolve("customers.csv"), pool, 1, this.customerCount, this::appendCustomerLine);
+            writeFile(directory.resolve("transactions.csv"), pool, 1, this.transactionCount,
+                    (out, scratch, id) -> appendTransaction(out, scratch, id, false));
+            writeFile(directory.resolve("coupons.csv"), pool, 1, this.couponCount,
+                    (out, scratch, id) -> appendCoupon(out, id, ','));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes a psql script that replaces the contents of every table with
+     * the dataset, using COPY so tens of millions of rows load quickly.
+     * Run sql/usedcardealership.sql first to create the tables.
+     *
+     * @param file    the script to write
+     * @param threads the number of threads rendering rows
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSql(Path file, int threads) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ExecutorService pool = newPool(threads);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            write(out, "BEGIN;\nTRUNCATE vehicles, customers, customers_vehicles, transactions, coupons;\n");
+            write(out, "COPY vehicles (" + VEHICLE_COLUMNS + ") FROM stdin;\n");
+            writeRows(out, pool, 1, getVehicleCount(), this::appendVehicleRow);
+            write(out, "\\.\nCOPY customers (id, first_name, last_name, birthday, phone_number, address,"
+                    + " account_balance) FROM stdin;\n");
+            writeRows(out, pool, 1, this.customerCount,
+                    (rows, scratch, id) -> appendCustomer(rows, random(CUSTOMER_STREAM, id), id, '\t').append('\n'));
+            write(out, "\\.\nCOPY customers_vehicles (customer_id, vehicle_id) FROM stdin;\n");
+            writeRows(out, pool, 1, this.customerCount, this::appendOwnershipRows);
+            write(out, "\\.\nCOPY transactions (id, type, date, price, tax, customer_id, vehicle_id) FROM stdin;\n");
+            writeRows(out, pool, 1, this.transactionCount,
+                    (rows, scratch, id) -> appendTransaction(rows, scratch, id, true));
+            write(out, "\\.\nCOPY coupons (type, code, discount) FROM stdin;\n");
+            writeRows(out, pool, 1, this.couponCount, (rows, scratch, id) -> appendCoupon(rows, id, '\t'));
+            write(out, "\\.\nCOMMIT;\n");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Appends one Vehicle as a CSV line.
+     */
+    private void appendVehicleLine(StringBuilder out, StringBuilder scratch, int id) {
+        vehicles(id).appendCsv(out, id);
+        out.append('\n');
+    }
+
+    /**
+     * Appends one Vehicle as a COPY row, moving the CSV fields into the
+     * vehicles table's column order.
+     */
+    private void appendVehicleRow(StringBuilder out, StringBuilder scratch, int id) {
+        scratch.setLength(0);
+        vehicles(id).appendCsv(scratch, id);
+        int[] starts = new int[21];
+        int fields = 1;
+        for (int i = 0; i < scratch.length(); i++) {
+            if (scratch.charAt(i) == ',') {
+                starts[fields++] = i + 1;
+            }
+        }
+        starts[fields] = scratch.length() + 1;
+        appendField(out, scratch, starts, 1).append('\t');
+        appendField(out, scratch, starts, 0);
+        for (int field = 2; field <= 13; field++) {
+            appendField(out.append('\t'), scratch, starts, field);
+        }
+        String type = scratch.substring(0, starts[1] - 1);
+        for (int field : TYPE_COLUMNS.get(type)) {
+            out.append('\t');
+            if (field < 0) {
+                out.append("\\N");
+            } else {
+                appendField(out, scratch, starts, field);
+            }
+        }
+        out.append('\n');
+    }
+
+    private static StringBuilder appendField(StringBuilder out, StringBuilder line, int[] starts, int field) {
+        return out.append(line, starts[field], starts[field + 1] - 1);
+    }
+
+    /**
+     * Appends one Customer as a CSV line, with the Vehicles they own nested
+     * in brackets and separated by #.
+     */
+    private void appendCustomerLine(StringBuilder out, StringBuilder scratch, int id) {
+        appendCustomer(out, random(CUSTOMER_STREAM, id), id, ',').append(",[");
+        int first = this.inventorySize + this.ownedBefore[id - 1] + 1;
+        int last = this.inventorySize + this.ownedBefore[id];
+        for (int vehicleId = first; vehicleId <= last; vehicleId++) {
+            if (vehicleId > first) {
+                out.append('#');
+            }
+            vehicles(vehicleId).appendCsv(out, vehicleId);
+        }
+        out.append("]\n");
+    }
+
+    /**
+     * Appends a customers_vehicles COPY row for each Vehicle a Customer owns.
+     */
+    private void appendOwnershipRows(StringBuilder out, StringBuilder scratch, int id) {
+        int first = this.inventorySize + this.ownedBefore[id - 1] + 1;
+        int last = this.inventorySize + this.ownedBefore[id];
+        for (int vehicleId = first; vehicleId <= last; vehicleId++) {
+            out.append(id).append('\t').append(vehicleId).append('\n');
+        }
+    }
+
+    /**
+     * Appends a Customer's own fields, without their Vehicles.
+     *
+     * @param out       the builder to append to
+     * @param random    the Customer's random source, before any draws
+     * @param id        the Customer's ID
+     * @param separator the field separator
+     * @return out
+     */
+    private StringBuilder appendCustomer(StringBuilder out, SplittableRandom random, int id, char separator) {
+        // Same first draw as the constructor, so the fields after it match
+        ownedCount(random);
+        LocalDate birthday = LocalDate.of(1945 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28));
+        long balanceCents = Math.round((1000 + 150000 * Math.pow(random.nextDouble(), 2)) * 100);
+        out.append(id).append(separator)
+                .append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(separator)
+                .append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]).append(separator)
+                .append(birthday).append(separator);
+        appendDigits(out, 200 + random.nextInt(800), 3).append('-');
+        appendDigits(out, random.nextInt(1000), 3).append('-');
+        appendDigits(out, random.nextInt(10000), 4).append(separator);
+        return out.append(100 + random.nextInt(9900)).append(' ').append(STREETS[random.nextInt(STREETS.length)])
+                .append(separator).append(Money.format(balanceCents));
+    }
+
+    /**
+     * Appends one Transaction, as a TransactionFileHandler line or a COPY
+     * row, both referring to the Customer and Vehicle by ID.
+     */
+    private void appendTransaction(StringBuilder out, StringBuilder scratch, int id, boolean sql) {
+        SplittableRandom random = random(TRANSACTION_STREAM, id);
+        int customerId = 1 + random.nextInt(this.customerCount);
+        int vehicleId = 1 + random.nextInt(getVehicleCount());
+        String type = random.nextDouble() < 0.55 ? "Dealership Purchase" : "Dealership Sale";
+        LocalDate date = FIRST_TRANSACTION.plusDays(random.nextInt(TRANSACTION_DAYS));
+        scratch.setLength(0);
+        vehicles(vehicleId).appendCsv(scratch, vehicleId);
+        // The sale goes through at the Vehicle's listed price, its sixth field
+        int start = 0;
+        for (int field = 0; field < 5; field++) {
+            start = scratch.indexOf(",", start) + 1;
+        }
+        CharSequence price = scratch.subSequence(start, scratch.indexOf(",", start));
+        char separator = sql ? '\t' : ',';
+        out.append(id).append(separator).append(type).append(separator).append(date).append(separator)
+                .append(price).append(separator).append(TAX).append(separator).append(customerId).append(separator)
+                .append(vehicleId).append('\n');
+    }
+
+    /**
+     * Appends one Coupon, a mix of fixed amount and percentage discounts.
+     */
+    private void appendCoupon(StringBuilder out, int id, char separator) {
+        SplittableRandom random = random(COUPON_STREAM, id);
+        if (random.nextBoolean()) {
+            out.append("Numeric").append(separator).append("NUM").append(id).append(separator)
+                    .append(50 * (1 + random.nextInt(40)));
+        } else {
+            out.append("Percentage").append(separator).append("PERC").append(id).append(separator)
+                    .append(5 + random.nextInt(26));
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Draws how many Vehicles a Customer owns, geometric around the average.
+     */
+    private int ownedCount(SplittableRandom random) {
+        double draw = random.nextDouble();
+        if (this.vehiclesPerCustomer == 0) {
+            return 0;
+        }
+        double keepGoing = this.vehiclesPerCustomer / (1 + this.vehiclesPerCustomer);
+        return (int) Math.min(MAX_OWNED, Math.floor(Math.log(1 - draw) / Math.log(keepGoing)));
+    }
+
+    private VehicleGenerator vehicles(int id) {
+        return new VehicleGenerator(random(VEHICLE_STREAM, id));
+    }
+
+    /**
+     * Gets the random source for one row, independent of every other row.
+     *
+     * @param stream which kind of row
+     * @param id     the row's ID
+     * @return the row's random source
+     */
+    private SplittableRandom random(long stream, int id) {
+        return new SplittableRandom((this.seed * 31 + stream) * 0x9E3779B97F4A7C15L + id);
+    }
+
+    private static StringBuilder appendDigits(StringBuilder out, int value, int digits) {
+        String text = Integer.toString(value);
+        for (int i = text.length(); i < digits; i++) {
+            out.append('0');
+        }
+        return out.append(text);
+    }
+
+    private void writeFile(Path file, ExecutorService pool, int first, int last, RowFormat format)
+            throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            writeRows(out, pool, first, last, format);
+        }
+    }
+
+    /**
+     * Renders the rows for IDs first to last in chunks on the pool and
+     * writes the chunks in ID order, keeping a few chunks ahead of the writer.
+     *
+     * @param out    where to write the rows
+     * @param pool   the threads rendering chunks
+     * @param first  the first ID
+     * @param last   the last ID, below first for no rows
+     * @param format how to render one ID's rows
+     * @throws IOException if the rows cannot be written
+     */
+    private static void writeRows(OutputStream out, ExecutorService pool, int first, int last, RowFormat format)
+            throws IOException {
+        int window = ((ThreadPoolExecutor) pool).getCorePoolSize() * CHUNKS_PER_THREAD;
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        AtomicBoolean stop = new AtomicBoolean();
+        try {
+            for (long start = first; start <= last; start += CHUNK_ROWS) {
+                int from = (int) start;
+                int to = (int) Math.min(last, start + CHUNK_ROWS - 1);
+                pending.add(pool.submit(() -> render(format, from, to, stop)));
+                if (pending.size() >= window) {
+                    out.write(await(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                out.write(await(pending.poll()));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Chunks still rendering stop at their next row, and are waited for so none outlives the call
+            stop.set(true);
+            for (Future<byte[]> chunk : pending) {
+                awaitQuietly(chunk);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a chunk to finish without caring how, so the failure being
+     * thrown is not replaced by another one.
+     */
+    private static void awaitQuietly(Future<byte[]> chunk) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                chunk.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] render(RowFormat format, int from, int to, AtomicBoolean stop) {
+        StringBuilder out = new StringBuilder((to - from + 1) * 160);
+        StringBuilder scratch = new StringBuilder(160);
+        for (int id = from; id <= to && !stop.get(); id++) {
+            format.append(out, scratch, id);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] await(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while generating rows.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ExecutorService newPool(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dataset-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Renders the rows for one ID.
+     */
+    private interface RowFormat {
+        /**
+         * @param out     the builder to append the rows to, newline terminated
+         * @param scratch a builder the format may reuse between IDs
+         * @param id      the ID to render
+         */
+        void append(StringBuilder out, StringBuilder scratch, int id);
+    }
+
+    /**
+     * Generates a dataset from the command line, e.g.
+     * --inventory 20000000 --customers 10000000 --transactions 15000000 --out data
+     *
+     * @param args --seed, --inventory, --customers, --vehicles-per-customer,
+     *             --transactions, --coupons, --threads, --out and
+     *             --format (csv, sql or both)
+     * @throws IOException if the dataset cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        options.put("seed", "42");
+        options.put("inventory", "100000");
+        options.put("customers", "50000");
+        options.put("vehicles-per-customer", "1.0");
+        options.put("transactions", "200000");
+        options.put("coupons", "100");
+        options.put("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        options.put("out", "generated");
+        options.put("format", "both");
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unknown option or missing value: " + args[i]);
+            }
+            options.put(name, args[i + 1]);
+        }
+        String format = options.get("format");
+        if (!format.equals("csv") && !format.equals("sql") && !format.equals("both")) {
+            throw new IllegalArgumentException("Format must be csv, sql or both.");
+        }
+        DatasetGenerator generator = new DatasetGenerator(Long.parseLong(options.get("seed")),
+                Integer.parseInt(options.get("inventory")), Integer.parseInt(options.get("customers")),
+                Double.parseDouble(options.get("vehicles-per-customer")),
+                Integer.parseInt(options.get("transactions")), Integer.parseInt(options.get("coupons")));
+        int threads = Integer.parseInt(options.get("threads"));
+        Path out = Paths.get(options.get("out"));
+        long start = System.nanoTime();
+        if (!format.equals("sql")) {
+            generator.writeCsv(out, threads);
+        }
+        if (!format.equals("csv")) {
+            generator.writeSql(out.resolve("dataset.sql"), threads);
+        }
+        System.out.printf("Generated %d vehicles, %s customers and %s transactions in %s in %.1f s%n",
+                generator.getVehicleCount(), options.get("customers"), options.get("transactions"), out,
+                (System.nanoTime() - start) / 1e9);
+    }
+}
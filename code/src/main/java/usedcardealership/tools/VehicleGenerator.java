@@ -0,0 +1,202 @@
+/**
+ * Generates realistic synthetic Vehicles for benchmarks and scale tests.
+ * The mix follows a used lot: mostly cars and SUVs, fewer trucks and vans,
+ * a handful of motorcycles and RVs, skewed towards recent model years, with
+ * kilometerage growing with age and prices depreciating from a per-model
+ * base. The same seed always produces the same Vehicles.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.tools;
+
+import java.util.*;
+
+import usedcardealership.data.filehandling.VehicleHelper;
+import usedcardealership.data.vehicle.*;
+
+public class VehicleGenerator {
+    private static final String[] TYPES = { "Car", "SUV", "PickupTruck", "Van", "Motorcycle", "RV" };
+    // Cumulative share of each type, in TYPES order
+    private static final double[] TYPE_SHARES = { 0.38, 0.68, 0.83, 0.90, 0.97, 1.0 };
+
+    // Make, model and new price for each type, in TYPES order
+    private static final String[][][] MODELS = {
+            { { "Toyota", "Corolla", "24000" }, { "Toyota", "Camry", "30000" }, { "Honda", "Civic", "26000" },
+                    { "Honda", "Accord", "31000" }, { "Hyundai", "Elantra", "23000" }, { "Mazda", "Mazda3", "25000" },
+                    { "Chevrolet", "Malibu", "27000" }, { "BMW", "3 Series", "47000" }, { "Tesla", "Model 3", "45000" } },
+            { { "Toyota", "RAV4", "32000" }, { "Honda", "CR-V", "33000" }, { "Ford", "Explorer", "40000" },
+                    { "Subaru", "Forester", "31000" }, { "Mercedes", "GLC", "52000" }, { "Kia", "Sorento", "34000" },
+                    { "Jeep", "Grand Cherokee", "45000" } },
+            { { "Ford", "F-150", "45000" }, { "Ram", "1500", "46000" }, { "Chevrolet", "Silverado", "44000" },
+                    { "Toyota", "Tacoma", "38000" }, { "Ford", "Ranger", "35000" } },
+            { { "Honda", "Odyssey", "40000" }, { "Toyota", "Sienna", "41000" }, { "Chrysler", "Pacifica", "42000" },
+                    { "Ford", "Transit", "48000" } },
+            { { "Kawasaki", "Z650", "8500" }, { "Honda", "CBR500R", "7500" }, { "Yamaha", "MT-07", "9000" },
+                    { "Harley-Davidson", "Street Glide", "28000" }, { "Ducati", "Monster", "13000" } },
+            { { "Thor", "Chateau", "90000" }, { "Winnebago", "Vista", "120000" }, { "Jayco", "Greyhawk", "110000" } }
+    };
+    private static final String[] COLORS = { "White", "Black", "Gray", "Silver", "Blue", "Red", "Green", "Brown",
+            "Orange", "Yellow" };
+    // Cumulative share of each color, in COLORS order
+    private static final double[] COLOR_SHARES = { 0.25, 0.47, 0.63, 0.76, 0.86, 0.94, 0.96, 0.98, 0.99, 1.0 };
+    private static final String[] HANDLEBARS = { "Naked", "Clip-on", "Ape hanger", "Touring" };
+    private static final int NEWEST_YEAR = 2025;
+
+    private final SplittableRandom random;
+
+    /**
+     * VehicleGenerator Constructor
+     *
+     * @param seed the seed, the same seed gives the same Vehicles
+     */
+    public VehicleGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * VehicleGenerator Constructor
+     * Draws from the given source, e.g. one split off per thread.
+     *
+     * @param random the random source
+     */
+    public VehicleGenerator(SplittableRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null.");
+        }
+        this.random = random;
+    }
+
+    /**
+     * Generates Vehicles with IDs 1 to count.
+     *
+     * @param count the number of Vehicles
+     * @return the Vehicles in ID order
+     */
+    public List<Vehicle> generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative.");
+        }
+        List<Vehicle> vehicles = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            vehicles.add(next(id));
+        }
+        return vehicles;
+    }
+
+    /**
+     * Generates one Vehicle.
+     *
+     * @param id the Vehicle's ID
+     * @return the Vehicle
+     */
+    public Vehicle next(int id) {
+        StringBuilder line = new StringBuilder(160);
+        appendCsv(line, id);
+        return VehicleHelper.parseVehicle(line.toString().split(","));
+    }
+
+    /**
+     * Generates one Vehicle as a line in the format VehicleFileHandler reads,
+     * without the trailing newline.
+     *
+     * @param out the builder to append to
+     * @param id  the Vehicle's ID
+     */
+    public void appendCsv(StringBuilder out, int id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("ID must be positive integer.");
+        }
+        int type = pick(TYPE_SHARES);
+        String[] model = MODELS[type][this.random.nextInt(MODELS[type].length)];
+        // Ages cluster around 3-8 years, a few go back as far as 30
+        int age;
+        if (chance(0.03)) {
+            age = range(15, 30);
+        } else {
+            double spread = this.random.nextDouble() + this.random.nextDouble() + this.random.nextDouble() - 1.5;
+            age = (int) (Math.abs(spread) * 8) + this.random.nextInt(4);
+        }
+        int year = NEWEST_YEAR - age;
+        double yearlyKilometers = type == 4 ? 4000 : type == 5 ? 8000 : 16000;
+        double kilometerage = round(age * yearlyKilometers * (0.4 + 1.2 * this.random.nextDouble())
+                + this.random.nextInt(3000));
+        double price = round(Double.parseDouble(model[2]) * Math.pow(0.88, age) * (0.9 + 0.2 * this.random.nextDouble()));
+        boolean electric = model[0].equals("Tesla") || this.random.nextInt(100) < 3;
+        double damage = this.random.nextInt(10) < 7 ? 0.0 : round(this.random.nextDouble() * 0.4);
+
+        out.append(TYPES[type]).append(',').append(id).append(',').append(model[0]).append(',')
+                .append(model[1]).append(',').append(year).append(',').append(price).append(',')
+                .append(COLORS[pick(COLOR_SHARES)]).append(',');
+        switch (type) {
+            case 0: // Car
+                out.append(transmission(0.9)).append(',').append(this.random.nextInt(10) < 8 ? "FWD" : "RWD")
+                        .append(',').append(range(120, 320)).append(',').append(range(1200, 1700)).append(".0,")
+                        .append(kilometerage).append(',').append(damage).append(',').append(electric).append(',')
+                        .append(this.random.nextInt(10) < 9 ? 5 : 4).append(',')
+                        .append(this.random.nextInt(10) < 8 ? 4 : 2).append(',').append(chance(0.3)).append(',')
+                        .append(chance(0.05));
+                break;
+            case 1: // SUV
+                boolean thirdRow = chance(0.3);
+                out.append(transmission(0.97)).append(',').append(this.random.nextInt(10) < 7 ? "AWD" : "FWD")
+                        .append(',').append(range(170, 360)).append(',').append(range(1600, 2300)).append(".0,")
+                        .append(kilometerage).append(',').append(damage).append(',').append(electric).append(',')
+                        .append(thirdRow ? 7 : 5).append(",4,").append(chance(0.4)).append(',').append(thirdRow);
+                break;
+            case 2: // PickupTruck
+                out.append(transmission(0.95)).append(',').append(this.random.nextInt(10) < 7 ? "4WD" : "RWD")
+                        .append(',').append(range(250, 450)).append(',').append(range(2000, 2800)).append(".0,")
+                        .append(kilometerage).append(',').append(damage).append(',').append(electric).append(',')
+                        .append(this.random.nextInt(10) < 7 ? 5 : 3).append(',')
+                        .append(this.random.nextInt(10) < 7 ? 4 : 2).append(',').append(chance(0.2)).append(',')
+                        .append(range(800, 1500)).append(".0,").append(this.random.nextInt(10) < 5 ? "5.5" : "6.5")
+                        .append(',').append(range(3000, 6000)).append(".0");
+                break;
+            case 3: // Van
+                out.append("Automatic,FWD,").append(range(180, 300)).append(',').append(range(1900, 2500))
+                        .append(".0,").append(kilometerage).append(',').append(damage).append(',').append(electric)
+                        .append(',').append(range(7, 9)).append(",4,").append(chance(0.1)).append(',')
+                        .append(range(120, 250)).append(".0,").append(chance(0.85));
+                break;
+            case 4: // Motorcycle
+                out.append(transmission(0.1)).append(",Chain,").append(range(45, 160)).append(',')
+                        .append(range(160, 380)).append(".0,").append(kilometerage).append(',').append(damage)
+                        .append(',').append(electric).append(',').append(range(300, 1800)).append(".0,")
+                        .append(HANDLEBARS[this.random.nextInt(HANDLEBARS.length)]);
+                break;
+            default: // RV
+                out.append("Automatic,RWD,").append(range(250, 400)).append(',').append(range(6000, 11000))
+                        .append(".0,").append(kilometerage).append(',').append(damage).append(',').append(false)
+                        .append(',').append(range(4, 8)).append(',').append(range(1, 3)).append(',')
+                        .append(chance(0.3)).append(',').append(range(2, 8)).append(',').append(chance(0.9));
+                break;
+        }
+    }
+
+    private int pick(double[] cumulativeShares) {
+        double draw = this.random.nextDouble();
+        int i = 0;
+        while (draw >= cumulativeShares[i] && i < cumulativeShares.length - 1) {
+            i++;
+        }
+        return i;
+    }
+
+    private String transmission(double automaticShare) {
+        return this.random.nextDouble() < automaticShare ? "Automatic" : "Manual";
+    }
+
+    private boolean chance(double share) {
+        return this.random.nextDouble() < share;
+    }
+
+    private int range(int min, int max) {
+        return min + this.random.nextInt(max - min + 1);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Builds the Cars tests need, a 2020 red Honda unless a test changes a
+ * field, so each test only spells out the values it depends on.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership;
+
+import usedcardealership.data.vehicle.Car;
+
+public final class CarFixture {
+    private final int id;
+    private String make = "Honda";
+    private String model = "Model";
+    private int year = 2020;
+    private double price = 20000.0;
+    private String color = "Red";
+    private double kilometerage = 10000.0;
+    private double damage = 1.0;
+
+    private CarFixture(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Starts a Car with the default values.
+     *
+     * @param id the Car's ID
+     * @return the fixture, to change fields on or build
+     */
+    public static CarFixture car(int id) {
+        return new CarFixture(id);
+    }
+
+    public CarFixture make(String make) {
+        this.make = make;
+        return this;
+    }
+
+    public CarFixture model(String model) {
+        this.model = model;
+        return this;
+    }
+
+    public CarFixture year(int year) {
+        this.year = year;
+        return this;
+    }
+
+    public CarFixture price(double price) {
+        this.price = price;
+        return this;
+    }
+
+    public CarFixture color(String color) {
+        this.color = color;
+        return this;
+    }
+
+    public CarFixture kilometerage(double kilometerage) {
+        this.kilometerage = kilometerage;
+        return this;
+    }
+
+    public CarFixture damage(double damage) {
+        this.damage = damage;
+        return this;
+    }
+
+    public Car build() {
+        return new Car("Car", this.id, this.make, this.model, this.year, this.price, this.color, "Automatic", "FWD",
+                150, 1400.0, this.kilometerage, this.damage, false, 5, 4, false, false);
+    }
+}
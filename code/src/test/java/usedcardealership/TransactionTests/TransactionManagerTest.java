@@ -131,4 +131,21 @@ public class TransactionManagerTest {
 
         assertEquals(2, transactionManager.getTransactions().size());
     }
+
+    @Test
+    public void testHandleTransactionNeverReusesIdsAfterRemoval() {
+        Customer customer = new Customer(1, "John", "Doe", "1980-01-01", "123-456-7890", "123 Main St", 80000.0, new ArrayList<>());
+        Vehicle vehicle = new SUV("SUV", 2, "Ford", "Explorer", 2019, 35000.0, "Black", "Automatic", "AWD",
+                250, 2000.0, 15000.0, 10.0, false, 7, 4, true, false);
+        List<Transaction> transactionHistory = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            transactionHistory.add(new Purchase(id, LocalDate.now(), 1000.0, customer, vehicle));
+        }
+        transactionHistory.remove(1);
+        TransactionManager transactionManager = new TransactionManager(transactionHistory);
+
+        Transaction transaction = transactionManager.handleTransaction(vehicle, customer, "sale");
+
+        assertEquals(4, transaction.getID());
+    }
 }
@@ -0,0 +1,132 @@
+/**
+ * Test class for SalesRollups
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.analytics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.time.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.manager.TransactionManager;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class SalesRollupsTest {
+    private Customer createCustomer(int id) {
+        return new Customer(id, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St", 1000000.0,
+                new ArrayList<>());
+    }
+
+    private void assertSameTotals(SalesRollups.Totals expected, SalesRollups.Totals actual) {
+        assertEquals(expected.getUnitsSold(), actual.getUnitsSold());
+        assertEquals(expected.getRevenueCents(), actual.getRevenueCents());
+        assertEquals(expected.getTaxCents(), actual.getTaxCents());
+        assertEquals(expected.getDiscountCents(), actual.getDiscountCents());
+        assertEquals(expected.getPurchases(), actual.getPurchases());
+        assertEquals(expected.getPurchaseCents(), actual.getPurchaseCents());
+    }
+
+    @Test
+    public void testAdd_bucketsByDayMonthMakeAndType() {
+        // Arrange
+        Customer customer = createCustomer(1);
+        SalesRollups test = new SalesRollups();
+
+        // Act
+        test.add(new Sale(1, LocalDate.of(2024, 11, 4), 18000.0, customer, CarFixture.car(1).make("Toyota").price(20000.0).kilometerage(0.0).damage(0.0).build()));
+        test.add(new Sale(2, LocalDate.of(2024, 11, 4), 25000.0, customer, CarFixture.car(2).make("Honda").price(30000.0).kilometerage(0.0).damage(0.0).build()));
+        test.add(new Sale(3, LocalDate.of(2024, 11, 20), 10000.0, customer, CarFixture.car(3).make("toyota").price(10000.0).kilometerage(0.0).damage(0.0).build()));
+        test.add(new Purchase(4, LocalDate.of(2024, 12, 1), 8000.0, customer, CarFixture.car(4).make("Toyota").price(9000.0).kilometerage(0.0).damage(0.0).build()));
+
+        // Assert
+        SalesRollups.Totals day = test.getDay(LocalDate.of(2024, 11, 4));
+        assertEquals(2, day.getUnitsSold());
+        assertEquals(4300000, day.getRevenueCents());
+        assertEquals(645000, day.getTaxCents());
+        assertEquals(3, test.getMonth(YearMonth.of(2024, 11)).getUnitsSold());
+        assertEquals(1, test.getMonth(YearMonth.of(2024, 12)).getPurchases());
+        assertEquals(800000, test.getMonth(YearMonth.of(2024, 12)).getPurchaseCents());
+        SalesRollups.Totals toyota = test.getMake("TOYOTA");
+        assertEquals(2, toyota.getUnitsSold());
+        assertEquals(1, toyota.getPurchases());
+        assertEquals(100000, toyota.getAverageDiscountCents());
+        assertEquals(3, test.getType("car").getUnitsSold());
+        assertEquals(0, test.getType("RV").getUnitsSold());
+        assertEquals(0, test.getDay(LocalDate.of(2024, 11, 5)).getRevenueCents());
+        SalesRollups.Totals all = test.getTotals();
+        assertEquals(3, all.getUnitsSold());
+        assertEquals(700000, all.getDiscountCents());
+        assertEquals(233333, all.getAverageDiscountCents());
+    }
+
+    @Test
+    public void testOf_matchesAddingOneByOne() {
+        // Arrange
+        List<Vehicle> vehicles = new VehicleGenerator(11).generate(500);
+        List<Customer> customers = new ArrayList<>();
+        for (int id = 1; id <= 20; id++) {
+            customers.add(createCustomer(id));
+        }
+        Random random = new Random(3);
+        List<Transaction> history = new ArrayList<>();
+        SalesRollups incremental = new SalesRollups();
+        for (int i = 0; i < vehicles.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(400));
+            Customer customer = customers.get(random.nextInt(customers.size()));
+            Transaction transaction = random.nextInt(4) == 0
+                    ? new Purchase(i + 1, date, vehicle.calculateTotalPrice(), customer, vehicle)
+                    : new Sale(i + 1, date, vehicle.calculateTotalPrice(), customer, vehicle);
+            history.add(transaction);
+            incremental.add(transaction);
+        }
+
+        // Act
+        SalesRollups test = SalesRollups.of(history);
+
+        // Assert
+        assertSameTotals(incremental.getTotals(), test.getTotals());
+        long revenue = 0;
+        for (Transaction transaction : history) {
+            if (transaction instanceof Sale && transaction.getDate().getMonthValue() == 3
+                    && transaction.getDate().getYear() == 2024) {
+                revenue += transaction.getPriceCents();
+            }
+        }
+        assertEquals(revenue, test.getMonth(YearMonth.of(2024, 3)).getRevenueCents());
+        for (String make : new String[] { "Ford", "Toyota", "Honda" }) {
+            assertSameTotals(incremental.getMake(make), test.getMake(make));
+        }
+    }
+
+    @Test
+    public void testTransactionManager_keepsRollupsUpToDate() {
+        // Arrange
+        Customer customer = createCustomer(1);
+        Car sold = CarFixture.car(1).make("Toyota").price(20000.0).kilometerage(0.0).damage(0.0).build();
+        List<Transaction> history = new ArrayList<>();
+        history.add(new Sale(1, LocalDate.of(2024, 11, 4), 20000.0, createCustomer(2), CarFixture.car(2).make("Honda").price(20000.0).kilometerage(0.0).damage(0.0).build()));
+        TransactionManager manager = new TransactionManager(history);
+
+        // Act
+        manager.handleTransaction(sold, customer, "sale");
+        manager.getTransactions().get(0).setPrice(15000.0);
+        long beforeRebuild = manager.getSalesRollups().getTotals().getRevenueCents();
+        manager.rebuildSalesRollups();
+
+        // Assert
+        assertEquals(2000000 + sold.getTotalPriceCents(), beforeRebuild);
+        assertEquals(2, manager.getSalesRollups().getTotals().getUnitsSold());
+        assertEquals(1500000 + sold.getTotalPriceCents(), manager.getSalesRollups().getTotals().getRevenueCents());
+        assertEquals(1, manager.getSalesRollups().getDay(LocalDate.now()).getUnitsSold());
+        assertEquals(1, manager.getSalesRollups().getMake("toyota").getUnitsSold());
+    }
+}
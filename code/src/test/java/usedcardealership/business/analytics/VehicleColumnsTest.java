@@ -0,0 +1,90 @@
+/**
+ * Test class for VehicleColumns
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.analytics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.manager.VehicleManager;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class VehicleColumnsTest {
+    @Test
+    public void testAggregates_matchScanningTheVehicles() {
+        // Arrange
+        List<Vehicle> vehicles = new VehicleGenerator(7).generate(2000);
+        VehicleColumns test = VehicleColumns.of(vehicles);
+        long value = 0;
+        Map<String, Integer> byType = new TreeMap<>();
+        List<Integer> cheapFords = new ArrayList<>();
+        for (Vehicle v : vehicles) {
+            value += v.getTotalPriceCents();
+            byType.merge(v.getType(), 1, Integer::sum);
+            if (v.getMake().equalsIgnoreCase("ford") && v.calculateTotalPrice() <= 20000) {
+                cheapFords.add(v.getID());
+            }
+        }
+
+        // Act
+        int[] rows = VehicleColumns.and(test.selectEquals("make", "FORD"), test.selectRange("price", 0, 20000));
+
+        // Assert
+        assertEquals(2000, test.size());
+        assertEquals(value, test.sumPriceCents(null));
+        assertEquals(byType, test.countBy("type"));
+        assertEquals(cheapFords.size(), rows.length);
+        int[] ids = test.getIds(rows);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals((int) cheapFords.get(i), ids[i]);
+        }
+    }
+
+    @Test
+    public void testAverageByAndHistogram() {
+        // Arrange
+        List<Vehicle> vehicles = new ArrayList<>();
+        vehicles.add(CarFixture.car(1).make("Toyota").price(20000.0).kilometerage(5000.0).damage(0.0).build());
+        vehicles.add(CarFixture.car(2).make("toyota").price(30000.0).kilometerage(15000.0).damage(0.0).build());
+        vehicles.add(CarFixture.car(3).make("Honda").price(10000.0).kilometerage(250000.0).damage(0.0).build());
+        VehicleColumns test = VehicleColumns.of(vehicles);
+
+        // Act
+        Map<String, Double> kilometerage = test.averageBy("make", "kilo");
+        int[] histogram = test.histogram("kilo", 10000.0, 3, null);
+
+        // Assert
+        assertEquals(2, kilometerage.size());
+        assertEquals(10000.0, kilometerage.get("Toyota"), 0.001);
+        assertEquals(250000.0, kilometerage.get("Honda"), 0.001);
+        assertArrayEquals(new int[] { 1, 1, 1 }, histogram);
+        assertEquals(0, test.selectEquals("make", "Ford").length);
+        assertEquals(2, test.getDictionary("make").size());
+    }
+
+    @Test
+    public void testInventoryColumns_rebuiltAfterChanges() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).make("Toyota").price(20000.0).kilometerage(5000.0).damage(0.0).build());
+        VehicleManager manager = new VehicleManager(inventory, new ArrayList<>(inventory));
+        VehicleColumns before = manager.getInventoryColumns();
+
+        // Act
+        VehicleColumns cached = manager.getInventoryColumns();
+        manager.addVehicle(CarFixture.car(2).make("Honda").price(10000.0).kilometerage(5000.0).damage(0.0).build());
+        VehicleColumns after = manager.getInventoryColumns();
+
+        // Assert
+        assertSame(before, cached);
+        assertEquals(1, before.size());
+        assertEquals(2, after.size());
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Test class for the AND / OR / NOT composite filters
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.filter;
+
+import usedcardealership.CarFixture;
+import usedcardealership.data.vehicle.*;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class CompositeFilterTest {
+    @Test
+    public void testAndFilter_matchesOnlyWhenEveryFilterMatches() {
+        // Arrange
+        VehicleAndFilter filter = VehicleAndFilter.of(new VehicleMakeFilter("Mitsubishi"),
+                new VehicleYearRangeFilter(2015, 2020));
+
+        // Assert
+        assertTrue(filter.filter(CarFixture.car(1).make("Mitsubishi").year(2018).build()));
+        assertFalse(filter.filter(CarFixture.car(1).make("Mitsubishi").year(2010).build()));
+        assertFalse(filter.filter(CarFixture.car(1).make("Honda").year(2018).build()));
+    }
+
+    @Test
+    public void testOrAndNotFilters() {
+        // Arrange
+        VehicleOrFilter or = VehicleOrFilter.of(new VehicleMakeFilter("Honda"), new VehicleMakeFilter("Toyota"));
+        VehicleNotFilter not = new VehicleNotFilter(or);
+
+        // Assert
+        assertTrue(or.filter(CarFixture.car(1).make("Toyota").year(2018).build()));
+        assertFalse(or.filter(CarFixture.car(1).make("Mitsubishi").year(2018).build()));
+        assertTrue(not.filter(CarFixture.car(1).make("Mitsubishi").year(2018).build()));
+    }
+
+    @Test
+    public void testCompositeFilter_ordersCheapestFirst() {
+        // Arrange
+        VehiclePriceRangeFilter price = new VehiclePriceRangeFilter(0, 100000);
+        VehicleMakeFilter make = new VehicleMakeFilter("Honda");
+        VehicleYearRangeFilter year = new VehicleYearRangeFilter(2000, 2020);
+
+        // Act
+        VehicleAndFilter filter = VehicleAndFilter.of(price, make, year);
+
+        // Assert
+        assertSame(year, filter.getFilters().get(0));
+        assertSame(make, filter.getFilters().get(1));
+        assertSame(price, filter.getFilters().get(2));
+        assertEquals(6, filter.getCost());
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Test class for CategoryIndex
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CategoryIndexTest {
+    @Test
+    public void testLookup_idsAscendingWhateverTheInsertOrder() {
+        // Arrange
+        CategoryIndex test = new CategoryIndex();
+        test.add(7, "Toyota");
+        test.add(2, "toyota");
+        test.add(5, "Honda");
+        test.add(4, "TOYOTA");
+        test.add(2, "Toyota");
+
+        // Act
+        int[] toyotas = test.lookup("toyota");
+
+        // Assert
+        assertArrayEquals(new int[] { 2, 4, 7 }, toyotas);
+        assertEquals(3, test.count("Toyota"));
+        assertEquals(0, test.lookup("Ford").length);
+    }
+
+    @Test
+    public void testRemove_dropsValueOnceEmpty() {
+        // Arrange
+        CategoryIndex test = new CategoryIndex();
+        test.add(1, "Red");
+        test.add(2, "Blue");
+        test.add(3, "Red");
+
+        // Act
+        test.remove(1, "red");
+        test.remove(2, "Blue");
+
+        // Assert
+        assertArrayEquals(new int[] { 3 }, test.lookup("Red"));
+        assertEquals(0, test.count("Blue"));
+        assertEquals(1, test.getValues().size());
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Test class for InventoryIndex
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.filter.*;
+import usedcardealership.business.manager.VehicleManager;
+import usedcardealership.data.vehicle.*;
+
+public class InventoryIndexTest {
+    @After
+    public void tearDown() {
+        PricingClock.useSystemClock();
+    }
+
+    @Test
+    public void testLookup_isCaseInsensitiveAndSortedById() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(30).make("Toyota").color("Red").build());
+        inventory.add(CarFixture.car(10).make("TOYOTA").color("Blue").build());
+        inventory.add(CarFixture.car(20).make("Honda").color("Red").build());
+        InventoryIndex test = new InventoryIndex(inventory);
+
+        // Act
+        int[] toyotas = test.lookup(new VehicleMakeFilter("toyota"));
+        int[] reds = test.lookup(new VehicleColorFilter("RED"));
+
+        // Assert
+        assertArrayEquals(new int[] { 10, 30 }, toyotas);
+        assertArrayEquals(new int[] { 20, 30 }, reds);
+        assertEquals(0, test.lookup(new VehicleMakeFilter("Ford")).length);
+    }
+
+    @Test
+    public void testRemove_dropsEmptyValues() {
+        // Arrange
+        Car car = CarFixture.car(1).make("Honda").color("Red").build();
+        InventoryIndex test = new InventoryIndex(new ArrayList<>(Arrays.asList(car)));
+
+        // Act
+        test.remove(car);
+
+        // Assert
+        assertEquals(0, test.lookup(new VehicleMakeFilter("Honda")).length);
+        assertEquals(0, test.count(new VehicleYearRangeFilter(1800, 3000)));
+        assertTrue(test.getCategoryValues("make").isEmpty());
+    }
+
+    @Test
+    public void testSupports_categoryAndIndexedRangeFilters() {
+        // Arrange
+        InventoryIndex test = new InventoryIndex(new ArrayList<>());
+
+        // Assert
+        assertTrue(test.supports(new VehicleTypeFilter("Car")));
+        assertTrue(test.supports(new VehicleYearRangeFilter(2000, 2010)));
+        assertTrue(test.supports(new VehicleKilometerageRangeFilter(0, 5000)));
+        assertTrue(test.supports(new VehiclePriceRangeFilter(0, 5000)));
+    }
+
+    @Test
+    public void testLookup_rangeOrderedByField() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).year(2015).kilometerage(90000.0).build());
+        inventory.add(CarFixture.car(2).year(2020).kilometerage(30000.0).build());
+        inventory.add(CarFixture.car(3).year(2010).kilometerage(150000.0).build());
+        inventory.add(CarFixture.car(4).year(2020).kilometerage(10000.0).build());
+        InventoryIndex test = new InventoryIndex(inventory);
+
+        // Act
+        int[] years = test.lookup(new VehicleYearRangeFilter(2012, 2020));
+        int[] kilosDesc = test.lookup(new VehicleKilometerageRangeFilter(0, 100000), false);
+
+        // Assert
+        assertArrayEquals(new int[] { 1, 2, 4 }, years);
+        assertArrayEquals(new int[] { 1, 2, 4 }, kilosDesc);
+        assertEquals(2, test.count(new VehicleYearRangeFilter(2020, 2020)));
+    }
+
+    @Test
+    public void testVehicleManager_keepsIndexInSyncWithInventory() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        Car blue = CarFixture.car(1).make("Honda").color("Blue").build();
+        inventory.add(blue);
+        VehicleManager manager = new VehicleManager(inventory, new ArrayList<>());
+        Car other = CarFixture.car(2).make("Honda").color("Blue").build();
+
+        // Act
+        manager.addVehicle(other);
+        manager.updateVehicle(CarFixture.car(1).make("Honda").color("Green").build());
+        manager.removeVehicle(other);
+
+        // Assert
+        assertTrue(manager.searchInventory(new VehicleColorFilter("Blue")).isEmpty());
+        List<Vehicle> greens = manager.searchInventory(new VehicleColorFilter("green"));
+        assertEquals(1, greens.size());
+        assertSame(manager.getVehicleById(1), greens.get(0));
+        assertEquals(Arrays.asList("Green"), manager.getAvailableCriteria("color"));
+    }
+
+    @Test
+    public void testVehicleManager_testDriveRefreshesKilometerageIndex() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).year(2020).kilometerage(1000.0).build());
+        VehicleManager manager = new VehicleManager(inventory, new ArrayList<>());
+        double before = manager.getVehicleById(1).getKilometerage();
+
+        // Act
+        manager.testDriveVehicle(1);
+
+        // Assert
+        double after = manager.getVehicleById(1).getKilometerage();
+        assertEquals(1, manager.searchInventory(new VehicleKilometerageRangeFilter(after, after)).size());
+        if (after != before) {
+            assertTrue(manager.searchInventory(new VehicleKilometerageRangeFilter(before, before)).isEmpty());
+        }
+    }
+
+    @Test
+    public void testVehicleManager_searchRechecksVehiclesChangedOutsideIt() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        Car changed = CarFixture.car(1).make("Honda").color("Blue").build();
+        inventory.add(changed);
+        inventory.add(CarFixture.car(2).make("Honda").color("Blue").build());
+        VehicleManager manager = new VehicleManager(inventory, new ArrayList<>());
+
+        // Act
+        changed.setPrice(90000.0);
+        List<Vehicle> found = manager.searchInventory(new VehiclePriceRangeFilter(0.0, 30000.0));
+
+        // Assert
+        assertEquals(1, found.size());
+        assertEquals(2, found.get(0).getID());
+    }
+
+    @Test
+    public void testGetRangeIndex_priceRebuiltOnceForAllThreads() throws Exception {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        for (int id = 1; id <= 2000; id++) {
+            inventory.add(CarFixture.car(id).make("Honda").color("Blue").build());
+        }
+        InventoryIndex test = new InventoryIndex(inventory);
+        PricingClock.set(new PricingClock(2035));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RangeIndex>> results = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return test.getRangeIndex("price");
+            }));
+        }
+        start.countDown();
+        Set<RangeIndex> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<RangeIndex> result : results) {
+            seen.add(result.get(30, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // Assert
+        assertEquals(1, seen.size());
+        double price = inventory.get(0).calculateTotalPrice();
+        assertEquals(2000, seen.iterator().next().count(price, price));
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Test class for QueryPlanner
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.filter.*;
+import usedcardealership.business.manager.VehicleManager;
+import usedcardealership.data.vehicle.*;
+
+public class QueryPlannerTest {
+    private List<Vehicle> createInventory() {
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).make("Toyota").color("Red").year(2015).build());
+        inventory.add(CarFixture.car(2).make("Toyota").color("Blue").year(2019).build());
+        inventory.add(CarFixture.car(3).make("Honda").color("Red").year(2019).build());
+        inventory.add(CarFixture.car(4).make("Honda").color("Blue").year(2010).build());
+        inventory.add(CarFixture.car(5).make("Ford").color("Red").year(2019).build());
+        inventory.add(CarFixture.car(6).make("Toyota").color("Red").year(2021).build());
+        return inventory;
+    }
+
+    @Test
+    public void testCandidates_andUsesMostSelectiveIndex() {
+        // Arrange
+        QueryPlanner test = new QueryPlanner(new InventoryIndex(createInventory()));
+        IFilter<Vehicle> query = VehicleAndFilter.of(new VehicleColorFilter("Red"),
+                new VehicleMakeFilter("Ford"), new VehicleNotFilter(new VehicleTypeFilter("SUV")));
+
+        // Act
+        int[] candidates = test.candidates(query);
+
+        // Assert
+        assertArrayEquals(new int[] { 5 }, candidates);
+        assertEquals(1, test.countCandidates(query));
+    }
+
+    @Test
+    public void testCandidates_orUnionsOrScans() {
+        // Arrange
+        QueryPlanner test = new QueryPlanner(new InventoryIndex(createInventory()));
+
+        // Act
+        int[] union = test.candidates(VehicleOrFilter.of(new VehicleMakeFilter("Ford"),
+                new VehicleYearRangeFilter(2019, 2019)));
+        int[] scan = test.candidates(VehicleOrFilter.of(new VehicleMakeFilter("Ford"),
+                new VehicleNotFilter(new VehicleMakeFilter("Honda"))));
+
+        // Assert
+        assertArrayEquals(new int[] { 2, 3, 5 }, union);
+        assertNull(scan);
+    }
+
+    @Test
+    public void testOptimize_andRunsMostSelectiveFirst() {
+        // Arrange
+        QueryPlanner test = new QueryPlanner(new InventoryIndex(createInventory()));
+        VehicleColorFilter red = new VehicleColorFilter("Red");
+        VehicleMakeFilter ford = new VehicleMakeFilter("Ford");
+
+        // Act
+        VehicleAndFilter plan = (VehicleAndFilter) test.optimize(VehicleAndFilter.of(red, ford));
+
+        // Assert
+        assertSame(ford, plan.getFilters().get(0));
+        assertSame(red, plan.getFilters().get(1));
+        assertEquals(1.0 / 6 * 4 / 6, test.estimateSelectivity(plan), 0.0001);
+    }
+
+    @Test
+    public void testQueryInventory_matchesScanResults() {
+        // Arrange
+        List<Vehicle> inventory = createInventory();
+        VehicleManager manager = new VehicleManager(inventory, new ArrayList<>());
+        IFilter<Vehicle> query = VehicleAndFilter.of(new VehicleMakeFilter("toyota"),
+                new VehicleYearRangeFilter(2016, 2025), new VehiclePriceRangeFilter(0, 1000000));
+
+        // Act
+        List<Vehicle> result = manager.queryInventory(query);
+
+        // Assert
+        assertEquals(manager.searchList(query, inventory), result);
+        assertEquals(Arrays.asList(2, 6), Arrays.asList(result.get(0).getID(), result.get(1).getID()));
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Test class for RangeIndex
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.index;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RangeIndexTest {
+    @Test
+    public void testSlice_inclusiveBoundsOrderedByKeyThenId() {
+        // Arrange
+        RangeIndex test = new RangeIndex(new int[] { 5, 2, 9, 1, 7 },
+                new double[] { 2010, 2015, 2015, 2005, 2020 });
+
+        // Act
+        int[] ascending = test.slice(2010, 2015, true);
+        int[] descending = test.slice(2010, 2015, false);
+
+        // Assert
+        assertArrayEquals(new int[] { 5, 2, 9 }, ascending);
+        assertArrayEquals(new int[] { 9, 2, 5 }, descending);
+        assertEquals(3, test.count(2010, 2015));
+        assertEquals(0, test.count(2016, 2019));
+        assertEquals(0, test.slice(2020, 2010, true).length);
+    }
+
+    @Test
+    public void testAdd_replacesExistingEntryForId() {
+        // Arrange
+        RangeIndex test = new RangeIndex();
+        test.add(1, 100.0);
+        test.add(2, 200.0);
+
+        // Act
+        test.add(1, 300.0);
+
+        // Assert
+        assertEquals(2, test.size());
+        assertEquals(0, test.count(100.0, 100.0));
+        assertArrayEquals(new int[] { 2, 1 }, test.slice(0, 1000, true));
+    }
+
+    @Test
+    public void testBulkBuild_matchesIncrementalAdds() {
+        // Arrange
+        int n = 5000;
+        int[] ids = new int[n];
+        double[] keys = new double[n];
+        RangeIndex incremental = new RangeIndex();
+        for (int i = 0; i < n; i++) {
+            ids[i] = n - i;
+            keys[i] = (i * 7919) % 101;
+            incremental.add(ids[i], keys[i]);
+        }
+
+        // Act
+        RangeIndex bulk = new RangeIndex(ids, keys);
+        bulk.remove(n);
+        incremental.remove(n);
+
+        // Assert
+        assertEquals(n - 1, bulk.size());
+        assertArrayEquals(incremental.slice(10, 90, true), bulk.slice(10, 90, true));
+    }
+}
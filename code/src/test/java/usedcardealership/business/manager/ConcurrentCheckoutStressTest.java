@@ -0,0 +1,143 @@
+/**
+ * Stress test for checking out many shopping carts at once.
+ * Many threads fill carts with random vehicles from a small inventory,
+ * check out as random customers and sell vehicles back, then the test
+ * replays the transaction history to make sure no vehicle was ever sold
+ * twice or lost.
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.manager;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import usedcardealership.data.customer.*;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class ConcurrentCheckoutStressTest {
+    private static final int VEHICLES = 64;
+    private static final int CUSTOMERS = 24;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 1500;
+
+    @Test
+    public void testCheckout_manyThreadsNeverSellAVehicleTwice() throws Exception {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(11).generate(VEHICLES);
+        // The manager writes through to the list, so remember what was on the lot
+        Set<Integer> onLot = new HashSet<>();
+        for (Vehicle vehicle : inventory) {
+            onLot.add(vehicle.getID());
+        }
+        List<Customer> customers = new ArrayList<>();
+        for (int id = 1; id <= CUSTOMERS; id++) {
+            // Every third customer is broke, so some checkouts fail after reserving
+            double balance = id % 3 == 0 ? 0 : 1.0e12;
+            customers.add(new Customer(id, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St",
+                    balance, new ArrayList<>()));
+        }
+        DealershipManager dealer = new DealershipManager("Test Dealership", 0, new ArrayList<>(), inventory,
+                new ArrayList<>(inventory), customers, new ArrayList<>());
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger boughtBack = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            Random random = new Random(t);
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    shop(dealer, customers.get(random.nextInt(CUSTOMERS)), random, sold, boughtBack);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        // Assert
+        List<Transaction> transactions = dealer.getTransactionManager().getTransactions();
+        assertEquals(sold.get() + boughtBack.get(), transactions.size());
+        assertTrue(sold.get() > 0);
+        // Replay the history, a vehicle must alternate between sold and bought back
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            assertEquals(i + 1, transaction.getID());
+            int vehicleId = transaction.getVehicle().getID();
+            if (transaction instanceof Sale) {
+                assertTrue("Vehicle " + vehicleId + " sold twice", onLot.remove(vehicleId));
+            } else {
+                assertTrue("Vehicle " + vehicleId + " bought back twice", onLot.add(vehicleId));
+            }
+        }
+        Set<Integer> owned = new HashSet<>();
+        for (Customer customer : customers) {
+            assertTrue(customer.getAccountBalance() >= 0);
+            for (Vehicle vehicle : customer.getVehicles()) {
+                assertTrue(owned.add(vehicle.getID()));
+                assertFalse(onLot.contains(vehicle.getID()));
+            }
+        }
+        assertEquals(onLot.size(), dealer.getInventory().size());
+        assertEquals(VEHICLES, onLot.size() + owned.size());
+        for (Vehicle vehicle : dealer.getInventory()) {
+            assertTrue(onLot.contains(vehicle.getID()));
+            assertFalse(dealer.getVehicleManager().isReserved(vehicle.getID()));
+        }
+    }
+
+    /**
+     * One customer visit: fills a cart, maybe puts a vehicle back, checks
+     * out, and now and then sells one of their vehicles to the dealership.
+     */
+    private void shop(DealershipManager dealer, Customer customer, Random random, AtomicInteger sold,
+            AtomicInteger boughtBack) {
+        VehicleManager vehicles = dealer.getVehicleManager();
+        ShoppingCart cart = new ShoppingCart();
+        int wanted = 1 + random.nextInt(3);
+        for (int i = 0; i < wanted; i++) {
+            Vehicle vehicle = vehicles.reserveVehicle(1 + random.nextInt(VEHICLES), cart);
+            if (vehicle != null) {
+                cart.addVehicle(vehicle);
+            }
+        }
+        if (cart.getProductsList().size() > 1 && random.nextBoolean()) {
+            int id = cart.getProductsList().get(0).getID();
+            cart.removeVehicleById(id);
+            assertTrue(vehicles.releaseVehicle(id, cart));
+        }
+        if (!cart.getProductsList().isEmpty()) {
+            try {
+                sold.addAndGet(dealer.checkout(customer, cart).size());
+            } catch (IllegalArgumentException e) {
+                // Cannot afford it, put everything back
+                for (Vehicle vehicle : cart.getProductsList()) {
+                    assertTrue(vehicles.releaseVehicle(vehicle.getID(), cart));
+                }
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            synchronized (customer) {
+                if (!customer.getVehicles().isEmpty()) {
+                    Vehicle vehicle = customer.getVehicles().get(random.nextInt(customer.getVehicles().size()));
+                    dealer.processCustomerVehicleTransaction(vehicle, customer, "purchase");
+                    boughtBack.incrementAndGet();
+                }
+            }
+        }
+    }
+}
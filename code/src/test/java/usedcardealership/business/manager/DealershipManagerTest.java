@@ -7,11 +7,22 @@
 
 package usedcardealership.business.manager;
 
+import java.io.IOException;
 import java.util.*;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import static org.junit.Assert.*;
 
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.IdAllocator;
+import usedcardealership.data.customer.*;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.*;
+
 public class DealershipManagerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void testConstructorGetter() {
@@ -71,4 +82,81 @@ public class DealershipManagerTest {
         // Assert
         assertEquals(expectedBalance, test.getBalance(), 0.01);
     }
+
+    @Test
+    public void testChangeTracker_recordsOnlySessionChanges() {
+        // Arrange
+        Car sold = new Car("Car", 1, "Honda", "Civic", 2020, 20000.0, "Red", "Automatic", "FWD",
+                150, 1400.0, 10000.0, 1.0, false, 5, 4, false, false);
+        Car driven = new Car("Car", 2, "Honda", "Civic", 2020, 20000.0, "Red", "Automatic", "FWD",
+                150, 1400.0, 10000.0, 1.0, false, 5, 4, false, false);
+        List<Vehicle> inventory = new ArrayList<>(Arrays.asList(sold, driven));
+        Customer buyer = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000000.0, new ArrayList<>());
+        Customer bystander = new Customer(2, "John", "Doe", "1990-01-01", "5145550001", "2 Main St",
+                1000.0, new ArrayList<>());
+        DealershipManager test = new DealershipManager("Talon's Vehicle Emporium", 100000.00, new ArrayList<>(),
+                inventory, new ArrayList<>(inventory), new ArrayList<>(Arrays.asList(buyer, bystander)),
+                new ArrayList<>());
+        ChangeTracker changes = test.getChangeTracker();
+
+        // Act
+        boolean startsEmpty = changes.isEmpty();
+        test.processCustomerVehicleTransaction(sold, buyer, "sale");
+        test.getVehicleManager().testDriveVehicle(2);
+
+        // Assert
+        assertTrue(startsEmpty);
+        assertEquals(1, changes.getNewTransactions().size());
+        assertEquals(Arrays.asList(buyer), changes.getCustomers().getDirty());
+        assertEquals(Arrays.asList(driven), changes.getVehicles().getDirty());
+        assertTrue(changes.isInventoryChanged());
+        changes.clear();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testCheckout_failedSaleLeavesCartAndInventoryConsistent() throws IOException {
+        // Arrange
+        List<Vehicle> cars = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            cars.add(new Car("Car", id, "Honda", "Civic", 2020, 20000.0, "Red", "Automatic", "FWD",
+                    150, 1400.0, 10000.0, 1.0, false, 5, 4, false, false));
+        }
+        Customer buyer = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000000.0, new ArrayList<>());
+        DealershipManager test = new DealershipManager("Talon's Vehicle Emporium", 100000.00, new ArrayList<>(),
+                new ArrayList<>(cars), new ArrayList<>(cars), new ArrayList<>(Arrays.asList(buyer)), new ArrayList<>());
+        // Only one transaction ID is left, so the second sale fails
+        test.getTransactionManager().setIdAllocator(
+                IdAllocator.open(folder.getRoot().toPath().resolve("ids"), Integer.MAX_VALUE - 1, 1));
+        ShoppingCart cart = new ShoppingCart();
+        for (int id = 1; id <= 3; id++) {
+            cart.addVehicle(test.getVehicleManager().reserveVehicle(id, cart));
+        }
+        long balance = buyer.getBalanceCents();
+        long firstPrice = cars.get(0).getTotalPriceCents();
+
+        // Act
+        try {
+            test.checkout(buyer, cart);
+            fail("Expected the second sale to fail");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // Assert
+        List<Transaction> history = test.getTransactionManager().getTransactions();
+        assertEquals(1, history.size());
+        assertEquals(firstPrice, history.get(0).getPriceCents());
+        assertEquals(balance - firstPrice, buyer.getBalanceCents());
+        assertEquals(Arrays.asList(cars.get(0)), buyer.getVehicles());
+        assertNull(test.getVehicleManager().getVehicleById(1));
+        assertEquals(2, cart.getProductsList().size());
+        for (int id = 2; id <= 3; id++) {
+            assertNotNull(cart.getVehicleById(id));
+            assertNotNull(test.getVehicleManager().getVehicleById(id));
+            assertTrue(test.getVehicleManager().isReserved(id));
+        }
+    }
 }
@@ -141,4 +141,27 @@ public class VehicleManagerTest {
         assertEquals(updatedCar, inventory.get(0));
         assertEquals(updatedCar, database.get(0));
     }
+
+    @Test
+    public void testGetVehicleById_findsVehicleAfterAddAndRemove() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>();
+        List<Vehicle> database = new ArrayList<>();
+        VehicleManager test = new VehicleManager(inventory, database);
+        Vehicle car = new Car("Car", 9, "Toyota", "Camry", 2021, 30000.0, "Blue", "Automatic",
+                "FWD", 200, 1500.0, 10000.0, 5.0, false, 5, 4, false, false);
+
+        // Act
+        test.addVehicle(car);
+
+        // Assert
+        assertSame(car, test.getVehicleById(9));
+
+        // Act
+        test.removeVehicle(car);
+
+        // Assert
+        assertNull(test.getVehicleById(9));
+        assertEquals(1, database.size());
+    }
 }
@@ -0,0 +1,69 @@
+/**
+ * Test class for VehicleReservations and the reservation methods of
+ * VehicleManager
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.manager;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.filter.VehicleMakeFilter;
+import usedcardealership.data.customer.ShoppingCart;
+import usedcardealership.data.vehicle.*;
+
+public class VehicleReservationsTest {
+    @Test
+    public void testClaimAll_failsWithoutClaimingAnythingIfOneVehicleIsNotHeld() {
+        // Arrange
+        VehicleReservations test = new VehicleReservations();
+        ShoppingCart first = new ShoppingCart();
+        ShoppingCart second = new ShoppingCart();
+        test.reserve(1, first);
+        test.reserve(2, first);
+        test.reserve(3, second);
+
+        // Act
+        boolean claimed = test.claimAll(Arrays.asList(CarFixture.car(1).make("Toyota").damage(0.0).build(), CarFixture.car(2).make("Toyota").damage(0.0).build(), CarFixture.car(3).make("Toyota").damage(0.0).build()), first);
+
+        // Assert
+        assertFalse(claimed);
+        assertTrue(test.isReservedBy(1, first));
+        assertTrue(test.isReservedBy(2, first));
+        assertTrue(test.isReservedBy(3, second));
+        assertFalse(test.release(3, first));
+        assertTrue(test.release(3, second));
+    }
+
+    @Test
+    public void testClaimVehicles_removesReservedVehiclesFromInventory() {
+        // Arrange
+        List<Vehicle> inventory = new ArrayList<>(Arrays.asList(CarFixture.car(1).make("Toyota").damage(0.0).build(), CarFixture.car(2).make("Toyota").damage(0.0).build(), CarFixture.car(3).make("Toyota").damage(0.0).build()));
+        VehicleManager test = new VehicleManager(inventory, new ArrayList<>(inventory));
+        ShoppingCart cart = new ShoppingCart();
+        ShoppingCart other = new ShoppingCart();
+
+        // Act
+        Vehicle reserved = test.reserveVehicle(1, cart);
+        Vehicle taken = test.reserveVehicle(1, other);
+        test.reserveVehicle(2, cart);
+        List<Vehicle> visible = test.searchInventory(new VehicleMakeFilter("Toyota"));
+        boolean claimed = test.claimVehicles(Arrays.asList(CarFixture.car(1).make("Toyota").damage(0.0).build(), CarFixture.car(2).make("Toyota").damage(0.0).build()), cart);
+
+        // Assert
+        assertNotNull(reserved);
+        assertNull(taken);
+        assertEquals(1, visible.size());
+        assertEquals(3, visible.get(0).getID());
+        assertTrue(claimed);
+        assertNull(test.getVehicleById(1));
+        assertNull(test.getVehicleById(2));
+        assertFalse(test.isReserved(1));
+        assertNull(test.reserveVehicle(1, other));
+    }
+}
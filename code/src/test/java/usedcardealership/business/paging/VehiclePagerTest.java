@@ -0,0 +1,89 @@
+/**
+ * Test class for VehiclePager
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.paging;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.business.comparators.*;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class VehiclePagerTest {
+    @Test
+    public void testTopK_matchesFullSort() {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(7).generate(1000);
+        List<Vehicle> before = new ArrayList<>(inventory);
+        VehiclePager test = new VehiclePager(new VehiclePriceCompare(), true);
+        List<Vehicle> sorted = new ArrayList<>(inventory);
+        sorted.sort(test.getOrder());
+
+        // Act
+        List<Vehicle> cheapest = test.topK(inventory, 20);
+
+        // Assert
+        assertEquals(sorted.subList(0, 20), cheapest);
+        assertEquals(before, inventory);
+        assertEquals(inventory.size(), test.topK(inventory, 5000).size());
+    }
+
+    @Test
+    public void testPage_visitsEveryVehicleOnce() {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(7).generate(205);
+        VehiclePager test = new VehiclePager(new VehicleYearCompare(), false);
+        List<Vehicle> sorted = new ArrayList<>(inventory);
+        sorted.sort(test.getOrder());
+        List<Vehicle> listed = new ArrayList<>();
+        int pages = 0;
+
+        // Act
+        VehiclePage page = test.page(inventory, null, 20);
+        listed.addAll(page.getVehicles());
+        pages++;
+        while (page.hasNext()) {
+            page = test.page(inventory, page.getCursor(), 20);
+            listed.addAll(page.getVehicles());
+            pages++;
+        }
+
+        // Assert
+        assertEquals(11, pages);
+        assertEquals(5, page.getVehicles().size());
+        assertNull(page.getCursor());
+        assertEquals(sorted, listed);
+        assertTrue(listed.get(0).getYear() >= listed.get(listed.size() - 1).getYear());
+    }
+
+    @Test
+    public void testPage_skipsExcludedVehicles() {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(7).generate(100);
+        VehiclePager test = new VehiclePager(new VehicleIdCompare(), true);
+
+        // Act
+        VehiclePage page = test.page(inventory, v -> v.getID() % 2 == 0, null, 1000);
+
+        // Assert
+        assertFalse(page.hasNext());
+        for (Vehicle v : page.getVehicles()) {
+            assertEquals(0, v.getID() % 2);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPage_rejectsEmptyPages() {
+        // Arrange
+        VehiclePager test = new VehiclePager(new VehicleIdCompare(), true);
+
+        // Act
+        test.page(new ArrayList<>(), null, 0);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Test class for DealershipSession
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.*;
+
+public class DealershipSessionTest {
+    private DealershipManager createDealer(Customer customer) {
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).make("Toyota").price(20000.0).damage(0.0).build());
+        inventory.add(CarFixture.car(2).make("Honda").price(30000.0).damage(0.0).build());
+        inventory.add(CarFixture.car(3).make("Toyota").price(40000.0).damage(0.0).build());
+        return new DealershipManager("Test Dealership", 0, new ArrayList<>(), inventory, new ArrayList<>(inventory),
+                new ArrayList<>(Arrays.asList(customer)), new ArrayList<>());
+    }
+
+    private Customer createCustomer(double balance) {
+        return new Customer(1, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St", balance, new ArrayList<>());
+    }
+
+    @Test
+    public void testCheckout_buysWholeCartAndTakesItOffTheLot() {
+        // Arrange
+        Customer customer = createCustomer(1000000.0);
+        DealershipManager dealer = createDealer(customer);
+        DealershipSession test = new DealershipSession(dealer, customer);
+
+        // Act
+        List<Vehicle> toyotas = test.search("make", "toyota");
+        test.addToCart(1);
+        test.addToCart(3);
+        List<Transaction> receipt = test.checkout();
+
+        // Assert
+        assertEquals(2, toyotas.size());
+        assertEquals(2, receipt.size());
+        assertEquals(1, receipt.get(0).getVehicle().getID());
+        assertTrue(test.getCart().isEmpty());
+        assertEquals(2, test.getOwnedVehicles().size());
+        assertNull(dealer.getVehicleById(1));
+        assertTrue(test.search("make", "toyota").isEmpty());
+        assertEquals(2, dealer.getTransactionManager().getTransactions().size());
+    }
+
+    @Test
+    public void testCheckout_insufficientBalanceLeavesCartUntouched() {
+        // Arrange
+        Customer customer = createCustomer(100.0);
+        DealershipManager dealer = createDealer(customer);
+        DealershipSession test = new DealershipSession(dealer, customer);
+        test.addToCart(2);
+
+        // Act
+        try {
+            test.checkout();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // Assert
+        assertEquals(1, test.getCart().size());
+        assertTrue(test.getOwnedVehicles().isEmpty());
+        assertEquals(100.0, customer.getAccountBalance(), 0.01);
+        assertTrue(dealer.getTransactionManager().getTransactions().isEmpty());
+    }
+
+    @Test
+    public void testAddToCart_reservedVehicleUnavailableToOtherSessions() {
+        // Arrange
+        Customer customer = createCustomer(1000000.0);
+        DealershipManager dealer = createDealer(customer);
+        DealershipSession first = new DealershipSession(dealer, customer);
+        DealershipSession second = new DealershipSession(dealer, customer);
+
+        // Act
+        first.addToCart(2);
+        boolean taken = false;
+        try {
+            second.addToCart(2);
+        } catch (IllegalArgumentException e) {
+            taken = true;
+        }
+        first.close();
+
+        // Assert
+        assertTrue(taken);
+        assertTrue(first.getCart().isEmpty());
+        assertNotNull(dealer.getVehicleById(2));
+        assertEquals(1, second.search("make", "honda").size());
+    }
+
+    @Test
+    public void testSellVehicle_movesVehicleToInventory() {
+        // Arrange
+        Customer customer = createCustomer(0);
+        customer.getVehicles().add(CarFixture.car(9).make("Ford").price(15000.0).damage(0.0).build());
+        DealershipManager dealer = createDealer(customer);
+        DealershipSession test = new DealershipSession(dealer, customer);
+
+        // Act
+        Transaction transaction = test.sellVehicle(9);
+
+        // Assert
+        assertEquals(9, transaction.getVehicle().getID());
+        assertTrue(test.getOwnedVehicles().isEmpty());
+        assertNotNull(dealer.getVehicleById(9));
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Test class for WorkloadRunner and SessionScript
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.session;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class WorkloadRunnerTest {
+    private DealershipManager createDealer(int vehicles, int customers) {
+        List<Vehicle> inventory = new VehicleGenerator(42).generate(vehicles);
+        List<Customer> customerList = new ArrayList<>();
+        for (int id = 1; id <= customers; id++) {
+            customerList.add(new Customer(id, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St",
+                    1000000.0, new ArrayList<>()));
+        }
+        return new DealershipManager("Test Dealership", 0, new ArrayList<>(), inventory, new ArrayList<>(inventory),
+                customerList, new ArrayList<>());
+    }
+
+    @Test
+    public void testSessionScript_rejectsInvalidSteps() {
+        // Arrange
+        List<List<String>> invalid = Arrays.asList(
+                Arrays.asList("fly away"),
+                Arrays.asList("search make"),
+                Arrays.asList("add first"),
+                Arrays.asList("checkout now"),
+                Arrays.asList("# only a comment"));
+
+        // Act
+        int rejected = 0;
+        for (List<String> lines : invalid) {
+            try {
+                new SessionScript(lines);
+            } catch (IllegalArgumentException e) {
+                rejected++;
+            }
+        }
+
+        // Assert
+        assertEquals(invalid.size(), rejected);
+        assertEquals(3, new SessionScript(Arrays.asList("search make toyota", "", "add random", "checkout"))
+                .getSteps().size());
+    }
+
+    @Test
+    public void testRun_concurrentSessionsNeverSellAVehicleTwice() throws InterruptedException {
+        // Arrange
+        DealershipManager dealer = createDealer(200, 50);
+        SessionScript script = new SessionScript(Arrays.asList(
+                "search price 0-1000000", "add random", "add random", "remove random", "checkout"));
+        WorkloadRunner test = new WorkloadRunner(dealer, script);
+
+        // Act
+        WorkloadReport report = test.run(300, 8, 7);
+
+        // Assert
+        assertEquals(1500, report.getSteps());
+        assertEquals(300, report.getCount("checkout"));
+        Set<Integer> sold = new HashSet<>();
+        for (Customer customer : dealer.getCustomers()) {
+            for (Vehicle vehicle : customer.getVehicles()) {
+                assertTrue(sold.add(vehicle.getID()));
+                assertNull(dealer.getVehicleById(vehicle.getID()));
+            }
+        }
+        assertEquals(200, sold.size() + dealer.getInventory().size());
+        assertEquals(sold.size(), dealer.getTransactionManager().getTransactions().size());
+        assertTrue(report.getPercentile("search", 50) <= report.getPercentile("search", 99));
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Test class for TestDriveSimulator
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.business.simulation;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.VehicleGenerator;
+
+public class TestDriveSimulatorTest {
+    @Test
+    public void testRun_sameResultsWithAnyThreadCount() throws Exception {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(3).generate(500);
+        double kilometerage = inventory.get(0).getKilometerage();
+        TestDriveSimulator test = new TestDriveSimulator(inventory);
+
+        // Act
+        SimulationReport single = test.run(20, 50, 1, 42);
+        SimulationReport parallel = test.run(20, 50, 4, 42);
+
+        // Assert
+        assertEquals(500L * 20 * 50, single.getOutcomes());
+        assertEquals(single.getMeanValueCents(), parallel.getMeanValueCents());
+        assertEquals(single.getValuePercentileCents(5), parallel.getValuePercentileCents(5));
+        assertEquals(single.getCrashes(), parallel.getCrashes());
+        assertEquals(single.getMeanKilometerageAdded(), parallel.getMeanKilometerageAdded(), 1e-6);
+        assertTrue(single.getCrashes() > 0);
+        assertTrue(single.getMeanValueCents() < single.getStartValueCents());
+        assertTrue(single.getValuePercentileCents(5) <= single.getValuePercentileCents(95));
+        // About 25 km per drive
+        assertEquals(500.0, single.getMeanKilometerageAdded(), 25.0);
+        assertEquals(kilometerage, inventory.get(0).getKilometerage(), 0.0);
+    }
+
+    @Test
+    public void testRun_noDrivesKeepsTheValue() throws Exception {
+        // Arrange
+        List<Vehicle> inventory = new VehicleGenerator(3).generate(50);
+        TestDriveSimulator test = new TestDriveSimulator(inventory);
+
+        // Act
+        SimulationReport report = test.run(0, 3, 2, 1);
+
+        // Assert
+        assertEquals(report.getStartValueCents(), report.getMeanValueCents());
+        assertEquals(0, report.getCrashes());
+        assertEquals(0.0, report.getMeanDamageAdded(), 0.0);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Test class for IdAllocator
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class IdAllocatorTest {
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 100000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testNext_manyThreadsNeverGetTheSameId() throws Exception {
+        // Arrange
+        IdAllocator test = IdAllocator.open(folder.getRoot().toPath().resolve("ids"), 1, 1000);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            boolean leasing = t % 2 == 1;
+            results.add(pool.submit(() -> {
+                int[] ids = new int[IDS_PER_THREAD];
+                IdAllocator.Block block = null;
+                start.await();
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    if (!leasing) {
+                        ids[i] = test.next();
+                        continue;
+                    }
+                    if (block == null || !block.hasNext()) {
+                        block = test.lease(1000);
+                    }
+                    ids[i] = block.next();
+                }
+                return ids;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        List<int[]> handedOut = new ArrayList<>();
+        for (Future<int[]> result : results) {
+            handedOut.add(result.get(60, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // Assert
+        BitSet seen = new BitSet(test.getHighWaterMark());
+        for (int[] ids : handedOut) {
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(ids[i] > 0 && ids[i] < test.getHighWaterMark());
+                assertFalse("Id " + ids[i] + " handed out twice", seen.get(ids[i]));
+                seen.set(ids[i]);
+                if (i > 0) {
+                    assertTrue(ids[i] > ids[i - 1]);
+                }
+            }
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, seen.cardinality());
+    }
+
+    @Test
+    public void testOpen_continuesAfterSavedMark() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("ids");
+        IdAllocator first = IdAllocator.open(file, 1, 10);
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(i, first.next());
+        }
+
+        // Act
+        IdAllocator test = IdAllocator.open(file, 1, 10);
+
+        // Assert
+        assertEquals(21, test.next());
+        assertEquals("31", new String(Files.readAllBytes(file)).trim());
+    }
+
+    @Test
+    public void testOpen_startsAtMinimumAboveSavedMark() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("ids");
+        IdAllocator.open(file, 1, 10).next();
+
+        // Act
+        IdAllocator test = IdAllocator.open(file, 500, 10);
+
+        // Assert
+        assertEquals(500, test.next());
+        assertEquals(510, test.lease(5).next());
+    }
+
+    @Test
+    public void testNext_rejectsRunningOutOfIds() {
+        // Arrange
+        IdAllocator test = new IdAllocator(Integer.MAX_VALUE - 10);
+
+        // Act
+        try {
+            test.next();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Assert
+            assertEquals("No IDs left to allocate.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Test class for Money
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.math.BigDecimal;
+
+public class MoneyTest {
+    @Test
+    public void testFormat_writesTwoDecimals() {
+        // Act & Assert
+        assertEquals("18000.00", Money.format(1800000));
+        assertEquals("18000.50", Money.format(1800050));
+        assertEquals("0.07", Money.format(7));
+        assertEquals("0.00", Money.format(0));
+        assertEquals("-12.34", Money.format(-1234));
+        assertEquals("-0.05", Money.format(-5));
+    }
+
+    @Test
+    public void testParse_readsDollars() {
+        // Act & Assert
+        assertEquals(1800000, Money.parse("18000"));
+        assertEquals(1800050, Money.parse("18000.5"));
+        assertEquals(-1234, Money.parse(" -12.34 "));
+        assertEquals(5, Money.parse("0.05"));
+        assertEquals(1235, Money.parse("12.345"));
+        assertEquals(123400, Money.parse("1.234E3"));
+        assertEquals(-1234, Money.parse(Money.format(-1234)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_invalidAmount() {
+        // Act
+        Money.parse("12.3.4");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfDollars_notFinite() {
+        // Act
+        Money.ofDollars(Double.NaN);
+    }
+
+    @Test
+    public void testBigDecimal_roundTrip() {
+        // Arrange
+        BigDecimal column = new BigDecimal("29450.10");
+
+        // Act
+        long cents = Money.fromBigDecimal(column);
+
+        // Assert
+        assertEquals(2945010, cents);
+        assertEquals(column, Money.toBigDecimal(cents));
+        assertEquals(0, Money.fromBigDecimal(null));
+    }
+
+    @Test
+    public void testSum_isExact() {
+        // Arrange
+        double dollars = 0;
+        long cents = 0;
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            dollars += 0.10;
+            cents += Money.ofDollars(0.10);
+        }
+
+        // Assert
+        assertNotEquals(100.0, dollars, 0.0);
+        assertEquals(10000, cents);
+        assertEquals(4025, Money.multiply(3500, 1.15));
+    }
+}
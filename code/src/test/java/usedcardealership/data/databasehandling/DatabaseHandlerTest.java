@@ -0,0 +1,341 @@
+/**
+ * Test class for the batched database saves, run against an in-memory H2
+ * database in PostgreSQL mode
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.databasehandling;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.lang.reflect.*;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.data.ChangeSet;
+import usedcardealership.data.ChangeTracker;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+
+public class DatabaseHandlerTest {
+    private static final String[] SCHEMA = {
+            "CREATE TABLE vehicles (id INT PRIMARY KEY, type VARCHAR(50), make VARCHAR(50), model VARCHAR(50),"
+                    + " year INT, price DECIMAL(10, 2), color VARCHAR(30), transmission VARCHAR(30),"
+                    + " drive_type VARCHAR(30), horsepower INT, weight DECIMAL(10, 2), kilometerage DECIMAL(10, 2),"
+                    + " damage DECIMAL(10, 2), is_electric BOOLEAN, engine_cc DECIMAL(10, 2),"
+                    + " handlebar_type VARCHAR(50), num_doors INT, num_seats INT, has_sunroof BOOLEAN,"
+                    + " sleep_capacity INT, has_bathroom BOOLEAN, is_convertible BOOLEAN,"
+                    + " cargo_capacity DECIMAL(10, 2), has_thirdrow_seating BOOLEAN, has_sliding_doors BOOLEAN,"
+                    + " bed_length DECIMAL(10, 2), towing_capacity DECIMAL(10, 2))",
+            "CREATE TABLE customers (id INT PRIMARY KEY, first_name VARCHAR(50), last_name VARCHAR(50),"
+                    + " birthday DATE, phone_number VARCHAR(15), address VARCHAR(100), account_balance DECIMAL(10, 2))",
+            "CREATE TABLE customers_vehicles (customer_id INT REFERENCES customers (id) ON DELETE CASCADE,"
+                    + " vehicle_id INT REFERENCES vehicles (id) ON DELETE CASCADE, PRIMARY KEY (vehicle_id, customer_id))",
+            "CREATE TABLE transactions (id INT PRIMARY KEY, type VARCHAR(50), date DATE, price DECIMAL(10, 2),"
+                    + " tax DECIMAL(10, 2), customer_id INT REFERENCES customers (id) ON DELETE CASCADE,"
+                    + " vehicle_id INT REFERENCES vehicles (id) ON DELETE CASCADE)"
+    };
+    private static int databaseCount = 0;
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        databaseCount++;
+        this.connection = DriverManager.getConnection(
+                "jdbc:h2:mem:dealership" + databaseCount + ";MODE=PostgreSQL;NON_KEYWORDS=YEAR;DB_CLOSE_DELAY=-1");
+        try (Statement stmt = this.connection.createStatement()) {
+            for (String ddl : SCHEMA) {
+                stmt.execute(ddl);
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement stmt = this.connection.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+        this.connection.close();
+    }
+
+    private List<Vehicle> createCars(int count) {
+        List<Vehicle> cars = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            cars.add(CarFixture.car(id).build());
+        }
+        return cars;
+    }
+
+    @Test
+    public void testWrite_batchesAllRows() throws SQLException {
+        // Arrange
+        VehicleDatabaseHandler test = new VehicleDatabaseHandler(this.connection, 3);
+        List<Vehicle> cars = createCars(10);
+
+        // Act
+        test.write(cars);
+
+        // Assert
+        List<Vehicle> loaded = test.loadDatabase();
+        assertEquals(10, loaded.size());
+        assertEquals(cars, loaded);
+        assertTrue(this.connection.getAutoCommit());
+    }
+
+    @Test
+    public void testWrite_failureRollsBackToPreviousData() throws SQLException {
+        // Arrange
+        VehicleDatabaseHandler test = new VehicleDatabaseHandler(this.connection, 2);
+        test.write(createCars(4));
+        List<Vehicle> duplicates = createCars(5);
+        duplicates.add(CarFixture.car(5).build());
+
+        // Act
+        try {
+            test.write(duplicates);
+            fail("Expected a duplicate key error");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        // Assert
+        assertEquals(4, test.loadDatabase().size());
+        assertTrue(this.connection.getAutoCommit());
+    }
+
+    @Test
+    public void testRun_nestedSavesCommitOrRollBackTogether() throws SQLException {
+        // Arrange
+        VehicleDatabaseHandler vehicleSaver = new VehicleDatabaseHandler(this.connection);
+        CustomerDatabaseHandler customerSaver = new CustomerDatabaseHandler(this.connection);
+        TransactionDatabaseHandler transactionSaver = new TransactionDatabaseHandler(this.connection);
+        List<Vehicle> cars = createCars(2);
+        Customer owner = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000.0, new ArrayList<>(Arrays.asList(cars.get(0))));
+        Transaction sale = new Transaction(1, "Purchase", LocalDate.of(2024, 1, 1), 20000.0, owner, cars.get(0));
+        DatabaseTransaction.run(this.connection, () -> {
+            vehicleSaver.write(cars);
+            customerSaver.write(Arrays.asList(owner));
+            transactionSaver.write(Arrays.asList(sale));
+        });
+        // Links a Vehicle that was never saved, so the last step fails
+        Customer broken = new Customer(2, "John", "Doe", "1990-01-01", "5145550001", "2 Main St",
+                1000.0, new ArrayList<>(Arrays.asList(CarFixture.car(99).build())));
+
+        // Act
+        try {
+            DatabaseTransaction.run(this.connection, () -> {
+                vehicleSaver.write(createCars(1));
+                customerSaver.write(Arrays.asList(broken));
+            });
+            fail("Expected a foreign key error");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        // Assert
+        assertEquals(2, vehicleSaver.loadDatabase().size());
+        assertEquals(1, vehicleSaver.load().size());
+        assertEquals(1, customerSaver.load().size());
+        TransactionReferences references = new TransactionReferences(customerSaver.load(), vehicleSaver.load(),
+                vehicleSaver.loadDatabase());
+        assertEquals(1, new TransactionDatabaseHandler(this.connection, references).load().size());
+    }
+
+    @Test
+    public void testSaveChanges_writesOnlyChangedRows() throws SQLException {
+        // Arrange
+        VehicleDatabaseHandler vehicleSaver = new VehicleDatabaseHandler(this.connection, 2);
+        CustomerDatabaseHandler customerSaver = new CustomerDatabaseHandler(this.connection, 2);
+        List<Vehicle> cars = createCars(3);
+        Customer owner = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000.0, new ArrayList<>(Arrays.asList(cars.get(0))));
+        vehicleSaver.write(cars);
+        customerSaver.write(Arrays.asList(owner));
+
+        ChangeSet<Vehicle> vehicleChanges = new ChangeSet<>();
+        cars.get(1).addKilometerage(500.0);
+        vehicleChanges.markDirty(2, cars.get(1));
+        vehicleChanges.markDirty(4, CarFixture.car(4).build());
+        vehicleChanges.markDeleted(3);
+        ChangeSet<Customer> customerChanges = new ChangeSet<>();
+        owner.getVehicles().clear();
+        owner.getVehicles().add(cars.get(1));
+        owner.updateAccountBalance(-500.0);
+        customerChanges.markDirty(1, owner);
+        customerChanges.markDirty(2, new Customer(2, "John", "Doe", "1990-01-01", "5145550001", "2 Main St",
+                1000.0, new ArrayList<>()));
+
+        // Act
+        DatabaseTransaction.run(this.connection, () -> {
+            vehicleSaver.saveChanges(vehicleChanges);
+            customerSaver.saveChanges(customerChanges);
+        });
+
+        // Assert
+        List<Vehicle> database = vehicleSaver.loadDatabase();
+        assertEquals(3, database.size());
+        Map<Integer, Vehicle> byId = new HashMap<>();
+        for (Vehicle v : database) {
+            byId.put(v.getID(), v);
+        }
+        assertEquals(10500.0, byId.get(2).getKilometerage(), 0.01);
+        assertTrue(byId.containsKey(4));
+        assertFalse(byId.containsKey(3));
+        List<Customer> customers = customerSaver.load();
+        assertEquals(2, customers.size());
+        Customer reloaded = customers.get(0).getID() == 1 ? customers.get(0) : customers.get(1);
+        assertEquals(500.0, reloaded.getAccountBalance(), 0.01);
+        assertEquals(1, reloaded.getVehicles().size());
+        assertEquals(2, reloaded.getVehicles().get(0).getID());
+    }
+
+    @Test
+    public void testLoadCustomers_usesTwoQueriesForAnyNumberOfCustomers() throws SQLException {
+        // Arrange
+        List<Vehicle> cars = createCars(5);
+        List<Customer> customers = new ArrayList<>();
+        for (int id = 1; id <= 4; id++) {
+            customers.add(new Customer(id, "Jane", "Doe", "1990-01-01", "514555000" + id, id + " Main St",
+                    1000.0, new ArrayList<>()));
+        }
+        customers.get(0).getVehicles().add(cars.get(0));
+        customers.get(0).getVehicles().add(cars.get(1));
+        customers.get(2).getVehicles().add(cars.get(4));
+        new VehicleDatabaseHandler(this.connection).write(cars);
+        new CustomerDatabaseHandler(this.connection).write(customers);
+        int[] queries = { 0 };
+        Connection counting = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+                        queries[0]++;
+                    }
+                    try {
+                        return method.invoke(this.connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+
+        // Act
+        List<Customer> loaded = new CustomerDatabaseHandler(counting).load();
+
+        // Assert
+        assertEquals(2, queries[0]);
+        assertEquals(4, loaded.size());
+        int[] owned = { 2, 0, 1, 0 };
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, loaded.get(i).getID());
+            assertEquals(owned[i], loaded.get(i).getVehicles().size());
+        }
+        assertEquals(5, loaded.get(2).getVehicles().get(0).getID());
+        assertTrue(this.connection.getAutoCommit());
+    }
+
+    @Test
+    public void testLoadTransactions_sharesLoadedCustomersAndVehicles() throws SQLException {
+        // Arrange
+        List<Vehicle> cars = createCars(2);
+        Customer owner = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000.0, new ArrayList<>(Arrays.asList(cars.get(0))));
+        new VehicleDatabaseHandler(this.connection).write(cars);
+        new CustomerDatabaseHandler(this.connection).write(Arrays.asList(owner));
+        new TransactionDatabaseHandler(this.connection).write(Arrays.asList(
+                new Transaction(1, "Dealership Sale", LocalDate.of(2024, 1, 1), 20000.0, owner, cars.get(0)),
+                new Transaction(2, "Dealership Purchase", LocalDate.of(2024, 1, 2), 15000.0, owner, cars.get(1))));
+        VehicleDatabaseHandler vehicleLoader = new VehicleDatabaseHandler(this.connection);
+        List<Vehicle> inventory = vehicleLoader.load();
+        List<Customer> customers = new CustomerDatabaseHandler(this.connection).load();
+        TransactionDatabaseHandler test = new TransactionDatabaseHandler(this.connection,
+                new TransactionReferences(customers, inventory, vehicleLoader.loadDatabase()));
+
+        // Act
+        List<Transaction> loaded = test.load();
+
+        // Assert
+        assertEquals(2, loaded.size());
+        assertSame(customers.get(0), loaded.get(0).getCustomer());
+        assertSame(customers.get(0), loaded.get(1).getCustomer());
+        assertSame(customers.get(0).getVehicles().get(0), loaded.get(0).getVehicle());
+        assertSame(inventory.get(0), loaded.get(1).getVehicle());
+        assertEquals(15000.0, loaded.get(1).getPrice(), 0.01);
+    }
+
+    @Test
+    public void testSaveChanges_deletesRowsRemovedThroughTheManagers() throws SQLException {
+        // Arrange
+        VehicleDatabaseHandler vehicleSaver = new VehicleDatabaseHandler(this.connection);
+        CustomerDatabaseHandler customerSaver = new CustomerDatabaseHandler(this.connection);
+        List<Vehicle> cars = createCars(3);
+        Customer leaving = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                1000.0, new ArrayList<>());
+        Customer buyer = new Customer(2, "John", "Doe", "1990-01-01", "5145550001", "2 Main St",
+                100000.0, new ArrayList<>());
+        vehicleSaver.write(cars);
+        customerSaver.write(Arrays.asList(leaving, buyer));
+        DealershipManager dealership = new DealershipManager("Dealer", 0.0, new ArrayList<>(),
+                new ArrayList<>(cars), new ArrayList<>(cars), new ArrayList<>(Arrays.asList(leaving, buyer)),
+                new ArrayList<>());
+
+        dealership.getVehicleManager().removeVehicle(cars.get(0));
+        dealership.processCustomerVehicleTransaction(cars.get(1), buyer, "sale");
+        dealership.getCustomerManager().removeCustomer(leaving);
+
+        // Act
+        ChangeTracker changes = dealership.getChangeTracker();
+        DatabaseTransaction.run(this.connection, () -> {
+            vehicleSaver.saveChanges(changes.getVehicles());
+            customerSaver.saveChanges(changes.getCustomers());
+        });
+
+        // Assert
+        List<Vehicle> database = vehicleSaver.loadDatabase();
+        assertEquals(2, database.size());
+        assertFalse(database.contains(cars.get(0)));
+        assertEquals(Arrays.asList(cars.get(2)), vehicleSaver.load());
+        List<Customer> customers = customerSaver.load();
+        assertEquals(1, customers.size());
+        assertEquals(2, customers.get(0).getID());
+        assertEquals(2, customers.get(0).getVehicles().get(0).getID());
+    }
+
+    @Test
+    public void testClose_discardsRowsNotFlushed() throws SQLException {
+        // Arrange
+        String query = "INSERT INTO customers (id, first_name) VALUES (?, ?)";
+
+        // Act
+        try (BatchedStatement batch = new BatchedStatement(this.connection, query, 5)) {
+            for (int id = 1; id <= 3; id++) {
+                batch.getStatement().setInt(1, id);
+                batch.getStatement().setString(2, "Jane");
+                batch.add();
+            }
+            batch.flush();
+            batch.getStatement().setInt(1, 4);
+            batch.getStatement().setString(2, "John");
+            batch.add();
+        }
+
+        // Assert
+        try (Statement stmt = this.connection.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM customers")) {
+            rs.next();
+            assertEquals(3, rs.getInt(1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_rejectsNonPositiveBatchSize() {
+        new VehicleDatabaseHandler(this.connection, 0);
+    }
+}
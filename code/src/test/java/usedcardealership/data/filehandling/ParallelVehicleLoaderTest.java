@@ -0,0 +1,86 @@
+/**
+ * Test class for ParallelVehicleLoader
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import usedcardealership.data.vehicle.*;
+
+public class ParallelVehicleLoaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path writeInventory(int count) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            Car car = new Car("Car", id, "Make" + (id % 7), "Model", 1990 + id % 30, 1000.0 + id, "Red",
+                    "Automatic", "FWD", 100 + id % 200, 1500.0, id * 3.5, id % 10, false, 5, 4, false, false);
+            lines.add(VehicleHelper.convertVehicleToCSV(car));
+        }
+        Path file = folder.newFile().toPath();
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    public void testLoad_chunkedMatchesSequentialOrder() throws IOException {
+        // Arrange
+        Path file = writeInventory(5000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelVehicleLoader test = new ParallelVehicleLoader(pool, 4096);
+
+        // Act
+        List<Vehicle> parallel = test.load(file);
+        List<Vehicle> sequential = new VehicleFileHandler(file.toString()).load();
+        pool.shutdown();
+
+        // Assert
+        assertEquals(5000, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(VehicleHelper.convertVehicleToCSV(sequential.get(i)),
+                    VehicleHelper.convertVehicleToCSV(parallel.get(i)));
+        }
+    }
+
+    @Test
+    public void testLoad_smallFileWithoutTrailingNewline() throws IOException {
+        // Arrange
+        Path file = folder.newFile().toPath();
+        Files.write(file, ("Car,1,Honda,Civic,2020,20000.0,Blue,Automatic,FWD,150,1300.0,100.0,0.0,false,5,4,false,false"
+                + "\nCar,2,Honda,Civic,2021,21000.0,Red,Automatic,FWD,150,1300.0,50.0,0.0,false,5,4,false,false")
+                .getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        List<Vehicle> vehicles = new ParallelVehicleLoader().load(file);
+
+        // Assert
+        assertEquals(2, vehicles.size());
+        assertEquals(2, vehicles.get(1).getID());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLoad_propagatesParseErrors() throws IOException {
+        // Arrange
+        Path file = writeInventory(2000);
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        lines.set(1500, lines.get(1500).replace("Car,1501,", "Car,oops,"));
+        Files.write(file, lines);
+
+        // Act
+        new ParallelVehicleLoader(ForkJoinPool.commonPool(), 4096).load(file);
+    }
+}
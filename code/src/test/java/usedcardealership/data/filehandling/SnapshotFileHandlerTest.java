@@ -0,0 +1,97 @@
+/**
+ * Test class for SnapshotFileHandler
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import usedcardealership.data.DealershipState;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.Transaction;
+import usedcardealership.data.vehicle.*;
+import usedcardealership.tools.DatasetGenerator;
+
+public class SnapshotFileHandlerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLoad_matchesTheCsvItWasImportedFrom() throws IOException {
+        // Arrange
+        Path csv = folder.newFolder("csv").toPath();
+        new DatasetGenerator(7, 300, 200, 1.5, 400, 20).writeCsv(csv, 2);
+        DealershipState imported = SnapshotFileHandler.importCsv(csv, "Test Dealership", 12345678);
+        SnapshotFileHandler test = new SnapshotFileHandler(folder.getRoot().toPath().resolve("snapshot").toString());
+
+        // Act
+        test.save(imported);
+        DealershipState loaded = test.load();
+
+        // Assert
+        assertEquals("Test Dealership", loaded.getName());
+        assertEquals(12345678, loaded.getBalanceCents());
+        Path fromCsv = folder.newFolder("fromCsv").toPath();
+        Path fromSnapshot = folder.newFolder("fromSnapshot").toPath();
+        SnapshotFileHandler.exportCsv(imported, fromCsv);
+        SnapshotFileHandler.exportCsv(loaded, fromSnapshot);
+        for (String file : Arrays.asList("inventory.csv", "database.csv", "customers.csv", "transactions.csv",
+                "coupons.csv")) {
+            assertEquals(file, Files.readAllLines(fromCsv.resolve(file)), Files.readAllLines(fromSnapshot.resolve(file)));
+        }
+        Vehicle first = loaded.getInventory().get(0);
+        assertSame(Symbols.intern(first.getMake()), first.getMake());
+        for (Transaction transaction : loaded.getTransactions()) {
+            Customer customer = loaded.getCustomers().get(transaction.getCustomer().getID() - 1);
+            assertSame(customer, transaction.getCustomer());
+        }
+    }
+
+    @Test
+    public void testLoad_rejectsOtherFiles() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("inventory.csv");
+        Files.write(file, Arrays.asList("Car,1,Honda,Civic,2020,20000.00,Red,Automatic,FWD,150,1400.0"));
+        SnapshotFileHandler test = new SnapshotFileHandler(file.toString());
+
+        // Act
+        try {
+            test.load();
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // Assert
+            assertTrue(e.getMessage().contains("not a dealership snapshot"));
+        }
+    }
+
+    @Test
+    public void testLoad_rejectsTruncatedSnapshot() throws IOException {
+        // Arrange
+        Path csv = folder.newFolder("csv").toPath();
+        new DatasetGenerator(7, 50, 20, 1.0, 30, 5).writeCsv(csv, 1);
+        Path file = folder.getRoot().toPath().resolve("snapshot");
+        SnapshotFileHandler test = new SnapshotFileHandler(file.toString());
+        test.save(SnapshotFileHandler.importCsv(csv, "Test Dealership", 0));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        // Act
+        try {
+            test.load();
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // Assert
+            assertTrue(e.getMessage().contains("damaged header"));
+        }
+    }
+}
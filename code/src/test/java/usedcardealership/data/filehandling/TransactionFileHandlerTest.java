@@ -0,0 +1,137 @@
+/**
+ * Test class for TransactionFileHandler
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+
+public class TransactionFileHandlerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Customer customer = new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+            1000.0, new ArrayList<>());
+
+    private Transaction createTransaction(int id) {
+        Car car = CarFixture.car(id).model("Civic").build();
+        this.customer.getVehicles().add(car);
+        return new Sale(id, LocalDate.of(2024, 1, id), 20000.0, this.customer, car);
+    }
+
+    private TransactionReferences references() {
+        return new TransactionReferences(Arrays.asList(this.customer), new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Test
+    public void testAppend_keepsExistingTransactions() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("transactions.csv");
+        TransactionFileHandler test = new TransactionFileHandler(file.toString());
+        test.save(Arrays.asList(createTransaction(1)));
+
+        // Act
+        test.append(Arrays.asList(createTransaction(2), createTransaction(3)));
+        test = new TransactionFileHandler(file.toString(), references());
+        test.append(new ArrayList<>());
+
+        // Assert
+        List<Transaction> loaded = test.load();
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1, loaded.get(i).getID());
+        }
+    }
+
+    @Test
+    public void testAppend_finishesLastLineWithoutNewline() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("transactions.csv");
+        TransactionFileHandler test = new TransactionFileHandler(file.toString());
+        test.save(Arrays.asList(createTransaction(1)));
+        String content = new String(Files.readAllBytes(file));
+        Files.write(file, content.trim().getBytes());
+
+        // Act
+        test.append(Arrays.asList(createTransaction(2)));
+
+        // Assert
+        assertEquals(2, new TransactionFileHandler(file.toString(), references()).load().size());
+    }
+
+    @Test
+    public void testLoad_sharesLoadedCustomersAndVehicles() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("transactions.csv");
+        new TransactionFileHandler(file.toString()).save(Arrays.asList(createTransaction(1), createTransaction(2)));
+        TransactionFileHandler test = new TransactionFileHandler(file.toString(), references());
+
+        // Act
+        List<Transaction> loaded = test.load();
+
+        // Assert
+        assertEquals("1,Dealership Sale,2024-01-01,20000.00,1.15,1,1", Files.readAllLines(file).get(0));
+        assertSame(this.customer, loaded.get(0).getCustomer());
+        assertSame(this.customer, loaded.get(1).getCustomer());
+        assertSame(this.customer.getVehicles().get(1), loaded.get(1).getVehicle());
+    }
+
+    @Test
+    public void testLoad_migratesLinesWithCopies() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("transactions.csv");
+        Transaction known = createTransaction(1);
+        // Sold on to someone the files no longer hold
+        Customer gone = new Customer(2, "John", "Doe", "1990-01-01", "5145550001", "2 Main St",
+                1000.0, new ArrayList<>());
+        Transaction unknown = new Sale(2, LocalDate.of(2024, 1, 2), 20000.0, gone, CarFixture.car(2).model("Civic").build());
+        Transaction again = new Sale(3, LocalDate.of(2024, 1, 3), 20000.0, gone, CarFixture.car(2).model("Civic").build());
+        Files.write(file, Arrays.asList(TransactionFileHandler.toEmbeddedLine(known),
+                TransactionFileHandler.toEmbeddedLine(unknown), TransactionFileHandler.toEmbeddedLine(again)));
+        TransactionFileHandler test = new TransactionFileHandler(file.toString(), references());
+
+        // Act
+        List<Transaction> loaded = test.load();
+        test.save(loaded);
+
+        // Assert
+        assertSame(this.customer, loaded.get(0).getCustomer());
+        assertSame(known.getVehicle(), loaded.get(0).getVehicle());
+        assertSame(loaded.get(1).getCustomer(), loaded.get(2).getCustomer());
+        assertSame(loaded.get(1).getVehicle(), loaded.get(2).getVehicle());
+        assertFalse(new String(Files.readAllBytes(file)).contains("#"));
+    }
+
+    @Test
+    public void testLoad_rejectsUnknownVehicle() throws IOException {
+        // Arrange
+        Path file = folder.getRoot().toPath().resolve("transactions.csv");
+        Files.write(file, Arrays.asList("1,Dealership Sale,2024-01-01,20000.00,1.15,1,42"));
+        TransactionFileHandler test = new TransactionFileHandler(file.toString(), references());
+
+        // Act
+        try {
+            test.load();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Assert
+            assertTrue(e.getMessage().contains("unknown vehicle 42"));
+        }
+    }
+}
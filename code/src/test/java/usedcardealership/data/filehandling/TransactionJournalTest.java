@@ -0,0 +1,160 @@
+/**
+ * Test class for TransactionJournal
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+
+public class TransactionJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Customer createCustomer(double balance) {
+        return new Customer(1, "Jane", "Doe", "1990-01-01", "5145550000", "1 Main St",
+                balance, new ArrayList<>());
+    }
+
+    private String journalPath() {
+        return folder.getRoot().toPath().resolve("transactions.journal").toString();
+    }
+
+    /**
+     * Sells a car to the customer the way TransactionManager does: the
+     * balance is updated before the record is written.
+     */
+    private long sell(TransactionJournal journal, int id, Customer customer) {
+        customer.updateBalanceCents(-2000000);
+        customer.getVehicles().add(CarFixture.car(id).model("Civic").build());
+        return journal.append(new Sale(id, LocalDate.of(2024, 1, 1), 20000.0, customer, CarFixture.car(id).model("Civic").build()));
+    }
+
+    @Test
+    public void testReplay_rebuildsStateAfterCrash() throws IOException {
+        // Arrange
+        TransactionJournal journal = new TransactionJournal(journalPath());
+        Customer customer = createCustomer(50000.0);
+        sell(journal, 7, customer);
+        journal.sync();
+        List<Transaction> history = new ArrayList<>();
+        List<Customer> customers = new ArrayList<>(Arrays.asList(createCustomer(50000.0)));
+        List<Vehicle> inventory = new ArrayList<>(Arrays.asList(CarFixture.car(7).model("Civic").build(), CarFixture.car(8).model("Civic").build()));
+
+        // Act
+        TransactionJournal reopened = new TransactionJournal(journalPath());
+        List<Transaction> replayed = reopened.replay(history, customers, inventory);
+        List<Transaction> again = reopened.replay(history, customers, inventory);
+
+        // Assert
+        assertEquals(1, replayed.size());
+        assertTrue(again.isEmpty());
+        assertEquals(history, replayed);
+        assertSame(customers.get(0), replayed.get(0).getCustomer());
+        assertEquals(30000.0, customers.get(0).getAccountBalance(), 0.001);
+        assertEquals(1, inventory.size());
+        assertEquals(8, inventory.get(0).getID());
+        assertNotNull(customers.get(0).getVehicleById(7));
+    }
+
+    @Test
+    public void testOpen_dropsRecordCutOffByCrash() throws IOException {
+        // Arrange
+        TransactionJournal journal = new TransactionJournal(journalPath());
+        Customer customer = createCustomer(100000.0);
+        sell(journal, 1, customer);
+        sell(journal, 2, customer);
+        journal.close();
+        Files.write(Paths.get(journalPath()), "1a2b3c|3,Dealership Sale,2024-01".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // Act
+        TransactionJournal reopened = new TransactionJournal(journalPath());
+        int records = reopened.getRecordCount();
+        sell(reopened, 3, customer);
+        reopened.close();
+
+        // Assert
+        assertEquals(2, records);
+        List<Transaction> history = new ArrayList<>();
+        new TransactionJournal(journalPath()).replay(history, new ArrayList<>(), new ArrayList<>());
+        assertEquals(3, history.size());
+        assertEquals(3, history.get(2).getID());
+    }
+
+    @Test
+    public void testCompact_keepsRecordsAfterSnapshot() throws IOException {
+        // Arrange
+        TransactionJournal journal = new TransactionJournal(journalPath());
+        Customer customer = createCustomer(1000000.0);
+        for (int id = 1; id <= 5; id++) {
+            sell(journal, id, customer);
+        }
+        journal.sync();
+
+        // Act
+        journal.compact(3);
+        sell(journal, 6, customer);
+        journal.close();
+
+        // Assert
+        List<Transaction> history = new ArrayList<>();
+        new TransactionJournal(journalPath()).replay(history, new ArrayList<>(), new ArrayList<>());
+        assertEquals(3, history.size());
+        assertEquals(4, history.get(0).getID());
+        assertEquals(6, history.get(2).getID());
+    }
+
+    @Test
+    public void testSync_concurrentCommitsAreAllDurable() throws Exception {
+        // Arrange
+        TransactionJournal journal = new TransactionJournal(journalPath());
+        Customer customer = createCustomer(100000000.0);
+        int[] nextId = { 1 };
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> done = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            done.add(pool.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    long sequence;
+                    // IDs are handed out in append order, as TransactionManager does
+                    synchronized (nextId) {
+                        sequence = sell(journal, nextId[0]++, customer);
+                    }
+                    journal.sync(sequence);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : done) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        assertEquals(200, journal.getRecordCount());
+        List<Transaction> history = new ArrayList<>();
+        new TransactionJournal(journalPath()).replay(history, new ArrayList<>(), new ArrayList<>());
+        assertEquals(200, history.size());
+        assertEquals(200, history.get(199).getID());
+    }
+}
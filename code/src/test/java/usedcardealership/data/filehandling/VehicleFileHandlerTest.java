@@ -0,0 +1,125 @@
+/**
+ * Test class for VehicleFileHandler and CsvReader
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.filehandling;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+import usedcardealership.data.vehicle.*;
+
+public class VehicleFileHandlerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String[] LINES = {
+            "Motorcycle,3,Kawasaki,Z650,2018,7500.0,Green,Manual,Chain,68,190.0,15000.0,0.05,false,649.0,Naked",
+            "RV,12,Thor,Chateau,2020,75000.0,Silver,Automatic,RWD,320,9500.0,7000.0,0.1,false,8,2,true,6,true",
+            "Car,24,Chevrolet,Malibu,2018,23000.0,Gray,Automatic,FWD,160,3100.0,25000.0,0.2,false,5,4,false,TRUE",
+            "SUV,7,Škoda,Kodiaq,2021,31000.5,Blue,Automatic,AWD,190,1700.0,1.5E4,0,true,7,5,true,true",
+            "PickupTruck,41,Ford,F-150,2019,41000.0,Blue,Automatic,4WD,400,2500.0,30000.0,1.25,false,5,4,false,1000.0,6.5,5000.0",
+            "Van,51,Honda,Odyssey,2017,28000.0,Silver,Automatic,FWD,280,2000.0,60000.0,3.0,false,8,4,false,150.0,true"
+    };
+
+    @Test
+    public void testLoad_matchesSplitParsing() throws IOException {
+        // Arrange
+        Path file = folder.newFile("vehicles.csv").toPath();
+        Files.write(file, Arrays.asList(LINES), StandardCharsets.UTF_8);
+
+        // Act
+        List<Vehicle> loaded = new VehicleFileHandler(file.toString()).load();
+
+        // Assert
+        assertEquals(LINES.length, loaded.size());
+        for (int i = 0; i < LINES.length; i++) {
+            Vehicle expected = VehicleHelper.parseVehicle(LINES[i].split(","));
+            assertEquals(expected.getFullDetails(), loaded.get(i).getFullDetails());
+            assertEquals(VehicleHelper.convertVehicleToCSV(expected),
+                    VehicleHelper.convertVehicleToCSV(loaded.get(i)));
+        }
+    }
+
+    @Test
+    public void testLoad_sharesCategoricalValues() throws IOException {
+        // Arrange
+        Path file = folder.newFile("vehicles.csv").toPath();
+        Files.write(file, Arrays.asList(LINES), StandardCharsets.UTF_8);
+
+        // Act
+        List<Vehicle> first = new VehicleFileHandler(file.toString()).load();
+        List<Vehicle> second = new VehicleFileHandler(file.toString()).load();
+
+        // Assert
+        assertSame(first.get(3).getColor(), first.get(4).getColor());
+        assertSame(first.get(1).getTransmission(), first.get(5).getTransmission());
+        assertSame(first.get(0).getMake(), second.get(0).getMake());
+        assertSame(((Motorcycle) first.get(0)).getHandleType(), ((Motorcycle) second.get(0)).getHandleType());
+        assertSame(first.get(2).getType(), VehicleHelper.parseVehicle(LINES[2].split(",")).getType());
+    }
+
+    @Test
+    public void testCsvReader_handlesTinyBufferCrlfAndMissingNewline() throws IOException {
+        // Arrange
+        String text = LINES[0] + "\r\n\r\n" + LINES[1] + "\n" + LINES[2];
+        ReadableByteChannel channel = Channels.newChannel(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        List<String> types = new ArrayList<>();
+
+        // Act
+        try (CsvReader reader = new CsvReader(channel, 8)) {
+            while (reader.nextLine()) {
+                types.add(reader.getString(0) + ":" + reader.size());
+            }
+        }
+
+        // Assert
+        assertEquals(Arrays.asList("Motorcycle:16", "RV:19", "Car:18"), types);
+    }
+
+    @Test
+    public void testCsvReader_numbersMatchJdkParsing() throws IOException {
+        // Arrange
+        String[] values = { "0", "-0", "7", "-42", "+5", "2147483647", "-2147483648", "0.1", "3.14159",
+                "123456.789", "-0.05", "5.", "1e3", "12345678901234567.5", "0.30000000000000004" };
+        String text = String.join(",", values);
+        CsvReader reader = new CsvReader(Channels.newChannel(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))));
+
+        // Act
+        assertTrue(reader.nextLine());
+
+        // Assert
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], Double.doubleToLongBits(Double.parseDouble(values[i])),
+                    Double.doubleToLongBits(reader.getDouble(i)));
+        }
+        for (int i = 0; i <= 6; i++) {
+            assertEquals(Integer.parseInt(values[i]), reader.getInt(i));
+        }
+        reader.close();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCsvReader_rejectsInvalidInt() throws IOException {
+        // Arrange
+        CsvReader reader = new CsvReader(Channels.newChannel(
+                new ByteArrayInputStream("12a".getBytes(StandardCharsets.UTF_8))));
+        reader.nextLine();
+
+        // Act
+        reader.getInt(0);
+    }
+}
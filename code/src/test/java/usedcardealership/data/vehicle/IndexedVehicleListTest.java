@@ -0,0 +1,162 @@
+/**
+ * Test class for IndexedVehicleList and VehicleIdIndex
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.CarFixture;
+
+public class IndexedVehicleListTest {
+    @Test
+    public void testConstructor_indexesExistingVehicles() {
+        // Arrange
+        List<Vehicle> backing = new ArrayList<>();
+        Car car = CarFixture.car(7).color("Blue").build();
+        backing.add(car);
+
+        // Act
+        IndexedVehicleList test = new IndexedVehicleList(backing);
+
+        // Assert
+        assertSame(car, test.getById(7));
+        assertNull(test.getById(8));
+        assertTrue(test.contains(CarFixture.car(7).color("Red").build()));
+    }
+
+    @Test
+    public void testAddAndRemove_writeThroughToBackingList() {
+        // Arrange
+        List<Vehicle> backing = new ArrayList<>();
+        IndexedVehicleList test = new IndexedVehicleList(backing);
+        Car car = CarFixture.car(3).color("Blue").build();
+
+        // Act
+        test.add(car);
+
+        // Assert
+        assertEquals(1, backing.size());
+        assertSame(car, test.getById(3));
+
+        // Act
+        assertTrue(test.remove(car));
+
+        // Assert
+        assertEquals(0, backing.size());
+        assertFalse(test.containsId(3));
+        assertFalse(test.remove(car));
+    }
+
+    @Test
+    public void testSet_replacesIndexedVehicle() {
+        // Arrange
+        IndexedVehicleList test = new IndexedVehicleList();
+        test.add(CarFixture.car(1).color("Blue").build());
+        Car updated = CarFixture.car(1).color("Red").build();
+
+        // Act
+        test.set(0, updated);
+
+        // Assert
+        assertSame(updated, test.getById(1));
+        assertEquals(1, test.size());
+    }
+
+    @Test
+    public void testRemoveById_returnsRemovedVehicle() {
+        // Arrange
+        IndexedVehicleList test = new IndexedVehicleList();
+        Car car = CarFixture.car(42).color("Blue").build();
+        test.add(car);
+
+        // Act
+        Vehicle removed = test.removeById(42);
+
+        // Assert
+        assertSame(car, removed);
+        assertNull(test.removeById(42));
+        assertTrue(test.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAndIndexOf_findVehiclesAfterShifts() {
+        // Arrange
+        IndexedVehicleList test = new IndexedVehicleList();
+        for (int id = 1; id <= 500; id++) {
+            test.add(CarFixture.car(id).color("Blue").build());
+        }
+
+        // Act
+        for (int id = 1; id <= 200; id++) {
+            assertTrue(test.remove(CarFixture.car(id).color("Red").build()));
+        }
+        test.add(0, CarFixture.car(1000).color("Blue").build());
+
+        // Assert
+        assertEquals(301, test.size());
+        assertEquals(0, test.indexOf(CarFixture.car(1000).color("Red").build()));
+        for (int id = 201; id <= 500; id++) {
+            assertEquals(id - 200, test.indexOf(CarFixture.car(id).color("Red").build()));
+        }
+        assertEquals(-1, test.indexOf(CarFixture.car(5).color("Red").build()));
+    }
+
+    @Test
+    public void testRemove_reindexesVehicleSharingTheId() {
+        // Arrange
+        IndexedVehicleList test = new IndexedVehicleList();
+        Car first = CarFixture.car(5).color("Blue").build();
+        Car second = CarFixture.car(5).color("Red").build();
+        test.add(first);
+        test.add(CarFixture.car(6).color("Blue").build());
+        test.add(second);
+
+        // Act
+        test.remove(0);
+
+        // Assert
+        assertSame(second, test.getById(5));
+        assertEquals(1, test.indexOf(CarFixture.car(5).color("Green").build()));
+        assertTrue(test.remove(second));
+        assertFalse(test.containsId(5));
+        assertEquals(1, test.size());
+    }
+
+    @Test
+    public void testVehicleIdIndex_survivesGrowthAndRemoval() {
+        // Arrange
+        VehicleIdIndex test = new VehicleIdIndex();
+        for (int id = 1; id <= 1000; id++) {
+            test.put(CarFixture.car(id).color("Blue").build());
+        }
+
+        // Act
+        for (int id = 1; id <= 1000; id += 2) {
+            test.remove(id);
+        }
+
+        // Assert
+        assertEquals(500, test.size());
+        for (int id = 1; id <= 1000; id++) {
+            assertEquals(id % 2 == 0, test.containsKey(id));
+        }
+    }
+
+    @Test
+    public void testHashCode_matchesEqualsOnId() {
+        // Arrange
+        Car car1 = CarFixture.car(12).color("Blue").build();
+        Car car2 = CarFixture.car(12).color("Red").build();
+
+        // Assert
+        assertEquals(car1, car2);
+        assertEquals(car1.hashCode(), car2.hashCode());
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Test class for Symbols
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.data.vehicle;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SymbolsTest {
+    @Test
+    public void testIntern_sharesEqualValues() {
+        // Arrange
+        String first = new String("Toyota");
+        String second = new String("Toyota");
+
+        // Act
+        String interned = Symbols.intern(first);
+
+        // Assert
+        assertSame(interned, Symbols.intern(second));
+        assertEquals("Toyota", interned);
+        assertNull(Symbols.intern(null));
+    }
+
+    @Test
+    public void testFold_sharesKeysAcrossCases() {
+        // Arrange
+        Symbols.intern("Pearl White");
+        Symbols.intern("PEARL WHITE");
+
+        // Act
+        String key = Symbols.fold("Pearl White");
+
+        // Assert
+        assertEquals("pearl white", key);
+        assertSame(key, Symbols.fold("PEARL WHITE"));
+        assertSame(key, Symbols.fold(new String("pearl WHITE")));
+    }
+
+    @Test
+    public void testFold_unknownValueIsNotAdded() {
+        // Arrange
+        int size = Symbols.size();
+
+        // Act
+        String key = Symbols.fold("No Such Color 12345");
+
+        // Assert
+        assertEquals("no such color 12345", key);
+        assertEquals(size, Symbols.size());
+    }
+}
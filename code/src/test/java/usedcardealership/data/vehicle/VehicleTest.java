@@ -8,9 +8,11 @@
 package usedcardealership.data.vehicle;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.time.*;
+import org.junit.After;
 import org.junit.Test;
 
 public class VehicleTest {
@@ -397,4 +399,116 @@ public class VehicleTest {
         // Assert
         assertEquals(expectedTotalPrice, actualTotalPrice, 0.001);
     }
+
+    @After
+    public void tearDown() {
+        PricingClock.useSystemClock();
+    }
+
+    @Test
+    public void testCalculateTotalPrice_recalculatesOnlyWhenInputsChange() {
+        // Arrange
+        PricingClock.set(new PricingClock(2030));
+        Vehicle test = new Car("Car", 1, "Honda", "Civic", 2020, 20000.00, "Blue", "Automatic", "FWD",
+                150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+        double inPricingYear = 20000.00 - (20000.00 * 0.02 * 10) - (10000.00 * 0.02);
+
+        // Act & Assert
+        assertEquals(inPricingYear, test.calculateTotalPrice(), 0.001);
+        test.addKilometerage(1000.00);
+        assertEquals(inPricingYear - 20.00, test.calculateTotalPrice(), 0.001);
+        test.addDamage(10.0);
+        assertEquals(inPricingYear - 20.00 - 1000.00, test.calculateTotalPrice(), 0.001);
+        test.setPrice(10000.00);
+        assertEquals(10000.00 - 2000.00 - 11000.00 * 0.02 - 500.00, test.calculateTotalPrice(), 0.001);
+        PricingClock.set(new PricingClock(2025));
+        assertEquals(10000.00 - 1000.00 - 11000.00 * 0.02 - 500.00, test.calculateTotalPrice(), 0.001);
+    }
+
+    @Test
+    public void testPricingClock_rollsOverWithClock() {
+        // Arrange
+        Instant newYearsEve = LocalDateTime.of(2029, 12, 31, 23, 59).toInstant(ZoneOffset.UTC);
+        final Instant[] now = { newYearsEve };
+        Clock clock = new Clock() {
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        PricingClock test = new PricingClock(clock);
+        int before = test.getYear();
+
+        // Act
+        now[0] = newYearsEve.plus(Duration.ofMinutes(2));
+
+        // Assert
+        assertEquals(2029, before);
+        assertEquals(2030, test.getYear());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetPrice_rejectsNegative() {
+        // Arrange
+        Vehicle test = new Car("Car", 1, "Honda", "Civic", 2020, 20000.00, "Blue", "Automatic", "FWD",
+                150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+
+        // Act
+        test.setPrice(-1.0);
+    }
+
+    @Test
+    public void testTestDrive_sameSeedSameOutcome() {
+        // Arrange
+        Vehicle first = new Car("Car", 1, "Honda", "Civic", 2020, 20000.00, "Blue", "Automatic", "FWD",
+                150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+        Vehicle second = new Car("Car", 2, "Honda", "Civic", 2020, 20000.00, "Blue", "Automatic", "FWD",
+                150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+        RandomSource.set(new RandomSource(7));
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            first.testDrive(false);
+        }
+        RandomSource.set(new RandomSource(7));
+        for (int i = 0; i < 200; i++) {
+            second.testDrive(false);
+        }
+        RandomSource.useDefault();
+        long projected = first.getTotalPriceCents(first.getKilometerage() + 1000, first.getDamage());
+
+        // Assert
+        assertEquals(first.getKilometerage(), second.getKilometerage(), 0.0);
+        assertEquals(first.getDamage(), second.getDamage(), 0.0);
+        assertTrue(first.getKilometerage() > 10000.00);
+        assertEquals(first.getTotalPriceCents() - 2000, projected);
+    }
+
+    @Test
+    public void testCategoryKeys_sharedAcrossSpellings() {
+        // Arrange
+        Vehicle first = new Car("Car", 1, "Honda", "Civic", 2020, 20000.00, "Blue", "Automatic", "FWD",
+                150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+        Vehicle second = new Car("CAR", 2, new String("honda"), "Civic", 2020, 20000.00, "BLUE", "automatic",
+                "fwd", 150, 1300.00, 10000.00, 0.0, false, 5, 4, false, false);
+
+        // Act
+        String makeKey = first.getMakeKey();
+
+        // Assert
+        assertEquals("honda", makeKey);
+        assertSame(makeKey, second.getMakeKey());
+        assertSame(first.getTypeKey(), second.getTypeKey());
+        assertSame(first.getColorKey(), second.getColorKey());
+        assertSame(first.getTransmissionKey(), second.getTransmissionKey());
+        assertSame(first.getDriveTypeKey(), second.getDriveTypeKey());
+        assertSame(makeKey, Symbols.fold("HONDA"));
+    }
 }
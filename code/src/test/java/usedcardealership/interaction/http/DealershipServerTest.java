@@ -0,0 +1,190 @@
+/**
+ * Test class for DealershipServer
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.interaction.http;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.net.URI;
+import java.net.http.*;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+import usedcardealership.CarFixture;
+import usedcardealership.business.manager.DealershipManager;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.vehicle.*;
+
+public class DealershipServerTest {
+    private DealershipManager dealer;
+    private DealershipServer server;
+    private HttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        List<Vehicle> inventory = new ArrayList<>();
+        inventory.add(CarFixture.car(1).make("Toyota").price(20000.0).damage(0.0).build());
+        inventory.add(CarFixture.car(2).make("Honda").price(30000.0).damage(0.0).build());
+        inventory.add(CarFixture.car(3).make("Toyota").price(40000.0).damage(0.0).build());
+        List<Customer> customers = new ArrayList<>();
+        for (int id = 1; id <= 8; id++) {
+            customers.add(new Customer(id, "Jane", "Doe", "1990-01-01", "514-555-0000", "1 Main St",
+                    1000000.0, new ArrayList<>()));
+        }
+        this.dealer = new DealershipManager("Test Dealership", 0, new ArrayList<>(), inventory,
+                new ArrayList<>(inventory), customers, new ArrayList<>());
+        this.server = new DealershipServer(this.dealer, 0);
+        this.server.start();
+        this.client = HttpClient.newHttpClient();
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int cartId(String json) {
+        Matcher matcher = Pattern.compile("^\\{\"id\":(\\d+)").matcher(json);
+        assertTrue(json, matcher.find());
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    @Test
+    public void testVehicles_searchAndDetails() throws Exception {
+        // Act
+        HttpResponse<String> byMake = send("GET", "/vehicles?filter=make&criteria=toyota");
+        HttpResponse<String> byPrice = send("GET", "/vehicles?filter=price&min=0&max=1000000&order=desc&limit=2");
+        HttpResponse<String> details = send("GET", "/vehicles/2");
+        HttpResponse<String> missing = send("GET", "/vehicles/99");
+        HttpResponse<String> invalid = send("GET", "/vehicles?filter=price&min=cheap&max=10");
+
+        // Assert
+        assertEquals(200, byMake.statusCode());
+        assertTrue(byMake.body().startsWith("{\"count\":2,"));
+        assertEquals(200, byPrice.statusCode());
+        assertTrue(byPrice.body().startsWith("{\"count\":2,"));
+        assertTrue(byPrice.body().indexOf("\"id\":3") < byPrice.body().indexOf("\"id\":2"));
+        assertEquals(200, details.statusCode());
+        assertTrue(details.body().contains("\"make\":\"Honda\""));
+        assertTrue(details.body().contains("\"convertible\":false"));
+        assertEquals(404, missing.statusCode());
+        assertEquals(400, invalid.statusCode());
+        assertTrue(invalid.body().startsWith("{\"error\":"));
+    }
+
+    @Test
+    public void testVehicles_sortedPages() throws Exception {
+        // Act
+        HttpResponse<String> first = send("GET", "/vehicles?filter=price&min=0&max=1000000&sort=price&order=desc&limit=2");
+        HttpResponse<String> second = send("GET",
+                "/vehicles?filter=price&min=0&max=1000000&sort=price&order=desc&limit=2&after=2");
+        HttpResponse<String> invalid = send("GET", "/vehicles?filter=make&criteria=toyota&sort=colour");
+
+        // Assert
+        assertEquals(200, first.statusCode());
+        assertTrue(first.body().startsWith("{\"count\":2,"));
+        assertTrue(first.body().indexOf("\"id\":3") < first.body().indexOf("\"id\":2"));
+        assertTrue(first.body().endsWith(",\"next\":2}"));
+        assertTrue(second.body().startsWith("{\"count\":1,"));
+        assertTrue(second.body().contains("\"id\":1"));
+        assertTrue(second.body().endsWith(",\"next\":null}"));
+        assertEquals(400, invalid.statusCode());
+    }
+
+    @Test
+    public void testCarts_reserveAndCheckout() throws Exception {
+        // Arrange
+        int first = cartId(send("POST", "/carts?customer=1").body());
+        int second = cartId(send("POST", "/carts?customer=2").body());
+
+        // Act
+        HttpResponse<String> added = send("POST", "/carts/" + first + "/vehicles/1");
+        HttpResponse<String> taken = send("POST", "/carts/" + second + "/vehicles/1");
+        HttpResponse<String> search = send("GET", "/vehicles?filter=make&criteria=toyota");
+        HttpResponse<String> checkout = send("POST", "/carts/" + first + "/checkout");
+        HttpResponse<String> empty = send("POST", "/carts/" + first + "/checkout");
+
+        // Assert
+        assertEquals(200, added.statusCode());
+        assertTrue(added.body().contains("\"total\":"));
+        assertEquals(409, taken.statusCode());
+        assertTrue(search.body().startsWith("{\"count\":1,"));
+        assertEquals(200, checkout.statusCode());
+        assertTrue(checkout.body().contains("\"type\":\"Dealership Sale\""));
+        assertEquals(409, empty.statusCode());
+        assertNull(this.dealer.getVehicleById(1));
+        assertEquals(1, this.dealer.getCustomers().get(0).getVehicles().size());
+    }
+
+    @Test
+    public void testCarts_concurrentRequestsSellEachVehicleOnce() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // Act
+        for (int customer = 1; customer <= 8; customer++) {
+            String path = "/carts?customer=" + customer;
+            results.add(pool.submit(() -> {
+                int cart = cartId(send("POST", path).body());
+                send("POST", "/carts/" + cart + "/vehicles/1");
+                send("POST", "/carts/" + cart + "/vehicles/3");
+                return send("POST", "/carts/" + cart + "/checkout").statusCode();
+            }));
+        }
+        int bought = 0;
+        for (Future<Integer> result : results) {
+            if (result.get(30, TimeUnit.SECONDS) == 200) {
+                bought++;
+            }
+        }
+        pool.shutdown();
+
+        // Assert
+        int owned = 0;
+        for (Customer customer : this.dealer.getCustomers()) {
+            owned += customer.getVehicles().size();
+        }
+        assertTrue(bought >= 1 && bought <= 2);
+        assertEquals(2, owned);
+        assertEquals(2, this.dealer.getTransactionManager().getTransactions().size());
+        assertNull(this.dealer.getVehicleById(1));
+        assertNull(this.dealer.getVehicleById(3));
+    }
+
+    @Test
+    public void testSales_totalsFollowCheckouts() throws Exception {
+        // Arrange
+        int cart = cartId(send("POST", "/carts?customer=1").body());
+        send("POST", "/carts/" + cart + "/vehicles/1");
+        send("POST", "/carts/" + cart + "/vehicles/2");
+        send("POST", "/carts/" + cart + "/checkout");
+
+        // Act
+        HttpResponse<String> sales = send("GET", "/sales?make=toyota&type=car&month=" + YearMonth.now());
+        HttpResponse<String> invalid = send("GET", "/sales?day=yesterday");
+
+        // Assert
+        assertEquals(200, sales.statusCode());
+        assertTrue(sales.body(), sales.body().startsWith("{\"all\":{\"unitsSold\":2,"));
+        assertTrue(sales.body().contains("\"month\":{\"unitsSold\":2,"));
+        assertTrue(sales.body().contains("\"make\":{\"unitsSold\":1,"));
+        assertTrue(sales.body().contains("\"type\":{\"unitsSold\":2,"));
+        assertEquals(400, invalid.statusCode());
+    }
+}
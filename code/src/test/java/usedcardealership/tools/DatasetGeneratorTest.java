@@ -0,0 +1,94 @@
+/**
+ * Test class for DatasetGenerator
+ *
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.tools;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import usedcardealership.data.coupons.Coupon;
+import usedcardealership.data.customer.Customer;
+import usedcardealership.data.filehandling.*;
+import usedcardealership.data.transaction.*;
+import usedcardealership.data.vehicle.*;
+
+public class DatasetGeneratorTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteCsv_filesLoadThroughFileHandlers() throws IOException {
+        // Arrange
+        DatasetGenerator test = new DatasetGenerator(7, 300, 200, 1.5, 400, 20);
+        Path dir = folder.getRoot().toPath();
+
+        // Act
+        test.writeCsv(dir, 3);
+
+        // Assert
+        List<Vehicle> inventory = new VehicleFileHandler(dir.resolve("inventory.csv").toString()).load();
+        List<Vehicle> database = new VehicleFileHandler(dir.resolve("database.csv").toString()).load();
+        List<Customer> customers = new CustomerFileHandler(dir.resolve("customers.csv").toString()).load();
+        List<Transaction> transactions = new TransactionFileHandler(dir.resolve("transactions.csv").toString(),
+                new TransactionReferences(customers, inventory, database)).load();
+        List<Coupon> coupons = new CouponFileHandler(dir.resolve("coupons.csv").toString()).load();
+        assertEquals(300, inventory.size());
+        assertEquals(test.getVehicleCount(), database.size());
+        assertEquals(200, customers.size());
+        assertEquals(400, transactions.size());
+        assertEquals(20, coupons.size());
+        int owned = 0;
+        for (Customer customer : customers) {
+            for (Vehicle vehicle : customer.getVehicles()) {
+                assertTrue(vehicle.getID() > 300);
+                assertEquals(database.get(vehicle.getID() - 1).toString(), vehicle.toString());
+                owned++;
+            }
+        }
+        assertEquals(test.getVehicleCount() - 300, owned);
+    }
+
+    @Test
+    public void testWriteSql_sameRowsForAnyThreadCount() throws IOException {
+        // Arrange
+        DatasetGenerator test = new DatasetGenerator(7, 25000, 12000, 0.8, 30000, 10);
+        Path single = folder.getRoot().toPath().resolve("single.sql");
+        Path parallel = folder.getRoot().toPath().resolve("parallel.sql");
+
+        // Act
+        test.writeSql(single, 1);
+        test.writeSql(parallel, 4);
+
+        // Assert
+        List<String> lines = Files.readAllLines(single);
+        assertEquals(lines, Files.readAllLines(parallel));
+        int vehicles = 0;
+        int links = 0;
+        String table = null;
+        for (String line : lines) {
+            if (line.startsWith("COPY ")) {
+                table = line.split(" ")[1];
+            } else if (line.equals("\\.")) {
+                table = null;
+            } else if ("vehicles".equals(table)) {
+                assertEquals(27, line.split("\t", -1).length);
+                vehicles++;
+            } else if ("customers_vehicles".equals(table)) {
+                assertTrue(Integer.parseInt(line.split("\t")[1]) > 25000);
+                links++;
+            }
+        }
+        assertEquals(test.getVehicleCount(), vehicles);
+        assertEquals(test.getVehicleCount() - 25000, links);
+    }
+}
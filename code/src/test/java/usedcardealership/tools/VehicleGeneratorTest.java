@@ -0,0 +1,51 @@
+/**
+ * Test class for VehicleGenerator
+ * 
+ * @author Talon Dunbar
+ * @version 10/17/2026
+ */
+
+package usedcardealership.tools;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.*;
+
+import usedcardealership.data.filehandling.VehicleHelper;
+import usedcardealership.data.vehicle.*;
+
+public class VehicleGeneratorTest {
+    @Test
+    public void testGenerate_coversEveryTypeWithSequentialIds() {
+        // Arrange
+        VehicleGenerator test = new VehicleGenerator(42);
+
+        // Act
+        List<Vehicle> vehicles = test.generate(5000);
+
+        // Assert
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < vehicles.size(); i++) {
+            assertEquals(i + 1, vehicles.get(i).getID());
+            counts.merge(vehicles.get(i).getType(), 1, Integer::sum);
+        }
+        assertEquals(6, counts.size());
+        assertTrue(counts.get("Car") > counts.get("PickupTruck"));
+        assertTrue(counts.get("PickupTruck") > counts.get("RV"));
+    }
+
+    @Test
+    public void testGenerate_sameSeedSameVehicles() {
+        // Arrange
+        List<Vehicle> first = new VehicleGenerator(7).generate(200);
+
+        // Act
+        List<Vehicle> second = new VehicleGenerator(7).generate(200);
+
+        // Assert
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(VehicleHelper.convertVehicleToCSV(first.get(i)),
+                    VehicleHelper.convertVehicleToCSV(second.get(i)));
+        }
+    }
+}